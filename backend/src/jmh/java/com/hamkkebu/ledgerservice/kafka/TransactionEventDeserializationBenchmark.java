@@ -0,0 +1,106 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 이벤트 역직렬화: Map 경유 vs {@link TransactionEventDeserializer}
+ *
+ * <p>mapPath는 이전 방식(JsonDeserializer로 HashMap 생성 후 키 조회/변환)을 그대로 재현합니다.
+ * 이벤트당 CPU 시간과 {@code gc.alloc.rate.norm}(이벤트당 할당 바이트)을 비교합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=TransactionEventDeserializationBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionEventDeserializationBenchmark {
+
+    private static final String PAYLOAD = "{"
+            + "\"eventId\":\"6f1c2b8e-2f4a-4d7e-9a51-0c3d5e7f9a11\","
+            + "\"eventType\":\"TRANSACTION_UPDATED\","
+            + "\"timestamp\":\"2025-03-01T10:30:00.123\","
+            + "\"transactionId\":123456,"
+            + "\"ledgerId\":42,"
+            + "\"userId\":7,"
+            + "\"type\":\"EXPENSE\","
+            + "\"amount\":15800.50,"
+            + "\"description\":\"점심 식사\","
+            + "\"category\":\"식비\","
+            + "\"transactionDate\":\"2025-03-01\","
+            + "\"memo\":\"회사 근처\""
+            + "}";
+
+    private byte[] payload;
+    private ObjectMapper mapPathMapper;
+    private TransactionEventDeserializer deserializer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        mapPathMapper = new ObjectMapper();
+        deserializer = new TransactionEventDeserializer();
+    }
+
+    @Benchmark
+    public TransactionEvent mapPath() throws IOException {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> eventData = mapPathMapper.readValue(payload, HashMap.class);
+        return LegacyMapBinding.from(eventData);
+    }
+
+    @Benchmark
+    public TransactionEvent typedPath() {
+        return deserializer.deserialize("transaction.events", payload);
+    }
+
+    /**
+     * 이전 Map 기반 변환 (비교용)
+     */
+    private static final class LegacyMapBinding {
+
+        static TransactionEvent from(Map<String, Object> eventData) {
+            return TransactionEvent.builder()
+                    .eventId((String) eventData.get("eventId"))
+                    .eventType((String) eventData.get("eventType"))
+                    .timestamp(eventData.get("timestamp") != null
+                            ? LocalDateTime.parse((String) eventData.get("timestamp")) : null)
+                    .transactionId(extractLong(eventData.get("transactionId")))
+                    .ledgerId(eventData.get("ledgerId") != null ? extractLong(eventData.get("ledgerId")) : null)
+                    .userId(eventData.get("userId") != null ? extractLong(eventData.get("userId")) : null)
+                    .type((String) eventData.get("type"))
+                    .amount(eventData.get("amount") != null
+                            ? new BigDecimal(eventData.get("amount").toString()) : BigDecimal.ZERO)
+                    .description((String) eventData.get("description"))
+                    .category((String) eventData.get("category"))
+                    .transactionDate(eventData.get("transactionDate") instanceof String date
+                            ? LocalDate.parse(date) : LocalDate.now())
+                    .memo((String) eventData.get("memo"))
+                    .build();
+        }
+
+        private static Long extractLong(Object value) {
+            if (value instanceof Number number) {
+                return number.longValue();
+            }
+            return Long.parseLong((String) value);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
+import com.hamkkebu.ledgerservice.repository.LedgerMemberRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerShareRepository;
+import com.hamkkebu.ledgerservice.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가계부 현황 요약 기초 조회: sequential vs parallel
+ *
+ * <p>각 Repository 호출을 고정 지연(DB 왕복 시간)으로 흉내 내어 모드별 지연 시간 분포를 비교합니다.
+ * 요청 동시성은 {@code @Threads}, 풀 크기는 운영 기본값(core 4, max 8, queue 100)과 같습니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=LedgerSummaryFetcherBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class LedgerSummaryFetcherBenchmark {
+
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    /** Repository 호출당 지연 (마이크로초) */
+    @Param({"500", "2000"})
+    public long queryLatencyMicros;
+
+    private ThreadPoolExecutor executor;
+    private LedgerSummaryFetcher fetcher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new ThreadPoolExecutor(4, 8, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(100), new ThreadPoolExecutor.CallerRunsPolicy());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 없는 사용자는 캐시하지 않으므로 사용자 조회도 매번 Repository 지연을 거침
+        UserDirectoryCache userDirectoryCache = new UserDirectoryCache(
+                slowRepository(UserRepository.class, Optional.empty()),
+                true, 50_000, Duration.ofMinutes(10), meterRegistry);
+        fetcher = new LedgerSummaryFetcher(
+                userDirectoryCache,
+                slowRepository(LedgerRepository.class, List.of()),
+                slowRepository(LedgerShareRepository.class, List.of()),
+                slowRepository(LedgerMemberRepository.class, List.of()),
+                executor, mode, Duration.ofSeconds(5), noOpTransactionManager(), meterRegistry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public LedgerSummaryFetcher.SummarySource fetch() {
+        return fetcher.fetch(1L);
+    }
+
+    /**
+     * 커넥션을 쓰지 않는 트랜잭션 매니저 (조회 지연만 비교)
+     */
+    private static PlatformTransactionManager noOpTransactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+
+    /**
+     * 모든 메서드가 지연 후 고정 값을 반환하는 Repository
+     */
+    private <T> T slowRepository(Class<T> type, Object result) {
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(queryLatencyMicros);
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (target, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(this, args);
+                    }
+                    LockSupport.parkNanos(latencyNanos);
+                    return result;
+                });
+        return type.cast(proxy);
+    }
+}
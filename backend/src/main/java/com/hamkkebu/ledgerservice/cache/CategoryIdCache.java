@@ -0,0 +1,82 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hamkkebu.ledgerservice.data.entity.Category;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.repository.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 가계부별 카테고리 (유형, 이름) → categoryId 로컬 캐시
+ *
+ * <p>거래 이벤트의 카테고리 이름을 categoryId로 바꿀 때 사용합니다.
+ * 가계부마다 카테고리 목록을 한 번 읽어 두고, 카테고리가 바뀌면 {@link LedgerCacheInvalidator}가
+ * 커밋 후 해당 가계부 항목을 제거합니다.</p>
+ * <p>같은 유형에 같은 이름이 여러 개면 최상위 카테고리를 우선합니다.</p>
+ */
+@Slf4j
+@Component
+public class CategoryIdCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<Long, Map<CategoryKey, Long>> cache;
+
+    public CategoryIdCache(
+            CategoryRepository categoryRepository,
+            @Value("${ledger.category-cache.maximum-size:10000}") long maximumSize,
+            @Value("${ledger.category-cache.ttl:1h}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.categoryRepository = categoryRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ledger.category-ids");
+    }
+
+    /**
+     * 카테고리 이름으로 categoryId 조회
+     *
+     * @return 삭제되지 않은 카테고리의 ID (없으면 null)
+     */
+    public Long resolve(Long ledgerId, TransactionType type, String name) {
+        if (ledgerId == null || type == null || name == null || name.isBlank()) {
+            return null;
+        }
+        return cache.get(ledgerId, this::load).get(new CategoryKey(type, name.trim()));
+    }
+
+    /**
+     * 가계부의 카테고리 캐시 제거
+     */
+    public void evict(Long ledgerId) {
+        cache.invalidate(ledgerId);
+    }
+
+    private Map<CategoryKey, Long> load(Long ledgerId) {
+        Map<CategoryKey, Long> categoryIds = new HashMap<>();
+        for (Category category : categoryRepository.findByLedgerIdAndIsDeletedFalseOrderByNameAsc(ledgerId)) {
+            CategoryKey key = new CategoryKey(category.getType(), category.getName().trim());
+            if (category.getParentId() == null) {
+                categoryIds.put(key, category.getCategoryId());
+            } else {
+                categoryIds.putIfAbsent(key, category.getCategoryId());
+            }
+        }
+        log.debug("[Cache] Category ids loaded: ledgerId={}, count={}", ledgerId, categoryIds.size());
+        return Map.copyOf(categoryIds);
+    }
+
+    private record CategoryKey(TransactionType type, String name) {
+    }
+}
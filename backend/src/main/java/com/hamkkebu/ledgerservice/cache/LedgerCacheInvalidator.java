@@ -0,0 +1,275 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.hamkkebu.ledgerservice.repository.LedgerRepository;
+import com.hamkkebu.ledgerservice.security.KnownUserRegistry;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 가계부 캐시 무효화 (응답 캐시, 접근 권한 캐시, 카테고리 ID 캐시, 사용자 조회 캐시, 알려진 사용자 목록)
+ *
+ * <p>변경이 커밋된 뒤에 캐시를 제거하여, 커밋 전 데이터가 다시 캐시되는 일을 막습니다.
+ * 트랜잭션 밖에서 호출되면 즉시 제거합니다.</p>
+ * <p>한 트랜잭션 안의 무효화 요청은 모아서 키마다 한 번만 제거하고, Redis Pub/Sub 메시지 하나로
+ * 다른 인스턴스에 알려 각 인스턴스의 로컬 캐시도 비우게 합니다.</p>
+ * <p>가계부 변경으로 현황 요약을 비울 사용자는 커밋 후 대상 가계부 전체에 대해 IN 조회 한 번으로 찾습니다.
+ * 거래 이벤트 배치처럼 가계부가 많은 트랜잭션에서도 트랜잭션 안에서 가계부마다 조회하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerCacheInvalidator implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "ledger-service:cache:invalidate";
+
+    private static final String FIELD_DELIMITER = "|";
+    private static final String LIST_DELIMITER = ",";
+    private static final String PAIR_DELIMITER = ":";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final LedgerResponseCache ledgerResponseCache;
+    private final LedgerAccessResolver ledgerAccessResolver;
+    private final CategoryIdCache categoryIdCache;
+    private final UserDirectoryCache userDirectoryCache;
+    private final KnownUserRegistry knownUserRegistry;
+    private final LedgerRepository ledgerRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자의 가계부 현황 요약 무효화
+     */
+    public void invalidateSummary(Long userId) {
+        if (!ledgerResponseCache.isEnabled() || userId == null) {
+            return;
+        }
+        Pending pending = currentPending();
+        pending.summaryUserIds.add(userId);
+        flushIfImmediate(pending);
+    }
+
+    /**
+     * 가계부 상세와, 그 가계부가 포함된 모든 사용자(소유자, 멤버, 공유 수락 사용자)의 현황 요약 무효화
+     */
+    public void invalidateLedger(Long ledgerId) {
+        if (!ledgerResponseCache.isEnabled() || ledgerId == null) {
+            return;
+        }
+        Pending pending = currentPending();
+        pending.ledgerIds.add(ledgerId);
+        flushIfImmediate(pending);
+    }
+
+    /**
+     * 특정 사용자의 가계부 접근 권한 무효화 (멤버/공유 변경)
+     */
+    public void invalidateAccess(Long ledgerId, Long userId) {
+        if (ledgerId == null || userId == null) {
+            return;
+        }
+        Pending pending = currentPending();
+        pending.accessKeys.add(ledgerId + PAIR_DELIMITER + userId);
+        flushIfImmediate(pending);
+    }
+
+    /**
+     * 가계부의 모든 사용자 접근 권한 무효화 (가계부 삭제)
+     */
+    public void invalidateAccess(Long ledgerId) {
+        if (ledgerId == null) {
+            return;
+        }
+        Pending pending = currentPending();
+        pending.accessLedgerIds.add(ledgerId);
+        flushIfImmediate(pending);
+    }
+
+    /**
+     * 가계부의 카테고리 ID 캐시 무효화 (카테고리 생성/수정/삭제)
+     */
+    public void invalidateCategories(Long ledgerId) {
+        if (ledgerId == null) {
+            return;
+        }
+        Pending pending = currentPending();
+        pending.categoryLedgerIds.add(ledgerId);
+        flushIfImmediate(pending);
+    }
+
+    /**
+     * 사용자 조회 캐시와 알려진 사용자 목록 무효화 (사용자 생성/수정/삭제 동기화)
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Pending pending = currentPending();
+        pending.userIds.add(userId);
+        flushIfImmediate(pending);
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 브로드캐스트 수신 → 로컬 캐시만 제거 (L2는 발신 인스턴스가 이미 제거)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + FIELD_DELIMITER, -1);
+        // 카테고리/사용자 필드가 없는 이전 형식(5~6개 필드)도 처리
+        if (fields.length < 5 || fields.length > 7 || instanceId.equals(fields[0])) {
+            return;
+        }
+        try {
+            parseIds(fields[1]).forEach(ledgerResponseCache::evictLedgerLocal);
+            parseIds(fields[2]).forEach(ledgerResponseCache::evictSummaryLocal);
+            for (String accessKey : split(fields[3])) {
+                String[] pair = accessKey.split(PAIR_DELIMITER);
+                ledgerAccessResolver.evict(Long.valueOf(pair[0]), Long.valueOf(pair[1]));
+            }
+            parseIds(fields[4]).forEach(ledgerAccessResolver::evictLedger);
+            if (fields.length > 5) {
+                parseIds(fields[5]).forEach(categoryIdCache::evict);
+            }
+            if (fields.length > 6) {
+                parseIds(fields[6]).forEach(this::evictUser);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            log.warn("[Cache] Ignoring malformed invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private void evictUser(Long userId) {
+        userDirectoryCache.evict(userId);
+        knownUserRegistry.forget(userId);
+    }
+
+    /**
+     * 현재 트랜잭션의 무효화 대상 (트랜잭션 밖이면 즉시 반영할 새 대상)
+     */
+    private Pending currentPending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new Pending(true);
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending(false);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void flushIfImmediate(Pending pending) {
+        if (pending.immediate) {
+            pending.flush();
+        }
+    }
+
+    private Set<Long> parseIds(String field) {
+        return split(field).stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private Set<String> split(String field) {
+        if (field.isEmpty()) {
+            return Set.of();
+        }
+        return Set.of(field.split(LIST_DELIMITER));
+    }
+
+    /**
+     * 트랜잭션별 무효화 대상
+     */
+    private final class Pending implements TransactionSynchronization {
+
+        private final boolean immediate;
+        private final Set<Long> ledgerIds = new LinkedHashSet<>();
+        private final Set<Long> summaryUserIds = new LinkedHashSet<>();
+        private final Set<String> accessKeys = new LinkedHashSet<>();
+        private final Set<Long> accessLedgerIds = new LinkedHashSet<>();
+        private final Set<Long> categoryLedgerIds = new LinkedHashSet<>();
+        private final Set<Long> userIds = new LinkedHashSet<>();
+
+        private Pending(boolean immediate) {
+            this.immediate = immediate;
+        }
+
+        @Override
+        public void afterCommit() {
+            flush();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LedgerCacheInvalidator.this);
+        }
+
+        private void flush() {
+            summaryUserIds.addAll(relatedUserIds());
+            ledgerIds.forEach(ledgerResponseCache::evictLedger);
+            summaryUserIds.forEach(ledgerResponseCache::evictSummary);
+            for (String accessKey : accessKeys) {
+                String[] pair = accessKey.split(PAIR_DELIMITER);
+                ledgerAccessResolver.evict(Long.valueOf(pair[0]), Long.valueOf(pair[1]));
+            }
+            accessLedgerIds.forEach(ledgerAccessResolver::evictLedger);
+            categoryLedgerIds.forEach(categoryIdCache::evict);
+            userIds.forEach(LedgerCacheInvalidator.this::evictUser);
+            log.debug("[Cache] Invalidated: ledgerIds={}, summaryUserIds={}, accessKeys={}, accessLedgerIds={}, "
+                            + "categoryLedgerIds={}, userIds={}",
+                    ledgerIds, summaryUserIds, accessKeys, accessLedgerIds, categoryLedgerIds, userIds);
+            broadcast();
+        }
+
+        /**
+         * 변경된 가계부들이 포함된 사용자 (조회 실패 시 현황 요약은 TTL로 만료)
+         */
+        private List<Long> relatedUserIds() {
+            if (ledgerIds.isEmpty()) {
+                return List.of();
+            }
+            try {
+                return ledgerRepository.findRelatedUserIds(ledgerIds);
+            } catch (DataAccessException e) {
+                log.warn("[Cache] Failed to resolve summary users: ledgerIds={}, error={}", ledgerIds, e.getMessage());
+                return List.of();
+            }
+        }
+
+        private void broadcast() {
+            String message = String.join(FIELD_DELIMITER,
+                    instanceId,
+                    join(ledgerIds),
+                    join(summaryUserIds),
+                    join(accessKeys),
+                    join(accessLedgerIds),
+                    join(categoryLedgerIds),
+                    join(userIds));
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+            } catch (DataAccessException e) {
+                log.warn("[Cache] Failed to broadcast invalidation: error={}", e.getMessage());
+            }
+        }
+
+        private String join(Set<?> values) {
+            return values.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(LIST_DELIMITER));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.ledgerservice.data.dto.LedgerResponse;
+import com.hamkkebu.ledgerservice.data.dto.LedgerSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 가계부 응답 캐시 (가계부 현황 요약, 가계부 상세)
+ *
+ * <p>가계부 현황 요약은 userId, 가계부 상세는 ledgerId를 키로 {@link TwoTierCache}에 저장합니다.</p>
+ * <p>제거는 {@link LedgerCacheInvalidator}를 통해 커밋 후 수행되며, 다른 인스턴스의 L1은
+ * 무효화 브로드캐스트를 받아 {@code evict*Local}로 비웁니다.</p>
+ * <p>ledger.cache.enabled=false이면 캐시를 거치지 않고 항상 loader를 호출합니다.</p>
+ */
+@Component
+public class LedgerResponseCache {
+
+    private final boolean enabled;
+    private final TwoTierCache<LedgerSummaryResponse> summaryCache;
+    private final TwoTierCache<LedgerResponse> ledgerCache;
+
+    public LedgerResponseCache(
+            @Value("${ledger.cache.enabled:true}") boolean enabled,
+            @Value("${ledger.cache.local.maximum-size:10000}") long localMaximumSize,
+            @Value("${ledger.cache.local.ttl:30s}") Duration localTtl,
+            @Value("${ledger.cache.remote.ttl:10m}") Duration remoteTtl,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.summaryCache = new TwoTierCache<>("summary", LedgerSummaryResponse.class,
+                localMaximumSize, localTtl, remoteTtl, redisTemplate, objectMapper, meterRegistry);
+        this.ledgerCache = new TwoTierCache<>("ledger", LedgerResponse.class,
+                localMaximumSize, localTtl, remoteTtl, redisTemplate, objectMapper, meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LedgerSummaryResponse getSummary(Long userId, Supplier<LedgerSummaryResponse> loader) {
+        return enabled ? summaryCache.get(userId, loader) : loader.get();
+    }
+
+    public LedgerResponse getLedger(Long ledgerId, Supplier<LedgerResponse> loader) {
+        return enabled ? ledgerCache.get(ledgerId, loader) : loader.get();
+    }
+
+    /**
+     * 가계부 현황 요약 제거 (L1, L2)
+     */
+    public void evictSummary(Long userId) {
+        if (enabled) {
+            summaryCache.invalidate(userId);
+        }
+    }
+
+    /**
+     * 가계부 상세 제거 (L1, L2)
+     */
+    public void evictLedger(Long ledgerId) {
+        if (enabled) {
+            ledgerCache.invalidate(ledgerId);
+        }
+    }
+
+    /**
+     * 가계부 현황 요약 제거 (이 인스턴스의 L1만)
+     */
+    public void evictSummaryLocal(Long userId) {
+        summaryCache.invalidateLocal(userId);
+    }
+
+    /**
+     * 가계부 상세 제거 (이 인스턴스의 L1만)
+     */
+    public void evictLedgerLocal(Long ledgerId) {
+        ledgerCache.invalidateLocal(ledgerId);
+    }
+}
@@ -0,0 +1,152 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 캐시 (L1: 인스턴스 로컬 Caffeine, L2: 인스턴스 간 공유 Redis)
+ *
+ * <p>조회 순서는 L1 → L2 → loader 이며, loader 결과는 L2와 L1에 모두 저장합니다.</p>
+ * <p>Redis 장애 시에는 L2를 건너뛰고 L1과 loader만으로 동작합니다.</p>
+ * <p>L1 히트/미스/제거 지표는 {@link CaffeineCacheMetrics}로, L2 지표는
+ * {@code ledger.cache.l2.requests} 카운터로 기록합니다.</p>
+ *
+ * @param <V> 캐시 값 타입 (JSON 직렬화 가능해야 함)
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private static final String REDIS_KEY_PREFIX = "ledger-service:cache:";
+
+    private final String name;
+    private final Class<V> valueType;
+    private final Cache<String, V> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration remoteTtl;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+    private final Counter invalidations;
+
+    public TwoTierCache(String name, Class<V> valueType, long localMaximumSize, Duration localTtl,
+                        Duration remoteTtl, StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.valueType = valueType;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.remoteTtl = remoteTtl;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "ledger." + name);
+        this.remoteHits = remoteCounter(meterRegistry, "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "miss");
+        this.remoteErrors = remoteCounter(meterRegistry, "error");
+        this.invalidations = Counter.builder("ledger.cache.invalidations")
+                .description("Explicit invalidations of ledger cache entries")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader 결과를 저장 후 반환)
+     *
+     * <p>loader가 예외를 던지면 아무것도 저장하지 않고 그대로 전파합니다.</p>
+     */
+    public V get(Object key, Supplier<V> loader) {
+        String cacheKey = String.valueOf(key);
+
+        V value = localCache.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+
+        value = getRemote(cacheKey);
+        if (value == null) {
+            value = loader.get();
+            putRemote(cacheKey, value);
+        }
+        localCache.put(cacheKey, value);
+        return value;
+    }
+
+    /**
+     * L1, L2 모두에서 제거
+     */
+    public void invalidate(Object key) {
+        String cacheKey = String.valueOf(key);
+        localCache.invalidate(cacheKey);
+        invalidations.increment();
+        try {
+            redisTemplate.delete(redisKey(cacheKey));
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("[Cache] Failed to delete L2 entry: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 인스턴스의 L1에서만 제거 (다른 인스턴스의 무효화 브로드캐스트 수신 시)
+     */
+    public void invalidateLocal(Object key) {
+        localCache.invalidate(String.valueOf(key));
+    }
+
+    private V getRemote(String cacheKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(cacheKey));
+            if (json == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            return objectMapper.readValue(json, valueType);
+        } catch (DataAccessException | JsonProcessingException e) {
+            remoteErrors.increment();
+            log.warn("[Cache] Failed to read L2 entry: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String cacheKey, V value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            remoteErrors.increment();
+            log.warn("[Cache] Failed to write L2 entry: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        return REDIS_KEY_PREFIX + name + ":" + cacheKey;
+    }
+
+    private Counter remoteCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ledger.cache.l2.requests")
+                .description("Redis (L2) ledger cache requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
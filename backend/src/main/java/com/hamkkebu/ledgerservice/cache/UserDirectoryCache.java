@@ -0,0 +1,128 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hamkkebu.ledgerservice.data.entity.User;
+import com.hamkkebu.ledgerservice.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 조회 로컬 캐시 (userId, email)
+ *
+ * <p>요청마다 반복되는 삭제되지 않은 사용자 조회를 크기가 제한된 Caffeine 캐시로 대신하고, 없으면 DB에서 읽습니다.
+ * email은 userId로만 연결해 두고 사용자 정보는 userId 캐시 하나에만 보관하므로, userId 항목을 제거하면
+ * email 조회도 다시 DB를 읽습니다.</p>
+ * <p>사용자 이벤트를 반영하면 {@link LedgerCacheInvalidator}가 커밋 후 모든 인스턴스에서 항목을 제거합니다.
+ * 없는 사용자는 캐시하지 않으므로 JIT Provisioning으로 새로 생긴 사용자도 바로 조회됩니다.</p>
+ * <p>캐시된 User는 준영속 엔티티이므로 읽기 전용으로만 사용합니다.
+ * {@code ledger.user-cache.enabled=false}면 항상 DB를 조회합니다.</p>
+ */
+@Slf4j
+@Component
+public class UserDirectoryCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> userIdsByEmail;
+
+    @Getter
+    private final boolean enabled;
+
+    public UserDirectoryCache(
+            UserRepository userRepository,
+            @Value("${ledger.user-cache.enabled:true}") boolean enabled,
+            @Value("${ledger.user-cache.maximum-size:50000}") long maximumSize,
+            @Value("${ledger.user-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "ledger.users");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByEmail, "ledger.user-emails");
+    }
+
+    /**
+     * userId로 삭제되지 않은 사용자 조회
+     */
+    public Optional<User> findByUserId(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        if (!enabled) {
+            return userRepository.findByUserIdAndIsDeletedFalse(userId);
+        }
+        User cached = usersById.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> user = userRepository.findByUserIdAndIsDeletedFalse(userId);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    /**
+     * email로 삭제되지 않은 사용자 조회
+     */
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        if (!enabled) {
+            return userRepository.findByEmailAndIsDeletedFalse(email);
+        }
+        Long userId = userIdsByEmail.getIfPresent(email);
+        if (userId != null) {
+            User cached = usersById.getIfPresent(userId);
+            if (cached != null && email.equals(cached.getEmail())) {
+                return Optional.of(cached);
+            }
+            userIdsByEmail.invalidate(email);
+        }
+        Optional<User> user = userRepository.findByEmailAndIsDeletedFalse(email);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    /**
+     * 삭제되지 않은 사용자인지
+     */
+    public boolean exists(Long userId) {
+        return findByUserId(userId).isPresent();
+    }
+
+    /**
+     * 사용자 항목 제거 (사용자 생성/수정/삭제 반영 후)
+     */
+    public void evict(Long userId) {
+        User cached = usersById.getIfPresent(userId);
+        usersById.invalidate(userId);
+        if (cached != null && cached.getEmail() != null) {
+            userIdsByEmail.invalidate(cached.getEmail());
+        }
+        log.debug("[Cache] User evicted: userId={}", userId);
+    }
+
+    private void put(User user) {
+        usersById.put(user.getUserId(), user);
+        if (user.getEmail() != null) {
+            userIdsByEmail.put(user.getEmail(), user.getUserId());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.hamkkebu.ledgerservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Auth Service gRPC 클라이언트 설정
+ *
+ * <p>사용자 조회 배치(GetUsers)의 시간 창이 끝났을 때 배치를 보내고, 느린 요청에 Hedge 요청을 보내는 스케줄러입니다.
+ * gRPC 호출은 비동기(Future Stub)이므로 스케줄러 스레드는 요청을 보내기만 하고 응답을 기다리지 않습니다.</p>
+ */
+@Configuration
+public class AuthServiceGrpcClientConfig {
+
+    public static final String AUTH_SERVICE_CLIENT_SCHEDULER = "authServiceClientScheduler";
+
+    @Bean(name = AUTH_SERVICE_CLIENT_SCHEDULER, destroyMethod = "shutdown")
+    public ScheduledExecutorService authServiceClientScheduler(
+            @Value("${ledger.auth-service.scheduler-threads:2}") int threads) {
+        return Executors.newScheduledThreadPool(Math.max(1, threads),
+                new CustomizableThreadFactory("auth-service-client-"));
+    }
+}
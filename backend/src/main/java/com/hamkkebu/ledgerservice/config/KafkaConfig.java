@@ -1,11 +1,19 @@
 package com.hamkkebu.ledgerservice.config;
 
 import com.hamkkebu.boilerplate.common.user.config.AbstractUserEventKafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.Map;
 
@@ -15,7 +23,13 @@ import java.util.Map;
  * <p>AbstractUserEventKafkaConfig를 상속받아 공통 로직을 재사용합니다.</p>
  * <p>사용자 이벤트(USER_REGISTERED, USER_DELETED)를 Map으로 수신하여
  * 이벤트 타입에 따라 처리합니다.</p>
+ * <p>user.events는 배치 리스너로 poll 단위를 한 번에 전달하여, 리스너가 필요한 사용자를 gRPC 한 번으로 미리 조회합니다.
+ * 리스너가 BatchListenerFailedException을 던지면 그 앞까지 오프셋을 커밋합니다.</p>
+ * <p>user.events는 auth-service 소유 토픽이므로 그 이름으로 재시도 토픽/DLT를 만들지 않습니다. 실패 레코드는 제자리에서
+ * 재시도하지 않고 ledger-service 전용 복구 토픽(ledger-service.user-events)으로 넘기며, 복구 토픽은 레코드 단위
+ * 리스너가 재시도 토픽(-retry-N)을 거쳐 처리합니다. 형식 오류 레코드는 바로 DLT(-dlt)로 보냅니다.</p>
  */
+@Slf4j
 @Configuration("ledgerUserEventKafkaConfig")
 public class KafkaConfig extends AbstractUserEventKafkaConfig {
 
@@ -25,6 +39,9 @@ public class KafkaConfig extends AbstractUserEventKafkaConfig {
     @Value("${spring.kafka.consumer.group-id:ledger-service-group}")
     private String groupId;
 
+    @Value("${kafka.topics.user-events-recovery:ledger-service.user-events}")
+    private String recoveryTopic;
+
     @Override
     protected String getBootstrapServers() {
         return bootstrapServers;
@@ -40,8 +57,49 @@ public class KafkaConfig extends AbstractUserEventKafkaConfig {
         return createConsumerFactory();
     }
 
+    /**
+     * user.events 배치 리스너 (실패 레코드는 복구 토픽으로, 뒤쪽 레코드는 다시 전달)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> ledgerKafkaListenerContainerFactory(
+            @Qualifier(KafkaDeadLetterConfig.DEAD_LETTER_KAFKA_TEMPLATE) KafkaOperations<Object, Object> deadLetterTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> factory = createContainerFactory();
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(userEventErrorHandler(deadLetterTemplate));
+        return factory;
+    }
+
+    /**
+     * 복구 토픽 리스너 (재시도 토픽/DLT 리스너도 이 Factory를 사용)
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> ledgerKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> ledgerUserEventRecoveryKafkaListenerContainerFactory() {
         return createContainerFactory();
     }
+
+    /**
+     * 실패 레코드를 재시도 없이 복구 토픽(형식 오류는 DLT)으로 발행
+     */
+    private DefaultErrorHandler userEventErrorHandler(KafkaOperations<Object, Object> deadLetterTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate,
+                (record, exception) -> {
+                    boolean malformed = isMalformed(exception);
+                    log.warn("[Kafka Consumer] Moving user event off the main topic: topic={}, partition={}, "
+                                    + "offset={}, malformed={}, error={}",
+                            record.topic(), record.partition(), record.offset(), malformed, exception.getMessage());
+                    return new TopicPartition(
+                            malformed ? recoveryTopic + KafkaDeadLetterConfig.DLT_TOPIC_SUFFIX : recoveryTopic, -1);
+                });
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
+    }
+
+    private boolean isMalformed(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException || cause instanceof ClassCastException
+                    || cause instanceof DeserializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,99 @@
+package com.hamkkebu.ledgerservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 재시도 토픽 / DLT(Dead Letter Topic) 설정
+ *
+ * <p>처리에 실패한 레코드는 파티션을 막지 않도록 재시도 토픽(-retry-0, -retry-1, ...)으로 넘겨
+ * 점점 긴 간격으로 다시 처리하고, 모두 실패하거나 형식 오류인 레코드는 DLT(-dlt)로 보냅니다.</p>
+ * <p>재시도/DLT 발행용 KafkaTemplate은 역직렬화된 값은 JSON으로, 역직렬화에 실패한 원본(byte[])은 그대로 씁니다.</p>
+ */
+@Configuration
+public class KafkaDeadLetterConfig {
+
+    public static final String DEAD_LETTER_KAFKA_TEMPLATE = "deadLetterKafkaTemplate";
+    public static final String RETRY_TOPIC_SUFFIX = "-retry";
+    public static final String DLT_TOPIC_SUFFIX = "-dlt";
+    public static final String DEAD_LETTER_REPLAY_EXECUTOR = "deadLetterReplayExecutor";
+
+    /** DLT 재처리 전용 Consumer 그룹 (DLT 리스너와 별도로 재처리 위치를 관리) */
+    public static final String REPLAY_GROUP_ID = "ledger-service-dlt-replay-group";
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    /**
+     * 재시도/DLT 발행용 Template
+     *
+     * <p>KafkaOperations 타입으로 등록하여 Spring Boot 기본 KafkaTemplate(Outbox 발행용)을 대체하지 않습니다.</p>
+     */
+    @Bean(name = DEAD_LETTER_KAFKA_TEMPLATE)
+    public KafkaOperations<Object, Object> deadLetterKafkaTemplate(ObjectMapper objectMapper) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        Map<Class<?>, Serializer<?>> keySerializers = new LinkedHashMap<>();
+        keySerializers.put(byte[].class, new ByteArraySerializer());
+        keySerializers.put(String.class, new StringSerializer());
+
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>(objectMapper).noTypeInfo());
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props,
+                new DelegatingByTypeSerializer(keySerializers),
+                new DelegatingByTypeSerializer(valueSerializers, true)));
+    }
+
+    /**
+     * DLT 재처리용 Consumer Factory (원본 byte[] 그대로 읽음)
+     */
+    @Bean
+    public ConsumerFactory<byte[], byte[]> deadLetterReplayConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, REPLAY_GROUP_ID);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return new DefaultKafkaConsumerFactory<>(props, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+    }
+
+    /**
+     * DLT 재처리용 스레드 (재처리는 동시에 하나만 실행)
+     */
+    @Bean(name = DEAD_LETTER_REPLAY_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService deadLetterReplayExecutor() {
+        return new ThreadPoolExecutor(
+                0, 1, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("dlt-replay-"));
+    }
+}
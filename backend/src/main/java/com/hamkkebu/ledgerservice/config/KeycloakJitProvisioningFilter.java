@@ -4,19 +4,48 @@ import com.hamkkebu.boilerplate.common.enums.Role;
 import com.hamkkebu.boilerplate.common.user.filter.AbstractKeycloakJitProvisioningFilter;
 import com.hamkkebu.ledgerservice.data.entity.User;
 import com.hamkkebu.ledgerservice.repository.UserRepository;
+import com.hamkkebu.ledgerservice.security.JwtUserClaims;
+import com.hamkkebu.ledgerservice.security.KnownUserRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * Ledger Service Keycloak JIT (Just-in-Time) Provisioning 필터
  *
  * <p>AbstractKeycloakJitProvisioningFilter를 상속받아 공통 로직을 재사용합니다.</p>
  * <p>JWT 인증 후 사용자 정보를 ledger-service DB에 동기화합니다.</p>
+ * <p>{@link KnownUserRegistry}에 있는 사용자는 이미 동기화되었으므로 필터를 건너뛰고,
+ * 확인한 userId를 요청 속성에 남겨 @CurrentUser 해석에서 다시 확인하지 않게 합니다.
+ * 사용자 정보 변경은 사용자 이벤트(Kafka)로 반영됩니다.</p>
  */
 @Component
 public class KeycloakJitProvisioningFilter extends AbstractKeycloakJitProvisioningFilter<User> {
 
-    public KeycloakJitProvisioningFilter(UserRepository userRepository) {
+    private final JwtUserClaims jwtUserClaims;
+    private final KnownUserRegistry knownUserRegistry;
+
+    public KeycloakJitProvisioningFilter(UserRepository userRepository,
+                                         JwtUserClaims jwtUserClaims,
+                                         KnownUserRegistry knownUserRegistry) {
         super(userRepository);
+        this.jwtUserClaims = jwtUserClaims;
+        this.knownUserRegistry = knownUserRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        if (super.shouldNotFilter(request)) {
+            return true;
+        }
+        Optional<Long> userId = jwtUserClaims.currentUserId();
+        if (userId.isEmpty() || !knownUserRegistry.isProvisioned(userId.get())) {
+            return false;
+        }
+        request.setAttribute(JwtUserClaims.VERIFIED_USER_ID_ATTRIBUTE, userId.get());
+        return true;
     }
 
     @Override
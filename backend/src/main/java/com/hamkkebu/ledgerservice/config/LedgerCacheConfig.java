@@ -0,0 +1,27 @@
+package com.hamkkebu.ledgerservice.config;
+
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 가계부 캐시 설정
+ *
+ * <p>인스턴스 간 로컬 캐시(응답 L1, 접근 권한) 무효화를 위해 Redis Pub/Sub 채널을 구독합니다.</p>
+ */
+@Configuration
+public class LedgerCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer ledgerCacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            LedgerCacheInvalidator ledgerCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(ledgerCacheInvalidator, new ChannelTopic(LedgerCacheInvalidator.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,33 @@
+package com.hamkkebu.ledgerservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 거래 내보내기 스트리밍 설정
+ *
+ * <p>StreamingResponseBody는 MVC 비동기 요청으로 처리되므로, 전용 크기 제한 Executor에서 실행합니다.
+ * 내보내기는 chunk를 조회하는 동안만 DB 커넥션을 사용하며, 동시 조회 수는 max-concurrent-queries로 따로 제한합니다.
+ * 큐까지 차면 요청을 거절합니다.</p>
+ */
+@Configuration
+public class LedgerExportConfig {
+
+    public static final String LEDGER_EXPORT_EXECUTOR = "ledgerExportExecutor";
+
+    @Bean(name = LEDGER_EXPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor ledgerExportExecutor(
+            @Value("${ledger.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${ledger.export.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ledger-export-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hamkkebu.ledgerservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가계부 현황 요약 조회용 Executor 설정
+ *
+ * <p>사용자/내 가계부/공유/멤버십 조회를 동시에 실행하기 위한 크기 제한 스레드 풀입니다.</p>
+ * <p>큐가 가득 차면 호출 스레드에서 직접 실행(CallerRunsPolicy)하여 순차 조회로 자연스럽게 물러납니다.
+ * 동시 DB 조회 수가 커넥션 풀을 넘지 않도록 max-size를 Hikari maximum-pool-size 이하로 유지하세요.</p>
+ */
+@Configuration
+public class LedgerSummaryExecutorConfig {
+
+    public static final String LEDGER_SUMMARY_EXECUTOR = "ledgerSummaryExecutor";
+
+    @Bean(name = LEDGER_SUMMARY_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService ledgerSummaryExecutor(
+            @Value("${ledger.summary.executor.core-size:4}") int coreSize,
+            @Value("${ledger.summary.executor.max-size:8}") int maxSize,
+            @Value("${ledger.summary.executor.queue-capacity:100}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                coreSize, maxSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("ledger-summary-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, LEDGER_SUMMARY_EXECUTOR, Tags.empty());
+    }
+}
@@ -1,26 +1,47 @@
 package com.hamkkebu.ledgerservice.config;
 
 import com.hamkkebu.ledgerservice.security.CurrentUserArgumentResolver;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * Ledger Service Web MVC 설정
  *
  * <p>@CurrentUser 어노테이션을 위한 ArgumentResolver 등록</p>
+ * <p>비동기 요청(거래 내보내기 스트리밍)은 전용 Executor와 ledger.export.timeout으로 처리</p>
  */
 @Configuration("ledgerWebMvcConfig")
-@RequiredArgsConstructor
 public class LedgerWebMvcConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final ThreadPoolTaskExecutor ledgerExportExecutor;
+    private final Duration exportTimeout;
+
+    public LedgerWebMvcConfig(
+            CurrentUserArgumentResolver currentUserArgumentResolver,
+            @Qualifier(LedgerExportConfig.LEDGER_EXPORT_EXECUTOR) ThreadPoolTaskExecutor ledgerExportExecutor,
+            @Value("${ledger.export.timeout:10m}") Duration exportTimeout) {
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.ledgerExportExecutor = ledgerExportExecutor;
+        this.exportTimeout = exportTimeout;
+    }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(ledgerExportExecutor);
+        configurer.setDefaultTimeout(exportTimeout.toMillis());
+    }
 }
@@ -1,46 +1,147 @@
 package com.hamkkebu.ledgerservice.config;
 
+import com.hamkkebu.ledgerservice.kafka.TransactionEventDeserializer;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Transaction 이벤트 Kafka Consumer 설정
+ *
+ * <p>배치 리스너로 poll 단위(최대 max-poll-records건)를 한 번에 전달합니다.
+ * 리스너가 BatchListenerFailedException을 던지면 그 앞까지 오프셋을 커밋하고, 실패 레코드는 제자리에서
+ * 재시도하지 않고 ledger-service 전용 복구 토픽으로 넘겨 파티션이 막히지 않게 합니다.
+ * 복구 토픽은 레코드 단위 리스너가 재시도 토픽(-retry-N)을 거쳐 처리하며, 형식 오류 레코드는 바로 DLT(-dlt)로 보냅니다.</p>
+ * <p>값은 {@link TransactionEventDeserializer}로 바로 바인딩하고, {@link ErrorHandlingDeserializer}로 감싸
+ * 형식 오류 레코드가 poll 전체를 막지 않도록 null 값으로 전달합니다.</p>
+ * <p>poll 단위 레코드는 가계부별 레인으로 나뉘어 workers 크기의 전용 스레드 풀에서 반영됩니다.
+ * 레인마다 DB 커넥션을 하나씩 쓰므로 workers는 Hikari maximum-pool-size보다 충분히 작게 유지하세요.</p>
  */
+@Slf4j
 @Configuration
 public class TransactionEventKafkaConfig {
 
+    public static final String TRANSACTION_EVENT_WORKER_EXECUTOR = "transactionEventWorkerExecutor";
+    public static final String PROJECTION_REBUILD_EXECUTOR = "transactionProjectionRebuildExecutor";
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${kafka.consumer.transaction-events.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${kafka.topics.transaction-events-recovery:ledger-service.transaction-events}")
+    private String recoveryTopic;
+
+    /**
+     * 가계부별 레인 처리용 스레드 풀 (레인 수는 workers 이하이므로 큐는 poll 하나 분량을 넘지 않음)
+     */
+    @Bean(name = TRANSACTION_EVENT_WORKER_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService transactionEventWorkerExecutor(
+            @Value("${kafka.consumer.transaction-events.workers:4}") int workers,
+            MeterRegistry meterRegistry) {
+        int size = Math.max(1, workers);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                size, size, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("transaction-event-worker-"));
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, TRANSACTION_EVENT_WORKER_EXECUTOR, Tags.empty());
+    }
+
+    /**
+     * 프로젝션 재구성용 스레드 풀 (조정 스레드 1 + 파티션 그룹별 Consumer 스레드, 재구성은 동시에 하나만 실행)
+     */
+    @Bean(name = PROJECTION_REBUILD_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService transactionProjectionRebuildExecutor(
+            @Value("${ledger.projection-rebuild.parallelism:4}") int parallelism) {
+        return new ThreadPoolExecutor(
+                0, Math.max(1, parallelism) + 1, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("projection-rebuild-"));
+    }
+
     @Bean
-    public ConsumerFactory<String, Map<String, Object>> transactionEventConsumerFactory() {
+    public ConsumerFactory<String, TransactionEvent> transactionEventConsumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "ledger-service-transaction-group");
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.hamkkebu.transactionservice.*,com.hamkkebu.ledgerservice.*,java.util,java.lang");
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap");
-        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        return new DefaultKafkaConsumerFactory<>(props);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new TransactionEventDeserializer()));
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> transactionEventKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, TransactionEvent> transactionEventKafkaListenerContainerFactory(
+            @Qualifier(KafkaDeadLetterConfig.DEAD_LETTER_KAFKA_TEMPLATE) KafkaOperations<Object, Object> deadLetterTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, TransactionEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(transactionEventConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(transactionEventErrorHandler(deadLetterTemplate));
         return factory;
     }
+
+    /**
+     * 복구 토픽 레코드 단위 리스너 (재시도 토픽/DLT 리스너도 이 Factory를 사용)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, TransactionEvent> transactionEventRecoveryKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, TransactionEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(transactionEventConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * 실패 레코드를 재시도 없이 복구 토픽(형식 오류는 DLT)으로 발행
+     */
+    private DefaultErrorHandler transactionEventErrorHandler(KafkaOperations<Object, Object> deadLetterTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate,
+                (record, exception) -> {
+                    boolean malformed = isMalformed(exception);
+                    log.warn("[Kafka Consumer] Moving transaction event off the main topic: topic={}, partition={}, "
+                                    + "offset={}, malformed={}, error={}",
+                            record.topic(), record.partition(), record.offset(), malformed, exception.getMessage());
+                    return new TopicPartition(
+                            malformed ? recoveryTopic + KafkaDeadLetterConfig.DLT_TOPIC_SUFFIX : recoveryTopic, -1);
+                });
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
+    }
+
+    private boolean isMalformed(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException || cause instanceof DeserializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
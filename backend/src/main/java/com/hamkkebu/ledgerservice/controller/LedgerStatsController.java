@@ -0,0 +1,60 @@
+package com.hamkkebu.ledgerservice.controller;
+
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import com.hamkkebu.boilerplate.common.user.annotation.CurrentUser;
+import com.hamkkebu.ledgerservice.data.dto.MonthlyStatResponse;
+import com.hamkkebu.ledgerservice.data.dto.PeriodStatResponse;
+import com.hamkkebu.ledgerservice.service.LedgerMonthlyStatService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 가계부 통계 Controller
+ *
+ * <p>월별 통계 Rollup 기반의 통계 조회 REST API를 제공합니다.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/ledgers")
+@RequiredArgsConstructor
+@Tag(name = "Ledger Stats", description = "가계부 통계 API")
+public class LedgerStatsController {
+
+    private final LedgerMonthlyStatService ledgerMonthlyStatService;
+
+    @GetMapping("/{ledgerId}/stats/monthly")
+    @Operation(summary = "월별 통계 조회", description = "가계부의 월별/카테고리별 수입·지출 통계를 조회합니다 (from/to: yyyy-MM, 기본 최근 12개월)")
+    public ResponseEntity<ApiResponse<List<MonthlyStatResponse>>> getMonthlyStats(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @PathVariable Long ledgerId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+
+        log.info("GET /api/v1/ledgers/{}/stats/monthly - userId: {}, from: {}, to: {}", ledgerId, userId, from, to);
+        List<MonthlyStatResponse> stats = ledgerMonthlyStatService.getMonthlyStats(userId, ledgerId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    @GetMapping("/{ledgerId}/stats/period")
+    @Operation(summary = "기간별 합계 조회", description = "가계부의 기간별 수입·지출 합계를 조회합니다 (startDate/endDate: yyyy-MM-dd)")
+    public ResponseEntity<ApiResponse<PeriodStatResponse>> getPeriodStats(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @PathVariable Long ledgerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("GET /api/v1/ledgers/{}/stats/period - userId: {}, startDate: {}, endDate: {}",
+                ledgerId, userId, startDate, endDate);
+        PeriodStatResponse stats = ledgerMonthlyStatService.getPeriodStats(userId, ledgerId, startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+}
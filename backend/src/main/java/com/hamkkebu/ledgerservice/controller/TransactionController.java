@@ -0,0 +1,80 @@
+package com.hamkkebu.ledgerservice.controller;
+
+import com.hamkkebu.boilerplate.common.dto.ApiResponse;
+import com.hamkkebu.boilerplate.common.user.annotation.CurrentUser;
+import com.hamkkebu.ledgerservice.data.dto.CursorPageResponse;
+import com.hamkkebu.ledgerservice.data.dto.TransactionResponse;
+import com.hamkkebu.ledgerservice.data.enums.ExportFormat;
+import com.hamkkebu.ledgerservice.service.TransactionExportService;
+import com.hamkkebu.ledgerservice.service.TransactionQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * 거래 내역 조회 Controller
+ *
+ * <p>거래 생성/수정/삭제는 transaction-service가 담당하며, 이 서비스는 동기화된 거래의 조회 API만 제공합니다.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/ledgers")
+@RequiredArgsConstructor
+@Tag(name = "Transaction", description = "거래 내역 조회 API")
+public class TransactionController {
+
+    private final TransactionQueryService transactionQueryService;
+    private final TransactionExportService transactionExportService;
+
+    @GetMapping("/{ledgerId}/transactions")
+    @Operation(summary = "거래 목록 조회", description = "가계부의 거래를 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다 (size: 기본 20, 최대 100)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TransactionResponse>>> getTransactions(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @PathVariable Long ledgerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        log.info("GET /api/v1/ledgers/{}/transactions - userId: {}, size: {}", ledgerId, userId, size);
+        CursorPageResponse<TransactionResponse> transactions =
+                transactionQueryService.getTransactions(userId, ledgerId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(transactions));
+    }
+
+    @GetMapping("/{ledgerId}/transactions/export")
+    @Operation(summary = "거래 내보내기", description = "가계부의 거래를 날짜순으로 스트리밍 내보냅니다 (format: csv | ndjson, startDate/endDate: yyyy-MM-dd, gzip: 압축 여부)")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @PathVariable Long ledgerId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        log.info("GET /api/v1/ledgers/{}/transactions/export - userId: {}, format: {}, startDate: {}, endDate: {}, gzip: {}",
+                ledgerId, userId, format, startDate, endDate, gzip);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = transactionExportService.export(
+                userId, ledgerId, exportFormat, startDate, endDate, gzip);
+
+        String filename = "ledger-" + ledgerId + "-transactions." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,34 @@
+package com.hamkkebu.ledgerservice.data.dto;
+
+import com.hamkkebu.ledgerservice.data.entity.LedgerMonthlyStat;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리별 월간 통계 (카테고리 미지정 거래는 categoryId = null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryStatResponse {
+
+    private Long categoryId;
+    private TransactionType type;
+    private BigDecimal totalAmount;
+    private Long transactionCount;
+
+    public static CategoryStatResponse from(LedgerMonthlyStat stat) {
+        return CategoryStatResponse.builder()
+                .categoryId(stat.getCategoryId() == LedgerMonthlyStat.UNCATEGORIZED ? null : stat.getCategoryId())
+                .type(stat.getType())
+                .totalAmount(stat.getTotalAmount())
+                .transactionCount(stat.getTransactionCount())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.hamkkebu.ledgerservice.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * <p>전체 건수는 제공하지 않으며, 다음 페이지는 nextCursor로 조회합니다 (마지막 페이지이면 null).</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,30 @@
+package com.hamkkebu.ledgerservice.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 가계부 월별 통계
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyStatResponse {
+
+    // 연월 (yyyy-MM)
+    private String yearMonth;
+
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private BigDecimal balance;
+    private Long transactionCount;
+
+    // 카테고리별 통계
+    private List<CategoryStatResponse> categories;
+}
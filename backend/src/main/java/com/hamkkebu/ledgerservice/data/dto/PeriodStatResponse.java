@@ -0,0 +1,27 @@
+package com.hamkkebu.ledgerservice.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 가계부 기간별 수입/지출 합계
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodStatResponse {
+
+    private Long ledgerId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private BigDecimal balance;
+}
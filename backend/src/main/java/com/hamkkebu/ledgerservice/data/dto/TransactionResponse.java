@@ -0,0 +1,48 @@
+package com.hamkkebu.ledgerservice.data.dto;
+
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 응답
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionResponse {
+
+    private Long transactionId;
+    private Long ledgerId;
+    private Long categoryId;
+    private TransactionType type;
+    private BigDecimal amount;
+    private String description;
+    private LocalDate transactionDate;
+    private String memo;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TransactionResponse from(Transaction transaction) {
+        return TransactionResponse.builder()
+                .transactionId(transaction.getTransactionId())
+                .ledgerId(transaction.getLedgerId())
+                .categoryId(transaction.getCategoryId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount())
+                .description(transaction.getDescription())
+                .transactionDate(transaction.getTransactionDate())
+                .memo(transaction.getMemo())
+                .createdAt(transaction.getCreatedAt())
+                .updatedAt(transaction.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.hamkkebu.ledgerservice.data.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * LedgerBalance 엔티티 (가계부 잔액 Read Model)
+ *
+ * <p>가계부별 수입/지출 합계와 거래 건수를 미리 집계해 둔 테이블입니다.</p>
+ * <p>거래 이벤트 처리 시 증분(delta)으로 갱신되며, 조회는 PK 단건 조회로 처리됩니다.</p>
+ * <p>last_event_version은 잔액을 바꾼 마지막 이벤트의 발생 시각(epoch millis)입니다.</p>
+ * <p>값의 변경은 {@code LedgerBalanceRepository}의 네이티브 쿼리로만 수행합니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tbl_ledger_balances")
+public class LedgerBalance {
+
+    @Id
+    @Column(name = "ledger_id", nullable = false)
+    private Long ledgerId;
+
+    @Column(name = "total_income", nullable = false, precision = 17, scale = 2)
+    @Builder.Default
+    private BigDecimal totalIncome = BigDecimal.ZERO;
+
+    @Column(name = "total_expense", nullable = false, precision = 17, scale = 2)
+    @Builder.Default
+    private BigDecimal totalExpense = BigDecimal.ZERO;
+
+    @Column(name = "transaction_count", nullable = false)
+    @Builder.Default
+    private Long transactionCount = 0L;
+
+    @Column(name = "last_event_version", nullable = false)
+    @Builder.Default
+    private Long lastEventVersion = 0L;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 집계 행이 아직 없는 가계부의 빈 잔액
+     */
+    public static LedgerBalance empty(Long ledgerId) {
+        return LedgerBalance.builder()
+                .ledgerId(ledgerId)
+                .build();
+    }
+}
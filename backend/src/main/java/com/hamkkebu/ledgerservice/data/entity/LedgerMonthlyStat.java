@@ -0,0 +1,58 @@
+package com.hamkkebu.ledgerservice.data.entity;
+
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * LedgerMonthlyStat 엔티티 (가계부 월별 통계 Rollup)
+ *
+ * <p>(가계부, 연월, 카테고리, 거래 유형) 단위로 합계와 건수를 미리 집계해 둔 테이블입니다.</p>
+ * <p>카테고리가 없는 거래는 category_id = 0 으로 집계합니다.</p>
+ * <p>값의 변경은 {@code LedgerMonthlyStatRepository}의 네이티브 쿼리로만 수행합니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tbl_ledger_monthly_stats")
+public class LedgerMonthlyStat {
+
+    /**
+     * 카테고리 미지정 거래의 category_id
+     */
+    public static final long UNCATEGORIZED = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_monthly_stat_id", nullable = false)
+    private Long ledgerMonthlyStatId;
+
+    @Column(name = "ledger_id", nullable = false)
+    private Long ledgerId;
+
+    /**
+     * 연월 (yyyy-MM)
+     */
+    @Column(name = "stat_year_month", nullable = false, length = 7)
+    private String yearMonth;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType type;
+
+    @Column(name = "total_amount", nullable = false, precision = 17, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+}
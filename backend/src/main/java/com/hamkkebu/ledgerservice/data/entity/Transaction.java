@@ -51,6 +51,12 @@ public class Transaction extends BaseEntity {
     @Column(name = "memo", length = 1000)
     private String memo;
 
+    /**
+     * transaction-service 이벤트 버전 (이벤트 발생 시각, epoch millis / 0 = 버전 없음)
+     */
+    @Column(name = "source_version", nullable = false)
+    private long sourceVersion;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ledger_id", insertable = false, updatable = false)
     private Ledger ledger;
@@ -0,0 +1,47 @@
+package com.hamkkebu.ledgerservice.data.enums;
+
+import java.util.Locale;
+
+/**
+ * 거래 내보내기 형식 Enum
+ */
+public enum ExportFormat {
+    /**
+     * CSV (RFC 4180, 첫 줄 헤더)
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Newline-delimited JSON (한 줄에 거래 하나)
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터(대소문자 무관)를 형식으로 변환
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static ExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format (csv, ndjson): " + value, e);
+        }
+    }
+}
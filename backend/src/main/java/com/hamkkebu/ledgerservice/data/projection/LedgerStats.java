@@ -0,0 +1,18 @@
+package com.hamkkebu.ledgerservice.data.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 가계부 통계 (수입 합계, 지출 합계, 삭제되지 않은 거래 건수)
+ */
+public record LedgerStats(
+        Long ledgerId,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        long transactionCount
+) {
+
+    public static LedgerStats empty(Long ledgerId) {
+        return new LedgerStats(ledgerId, BigDecimal.ZERO, BigDecimal.ZERO, 0L);
+    }
+}
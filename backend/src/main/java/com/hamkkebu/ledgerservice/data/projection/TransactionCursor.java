@@ -0,0 +1,48 @@
+package com.hamkkebu.ledgerservice.data.projection;
+
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래 목록 커서 (마지막으로 조회한 거래의 위치)
+ *
+ * <p>정렬 키 (transaction_date DESC, transaction_id DESC)를 "yyyy-MM-dd|transactionId" 형태로
+ * Base64url 인코딩한 불투명 토큰으로 주고받습니다.</p>
+ */
+public record TransactionCursor(LocalDate transactionDate, Long transactionId) {
+
+    private static final String DELIMITER = "|";
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getTransactionId());
+    }
+
+    public String encode() {
+        String raw = transactionDate + DELIMITER + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, index)),
+                    Long.valueOf(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
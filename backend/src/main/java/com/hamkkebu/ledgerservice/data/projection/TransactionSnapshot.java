@@ -0,0 +1,48 @@
+package com.hamkkebu.ledgerservice.data.projection;
+
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 거래 상태 스냅샷
+ *
+ * <p>거래 이벤트 적용 전/후의 상태를 불변 값으로 보관하여 Read Model(잔액, 통계)의
+ * 증분 계산에 사용합니다. 삭제된 거래는 스냅샷이 없는 것(null)으로 취급합니다.</p>
+ */
+public record TransactionSnapshot(
+        Long transactionId,
+        Long ledgerId,
+        Long categoryId,
+        TransactionType type,
+        BigDecimal amount,
+        LocalDate transactionDate
+) {
+
+    /**
+     * 엔티티로부터 스냅샷 생성 (삭제된 거래는 null)
+     */
+    public static TransactionSnapshot of(Transaction transaction) {
+        if (transaction == null || transaction.isDeleted()) {
+            return null;
+        }
+        return new TransactionSnapshot(
+                transaction.getTransactionId(),
+                transaction.getLedgerId(),
+                transaction.getCategoryId(),
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getTransactionDate()
+        );
+    }
+
+    public BigDecimal incomeAmount() {
+        return type == TransactionType.INCOME ? amount : BigDecimal.ZERO;
+    }
+
+    public BigDecimal expenseAmount() {
+        return type == TransactionType.EXPENSE ? amount : BigDecimal.ZERO;
+    }
+}
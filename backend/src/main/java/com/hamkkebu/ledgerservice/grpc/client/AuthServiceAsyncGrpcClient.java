@@ -0,0 +1,304 @@
+package com.hamkkebu.ledgerservice.grpc.client;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.hamkkebu.ledgerservice.config.AuthServiceGrpcClientConfig;
+import com.hamkkebu.ledgerservice.grpc.user.GetUsersRequest;
+import com.hamkkebu.ledgerservice.grpc.user.GetUsersResponse;
+import com.hamkkebu.ledgerservice.grpc.user.User;
+import com.hamkkebu.ledgerservice.grpc.user.UserServiceGrpc;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Auth Service 비동기 gRPC 클라이언트
+ *
+ * <p>Future Stub으로 호출하여 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+ * 호출마다 제한 시간(deadline)을 두고, 원 요청과 Hedge 요청이 같은 deadline을 공유합니다.</p>
+ * <p>원 요청이 최근 p95 지연 시간(min-delay ~ max-delay로 제한) 안에 끝나지 않으면 같은 요청을 한 번 더 보내고
+ * 먼저 성공한 응답을 사용하며 나머지는 취소합니다. 원 요청이 UNAVAILABLE로 바로 실패하면 기다리지 않고 다시 보냅니다.
+ * 추가 요청은 {@link RetryBudget} 안에서만 보냅니다.</p>
+ * <p>RPC별 지연 시간(p50/p95/p99)과 Hedge 결과를 {@code ledger.grpc.client.*} 지표로 내보냅니다.</p>
+ */
+@Slf4j
+@Service
+public class AuthServiceAsyncGrpcClient {
+
+    private static final String CLIENT = "auth-service";
+    private static final String RPC_GET_USERS = "GetUsers";
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    @GrpcClient("auth-service")
+    private UserServiceGrpc.UserServiceFutureStub userServiceFutureStub;
+
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final boolean hedgingEnabled;
+    private final Duration minHedgeDelay;
+    private final Duration maxHedgeDelay;
+    private final long minHedgeSamples;
+    private final RetryBudget retryBudget;
+
+    public AuthServiceAsyncGrpcClient(
+            @Qualifier(AuthServiceGrpcClientConfig.AUTH_SERVICE_CLIENT_SCHEDULER) ScheduledExecutorService scheduler,
+            MeterRegistry meterRegistry,
+            @Value("${ledger.auth-service.hedge.enabled:true}") boolean hedgingEnabled,
+            @Value("${ledger.auth-service.hedge.min-delay:20ms}") Duration minHedgeDelay,
+            @Value("${ledger.auth-service.hedge.max-delay:500ms}") Duration maxHedgeDelay,
+            @Value("${ledger.auth-service.hedge.min-samples:20}") long minHedgeSamples,
+            @Value("${ledger.auth-service.retry-budget.ratio:0.1}") double retryBudgetRatio,
+            @Value("${ledger.auth-service.retry-budget.max-tokens:10}") double retryBudgetMaxTokens) {
+        if (minHedgeDelay.compareTo(maxHedgeDelay) > 0) {
+            throw new IllegalArgumentException("hedge.min-delay must not exceed hedge.max-delay");
+        }
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+        this.hedgingEnabled = hedgingEnabled;
+        this.minHedgeDelay = minHedgeDelay;
+        this.maxHedgeDelay = maxHedgeDelay;
+        this.minHedgeSamples = minHedgeSamples;
+        this.retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetMaxTokens);
+        Gauge.builder("ledger.grpc.client.retry-budget", retryBudget, RetryBudget::tokens)
+                .description("Remaining tokens for hedged and retried gRPC requests")
+                .tag("client", CLIENT)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 여러 사용자 ID로 사용자 정보 배치 조회 (GetUsers)
+     *
+     * @param deadline 호출 전체 제한 시간 (Hedge 요청 포함)
+     * @return userId별 사용자 정보 (없는 사용자는 제외)
+     */
+    @CircuitBreaker(name = "authService", fallbackMethod = "getUsersFallback")
+    public CompletableFuture<Map<Long, User>> getUsers(Collection<Long> userIds, Duration deadline) {
+        log.debug("[gRPC Client] GetUsers request: count={}", userIds.size());
+        GetUsersRequest request = GetUsersRequest.newBuilder()
+                .addAllUserIds(userIds)
+                .build();
+        return call(RPC_GET_USERS, deadline, stub -> stub.getUsers(request))
+                .thenApply(response -> toUserMap(userIds, response));
+    }
+
+    @SuppressWarnings("unused")
+    private CompletableFuture<Map<Long, User>> getUsersFallback(Collection<Long> userIds, Duration deadline,
+                                                                Throwable t) {
+        log.warn("[gRPC Client] GetUsers fallback triggered: count={}, error={}", userIds.size(), t.getMessage());
+        return CompletableFuture.completedFuture(Map.of());
+    }
+
+    private Map<Long, User> toUserMap(Collection<Long> userIds, GetUsersResponse response) {
+        if (!response.getErrorMessage().isEmpty()) {
+            log.warn("[gRPC Client] GetUsers error: {}", response.getErrorMessage());
+        }
+        Map<Long, User> users = new HashMap<>();
+        for (User user : response.getUsersList()) {
+            if (user.getUserId() > 0) {
+                users.put(user.getUserId(), user);
+            }
+        }
+        log.debug("[gRPC Client] GetUsers success: requested={}, found={}", userIds.size(), users.size());
+        return users;
+    }
+
+    private <T> CompletableFuture<T> call(String rpc, Duration deadline,
+                                          Function<UserServiceGrpc.UserServiceFutureStub, ListenableFuture<T>> rpcCall) {
+        HedgedCall<T> call = new HedgedCall<>(rpc, Deadline.after(deadline.toNanos(), TimeUnit.NANOSECONDS), rpcCall);
+        retryBudget.recordRequest();
+        call.start();
+        return call.result;
+    }
+
+    /**
+     * Hedge 대기 시간 (최근 성공 요청의 p95, 표본이 부족하면 max-delay)
+     */
+    private Duration hedgeDelay(String rpc) {
+        Timer timer = latencyTimer(rpc, "success");
+        if (timer.count() < minHedgeSamples) {
+            return maxHedgeDelay;
+        }
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == HEDGE_PERCENTILE) {
+                long nanos = (long) percentile.value(TimeUnit.NANOSECONDS);
+                return Duration.ofNanos(Math.max(minHedgeDelay.toNanos(), Math.min(maxHedgeDelay.toNanos(), nanos)));
+            }
+        }
+        return maxHedgeDelay;
+    }
+
+    private Timer latencyTimer(String rpc, String outcome) {
+        return Timer.builder("ledger.grpc.client.requests")
+                .description("gRPC client call latency including hedged attempts")
+                .tag("client", CLIENT)
+                .tag("rpc", rpc)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, HEDGE_PERCENTILE, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void countHedge(String rpc, String result) {
+        Counter.builder("ledger.grpc.client.hedges")
+                .description("Hedged gRPC requests by result")
+                .tag("client", CLIENT)
+                .tag("rpc", rpc)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Hedge를 포함한 논리 호출 하나
+     */
+    private final class HedgedCall<T> {
+
+        private final String rpc;
+        private final Deadline deadline;
+        private final Function<UserServiceGrpc.UserServiceFutureStub, ListenableFuture<T>> rpcCall;
+        private final long startedAt = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<ListenableFuture<T>> inFlight = new ArrayList<>();
+        private ScheduledFuture<?> scheduledHedge;
+        private boolean hedged;
+        private boolean done;
+
+        private HedgedCall(String rpc, Deadline deadline,
+                           Function<UserServiceGrpc.UserServiceFutureStub, ListenableFuture<T>> rpcCall) {
+            this.rpc = rpc;
+            this.deadline = deadline;
+            this.rpcCall = rpcCall;
+        }
+
+        private synchronized void start() {
+            attempt(false);
+            if (hedgingEnabled && !done) {
+                try {
+                    scheduledHedge = scheduler.schedule(this::hedge, hedgeDelay(rpc).toNanos(), TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    log.debug("[gRPC Client] Hedge not scheduled, scheduler is shutting down: rpc={}", rpc);
+                }
+            }
+        }
+
+        private synchronized void attempt(boolean hedge) {
+            if (done) {
+                return;
+            }
+            ListenableFuture<T> future;
+            try {
+                future = rpcCall.apply(userServiceFutureStub.withDeadline(deadline));
+            } catch (RuntimeException e) {
+                if (inFlight.isEmpty()) {
+                    complete(null, e);
+                }
+                return;
+            }
+            inFlight.add(future);
+            Futures.addCallback(future, new FutureCallback<>() {
+                @Override
+                public void onSuccess(T value) {
+                    succeeded(future, value, hedge);
+                }
+
+                @Override
+                public void onFailure(Throwable error) {
+                    failed(future, error);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+
+        /**
+         * 원 요청이 아직 끝나지 않았으면 Hedge 요청 (예산 안에서)
+         */
+        private synchronized void hedge() {
+            scheduledHedge = null;
+            if (done || hedged) {
+                return;
+            }
+            hedged = true;
+            if (!retryBudget.tryAcquire()) {
+                countHedge(rpc, "budget_exhausted");
+                return;
+            }
+            countHedge(rpc, "sent");
+            attempt(true);
+        }
+
+        private synchronized void succeeded(ListenableFuture<T> future, T value, boolean hedge) {
+            inFlight.remove(future);
+            if (done) {
+                return;
+            }
+            if (hedge) {
+                countHedge(rpc, "won");
+            }
+            complete(value, null);
+        }
+
+        private synchronized void failed(ListenableFuture<T> future, Throwable error) {
+            inFlight.remove(future);
+            if (done || !inFlight.isEmpty()) {
+                return;
+            }
+            // 연결 실패는 p95를 기다리지 않고 바로 다시 보냄
+            if (!hedged && scheduledHedge != null && Status.fromThrowable(error).getCode() == Status.Code.UNAVAILABLE) {
+                scheduledHedge.cancel(false);
+                hedge();
+                if (done || !inFlight.isEmpty()) {
+                    return;
+                }
+            }
+            complete(null, error);
+        }
+
+        /**
+         * 결과를 확정하고 남은 요청/예약된 Hedge 취소
+         */
+        private void complete(T value, Throwable error) {
+            done = true;
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel(false);
+                scheduledHedge = null;
+            }
+            for (ListenableFuture<T> future : List.copyOf(inFlight)) {
+                future.cancel(true);
+            }
+            inFlight.clear();
+
+            String outcome = error == null ? "success" : Status.fromThrowable(error).getCode().name();
+            latencyTimer(rpc, outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (error == null) {
+                result.complete(value);
+            } else {
+                log.warn("[gRPC Client] {} failed: status={}, hedged={}", rpc, outcome, hedged);
+                result.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -5,14 +5,19 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.grpc.StatusRuntimeException;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Auth Service gRPC 클라이언트
  *
  * <p>auth-service의 gRPC API를 호출하여 사용자 정보를 조회합니다.</p>
+ * <p>auth-service가 느려도 호출 스레드를 오래 붙잡지 않도록 호출마다 제한 시간(deadline)을 둡니다.
+ * 배치 조회와 Hedge 요청은 {@link AuthServiceAsyncGrpcClient}를 사용합니다.</p>
  */
 @Slf4j
 @Service
@@ -21,6 +26,9 @@ public class AuthServiceGrpcClient {
     @GrpcClient("auth-service")
     private UserServiceGrpc.UserServiceBlockingStub userServiceStub;
 
+    @Value("${ledger.auth-service.deadline:2s}")
+    private Duration deadline;
+
     /**
      * 사용자 ID로 사용자 정보 조회
      */
@@ -33,7 +41,7 @@ public class AuthServiceGrpcClient {
                     .setUserId(userId)
                     .build();
 
-            GetUserResponse response = userServiceStub.getUser(request);
+            GetUserResponse response = stub().getUser(request);
 
             if (response.hasUser() && response.getUser().getUserId() > 0) {
                 log.info("[gRPC Client] GetUser success: userId={}", userId);
@@ -64,7 +72,7 @@ public class AuthServiceGrpcClient {
                     .setUserId(userId)
                     .build();
 
-            UserExistsResponse response = userServiceStub.userExists(request);
+            UserExistsResponse response = stub().userExists(request);
             return response.getExists();
 
         } catch (StatusRuntimeException e) {
@@ -73,6 +81,10 @@ public class AuthServiceGrpcClient {
         }
     }
 
+    private UserServiceGrpc.UserServiceBlockingStub stub() {
+        return userServiceStub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
     // ==================== Fallback Methods ====================
 
     /**
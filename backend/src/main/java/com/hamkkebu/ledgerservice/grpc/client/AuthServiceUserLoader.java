@@ -0,0 +1,184 @@
+package com.hamkkebu.ledgerservice.grpc.client;
+
+import com.hamkkebu.ledgerservice.config.AuthServiceGrpcClientConfig;
+import com.hamkkebu.ledgerservice.grpc.user.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Auth Service 사용자 배치 로더 (DataLoader 방식)
+ *
+ * <p>짧은 시간 창(window) 안에 들어온 사용자 조회를 모아 {@link AuthServiceAsyncGrpcClient#getUsers} 한 번으로 보냅니다.
+ * 같은 userId를 동시에 조회하면 하나의 결과를 공유하고, 모인 조회가 max-batch-size에 이르면 시간 창을 기다리지 않고
+ * 바로 보냅니다.</p>
+ * <p>배치 호출은 Circuit Breaker(authService)와 배치별 제한 시간(deadline)을 따르며, 실패하면 단건 조회와 같이
+ * 사용자 없음(Optional.empty())으로 처리합니다. 배치는 비동기로 보내고 응답 콜백에서 결과를 채우므로
+ * 스케줄러 스레드가 응답을 기다리지 않으며, {@link #load}로 받은 Future는 블로킹 없이 이어 붙일 수 있습니다.</p>
+ * <p>시간 창은 여러 스레드가 동시에 조회할 때만 호출 수를 줄입니다. 한 스레드가 차례로 {@link #getUser}를 부르면
+ * 조회마다 시간 창만큼 늦어질 뿐 묶이지 않으므로, 조회할 ID를 미리 아는 호출자는 {@link #getUsers}로 한 번에
+ * 조회하세요 (사용자 이벤트 리스너는 poll마다 미리 조회). 응답을 기다리는 동안 DB 트랜잭션을 잡고 있지 않아야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class AuthServiceUserLoader {
+
+    private final AuthServiceAsyncGrpcClient authServiceAsyncGrpcClient;
+    private final ScheduledExecutorService scheduler;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration batchDeadline;
+    private final DistributionSummary batchSizeSummary;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<Optional<User>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public AuthServiceUserLoader(
+            AuthServiceAsyncGrpcClient authServiceAsyncGrpcClient,
+            @Qualifier(AuthServiceGrpcClientConfig.AUTH_SERVICE_CLIENT_SCHEDULER) ScheduledExecutorService scheduler,
+            @Value("${ledger.auth-service.user-batch.window:5ms}") Duration window,
+            @Value("${ledger.auth-service.user-batch.max-batch-size:100}") int maxBatchSize,
+            @Value("${ledger.auth-service.deadline:2s}") Duration batchDeadline,
+            MeterRegistry meterRegistry) {
+        this.authServiceAsyncGrpcClient = authServiceAsyncGrpcClient;
+        this.scheduler = scheduler;
+        this.window = window;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchDeadline = batchDeadline;
+        this.batchSizeSummary = DistributionSummary.builder("ledger.grpc.auth.user-batch.size")
+                .description("Users requested per coalesced GetUsers call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 조회 예약 (다음 배치에 포함)
+     */
+    public CompletableFuture<Optional<User>> load(Long userId) {
+        return loadAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 사용자 조회 (배치 결과를 기다림)
+     *
+     * @return 사용자 정보 (없거나 조회에 실패하면 empty)
+     */
+    public Optional<User> getUser(Long userId) {
+        return await(load(userId), userId);
+    }
+
+    /**
+     * 여러 사용자 조회 (max-batch-size 단위 배치로 나누어 보냄, 대량 동기화용)
+     *
+     * @return userId별 사용자 정보 (없거나 조회에 실패한 사용자는 제외)
+     */
+    public Map<Long, User> getUsers(Collection<Long> userIds) {
+        Map<Long, CompletableFuture<Optional<User>>> futures = loadAll(userIds);
+        Map<Long, User> users = new HashMap<>();
+        futures.forEach((userId, future) -> await(future, userId).ifPresent(user -> users.put(userId, user)));
+        return users;
+    }
+
+    private Map<Long, CompletableFuture<Optional<User>>> loadAll(Collection<Long> userIds) {
+        Map<Long, CompletableFuture<Optional<User>>> futures = new LinkedHashMap<>();
+        List<Map<Long, CompletableFuture<Optional<User>>>> fullBatches = new ArrayList<>();
+        synchronized (lock) {
+            for (Long userId : userIds) {
+                if (userId == null) {
+                    continue;
+                }
+                futures.put(userId, pending.computeIfAbsent(userId, id -> new CompletableFuture<>()));
+                if (pending.size() >= maxBatchSize) {
+                    fullBatches.add(takePending());
+                }
+            }
+            if (!pending.isEmpty() && scheduledFlush == null) {
+                scheduledFlush = schedule(() -> {
+                    Map<Long, CompletableFuture<Optional<User>>> batch;
+                    synchronized (lock) {
+                        batch = takePending();
+                    }
+                    dispatch(batch);
+                }, window.toNanos());
+            }
+        }
+        fullBatches.forEach(batch -> schedule(() -> dispatch(batch), 0));
+        return futures;
+    }
+
+    /**
+     * 모인 조회를 꺼내고 예약된 전송 취소 (lock 안에서 호출)
+     */
+    private Map<Long, CompletableFuture<Optional<User>>> takePending() {
+        Map<Long, CompletableFuture<Optional<User>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        try {
+            return scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 호출 스레드에서 바로 보냄
+            task.run();
+            return null;
+        }
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<Optional<User>>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+        CompletableFuture<Map<Long, User>> response;
+        try {
+            response = authServiceAsyncGrpcClient.getUsers(batch.keySet(), batchDeadline);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((users, error) -> {
+            if (error != null) {
+                log.warn("[gRPC Client] GetUsers batch failed: count={}, error={}", batch.size(), error.getMessage());
+            }
+            Map<Long, User> found = users != null ? users : Map.of();
+            for (Map.Entry<Long, CompletableFuture<Optional<User>>> entry : batch.entrySet()) {
+                entry.getValue().complete(Optional.ofNullable(found.get(entry.getKey())));
+            }
+        });
+    }
+
+    private Optional<User> await(CompletableFuture<Optional<User>> future, Long userId) {
+        try {
+            return future.get(window.plus(batchDeadline).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[gRPC Client] User batch lookup timed out: userId={}", userId);
+            return Optional.empty();
+        }
+    }
+}
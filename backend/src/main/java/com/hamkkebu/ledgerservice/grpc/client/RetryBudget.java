@@ -0,0 +1,49 @@
+package com.hamkkebu.ledgerservice.grpc.client;
+
+/**
+ * 재시도/Hedge 예산
+ *
+ * <p>원 요청마다 ratio만큼 토큰을 쌓고, 추가 요청(Hedge, 재시도)마다 토큰 하나를 씁니다.
+ * 추가 요청이 원 요청의 ratio 비율을 넘지 않으므로 느려진 서버에 부하를 몰아주지 않습니다.
+ * 토큰은 maxTokens까지만 쌓여 한가한 동안 모인 예산으로 한꺼번에 몰리지 않습니다.</p>
+ */
+class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    RetryBudget(double ratio, double maxTokens) {
+        if (ratio < 0 || maxTokens < 0) {
+            throw new IllegalArgumentException("Retry budget ratio and max tokens must not be negative");
+        }
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * 원 요청 기록 (토큰 적립)
+     */
+    synchronized void recordRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * 추가 요청 허용 여부 (허용하면 토큰 하나 사용)
+     */
+    synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 남은 토큰
+     */
+    synchronized double tokens() {
+        return tokens;
+    }
+}
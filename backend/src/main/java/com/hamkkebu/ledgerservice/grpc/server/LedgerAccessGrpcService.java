@@ -0,0 +1,121 @@
+package com.hamkkebu.ledgerservice.grpc.server;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.ledgerservice.grpc.access.AccessRole;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessManyRequest;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessManyResponse;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessRequest;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessResponse;
+import com.hamkkebu.ledgerservice.grpc.access.LedgerAccessServiceGrpc;
+import com.hamkkebu.ledgerservice.security.LedgerAccess;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가계부 접근 권한 gRPC 서비스 (내부 API)
+ *
+ * <p>다른 서비스가 LedgerShare/LedgerMember를 Kafka로 복제하지 않고 ledger-service에 직접 권한을 확인하도록 합니다.
+ * 조회는 {@link LedgerAccessResolver}를 그대로 사용하므로 REST API와 같은 판단을 내리며,
+ * 로컬 캐시에 있으면 DB를 조회하지 않고, 없으면 UNIQUE 인덱스 조인 한 번(배치는 PK IN 조회 한 번)으로 조회합니다.
+ * 멤버/공유 변경은 커밋 후 무효화되므로 복제 지연이 없습니다.</p>
+ * <p>잘못된 요청은 error_message로 응답하고, DB 장애는 UNAVAILABLE 상태로 응답하여 호출 측이 재시도/차단할 수 있게 합니다.</p>
+ * <p>호출 측은 {@code x-service-token} 메타데이터를 보내야 합니다 ({@link ServiceTokenServerInterceptor}).</p>
+ */
+@Slf4j
+@GrpcService
+public class LedgerAccessGrpcService extends LedgerAccessServiceGrpc.LedgerAccessServiceImplBase {
+
+    private final LedgerAccessResolver ledgerAccessResolver;
+    private final int maxBatchSize;
+
+    public LedgerAccessGrpcService(
+            LedgerAccessResolver ledgerAccessResolver,
+            @Value("${ledger.grpc.access.max-batch-size:500}") int maxBatchSize) {
+        this.ledgerAccessResolver = ledgerAccessResolver;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void checkAccess(CheckAccessRequest request, StreamObserver<CheckAccessResponse> responseObserver) {
+        if (request.getUserId() <= 0 || request.getLedgerId() <= 0) {
+            responseObserver.onNext(CheckAccessResponse.newBuilder()
+                    .setErrorMessage("user_id and ledger_id must be positive")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        try {
+            LedgerAccess access = ledgerAccessResolver.resolve(request.getUserId(), request.getLedgerId());
+            responseObserver.onNext(CheckAccessResponse.newBuilder()
+                    .setAccess(toProto(access))
+                    .build());
+            responseObserver.onCompleted();
+        } catch (DataAccessException e) {
+            log.error("[gRPC Server] CheckAccess failed: userId={}, ledgerId={}",
+                    request.getUserId(), request.getLedgerId(), e);
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription("Ledger access lookup failed")
+                    .asRuntimeException());
+        }
+    }
+
+    @Override
+    public void checkAccessMany(CheckAccessManyRequest request,
+                                StreamObserver<CheckAccessManyResponse> responseObserver) {
+        List<Long> ledgerIds = request.getLedgerIdsList();
+        String error = validate(request.getUserId(), ledgerIds);
+        if (error != null) {
+            responseObserver.onNext(CheckAccessManyResponse.newBuilder()
+                    .setErrorMessage(error)
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        try {
+            Map<Long, LedgerAccess> accesses = ledgerAccessResolver.resolveAll(request.getUserId(), ledgerIds);
+            CheckAccessManyResponse.Builder response = CheckAccessManyResponse.newBuilder();
+            accesses.values().forEach(access -> response.addAccesses(toProto(access)));
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (DataAccessException e) {
+            log.error("[gRPC Server] CheckAccessMany failed: userId={}, count={}",
+                    request.getUserId(), ledgerIds.size(), e);
+            responseObserver.onError(Status.UNAVAILABLE
+                    .withDescription("Ledger access lookup failed")
+                    .asRuntimeException());
+        }
+    }
+
+    private String validate(long userId, List<Long> ledgerIds) {
+        if (userId <= 0) {
+            return "user_id must be positive";
+        }
+        if (ledgerIds.size() > maxBatchSize) {
+            return "ledger_ids must not exceed " + maxBatchSize;
+        }
+        if (ledgerIds.stream().anyMatch(ledgerId -> ledgerId <= 0)) {
+            return "ledger_ids must be positive";
+        }
+        return null;
+    }
+
+    private com.hamkkebu.ledgerservice.grpc.access.LedgerAccess toProto(LedgerAccess access) {
+        MemberRole role = access.effectiveRole();
+        return com.hamkkebu.ledgerservice.grpc.access.LedgerAccess.newBuilder()
+                .setLedgerId(access.ledgerId())
+                .setUserId(access.userId())
+                .setLedgerExists(access.ledgerExists())
+                .setOwnerId(access.ownerId() != null ? access.ownerId() : 0L)
+                .setRole(role != null ? AccessRole.valueOf(role.name()) : AccessRole.NONE)
+                .setCanRead(access.canRead())
+                .build();
+    }
+}
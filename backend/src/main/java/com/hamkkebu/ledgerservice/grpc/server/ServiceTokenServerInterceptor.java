@@ -0,0 +1,83 @@
+package com.hamkkebu.ledgerservice.grpc.server;
+
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 내부 gRPC API 서비스 토큰 인증
+ *
+ * <p>gRPC 서버는 평문(plaintext)으로 열려 있어 포트에 닿는 누구나 가계부 접근 권한을 조회할 수 있으므로,
+ * 모든 호출에 {@code x-service-token} 메타데이터를 요구하고 {@code ledger.grpc.server.service-tokens}의
+ * 토큰 중 하나와 일치할 때만 처리합니다. 토큰은 여러 개 둘 수 있어 교체 중에는 이전/새 토큰을 함께 허용합니다.</p>
+ * <p>토큰이 설정되지 않으면 모든 호출을 UNAUTHENTICATED로 거부합니다 (헬스 체크 서비스 제외).</p>
+ */
+@Slf4j
+@GrpcGlobalServerInterceptor
+public class ServiceTokenServerInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> SERVICE_TOKEN_KEY =
+            Metadata.Key.of("x-service-token", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String HEALTH_SERVICE = "grpc.health.v1.Health";
+
+    private final List<byte[]> serviceTokens;
+    private final Counter rejected;
+
+    public ServiceTokenServerInterceptor(
+            @Value("${ledger.grpc.server.service-tokens:}") List<String> serviceTokens,
+            MeterRegistry meterRegistry) {
+        this.serviceTokens = serviceTokens.stream()
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        this.rejected = Counter.builder("ledger.grpc.server.unauthenticated")
+                .description("gRPC calls rejected for a missing or invalid service token")
+                .register(meterRegistry);
+        if (this.serviceTokens.isEmpty()) {
+            log.warn("[gRPC Server] No service tokens configured; all internal gRPC calls will be rejected");
+        }
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String serviceName = call.getMethodDescriptor().getServiceName();
+        if (HEALTH_SERVICE.equals(serviceName) || isValid(headers.get(SERVICE_TOKEN_KEY))) {
+            return next.startCall(call, headers);
+        }
+        rejected.increment();
+        log.warn("[gRPC Server] Rejected call without a valid service token: method={}, remote={}",
+                call.getMethodDescriptor().getFullMethodName(),
+                call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR));
+        call.close(Status.UNAUTHENTICATED.withDescription("Missing or invalid service token"), new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+
+    private boolean isValid(String token) {
+        if (token == null) {
+            return false;
+        }
+        byte[] presented = token.getBytes(StandardCharsets.UTF_8);
+        boolean valid = false;
+        for (byte[] serviceToken : serviceTokens) {
+            // 상수 시간 비교 (일치 여부와 관계없이 모든 토큰과 비교)
+            valid |= MessageDigest.isEqual(serviceToken, presented);
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,229 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 커넥션 풀 Backpressure 컨트롤러
+ *
+ * <p>Kafka 리스너와 HTTP 요청은 같은 Hikari 풀을 사용하므로, 풀이 포화되면 Consumer 쪽 사용량을 줄여
+ * 사용자 요청의 HTTP p99가 SLO 안에 머물도록 합니다. 주기마다 커넥션 대기 스레드 수, 사용 중 커넥션 비율,
+ * HTTP p99({@code http.server.requests})를 보고 단계를 조정합니다.</p>
+ * <p>HTTP p99는 SLO 대상 URI만 봅니다. 스트리밍 내보내기처럼 요청 하나가 수 분 걸리는 URI나 /actuator는
+ * {@code kafka.consumer.backpressure.http-excluded-uris}(uri 태그에 대한 Ant 패턴)로 제외하며,
+ * 제외하지 않으면 정상 내보내기 한 건만으로 SLO 초과로 판단해 Consumer를 멈춥니다.</p>
+ * <ol>
+ *   <li>NORMAL: 거래 이벤트를 설정된 레인 수(workers)로 반영합니다.</li>
+ *   <li>THROTTLED: 과부하가 이어질 때마다 레인 수를 절반으로 줄입니다 (레인마다 커넥션 하나를 사용).</li>
+ *   <li>PAUSED: 레인이 하나인데도 과부하면 리스너를 일시 정지합니다.</li>
+ * </ol>
+ * <p>과부하: 커넥션을 기다리는 스레드가 있거나, 풀 사용률이 높은 상태에서 HTTP p99가 SLO를 넘는 경우.
+ * 여유: 대기 스레드가 없고 사용률이 낮으며 HTTP p99가 SLO 안인 경우. 여유가 recovery-samples번 연속되면
+ * 한 단계씩 되돌립니다 (PAUSED → 레인 1개 → 2배씩 → NORMAL).</p>
+ * <p>결정은 {@code ledger.kafka.backpressure.*} 지표로 내보냅니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.backpressure.enabled", havingValue = "true", matchIfMissing = true)
+public class ConsumerBackpressureController {
+
+    /** 리스너 일시 정지 사유 ({@link ListenerPauseCoordinator}) */
+    private static final String PAUSE_REASON = "db-pool-backpressure";
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final double HTTP_PERCENTILE = 0.99;
+
+    private final HikariDataSource hikari;
+    private final ListenerPauseCoordinator listenerPauseCoordinator;
+    private final MeterRegistry meterRegistry;
+    private final List<String> listenerIds;
+    private final int workers;
+    private final Duration httpLatencySlo;
+    private final List<String> httpExcludedUris;
+    private final PathMatcher uriMatcher = new AntPathMatcher();
+    private final double highUtilization;
+    private final double lowUtilization;
+    private final int recoverySamples;
+
+    private volatile Level level = Level.NORMAL;
+    private volatile int workerLimit;
+    private int relaxedSamples;
+
+    public ConsumerBackpressureController(
+            DataSource dataSource,
+            ListenerPauseCoordinator listenerPauseCoordinator,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.consumer.backpressure.listener-ids:"
+                    + TransactionEventConsumer.TRANSACTION_EVENT_LISTENER_ID + ","
+                    + UserEventConsumer.USER_EVENT_LISTENER_ID + "}") List<String> listenerIds,
+            @Value("${kafka.consumer.transaction-events.workers:4}") int workers,
+            @Value("${kafka.consumer.backpressure.http-p99-slo:500ms}") Duration httpLatencySlo,
+            @Value("${kafka.consumer.backpressure.http-excluded-uris:/actuator/**,/**/transactions/export}")
+            List<String> httpExcludedUris,
+            @Value("${kafka.consumer.backpressure.high-utilization:0.9}") double highUtilization,
+            @Value("${kafka.consumer.backpressure.low-utilization:0.5}") double lowUtilization,
+            @Value("${kafka.consumer.backpressure.recovery-samples:5}") int recoverySamples) {
+        if (lowUtilization > highUtilization) {
+            throw new IllegalArgumentException("low-utilization must not exceed high-utilization");
+        }
+        this.hikari = unwrapHikari(dataSource);
+        this.listenerPauseCoordinator = listenerPauseCoordinator;
+        this.meterRegistry = meterRegistry;
+        this.listenerIds = List.copyOf(listenerIds);
+        this.workers = Math.max(1, workers);
+        this.workerLimit = this.workers;
+        this.httpLatencySlo = httpLatencySlo;
+        this.httpExcludedUris = List.copyOf(httpExcludedUris);
+        this.highUtilization = highUtilization;
+        this.lowUtilization = lowUtilization;
+        this.recoverySamples = Math.max(1, recoverySamples);
+
+        Gauge.builder("ledger.kafka.backpressure.level", this, controller -> controller.level.ordinal())
+                .description("Consumer backpressure level (0 = normal, 1 = throttled, 2 = paused)")
+                .register(meterRegistry);
+        Gauge.builder("ledger.kafka.backpressure.worker-limit", this, controller -> controller.workerLimit)
+                .description("Transaction event lanes allowed by the backpressure controller")
+                .register(meterRegistry);
+        if (hikari == null) {
+            log.warn("[Kafka Consumer] DataSource is not a HikariDataSource; consumer backpressure disabled");
+        }
+    }
+
+    /**
+     * 거래 이벤트 배치에 허용된 레인 수 (정지 중에는 1)
+     */
+    public int workerLimit() {
+        return workerLimit;
+    }
+
+    /**
+     * 현재 단계
+     */
+    public Level level() {
+        return level;
+    }
+
+    /**
+     * 풀/HTTP 지연 확인 후 단계 조정 (기본: 1초 간격)
+     */
+    @Scheduled(fixedDelayString = "${kafka.consumer.backpressure.interval-ms:1000}")
+    public synchronized void evaluate() {
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return;
+        }
+        int pending = pool.getThreadsAwaitingConnection();
+        double utilization = (double) pool.getActiveConnections() / Math.max(1, hikari.getMaximumPoolSize());
+        double httpP99Millis = httpP99Millis();
+        boolean sloBreached = httpP99Millis > httpLatencySlo.toMillis();
+
+        if (pending > 0 || (sloBreached && utilization >= highUtilization)) {
+            relaxedSamples = 0;
+            tighten(pending, utilization, httpP99Millis);
+        } else if (utilization < lowUtilization && !sloBreached) {
+            if (level != Level.NORMAL && ++relaxedSamples >= recoverySamples) {
+                relaxedSamples = 0;
+                relax(pending, utilization, httpP99Millis);
+            }
+        } else {
+            relaxedSamples = 0;
+        }
+    }
+
+    private void tighten(int pending, double utilization, double httpP99Millis) {
+        if (level == Level.PAUSED) {
+            return;
+        }
+        if (workerLimit > 1) {
+            workerLimit = Math.max(1, workerLimit / 2);
+            level = Level.THROTTLED;
+            record("throttle", pending, utilization, httpP99Millis);
+            return;
+        }
+        listenerIds.forEach(listenerId -> listenerPauseCoordinator.pause(listenerId, PAUSE_REASON));
+        level = Level.PAUSED;
+        record("pause", pending, utilization, httpP99Millis);
+    }
+
+    private void relax(int pending, double utilization, double httpP99Millis) {
+        if (level == Level.PAUSED) {
+            listenerIds.forEach(listenerId -> listenerPauseCoordinator.resume(listenerId, PAUSE_REASON));
+            workerLimit = 1;
+            level = workers > 1 ? Level.THROTTLED : Level.NORMAL;
+            record("resume", pending, utilization, httpP99Millis);
+            return;
+        }
+        workerLimit = Math.min(workers, workerLimit * 2);
+        level = workerLimit == workers ? Level.NORMAL : Level.THROTTLED;
+        record("relax", pending, utilization, httpP99Millis);
+    }
+
+    private void record(String action, int pending, double utilization, double httpP99Millis) {
+        Counter.builder("ledger.kafka.backpressure.decisions")
+                .description("Consumer backpressure decisions")
+                .tag("action", action)
+                .register(meterRegistry)
+                .increment();
+        log.info("[Kafka Consumer] Backpressure {}: level={}, workerLimit={}, pendingThreads={}, "
+                        + "poolUtilization={}, httpP99Ms={}",
+                action, level, workerLimit, pending, String.format("%.2f", utilization),
+                Double.isNaN(httpP99Millis) ? "n/a" : String.format("%.1f", httpP99Millis));
+    }
+
+    /**
+     * SLO 대상 엔드포인트별 HTTP p99 중 최댓값 (percentiles 설정이 없거나 요청이 없으면 NaN)
+     */
+    private double httpP99Millis() {
+        double max = Double.NaN;
+        for (Timer timer : meterRegistry.find(HTTP_SERVER_REQUESTS).timers()) {
+            String uri = timer.getId().getTag("uri");
+            if (uri != null && isExcluded(uri)) {
+                continue;
+            }
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == HTTP_PERCENTILE) {
+                    double millis = percentile.value(TimeUnit.MILLISECONDS);
+                    max = Double.isNaN(max) ? millis : Math.max(max, millis);
+                }
+            }
+        }
+        return max;
+    }
+
+    private boolean isExcluded(String uri) {
+        return httpExcludedUris.stream().anyMatch(pattern -> uriMatcher.match(pattern, uri));
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Backpressure 단계
+     */
+    public enum Level {
+        NORMAL, THROTTLED, PAUSED
+    }
+}
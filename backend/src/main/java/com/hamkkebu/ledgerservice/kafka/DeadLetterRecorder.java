@@ -0,0 +1,51 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * DLT 수신 기록
+ *
+ * <p>DLT로 넘어온 레코드를 원본 위치/예외와 함께 로그로 남기고 토픽별 카운터를 올립니다.
+ * 레코드는 DLT에 그대로 남으며 {@link DeadLetterReplayService}로 다시 처리할 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterRecorder {
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(ConsumerRecord<?, ?> record) {
+        Counter.builder("ledger.kafka.dlt.records")
+                .tag("topic", record.topic())
+                .register(meterRegistry)
+                .increment();
+        log.error("[Kafka Consumer] Dead-lettered event: topic={}, partition={}, offset={}, "
+                        + "originalTopic={}, originalOffset={}, error={}",
+                record.topic(), record.partition(), record.offset(),
+                header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC),
+                originalOffset(record),
+                header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+    }
+
+    private String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private Long originalOffset(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_OFFSET);
+        return header != null && header.value().length == Long.BYTES
+                ? ByteBuffer.wrap(header.value()).getLong() : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.kafka.DeadLetterReplayService.ReplayStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * DLT 관리 Actuator 엔드포인트 ({@code /actuator/deadletters})
+ *
+ * <ul>
+ *   <li>GET: DLT별 재처리 대기 건수와 현재(또는 마지막) 재처리 상태</li>
+ *   <li>POST /{topic}: DLT 재처리 시작 (body: {@code {"maxRecords": 100, "ratePerSecond": 10}}),
+ *       백그라운드로 실행하고 바로 상태를 돌려줌</li>
+ *   <li>DELETE: 실행 중인 재처리 취소</li>
+ * </ul>
+ * <p>DLT를 다시 발행하는 운영 작업이므로 기본으로 꺼져 있습니다 ({@code management.endpoint.deadletters.enabled}).
+ * 켤 때는 관리 포트(management.server.port)를 내부망에만 열거나 관리자 인증 뒤에 두세요.</p>
+ */
+@Component
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterReplayEndpoint {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @Value("${kafka.consumer.dead-letter.replay.default-max-records:1000}")
+    private int defaultMaxRecords;
+
+    @Value("${kafka.consumer.dead-letter.replay.default-rate:50}")
+    private int defaultRate;
+
+    @ReadOperation
+    public DeadLetterOverview overview() {
+        return new DeadLetterOverview(deadLetterReplayService.pending(), deadLetterReplayService.status());
+    }
+
+    @WriteOperation
+    public ReplayStatus replay(@Selector String topic,
+                               @Nullable Integer maxRecords,
+                               @Nullable Integer ratePerSecond) {
+        return deadLetterReplayService.start(topic,
+                maxRecords != null ? maxRecords : defaultMaxRecords,
+                ratePerSecond != null ? ratePerSecond : defaultRate);
+    }
+
+    @DeleteOperation
+    public ReplayStatus cancel() {
+        return deadLetterReplayService.cancel();
+    }
+
+    /**
+     * DLT별 재처리 대기 건수와 재처리 상태
+     */
+    public record DeadLetterOverview(Map<String, Long> pending, ReplayStatus replay) {
+    }
+}
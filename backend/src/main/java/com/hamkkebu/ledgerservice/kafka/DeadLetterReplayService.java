@@ -0,0 +1,301 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.config.KafkaDeadLetterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * DLT 재처리 Service
+ *
+ * <p>DLT의 레코드를 원본 바이트 그대로 ledger-service 전용 재처리 토픽으로 다시 발행합니다.
+ * 다른 서비스도 구독하는 원본 토픽(user.events 등)에는 발행하지 않습니다.</p>
+ * <ul>
+ *   <li>재처리 위치는 전용 Consumer 그룹({@link KafkaDeadLetterConfig#REPLAY_GROUP_ID})의 커밋 오프셋으로 관리합니다.</li>
+ *   <li>초당 발행 건수를 제한하고, 한 번에 최대 max-records건까지만 처리합니다.</li>
+ *   <li>재처리는 전용 스레드에서 백그라운드로 실행하고, 진행 상황은 {@link #status()}로 확인합니다.
+ *       동시에 하나의 재처리만 실행하며, 취소하면 발행이 확인된 레코드까지 커밋하고 멈춥니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayService {
+
+    /** 재처리 시 추가하는 헤더 (원본 DLT 이름) */
+    public static final String REPLAYED_FROM_HEADER = "x-ledger-replayed-from";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ConsumerFactory<byte[], byte[]> consumerFactory;
+    private final KafkaOperations<Object, Object> kafkaOperations;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> replayTargets;
+    private final int maxRecordsLimit;
+    private final int maxRateLimit;
+    private final Executor executor;
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    public DeadLetterReplayService(
+            @Qualifier("deadLetterReplayConsumerFactory") ConsumerFactory<byte[], byte[]> consumerFactory,
+            @Qualifier(KafkaDeadLetterConfig.DEAD_LETTER_KAFKA_TEMPLATE) KafkaOperations<Object, Object> kafkaOperations,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.topics.transaction-events-recovery:ledger-service.transaction-events}") String transactionRecoveryTopic,
+            @Value("${kafka.topics.user-events-recovery:ledger-service.user-events}") String userRecoveryTopic,
+            @Value("${kafka.consumer.dead-letter.replay.max-records:10000}") int maxRecordsLimit,
+            @Value("${kafka.consumer.dead-letter.replay.max-rate:500}") int maxRateLimit,
+            @Qualifier(KafkaDeadLetterConfig.DEAD_LETTER_REPLAY_EXECUTOR) Executor executor) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaOperations = kafkaOperations;
+        this.meterRegistry = meterRegistry;
+        this.maxRecordsLimit = maxRecordsLimit;
+        this.maxRateLimit = maxRateLimit;
+        this.executor = executor;
+
+        // DLT -> 재처리 대상 토픽 (ledger-service만 구독하는 토픽)
+        Map<String, String> targets = new LinkedHashMap<>();
+        targets.put(transactionRecoveryTopic + KafkaDeadLetterConfig.DLT_TOPIC_SUFFIX, transactionRecoveryTopic);
+        targets.put(userRecoveryTopic + KafkaDeadLetterConfig.DLT_TOPIC_SUFFIX, userRecoveryTopic);
+        this.replayTargets = Map.copyOf(targets);
+    }
+
+    /**
+     * DLT별 재처리 대기 건수 (재처리 그룹 커밋 오프셋 기준)
+     */
+    public Map<String, Long> pending() {
+        Map<String, Long> pending = new LinkedHashMap<>();
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.createConsumer()) {
+            for (String topic : replayTargets.keySet()) {
+                List<TopicPartition> partitions = partitions(consumer, topic);
+                if (partitions.isEmpty()) {
+                    pending.put(topic, 0L);
+                    continue;
+                }
+                Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+                Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+                Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+                long total = 0;
+                for (TopicPartition partition : partitions) {
+                    OffsetAndMetadata offset = committed.get(partition);
+                    long position = offset != null ? offset.offset() : beginningOffsets.get(partition);
+                    total += Math.max(0, endOffsets.get(partition) - position);
+                }
+                pending.put(topic, total);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * DLT 재처리 시작 (백그라운드 실행)
+     *
+     * @param deadLetterTopic 재처리할 DLT
+     * @param maxRecords      최대 재처리 건수
+     * @param ratePerSecond   초당 최대 발행 건수
+     * @return 시작 직후 상태
+     * @throws IllegalArgumentException 등록되지 않은 DLT이거나 건수/속도가 범위를 벗어난 경우
+     * @throws IllegalStateException    다른 재처리가 실행 중인 경우
+     */
+    public ReplayStatus start(String deadLetterTopic, int maxRecords, int ratePerSecond) {
+        String target = replayTargets.get(deadLetterTopic);
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown dead letter topic: " + deadLetterTopic);
+        }
+        if (maxRecords < 1 || maxRecords > maxRecordsLimit) {
+            throw new IllegalArgumentException("maxRecords must be between 1 and " + maxRecordsLimit);
+        }
+        if (ratePerSecond < 1 || ratePerSecond > maxRateLimit) {
+            throw new IllegalArgumentException("ratePerSecond must be between 1 and " + maxRateLimit);
+        }
+        Run run = new Run(deadLetterTopic, target, maxRecords, ratePerSecond);
+        Run previous = current.get();
+        if ((previous != null && previous.state == State.RUNNING) || !current.compareAndSet(previous, run)) {
+            throw new IllegalStateException("Dead letter replay is already running");
+        }
+        try {
+            executor.execute(() -> replay(run));
+        } catch (RejectedExecutionException e) {
+            run.finish(State.FAILED, e.getMessage());
+            throw new IllegalStateException("Dead letter replay could not be started", e);
+        }
+        return run.status();
+    }
+
+    /**
+     * 현재(또는 마지막) 재처리 상태
+     */
+    public ReplayStatus status() {
+        Run run = current.get();
+        return run != null ? run.status() : ReplayStatus.IDLE;
+    }
+
+    /**
+     * 실행 중인 재처리 취소 (발행이 확인된 레코드까지 커밋하고 멈춤)
+     */
+    public ReplayStatus cancel() {
+        Run run = current.get();
+        if (run == null) {
+            return ReplayStatus.IDLE;
+        }
+        run.cancelled = true;
+        return run.status();
+    }
+
+    private void replay(Run run) {
+        try {
+            replayRecords(run);
+            run.finish(run.cancelled ? State.CANCELLED : State.SUCCEEDED, null);
+            log.info("[Kafka Consumer] Dead letters replayed: {}", run.status());
+        } catch (RuntimeException e) {
+            run.finish(State.FAILED, e.getMessage());
+            log.error("[Kafka Consumer] Dead letter replay failed: {}", run.status(), e);
+        }
+    }
+
+    private void replayRecords(Run run) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(run.maxRecords, run.ratePerSecond));
+        Counter counter = Counter.builder("ledger.kafka.dlt.replayed")
+                .tag("topic", run.deadLetterTopic)
+                .register(meterRegistry);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / run.ratePerSecond;
+
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.createConsumer(
+                KafkaDeadLetterConfig.REPLAY_GROUP_ID, null, null, overrides)) {
+            List<TopicPartition> partitions = partitions(consumer, run.deadLetterTopic);
+            if (partitions.isEmpty()) {
+                return;
+            }
+            consumer.assign(partitions);
+
+            long nextSendAt = System.nanoTime();
+            while (run.replayed.get() < run.maxRecords && !run.cancelled) {
+                ConsumerRecords<byte[], byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                List<CompletableFuture<SendResult<Object, Object>>> sends = new ArrayList<>();
+                for (ConsumerRecord<byte[], byte[]> record : records) {
+                    if (run.replayed.get() + sends.size() >= run.maxRecords || run.cancelled) {
+                        break;
+                    }
+                    // 속도 제한: 레코드마다 1/rate초 간격으로 발행
+                    long waitNanos = nextSendAt - System.nanoTime();
+                    if (waitNanos > 0) {
+                        LockSupport.parkNanos(waitNanos);
+                    }
+                    nextSendAt = Math.max(nextSendAt, System.nanoTime() - intervalNanos) + intervalNanos;
+
+                    // DLT 헤더(예외 스택 등)는 옮기지 않고 재처리 표시만 추가
+                    ProducerRecord<Object, Object> replay =
+                            new ProducerRecord<>(run.targetTopic, record.key(), record.value());
+                    replay.headers().add(REPLAYED_FROM_HEADER, run.deadLetterTopic.getBytes(StandardCharsets.UTF_8));
+                    sends.add(kafkaOperations.send(replay));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+                // 발행이 확인된 레코드까지만 오프셋 커밋
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                        .orTimeout(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                        .join();
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+                run.replayed.addAndGet(sends.size());
+                counter.increment(sends.size());
+            }
+        }
+    }
+
+    private List<TopicPartition> partitions(Consumer<byte[], byte[]> consumer, String topic) {
+        return consumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+
+    /**
+     * 재처리 상태
+     */
+    public enum State {
+        IDLE, RUNNING, SUCCEEDED, FAILED, CANCELLED
+    }
+
+    /**
+     * 재처리 진행 상황
+     *
+     * @param replayed 발행이 확인되어 오프셋을 커밋한 레코드 수
+     */
+    public record ReplayStatus(State state, String deadLetterTopic, String targetTopic, int maxRecords,
+                               int ratePerSecond, Instant startedAt, Instant finishedAt, long replayed,
+                               String error) {
+
+        static final ReplayStatus IDLE = new ReplayStatus(State.IDLE, null, null, 0, 0, null, null, 0, null);
+    }
+
+    /**
+     * 재처리 한 번의 진행 상태
+     */
+    private static final class Run {
+
+        private final String deadLetterTopic;
+        private final String targetTopic;
+        private final int maxRecords;
+        private final int ratePerSecond;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong replayed = new AtomicLong();
+        private volatile State state = State.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String error;
+        private volatile boolean cancelled;
+
+        private Run(String deadLetterTopic, String targetTopic, int maxRecords, int ratePerSecond) {
+            this.deadLetterTopic = deadLetterTopic;
+            this.targetTopic = targetTopic;
+            this.maxRecords = maxRecords;
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        private void finish(State state, String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+
+        private ReplayStatus status() {
+            return new ReplayStatus(state, deadLetterTopic, targetTopic, maxRecords, ratePerSecond, startedAt,
+                    finishedAt, replayed.get(), error);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.kafka.EventFreshnessMonitor.Freshness;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Kafka 이벤트 신선도 Health Indicator ({@code /actuator/health}의 eventFreshness)
+ *
+ * <p>Consumer 중 하나라도 Lag이 남아 있고 마지막으로 커밋한 이벤트가 threshold보다 오래됐으면
+ * {@code DEGRADED}를 반환합니다. 서비스 자체는 동작하므로 HTTP 상태는 200으로 매핑합니다(application.yml).</p>
+ */
+@Component("eventFreshness")
+public class EventFreshnessHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Kafka event freshness exceeds the threshold");
+
+    private final EventFreshnessMonitor eventFreshnessMonitor;
+    private final Duration threshold;
+
+    public EventFreshnessHealthIndicator(
+            EventFreshnessMonitor eventFreshnessMonitor,
+            @Value("${kafka.consumer.freshness.threshold:5m}") Duration threshold) {
+        this.eventFreshnessMonitor = eventFreshnessMonitor;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Health health() {
+        boolean degraded = false;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (String consumer : eventFreshnessMonitor.consumers()) {
+            Freshness freshness = eventFreshnessMonitor.freshness(consumer);
+            boolean stale = freshness.staleness().compareTo(threshold) > 0;
+            degraded |= stale;
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("lag", freshness.lag());
+            detail.put("stalenessSeconds", freshness.staleness().toSeconds());
+            detail.put("stale", stale);
+            details.put(consumer, detail);
+        }
+        return Health.status(degraded ? DEGRADED : Status.UP)
+                .withDetail("thresholdSeconds", threshold.toSeconds())
+                .withDetails(details)
+                .build();
+    }
+}
@@ -0,0 +1,230 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kafka 이벤트 신선도(Freshness) / Consumer Lag 모니터
+ *
+ * <p>Consumer별로 다음 지표를 기록합니다.</p>
+ * <ul>
+ *   <li>{@code ledger.kafka.events.freshness}: 이벤트 발생 시각부터 DB 커밋까지 걸린 시간 (히스토그램)</li>
+ *   <li>{@code ledger.kafka.events.processing}: 이벤트 유형별 처리 시간 (묶음 처리 시간을 건수로 나눈 값)</li>
+ *   <li>{@code ledger.kafka.events.db.batch}: 묶음 하나의 DB 시간 (묶음마다 한 번 기록)</li>
+ *   <li>{@code ledger.kafka.events.db.batch.size}: DB에 반영한 묶음의 이벤트 수</li>
+ *   <li>{@code ledger.kafka.consumer.lag}: 파티션별 Lag (poll 시점의 Consumer 값)</li>
+ *   <li>{@code ledger.kafka.events.staleness}: Lag이 남아 있을 때 마지막으로 커밋한 이벤트가 얼마나 오래됐는지 (초)</li>
+ * </ul>
+ * <p>이벤트 시각(timestamp)은 발행 서비스와 같이 UTC LocalDateTime으로 해석합니다.
+ * 신선도는 트랜잭션이 커밋된 뒤에만 기록하므로 롤백된 반영은 집계되지 않습니다.</p>
+ */
+@Component
+public class EventFreshnessMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock = Clock.systemUTC();
+    private final Map<String, ConsumerState> consumers = new ConcurrentHashMap<>();
+
+    public EventFreshnessMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 커밋 후 신선도 기록 (트랜잭션 밖이면 즉시 기록)
+     *
+     * @param eventTimes 반영한 이벤트의 발생 시각 (null은 무시)
+     */
+    public void recordCommitted(String consumer, Collection<LocalDateTime> eventTimes) {
+        List<Long> eventMillis = eventTimes.stream()
+                .filter(Objects::nonNull)
+                .map(eventTime -> eventTime.toInstant(ZoneOffset.UTC).toEpochMilli())
+                .toList();
+        if (eventMillis.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordFreshness(consumer, eventMillis);
+                }
+            });
+        } else {
+            recordFreshness(consumer, eventMillis);
+        }
+    }
+
+    /**
+     * 이벤트 유형별 처리 시간 기록 (묶음 처리 시간을 이벤트마다 균등하게 나눔)
+     *
+     * @param eventTypeCounts 이벤트 유형별 건수
+     */
+    public void recordProcessing(String consumer, Map<String, Integer> eventTypeCounts, long elapsedNanos) {
+        int total = eventTypeCounts.values().stream().mapToInt(Integer::intValue).sum();
+        if (total == 0) {
+            return;
+        }
+        long perEvent = elapsedNanos / total;
+        eventTypeCounts.forEach((eventType, count) -> {
+            Timer timer = Timer.builder("ledger.kafka.events.processing")
+                    .description("Per-event processing time (batch time divided by batch size)")
+                    .tag("consumer", consumer)
+                    .tag("eventType", eventType != null ? eventType : "UNKNOWN")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            for (int i = 0; i < count; i++) {
+                timer.record(perEvent, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * 묶음 DB 시간과 묶음 크기 기록
+     *
+     * <p>건수로 나눈 값을 이벤트마다 기록하면 같은 값이 묶음 크기만큼 쌓여 백분위가 큰 묶음 쪽으로 치우치므로,
+     * 묶음당 한 번만 기록하고 묶음 크기는 따로 기록합니다. 이벤트당 평균은 두 지표의 합계로 구합니다.</p>
+     *
+     * @param batchSize 묶음에서 새로 반영한 이벤트 수
+     */
+    public void recordDbBatch(String consumer, int batchSize, long elapsedNanos) {
+        if (batchSize == 0) {
+            return;
+        }
+        Timer.builder("ledger.kafka.events.db.batch")
+                .description("Database time per applied event batch")
+                .tag("consumer", consumer)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("ledger.kafka.events.db.batch.size")
+                .description("Events per applied event batch")
+                .tag("consumer", consumer)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(batchSize);
+    }
+
+    /**
+     * 파티션별 Lag 기록 (Consumer가 마지막 fetch에서 받은 값, 알 수 없으면 건너뜀)
+     */
+    public void recordLag(String consumer, Consumer<?, ?> kafkaConsumer, Set<TopicPartition> partitions) {
+        ConsumerState state = state(consumer);
+        for (TopicPartition partition : partitions) {
+            OptionalLong lag = kafkaConsumer.currentLag(partition);
+            if (lag.isPresent()) {
+                state.lag(partition).set(lag.getAsLong());
+            }
+        }
+    }
+
+    /**
+     * 현재 신선도
+     */
+    public Freshness freshness(String consumer) {
+        ConsumerState state = consumers.get(consumer);
+        if (state == null) {
+            return new Freshness(consumer, 0, null, Duration.ZERO);
+        }
+        long lag = state.totalLag();
+        long lastEventMillis = state.lastEventMillis.get();
+        Long lastEvent = lastEventMillis > 0 ? lastEventMillis : null;
+        Duration staleness = lag > 0 && lastEvent != null
+                ? Duration.ofMillis(Math.max(0, clock.millis() - lastEvent)) : Duration.ZERO;
+        return new Freshness(consumer, lag, lastEvent, staleness);
+    }
+
+    /**
+     * 기록된 Consumer 목록
+     */
+    public Set<String> consumers() {
+        return Set.copyOf(consumers.keySet());
+    }
+
+    private void recordFreshness(String consumer, List<Long> eventMillis) {
+        Timer timer = Timer.builder("ledger.kafka.events.freshness")
+                .description("Time from event creation to commit in ledger-service")
+                .tag("consumer", consumer)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(10))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(meterRegistry);
+        long now = clock.millis();
+        long latest = 0;
+        for (long millis : eventMillis) {
+            timer.record(Math.max(0, now - millis), TimeUnit.MILLISECONDS);
+            latest = Math.max(latest, millis);
+        }
+        state(consumer).lastEventMillis.accumulateAndGet(latest, Math::max);
+    }
+
+    private ConsumerState state(String consumer) {
+        return consumers.computeIfAbsent(consumer, name -> {
+            ConsumerState state = new ConsumerState(name);
+            Gauge.builder("ledger.kafka.events.staleness", this,
+                            monitor -> monitor.freshness(name).staleness().toMillis() / 1000.0)
+                    .description("Age of the last committed event while the consumer still has lag (seconds)")
+                    .tag("consumer", name)
+                    .register(meterRegistry);
+            return state;
+        });
+    }
+
+    /**
+     * Consumer 신선도
+     *
+     * @param lag             전체 파티션 Lag 합계
+     * @param lastEventMillis 마지막으로 커밋한 이벤트 중 가장 최근 발생 시각 (epoch millis)
+     * @param staleness       Lag이 남아 있을 때 마지막 커밋 이벤트의 경과 시간 (Lag이 없으면 0)
+     */
+    public record Freshness(String consumer, long lag, Long lastEventMillis, Duration staleness) {
+    }
+
+    private final class ConsumerState {
+
+        private final String consumer;
+        private final AtomicLong lastEventMillis = new AtomicLong();
+        private final Map<TopicPartition, AtomicLong> lags = new ConcurrentHashMap<>();
+
+        private ConsumerState(String consumer) {
+            this.consumer = consumer;
+        }
+
+        private AtomicLong lag(TopicPartition partition) {
+            return lags.computeIfAbsent(partition, key -> {
+                AtomicLong lag = new AtomicLong();
+                Gauge.builder("ledger.kafka.consumer.lag", lag, AtomicLong::get)
+                        .description("Records behind the log end offset, as of the last poll")
+                        .tag("consumer", consumer)
+                        .tag("topic", key.topic())
+                        .tag("partition", String.valueOf(key.partition()))
+                        .register(meterRegistry);
+                return lag;
+            });
+        }
+
+        private long totalLag() {
+            return lags.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+    }
+}
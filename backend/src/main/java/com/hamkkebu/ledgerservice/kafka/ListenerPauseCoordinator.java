@@ -0,0 +1,73 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Kafka 리스너 일시 정지 조정기
+ *
+ * <p>프로젝션 재구성, DB 커넥션 풀 Backpressure처럼 여러 곳에서 같은 리스너를 멈출 수 있으므로
+ * 리스너별로 정지 사유를 모아 두고, 모든 사유가 해제됐을 때만 다시 시작합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ListenerPauseCoordinator {
+
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final Map<String, Set<String>> pauseReasons = new HashMap<>();
+
+    /**
+     * 리스너 컨테이너 조회
+     */
+    @Nullable
+    public MessageListenerContainer container(String listenerId) {
+        return listenerRegistry.getListenerContainer(listenerId);
+    }
+
+    /**
+     * 사유를 추가하고 리스너 일시 정지 요청
+     *
+     * @return 리스너가 없으면 false
+     */
+    public synchronized boolean pause(String listenerId, String reason) {
+        MessageListenerContainer container = container(listenerId);
+        if (container == null) {
+            return false;
+        }
+        if (pauseReasons.computeIfAbsent(listenerId, id -> new HashSet<>()).add(reason)) {
+            log.info("[Kafka Consumer] Listener pause requested: listenerId={}, reason={}", listenerId, reason);
+        }
+        container.pause();
+        return true;
+    }
+
+    /**
+     * 사유를 해제하고, 남은 사유가 없으면 리스너 재시작
+     */
+    public synchronized void resume(String listenerId, String reason) {
+        Set<String> reasons = pauseReasons.get(listenerId);
+        if (reasons == null || !reasons.remove(reason)) {
+            return;
+        }
+        if (!reasons.isEmpty()) {
+            log.info("[Kafka Consumer] Listener stays paused: listenerId={}, remainingReasons={}", listenerId, reasons);
+            return;
+        }
+        pauseReasons.remove(listenerId);
+        MessageListenerContainer container = container(listenerId);
+        if (container != null) {
+            container.resume();
+            log.info("[Kafka Consumer] Listener resumed: listenerId={}, reason={}", listenerId, reason);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hamkkebu.ledgerservice.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 처리 완료 이벤트 저장소 (Kafka Consumer 멱등성)
+ *
+ * <p>Consumer별로 처리한 eventId를 tbl_processed_events에 기록하고, 최근 처리한 eventId는
+ * 크기가 제한된 로컬 LRU 캐시에 보관하여 재전달된 이벤트를 DB 조회 없이 걸러냅니다.
+ * 캐시에 없는 eventId만 한 번의 IN 쿼리로 확인합니다.</p>
+ * <p>처리 완료 기록은 이벤트 반영과 같은 트랜잭션에서 쓰고, 로컬 캐시에는 커밋 후에만 추가하므로
+ * 롤백된 이벤트가 처리된 것으로 남지 않습니다. 기록은 TTL이 지나면 스케줄러가 삭제합니다.</p>
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    public static final String CONSUMER_TRANSACTION_EVENTS = "transaction-events";
+    public static final String CONSUMER_USER_EVENTS = "user-events";
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final Cache<String, Boolean> cache;
+    private final MeterRegistry meterRegistry;
+
+    @Getter
+    private final Duration ttl;
+
+    public ProcessedEventStore(
+            ProcessedEventRepository processedEventRepository,
+            @Value("${kafka.consumer.processed-events.cache-size:100000}") long cacheSize,
+            @Value("${kafka.consumer.processed-events.ttl:7d}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.processedEventRepository = processedEventRepository;
+        this.ttl = ttl;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ledger.processed-events");
+    }
+
+    /**
+     * 이미 처리된 eventId 조회
+     *
+     * @param eventIds 확인할 eventId (null은 무시)
+     * @return 이미 처리된 eventId
+     */
+    public Set<String> findProcessed(String consumer, Collection<String> eventIds) {
+        Set<String> processed = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        for (String eventId : new LinkedHashSet<>(eventIds)) {
+            if (eventId == null) {
+                continue;
+            }
+            if (cache.getIfPresent(key(consumer, eventId)) != null) {
+                processed.add(eventId);
+            } else {
+                misses.add(eventId);
+            }
+        }
+
+        Set<String> stored = processedEventRepository.findProcessed(consumer, misses);
+        stored.forEach(eventId -> cache.put(key(consumer, eventId), Boolean.TRUE));
+        processed.addAll(stored);
+
+        if (!processed.isEmpty()) {
+            Counter.builder("ledger.kafka.events.duplicate")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry)
+                    .increment(processed.size());
+            log.info("[Kafka Consumer] Skipping already processed events: consumer={}, count={}",
+                    consumer, processed.size());
+        }
+        return processed;
+    }
+
+    /**
+     * 이미 처리된 eventId인지 확인 (eventId가 없으면 false)
+     */
+    public boolean isProcessed(String consumer, String eventId) {
+        return eventId != null && !findProcessed(consumer, List.of(eventId)).isEmpty();
+    }
+
+    /**
+     * 처리 완료 기록
+     *
+     * <p>호출한 트랜잭션에서 DB에 기록하고, 커밋 후 로컬 캐시에 추가합니다.</p>
+     *
+     * @param eventIds 처리한 eventId (null은 무시)
+     */
+    public void markProcessed(String consumer, Collection<String> eventIds) {
+        List<String> ids = eventIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        processedEventRepository.insertAll(consumer, ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(consumer, ids);
+                }
+            });
+        } else {
+            remember(consumer, ids);
+        }
+    }
+
+    /**
+     * 기준 시각 이전 처리 기록 삭제 (최대 limit건)
+     *
+     * <p>로컬 캐시는 같은 TTL로 만료되므로 따로 제거하지 않습니다.</p>
+     */
+    public int pruneBefore(LocalDateTime threshold, int limit) {
+        return processedEventRepository.deleteProcessedBefore(threshold, limit);
+    }
+
+    private void remember(String consumer, List<String> eventIds) {
+        eventIds.forEach(eventId -> cache.put(key(consumer, eventId), Boolean.TRUE));
+    }
+
+    private String key(String consumer, String eventId) {
+        return consumer + ":" + eventId;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 이벤트 적재 저널 Health Indicator ({@code /actuator/health}의 spillJournal)
+ *
+ * <p>시작 후 손상되어 격리한 구간이나 레코드가 있으면 {@code DEGRADED}를 반환합니다.
+ * 격리된 이벤트는 반영되지 않았으므로 {@code quarantine/} 디렉터리를 확인하고 프로젝션을 재구성해야 합니다.
+ * 서비스 자체는 동작하므로 HTTP 상태는 200으로 매핑합니다(application.yml).</p>
+ */
+@Component("spillJournal")
+@ConditionalOnProperty(name = "kafka.consumer.transaction-events.spill.enabled", havingValue = "true")
+public class SpillJournalHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Corrupted spill journal data was quarantined");
+
+    private final TransactionEventJournal journal;
+
+    public SpillJournalHealthIndicator(TransactionEventJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public Health health() {
+        long quarantined = journal.quarantined();
+        return Health.status(quarantined > 0 ? DEGRADED : Status.UP)
+                .withDetail("pending", journal.pendingEvents())
+                .withDetail("quarantined", quarantined)
+                .withDetail("directory", journal.directory().toString())
+                .build();
+    }
+}
@@ -1,195 +1,280 @@
 package com.hamkkebu.ledgerservice.kafka;
 
-import com.hamkkebu.ledgerservice.data.entity.Transaction;
-import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.config.KafkaDeadLetterConfig;
+import com.hamkkebu.ledgerservice.config.TransactionEventKafkaConfig;
 import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
-import com.hamkkebu.ledgerservice.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.hamkkebu.ledgerservice.service.TransactionSyncService;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 /**
  * Ledger Service 거래 이벤트 Kafka Consumer
  *
- * <p>transaction-service에서 발행한 거래 관련 이벤트를 수신하여
+ * <p>transaction-service에서 발행한 거래 관련 이벤트를 poll 단위로 수신하여
  * ledger-service DB에 동기화합니다.</p>
+ * <p>한 poll의 레코드는 ledgerId 해시로 최대 workers개의 레인에 나누어 병렬로 반영합니다.
+ * 레인 안에서는 수신 순서를 유지하므로 같은 가계부의 이벤트는 순서대로 반영되며,
+ * 같은 거래의 이벤트는 항상 처음 배정된 레인을 따릅니다.</p>
+ * <p>레인마다 하나의 DB 트랜잭션으로 반영하고({@link TransactionSyncService}), 실패하면 레코드별 트랜잭션으로
+ * 다시 반영해 실패한 레코드를 찾습니다. 모든 레인 중 가장 앞선 실패 위치를 {@link BatchListenerFailedException}으로
+ * 알려 그 앞까지만 오프셋을 커밋하고, 에러 핸들러가 실패 레코드를 복구 토픽으로 넘긴 뒤 뒤쪽 레코드를 다시 전달합니다.
+ * 다른 레인에서 이미 반영된 뒤쪽 레코드는 재전달되어도 처리 완료 이벤트 저장소에서 걸러집니다.</p>
+ * <p>복구 토픽은 레코드 단위로 재시도 토픽을 거쳐 점점 긴 간격으로 다시 반영하고, 끝내 실패하면 DLT로 보냅니다.</p>
+ * <p>레인별 처리 시간(이벤트 유형별)과 poll마다 파티션별 Lag을 {@link EventFreshnessMonitor}에 기록합니다.</p>
+ * <p>적재 저널({@link TransactionEventJournal})을 켜면 DB 장애로 반영하지 못한 poll의 이벤트를 로컬 저널에 적재하고
+ * 오프셋을 그대로 커밋합니다. 저널에 남은 이벤트가 있는 동안에는 순서를 지키기 위해 새 이벤트도 저널에 적재하며,
+ * 이미 반영된 이벤트가 함께 적재되어도 저널 반영 시 eventId로 걸러집니다. DB가 복구되면 저널 반영 스케줄러가
+ * 리스너를 일시 정지하므로, 새 이벤트는 저널이 빌 때까지 적재되지 않고 Kafka에 남습니다.</p>
+ * <p>DB 커넥션 풀이 포화되면 {@link ConsumerBackpressureController}가 허용한 수만큼만 레인을 사용합니다.</p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TransactionEventConsumer {
 
-    private final TransactionRepository transactionRepository;
+    /** 거래 이벤트 배치 리스너 ID (프로젝션 재구성, DB 커넥션 풀 Backpressure 일시 정지 대상) */
+    public static final String TRANSACTION_EVENT_LISTENER_ID = "transactionEventListener";
+
+    private final TransactionSyncService transactionSyncService;
+    private final DeadLetterRecorder deadLetterRecorder;
+    private final EventFreshnessMonitor eventFreshnessMonitor;
+    private final TransactionEventJournal spillJournal;
+    private final ConsumerBackpressureController backpressureController;
+    private final ExecutorService workerExecutor;
+    private final int workers;
+
+    public TransactionEventConsumer(
+            TransactionSyncService transactionSyncService,
+            DeadLetterRecorder deadLetterRecorder,
+            EventFreshnessMonitor eventFreshnessMonitor,
+            ObjectProvider<TransactionEventJournal> spillJournal,
+            ObjectProvider<ConsumerBackpressureController> backpressureController,
+            @Qualifier(TransactionEventKafkaConfig.TRANSACTION_EVENT_WORKER_EXECUTOR) ExecutorService workerExecutor,
+            @Value("${kafka.consumer.transaction-events.workers:4}") int workers) {
+        this.transactionSyncService = transactionSyncService;
+        this.deadLetterRecorder = deadLetterRecorder;
+        this.eventFreshnessMonitor = eventFreshnessMonitor;
+        this.spillJournal = spillJournal.getIfAvailable();
+        this.backpressureController = backpressureController.getIfAvailable();
+        this.workerExecutor = workerExecutor;
+        this.workers = Math.max(1, workers);
+    }
 
     /**
-     * 거래 이벤트 처리 (TRANSACTION_CREATED, TRANSACTION_UPDATED, TRANSACTION_DELETED)
+     * 거래 이벤트 배치 처리 (TRANSACTION_CREATED, TRANSACTION_UPDATED, TRANSACTION_DELETED)
      */
     @KafkaListener(
+            id = TRANSACTION_EVENT_LISTENER_ID,
             topics = "${kafka.topics.transaction-events:transaction.events}",
             groupId = "ledger-service-transaction-group",
             containerFactory = "transactionEventKafkaListenerContainerFactory"
     )
-    @Transactional
-    public void handleTransactionEvent(Map<String, Object> eventData) {
-        String eventType = (String) eventData.get("eventType");
-        String eventId = (String) eventData.get("eventId");
+    public void handleTransactionEvents(List<ConsumerRecord<String, TransactionEvent>> records,
+                                        Consumer<?, ?> consumer) {
+        log.info("[Kafka Consumer] Received transaction events: count={}", records.size());
+        eventFreshnessMonitor.recordLag(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS, consumer,
+                records.stream()
+                        .map(record -> new TopicPartition(record.topic(), record.partition()))
+                        .collect(Collectors.toSet()));
 
-        log.info("[Kafka Consumer] Received transaction event: eventType={}, eventId={}", eventType, eventId);
+        // 역직렬화 실패 레코드(ErrorHandlingDeserializer) 앞까지만 반영하고, 그 레코드부터 에러 핸들러에 넘김
+        int validCount = 0;
+        while (validCount < records.size() && records.get(validCount).value() != null) {
+            validCount++;
+        }
 
-        try {
-            switch (eventType) {
-                case TransactionEvent.EVENT_TYPE_CREATED:
-                    handleTransactionCreated(eventData);
-                    break;
-                case TransactionEvent.EVENT_TYPE_UPDATED:
-                    handleTransactionUpdated(eventData);
-                    break;
-                case TransactionEvent.EVENT_TYPE_DELETED:
-                    handleTransactionDeleted(eventData);
-                    break;
-                default:
-                    log.warn("[Kafka Consumer] Unknown transaction event type: {}", eventType);
+        Failure failure;
+        if (spillJournal != null && spillJournal.hasPending()) {
+            spill(records, validCount);
+            failure = null;
+        } else {
+            failure = dispatch(records, validCount);
+            if (failure != null && spillJournal != null
+                    && TransactionEventJournal.isDatabaseUnavailable(failure.cause())) {
+                log.warn("[Kafka Consumer] Database unavailable, spilling transaction events: error={}",
+                        failure.cause().getMessage());
+                spill(records, validCount);
+                failure = null;
             }
-        } catch (Exception e) {
-            log.error("[Kafka Consumer] Failed to process transaction event: eventType={}, eventId={}, error={}",
-                    eventType, eventId, e.getMessage(), e);
-            throw e;
+        }
+        if (failure == null && validCount < records.size()) {
+            log.error("[Kafka Consumer] Invalid transaction event: {}", describe(records.get(validCount)));
+            failure = new Failure(validCount,
+                    new IllegalArgumentException("Transaction event could not be deserialized"));
+        }
+        if (failure != null) {
+            throw new BatchListenerFailedException("Failed to process transaction event", failure.cause(),
+                    failure.index());
         }
     }
 
     /**
-     * TRANSACTION_CREATED 이벤트 처리
+     * 복구 토픽 레코드 단위 처리
+     *
+     * <p>실패하면 재시도 토픽(-retry-0, -retry-1, ...)을 거쳐 다시 처리되고, 형식 오류는 바로 DLT로 보냅니다.</p>
      */
-    private void handleTransactionCreated(Map<String, Object> eventData) {
-        Long transactionId = extractLong(eventData.get("transactionId"));
-        log.info("[Kafka Consumer] Processing TRANSACTION_CREATED: transactionId={}", transactionId);
-
-        // 이미 존재하는 거래인지 확인
-        if (transactionRepository.existsByTransactionIdAndIsDeletedFalse(transactionId)) {
-            log.info("[Kafka Consumer] Transaction already exists: transactionId={}", transactionId);
-            return;
-        }
-
-        Transaction transaction = createTransactionFromEvent(eventData);
-        transactionRepository.save(transaction);
-
-        log.info("[Kafka Consumer] Transaction synced successfully: transactionId={}", transactionId);
+    @RetryableTopic(
+            attempts = "${kafka.consumer.dead-letter.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.consumer.dead-letter.delay-ms:1000}",
+                    multiplierExpression = "${kafka.consumer.dead-letter.multiplier:5}",
+                    maxDelayExpression = "${kafka.consumer.dead-letter.max-delay-ms:60000}"),
+            numPartitions = "${kafka.consumer.dead-letter.partitions:3}",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            retryTopicSuffix = KafkaDeadLetterConfig.RETRY_TOPIC_SUFFIX,
+            dltTopicSuffix = KafkaDeadLetterConfig.DLT_TOPIC_SUFFIX,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            kafkaTemplate = KafkaDeadLetterConfig.DEAD_LETTER_KAFKA_TEMPLATE,
+            listenerContainerFactory = "transactionEventRecoveryKafkaListenerContainerFactory",
+            exclude = IllegalArgumentException.class
+    )
+    @KafkaListener(
+            topics = "${kafka.topics.transaction-events-recovery:ledger-service.transaction-events}",
+            groupId = "ledger-service-transaction-recovery-group",
+            containerFactory = "transactionEventRecoveryKafkaListenerContainerFactory"
+    )
+    public void handleRecoveryEvent(ConsumerRecord<String, TransactionEvent> record) {
+        log.info("[Kafka Consumer] Retrying transaction event: {}", describe(record));
+        apply(List.of(record.value()));
     }
 
     /**
-     * TRANSACTION_UPDATED 이벤트 처리
+     * 재시도를 모두 소진했거나 형식 오류인 거래 이벤트 기록
      */
-    private void handleTransactionUpdated(Map<String, Object> eventData) {
-        Long transactionId = extractLong(eventData.get("transactionId"));
-        log.info("[Kafka Consumer] Processing TRANSACTION_UPDATED: transactionId={}", transactionId);
-
-        Optional<Transaction> existingTransaction = transactionRepository.findByTransactionIdAndIsDeletedFalse(transactionId);
-
-        if (existingTransaction.isPresent()) {
-            Transaction transaction = existingTransaction.get();
-            updateTransactionFromEvent(transaction, eventData);
-            transactionRepository.save(transaction);
-            log.info("[Kafka Consumer] Transaction updated successfully: transactionId={}", transactionId);
-        } else {
-            // 없으면 새로 생성
-            Transaction transaction = createTransactionFromEvent(eventData);
-            transactionRepository.save(transaction);
-            log.info("[Kafka Consumer] Transaction created (was missing): transactionId={}", transactionId);
-        }
+    @DltHandler
+    public void handleDeadLetter(ConsumerRecord<String, TransactionEvent> record) {
+        deadLetterRecorder.record(record);
     }
 
     /**
-     * TRANSACTION_DELETED 이벤트 처리
+     * 앞쪽 count개 레코드를 적재 저널에 적재 (fsync 후 반환)
      */
-    private void handleTransactionDeleted(Map<String, Object> eventData) {
-        Long transactionId = extractLong(eventData.get("transactionId"));
-        log.info("[Kafka Consumer] Processing TRANSACTION_DELETED: transactionId={}", transactionId);
-
-        transactionRepository.findByTransactionIdAndIsDeletedFalse(transactionId).ifPresentOrElse(
-                transaction -> {
-                    transaction.delete();
-                    transactionRepository.save(transaction);
-                    log.info("[Kafka Consumer] Transaction deleted successfully: transactionId={}", transactionId);
-                },
-                () -> log.warn("[Kafka Consumer] Transaction not found for deletion: transactionId={}", transactionId)
-        );
+    private void spill(List<ConsumerRecord<String, TransactionEvent>> records, int count) {
+        spillJournal.append(records.subList(0, count).stream().map(ConsumerRecord::value).toList());
+        log.info("[Kafka Consumer] Transaction events spilled: count={}, pending={}", count,
+                spillJournal.pendingEvents());
     }
 
     /**
-     * 이벤트 데이터로부터 Transaction 엔티티 생성
+     * 앞쪽 count개 레코드를 레인별로 반영
+     *
+     * @return 가장 앞선 실패 (없으면 null)
      */
-    private Transaction createTransactionFromEvent(Map<String, Object> eventData) {
-        return Transaction.builder()
-                .transactionId(extractLong(eventData.get("transactionId")))
-                .ledgerId(extractLong(eventData.get("ledgerId")))
-                .type(TransactionType.valueOf((String) eventData.get("type")))
-                .amount(extractBigDecimal(eventData.get("amount")))
-                .description((String) eventData.get("description"))
-                .transactionDate(extractLocalDate(eventData.get("transactionDate")))
-                .memo((String) eventData.get("memo"))
-                .build();
+    private Failure dispatch(List<ConsumerRecord<String, TransactionEvent>> records, int count) {
+        List<List<Integer>> lanes = assignLanes(records, count);
+        if (lanes.size() <= 1) {
+            return lanes.isEmpty() ? null : applyLane(records, lanes.get(0));
+        }
+
+        List<CompletableFuture<Failure>> futures = lanes.stream()
+                .map(lane -> CompletableFuture.supplyAsync(() -> applyLane(records, lane), workerExecutor))
+                .toList();
+        Failure first = null;
+        for (CompletableFuture<Failure> future : futures) {
+            Failure failure = future.join();
+            if (failure != null && (first == null || failure.index() < first.index())) {
+                first = failure;
+            }
+        }
+        return first;
     }
 
     /**
-     * 이벤트 데이터로 Transaction 엔티티 업데이트
+     * 레코드 인덱스를 레인에 배정 (비어 있는 레인 제외)
+     *
+     * <p>같은 transactionId는 처음 배정된 레인을, 그 외에는 ledgerId 해시(없으면 transactionId 해시)를 따릅니다.
+     * 레인 수는 poll마다 Backpressure 컨트롤러가 허용한 값으로 제한합니다.</p>
      */
-    private void updateTransactionFromEvent(Transaction transaction, Map<String, Object> eventData) {
-        transaction.update(
-                transaction.getCategoryId(),  // 카테고리는 ledger-service에서 관리
-                TransactionType.valueOf((String) eventData.get("type")),
-                extractBigDecimal(eventData.get("amount")),
-                (String) eventData.get("description"),
-                extractLocalDate(eventData.get("transactionDate")),
-                (String) eventData.get("memo")
-        );
-    }
-
-    private Long extractLong(Object value) {
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
+    private List<List<Integer>> assignLanes(List<ConsumerRecord<String, TransactionEvent>> records, int count) {
+        int workers = backpressureController != null
+                ? Math.min(this.workers, backpressureController.workerLimit()) : this.workers;
+        List<List<Integer>> lanes = new ArrayList<>(workers);
+        for (int lane = 0; lane < workers; lane++) {
+            lanes.add(new ArrayList<>());
         }
-        if (value instanceof String) {
-            return Long.parseLong((String) value);
+        Map<Long, Integer> transactionLanes = new HashMap<>();
+        for (int index = 0; index < count; index++) {
+            TransactionEvent event = records.get(index).value();
+            long key = event.getLedgerId() != null ? event.getLedgerId() : event.getTransactionId();
+            int lane = transactionLanes.computeIfAbsent(event.getTransactionId(),
+                    transactionId -> Math.floorMod(Long.hashCode(key), workers));
+            lanes.get(lane).add(index);
         }
-        throw new IllegalArgumentException("Invalid Long value: " + value);
+        lanes.removeIf(List::isEmpty);
+        return lanes;
     }
 
-    private java.math.BigDecimal extractBigDecimal(Object value) {
-        if (value == null) {
-            return java.math.BigDecimal.ZERO;
-        }
-        if (value instanceof Number) {
-            return new java.math.BigDecimal(value.toString());
+    /**
+     * 레인의 이벤트를 한 트랜잭션으로 반영하고, 실패하면 레코드별로 다시 반영
+     *
+     * <p>레코드별 반영은 레인의 첫 실패에서 멈춰 레인 안의 순서를 지킵니다.</p>
+     *
+     * @param lane 레인에 배정된 레코드 인덱스 (오름차순)
+     * @return 레인의 첫 실패 (없으면 null)
+     */
+    private Failure applyLane(List<ConsumerRecord<String, TransactionEvent>> records, List<Integer> lane) {
+        List<TransactionEvent> events = lane.stream().map(index -> records.get(index).value()).toList();
+        try {
+            apply(events);
+            return null;
+        } catch (RuntimeException e) {
+            if (spillJournal != null && TransactionEventJournal.isDatabaseUnavailable(e)) {
+                // DB 장애는 레코드별로 다시 시도하지 않고 poll 전체를 적재
+                return new Failure(lane.get(0), e);
+            }
+            log.warn("[Kafka Consumer] Transaction batch failed, retrying per record: count={}, error={}",
+                    events.size(), e.getMessage());
         }
-        if (value instanceof String) {
-            return new java.math.BigDecimal((String) value);
+
+        for (int position = 0; position < events.size(); position++) {
+            try {
+                apply(List.of(events.get(position)));
+            } catch (RuntimeException e) {
+                int index = lane.get(position);
+                log.error("[Kafka Consumer] Failed to process transaction event: {}, error={}",
+                        describe(records.get(index)), e.getMessage(), e);
+                return new Failure(index, e);
+            }
         }
-        throw new IllegalArgumentException("Invalid BigDecimal value: " + value);
+        return null;
     }
 
-    private java.time.LocalDate extractLocalDate(Object value) {
-        if (value == null) {
-            return java.time.LocalDate.now();
-        }
-        if (value instanceof java.time.LocalDate) {
-            return (java.time.LocalDate) value;
-        }
-        if (value instanceof String) {
-            return java.time.LocalDate.parse((String) value);
-        }
-        if (value instanceof java.util.List) {
-            // [2025, 12, 1] 형태로 올 수 있음
-            java.util.List<?> list = (java.util.List<?>) value;
-            int year = ((Number) list.get(0)).intValue();
-            int month = ((Number) list.get(1)).intValue();
-            int day = ((Number) list.get(2)).intValue();
-            return java.time.LocalDate.of(year, month, day);
-        }
-        throw new IllegalArgumentException("Invalid LocalDate value: " + value);
+    /**
+     * 이벤트 반영 (커밋 포함 처리 시간을 이벤트 유형별로 기록)
+     */
+    private void apply(List<TransactionEvent> events) {
+        long startedAt = System.nanoTime();
+        transactionSyncService.apply(events);
+        Map<String, Integer> eventTypeCounts = new HashMap<>();
+        events.forEach(event -> eventTypeCounts.merge(event.getEventType(), 1, Integer::sum));
+        eventFreshnessMonitor.recordProcessing(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS, eventTypeCounts,
+                System.nanoTime() - startedAt);
+    }
+
+    private String describe(ConsumerRecord<String, TransactionEvent> record) {
+        return "topic=" + record.topic() + ", partition=" + record.partition() + ", offset=" + record.offset();
+    }
+
+    private record Failure(int index, RuntimeException cause) {
     }
 }
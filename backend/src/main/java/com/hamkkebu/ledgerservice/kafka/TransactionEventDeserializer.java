@@ -0,0 +1,96 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 거래 이벤트 Kafka Deserializer
+ *
+ * <p>JSON을 중간 Map 없이 {@link TransactionEvent}로 바로 바인딩하고 스키마를 검증합니다.
+ * 형식이 올바르지 않으면 {@link SerializationException}을 던지며,
+ * {@code ErrorHandlingDeserializer}로 감싸 사용하면 해당 레코드의 값이 null로 전달됩니다.</p>
+ */
+public class TransactionEventDeserializer implements Deserializer<TransactionEvent> {
+
+    private static final ObjectReader READER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build()
+            .readerFor(TransactionEvent.class);
+
+    private static final Set<String> EVENT_TYPES = Set.of(
+            TransactionEvent.EVENT_TYPE_CREATED,
+            TransactionEvent.EVENT_TYPE_UPDATED,
+            TransactionEvent.EVENT_TYPE_DELETED);
+
+    @Override
+    public TransactionEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        TransactionEvent event;
+        try {
+            event = READER.readValue(data);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Malformed transaction event: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new SerializationException("Malformed transaction event: " + e.getMessage(), e);
+        }
+        validate(event);
+        return event;
+    }
+
+    /**
+     * 스키마 검증
+     *
+     * <p>모든 이벤트는 eventId(처리 완료 기록과 저널 재반영의 중복 제거 키)와 transactionId가 필수이며,
+     * 삭제 이벤트는 그것만, 생성/수정 이벤트는 가계부/유형/금액/거래일까지 필수입니다.</p>
+     */
+    static void validate(TransactionEvent event) {
+        if (event.getEventId() == null || event.getEventId().isBlank()) {
+            throw new SerializationException("eventId is required: transactionId=" + event.getTransactionId());
+        }
+        if (!EVENT_TYPES.contains(event.getEventType())) {
+            throw new SerializationException("Invalid eventType: " + event.getEventType());
+        }
+        if (event.getTransactionId() == null) {
+            throw new SerializationException("transactionId is required");
+        }
+        if (TransactionEvent.EVENT_TYPE_DELETED.equals(event.getEventType())) {
+            return;
+        }
+        if (event.getLedgerId() == null) {
+            throw new SerializationException("ledgerId is required: transactionId=" + event.getTransactionId());
+        }
+        if (!isTransactionType(event.getType())) {
+            throw new SerializationException("Invalid type: " + event.getType()
+                    + ", transactionId=" + event.getTransactionId());
+        }
+        if (event.getAmount() == null || event.getAmount().signum() < 0) {
+            throw new SerializationException("Invalid amount: " + event.getAmount()
+                    + ", transactionId=" + event.getTransactionId());
+        }
+        if (event.getTransactionDate() == null) {
+            throw new SerializationException("transactionDate is required: transactionId=" + event.getTransactionId());
+        }
+    }
+
+    private static boolean isTransactionType(String type) {
+        for (TransactionType value : TransactionType.values()) {
+            if (value.name().equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,542 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 거래 이벤트 로컬 적재 저널 (DB 장애 시 Write-Ahead Spill)
+ *
+ * <p>MySQL에 반영할 수 없는 동안 검증을 통과한 거래 이벤트를 로컬 디스크에 순서대로 적재하여
+ * Consumer가 계속 오프셋을 커밋할 수 있게 합니다. DB가 복구되면
+ * {@code TransactionEventJournalDrainScheduler}가 적재된 이벤트를 묶음으로 반영합니다.</p>
+ * <p>저널은 고정 크기 세그먼트 파일을 메모리 매핑하여 씁니다. 레코드는 [길이][CRC32][JSON] 형식이며,
+ * 길이 0은 세그먼트에 더 이상 레코드가 없다는 뜻입니다. 한 번의 append마다 {@code force()}를 한 번만 호출해
+ * poll 단위로 fsync합니다. 반영 완료 위치는 checkpoint 파일에 원자적으로 기록하고,
+ * 완료된 세그먼트는 삭제합니다.</p>
+ * <p>반영은 처리 완료 이벤트 저장소와 같은 트랜잭션에서 eventId를 기록하므로, checkpoint 기록 전에 종료되어
+ * 같은 이벤트를 다시 반영하더라도 eventId로 걸러집니다. eventId가 없는 이벤트는 적재하지 않습니다.
+ * 시작 시 마지막 세그먼트의 끝을 CRC로 확인해 기록 도중 끊긴 레코드는 잘라냅니다.</p>
+ * <p>읽는 중 길이나 CRC가 맞지 않으면 그 뒤의 길이도 믿을 수 없으므로 세그먼트를 {@code quarantine/}에 복사하고
+ * 나머지를 건너뜁니다(쓰는 중인 세그먼트면 새 세그먼트로 전환). 검증에 실패한 레코드는 내용만 격리합니다.
+ * 격리된 이벤트는 반영되지 않으므로 {@code ledger.kafka.spill.quarantined} 지표와 health(spillJournal)의
+ * {@code DEGRADED}로 알리며, 프로젝션 재구성으로 복구합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.transaction-events.spill.enabled", havingValue = "true")
+public class TransactionEventJournal {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String QUARANTINE_DIRECTORY = "quarantine";
+
+    /** 레코드 헤더 (길이 + CRC32) */
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private static final ObjectWriter WRITER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writerFor(TransactionEvent.class);
+
+    private final TransactionEventDeserializer deserializer = new TransactionEventDeserializer();
+    private final Path directory;
+    private final int segmentBytes;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong quarantined = new AtomicLong();
+    private final Counter appendedCounter;
+    private final Counter quarantinedCounter;
+
+    /** 이미 격리한 위치 (checkpoint가 넘어가기 전에 다시 읽어도 한 번만 격리) */
+    private final Set<Position> quarantinedPositions = new HashSet<>();
+
+    /** 쓰는 중인 세그먼트 (position = 다음 레코드 위치) */
+    private long writeSegment;
+    private MappedByteBuffer writeBuffer;
+
+    /** 반영 완료 위치 */
+    private Position checkpoint;
+
+    /** 읽는 중인 이전 세그먼트 매핑 (쓰는 중인 세그먼트는 writeBuffer를 복제해 읽음) */
+    private long readSegment = -1;
+    private ByteBuffer readBuffer;
+
+    public TransactionEventJournal(
+            @Value("${kafka.consumer.transaction-events.spill.directory:${java.io.tmpdir}/ledger-service/spill}")
+            Path directory,
+            @Value("${kafka.consumer.transaction-events.spill.segment-size:64MB}") DataSize segmentSize,
+            MeterRegistry meterRegistry) {
+        if (segmentSize.toBytes() <= HEADER_BYTES || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid spill journal segment size: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentBytes = (int) segmentSize.toBytes();
+        this.appendedCounter = Counter.builder("ledger.kafka.spill.appended")
+                .description("Transaction events spilled to the local journal")
+                .register(meterRegistry);
+        this.quarantinedCounter = Counter.builder("ledger.kafka.spill.quarantined")
+                .description("Corrupted spill journal segment tails and invalid records moved to quarantine")
+                .register(meterRegistry);
+        Gauge.builder("ledger.kafka.spill.pending", pendingEvents, AtomicLong::get)
+                .description("Spilled transaction events not yet applied to the database")
+                .register(meterRegistry);
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open spill journal: " + directory, e);
+        }
+    }
+
+    /**
+     * DB 연결 장애로 인한 실패인지 (원인 체인 확인)
+     *
+     * <p>제약 조건 위반 같은 데이터 오류는 적재해도 반영할 수 없으므로 false입니다.</p>
+     */
+    public static boolean isDatabaseUnavailable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 반영되지 않은 이벤트가 남아 있는지
+     *
+     * <p>남아 있는 동안에는 순서를 지키기 위해 새 이벤트도 저널에 적재해야 합니다.</p>
+     */
+    public boolean hasPending() {
+        return pendingEvents.get() > 0;
+    }
+
+    /**
+     * 반영되지 않은 이벤트 수
+     */
+    public long pendingEvents() {
+        return pendingEvents.get();
+    }
+
+    /**
+     * 시작 후 격리한 손상 구간/레코드 수
+     */
+    public long quarantined() {
+        return quarantined.get();
+    }
+
+    /**
+     * 저널 디렉터리
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * 이벤트 적재 (호출 한 번에 fsync 한 번)
+     *
+     * <p>반환되면 이벤트가 디스크에 기록된 것이므로 Kafka 오프셋을 커밋해도 됩니다.</p>
+     */
+    public synchronized void append(List<TransactionEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (TransactionEvent event : events) {
+            if (event.getEventId() == null || event.getEventId().isBlank()) {
+                throw new IllegalArgumentException("Transaction event without eventId cannot be spilled: "
+                        + "transactionId=" + event.getTransactionId());
+            }
+        }
+        for (TransactionEvent event : events) {
+            byte[] payload = serialize(event);
+            if (HEADER_BYTES + payload.length > segmentBytes) {
+                throw new IllegalArgumentException("Transaction event exceeds spill journal segment size: transactionId="
+                        + event.getTransactionId() + ", bytes=" + payload.length);
+            }
+            if (writeBuffer.remaining() < HEADER_BYTES + payload.length) {
+                roll();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            writeBuffer.putInt(payload.length);
+            writeBuffer.putInt((int) crc.getValue());
+            writeBuffer.put(payload);
+        }
+        writeBuffer.force();
+        pendingEvents.addAndGet(events.size());
+        appendedCounter.increment(events.size());
+    }
+
+    /**
+     * 반영 완료 위치부터 최대 maxEvents개 읽기 (위치는 {@link #commit}해야 넘어감)
+     */
+    public synchronized Batch read(int maxEvents) {
+        return scan(maxEvents, true);
+    }
+
+    /**
+     * 반영 완료 위치부터 레코드 읽기
+     *
+     * <p>길이나 CRC가 맞지 않으면 세그먼트의 나머지를 격리하고 다음 세그먼트로 넘어갑니다.</p>
+     *
+     * @param decode false면 이벤트를 만들지 않고 레코드 수만 셈
+     */
+    private Batch scan(int maxEvents, boolean decode) {
+        List<TransactionEvent> events = new ArrayList<>();
+        Position position = checkpoint;
+        int records = 0;
+        boolean tailQuarantined = false;
+        while (records < maxEvents) {
+            ByteBuffer buffer = segment(position.segment());
+            boolean writing = position.segment() == writeSegment;
+            int end = writing ? writeBuffer.position() : buffer.limit();
+            if (writing && position.offset() >= end) {
+                break;
+            }
+            buffer.position(position.offset());
+            int length = end - position.offset() >= HEADER_BYTES ? buffer.getInt() : 0;
+            if (length == 0 && !writing) {
+                position = new Position(position.segment() + 1, 0);
+                continue;
+            }
+            if (length <= 0 || length > end - position.offset() - HEADER_BYTES) {
+                position = quarantineTail(position, "invalid length " + length);
+                tailQuarantined = true;
+                continue;
+            }
+            int expectedCrc = buffer.getInt();
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                position = quarantineTail(position, "CRC mismatch");
+                tailQuarantined = true;
+                continue;
+            }
+
+            Position recordPosition = position;
+            position = new Position(position.segment(), buffer.position());
+            records++;
+            if (!decode) {
+                continue;
+            }
+            try {
+                events.add(deserializer.deserialize(null, payload));
+            } catch (SerializationException e) {
+                quarantineRecord(recordPosition, payload, e.getMessage());
+            }
+        }
+        return new Batch(events, records, checkpoint, position, tailQuarantined);
+    }
+
+    /**
+     * 읽은 묶음을 반영 완료로 기록하고, 완료된 세그먼트 삭제
+     */
+    public synchronized void commit(Batch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            writeCheckpoint(batch.end());
+            for (long segment = checkpoint.segment(); segment < batch.end().segment(); segment++) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit spill journal checkpoint", e);
+        }
+        if (readSegment < batch.end().segment()) {
+            readSegment = -1;
+            readBuffer = null;
+        }
+        checkpoint = batch.end();
+        quarantinedPositions.removeIf(position -> position.compareTo(checkpoint) < 0);
+        if (batch.tailQuarantined()) {
+            // 격리한 구간에 있던 레코드 수는 알 수 없으므로 남은 레코드를 다시 셈
+            pendingEvents.set(scan(Integer.MAX_VALUE, false).records());
+        } else {
+            pendingEvents.addAndGet(-batch.records());
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Long> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+
+        Position stored = readCheckpoint();
+        long first = segments.isEmpty() ? 0 : segments.get(0);
+        checkpoint = stored != null && stored.segment() >= first ? stored : new Position(first, 0);
+        for (long segment : segments) {
+            if (segment < checkpoint.segment()) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+
+        openWriteSegment(segments.isEmpty() ? checkpoint.segment() : Math.max(checkpoint.segment(),
+                segments.get(segments.size() - 1)));
+        recoverWritePosition();
+        if (checkpoint.segment() == writeSegment && checkpoint.offset() > writeBuffer.position()) {
+            // 반영 완료 위치 앞에서 끊겼으면 그 뒤부터 이어 씀 (앞쪽에 쓰면 읽히지 않음)
+            writeBuffer.position(Math.min(checkpoint.offset(), segmentBytes));
+        }
+
+        long pending = scan(Integer.MAX_VALUE, false).records();
+        pendingEvents.set(pending);
+        if (pending > 0) {
+            log.warn("[Kafka Consumer] Spill journal has pending events: count={}, directory={}", pending, directory);
+        }
+    }
+
+    /**
+     * 마지막 세그먼트의 끝 찾기 (CRC가 맞지 않는 끊긴 레코드부터 0으로 지움)
+     */
+    private void recoverWritePosition() {
+        ByteBuffer buffer = writeBuffer.duplicate();
+        int end = 0;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                break;
+            }
+            end = buffer.position();
+        }
+
+        buffer.position(end);
+        if (buffer.remaining() >= HEADER_BYTES && buffer.getInt(end) != 0) {
+            log.warn("[Kafka Consumer] Truncating torn spill journal record: segment={}, offset={}", writeSegment, end);
+            while (buffer.hasRemaining()) {
+                buffer.put((byte) 0);
+            }
+            writeBuffer.force();
+        }
+        writeBuffer.position(end);
+    }
+
+    /**
+     * 손상 위치부터 세그먼트 끝까지 격리하고 다음 세그먼트 시작 위치 반환
+     *
+     * <p>쓰는 중인 세그먼트면 새 세그먼트로 전환해 이후 적재가 손상 구간 뒤에 쌓이지 않게 합니다.</p>
+     */
+    private Position quarantineTail(Position position, String reason) {
+        if (quarantinedPositions.add(position)) {
+            log.error("[Kafka Consumer] Corrupted spill journal segment tail quarantined: segment={}, offset={}, "
+                    + "reason={}", position.segment(), position.offset(), reason);
+            try {
+                if (position.segment() == writeSegment) {
+                    writeBuffer.force();
+                }
+                Files.copy(segmentPath(position.segment()), quarantinePath(position, SEGMENT_SUFFIX),
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.error("[Kafka Consumer] Failed to copy corrupted spill journal segment: segment={}",
+                        position.segment(), e);
+            }
+            quarantined.incrementAndGet();
+            quarantinedCounter.increment();
+        }
+        if (position.segment() == writeSegment) {
+            roll();
+        }
+        return new Position(position.segment() + 1, 0);
+    }
+
+    /**
+     * 검증에 실패한 레코드 내용 격리 (레코드는 건너뜀)
+     */
+    private void quarantineRecord(Position position, byte[] payload, String reason) {
+        if (!quarantinedPositions.add(position)) {
+            return;
+        }
+        log.error("[Kafka Consumer] Invalid spill journal record quarantined: segment={}, offset={}, error={}",
+                position.segment(), position.offset(), reason);
+        try {
+            Files.write(quarantinePath(position, ".json"), payload);
+        } catch (IOException e) {
+            log.error("[Kafka Consumer] Failed to write quarantined spill journal record: segment={}, offset={}",
+                    position.segment(), position.offset(), e);
+        }
+        quarantined.incrementAndGet();
+        quarantinedCounter.increment();
+    }
+
+    /**
+     * 다음 세그먼트로 전환
+     */
+    private void roll() {
+        writeBuffer.force();
+        try {
+            if (Files.getFileStore(directory).getUsableSpace() < segmentBytes) {
+                throw new IllegalStateException("Not enough disk space for a new spill journal segment: " + directory);
+            }
+            openWriteSegment(writeSegment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create spill journal segment", e);
+        }
+    }
+
+    private void openWriteSegment(long segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            writeBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        writeSegment = segment;
+    }
+
+    private ByteBuffer segment(long segment) {
+        if (segment == writeSegment) {
+            return writeBuffer.duplicate();
+        }
+        if (segment != readSegment) {
+            try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                readBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map spill journal segment: " + segment, e);
+            }
+            readSegment = segment;
+        }
+        return readBuffer.duplicate();
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < Long.BYTES + Integer.BYTES) {
+            log.warn("[Kafka Consumer] Ignoring truncated spill journal checkpoint: {}", path);
+            return null;
+        }
+        return new Position(buffer.getLong(), buffer.getInt());
+    }
+
+    /**
+     * checkpoint 원자적 기록 (임시 파일 fsync 후 이름 변경)
+     */
+    private void writeCheckpoint(Position position) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES)
+                .putLong(position.segment())
+                .putInt(position.offset())
+                .flip();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private Path quarantinePath(Position position, String suffix) throws IOException {
+        Path quarantine = Files.createDirectories(directory.resolve(QUARANTINE_DIRECTORY));
+        return quarantine.resolve(String.format("%s%020d-%d%s", SEGMENT_PREFIX, position.segment(),
+                position.offset(), suffix));
+    }
+
+    private static byte[] serialize(TransactionEvent event) {
+        try {
+            return WRITER.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize transaction event: transactionId="
+                    + event.getTransactionId(), e);
+        }
+    }
+
+    /**
+     * 저널 위치
+     */
+    public record Position(long segment, int offset) implements Comparable<Position> {
+
+        @Override
+        public int compareTo(Position other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * 읽은 묶음
+     *
+     * @param events          반영할 이벤트 (격리한 레코드 제외)
+     * @param records         읽은 레코드 수 (격리한 레코드 포함, 격리한 세그먼트 나머지 제외)
+     * @param start           묶음 시작 위치 (읽을 때의 반영 완료 위치)
+     * @param end             묶음 다음 위치
+     * @param tailQuarantined 손상된 세그먼트 나머지를 건너뛰었는지
+     */
+    public record Batch(List<TransactionEvent> events, int records, Position start, Position end,
+                        boolean tailQuarantined) {
+
+        /**
+         * 읽은 레코드가 없고 위치도 그대로인지 (격리로 위치만 넘어간 묶음도 commit해야 함)
+         */
+        public boolean isEmpty() {
+            return start.equals(end);
+        }
+    }
+}
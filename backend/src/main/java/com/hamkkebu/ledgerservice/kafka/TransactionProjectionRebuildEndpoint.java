@@ -0,0 +1,60 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.kafka.TransactionProjectionRebuildService.RebuildStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * tbl_transactions 프로젝션 재구성 Actuator 엔드포인트 ({@code /actuator/transactionrebuild})
+ *
+ * <ul>
+ *   <li>GET: 진행 상황 (단계, 처리 건수, 초당 처리 건수, 남은 시간)</li>
+ *   <li>POST: 재구성 시작 (body: {@code {"fromTimestamp": "2025-03-01T00:00:00Z"}} 또는 {@code {"fromOffset": 0}},
+ *       생략하면 처음부터)</li>
+ *   <li>DELETE: 실행 중인 재구성 취소</li>
+ * </ul>
+ * <p>tbl_transactions를 교체하는 운영 작업이므로 기본으로 꺼져 있습니다
+ * ({@code management.endpoint.transactionrebuild.enabled}). 켤 때는 관리 포트(management.server.port)를
+ * 내부망에만 열거나 관리자 인증 뒤에 두세요.</p>
+ */
+@Component
+@Endpoint(id = "transactionrebuild")
+@RequiredArgsConstructor
+public class TransactionProjectionRebuildEndpoint {
+
+    private final TransactionProjectionRebuildService transactionProjectionRebuildService;
+
+    @ReadOperation
+    public RebuildStatus status() {
+        return transactionProjectionRebuildService.status();
+    }
+
+    @WriteOperation
+    public RebuildStatus start(@Nullable String fromTimestamp, @Nullable Long fromOffset) {
+        return transactionProjectionRebuildService.start(parseTimestamp(fromTimestamp), fromOffset);
+    }
+
+    @DeleteOperation
+    public RebuildStatus cancel() {
+        return transactionProjectionRebuildService.cancel();
+    }
+
+    private Instant parseTimestamp(String fromTimestamp) {
+        if (fromTimestamp == null || fromTimestamp.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(fromTimestamp);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("fromTimestamp must be an ISO-8601 instant: " + fromTimestamp);
+        }
+    }
+}
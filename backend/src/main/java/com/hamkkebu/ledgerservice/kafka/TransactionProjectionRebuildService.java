@@ -0,0 +1,573 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.cache.CategoryIdCache;
+import com.hamkkebu.ledgerservice.config.TransactionEventKafkaConfig;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter;
+import com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter.SyncedRow;
+import com.hamkkebu.ledgerservice.repository.TransactionProjectionRebuildRepository;
+import com.hamkkebu.ledgerservice.repository.TransactionProjectionRebuildRepository.DeletedRow;
+import com.hamkkebu.ledgerservice.scheduler.LedgerReadModelReconcileScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * tbl_transactions 프로젝션 재구성 Service
+ *
+ * <p>transaction.events를 지정한 시점(처음, 오프셋, 시각)부터 다시 읽어 Shadow 테이블에 만들고,
+ * 다 만들면 tbl_transactions와 원자적으로 바꿉니다. 라이브 Consumer 그룹의 오프셋은 건드리지 않습니다.</p>
+ * <ol>
+ *   <li>처음부터가 아니면 현재 tbl_transactions를 Shadow 테이블에 복사해 기준 상태로 삼습니다.</li>
+ *   <li>파티션을 parallelism개 그룹으로 나누어 그룹마다 별도 Consumer로 읽고, poll 단위로 모아
+ *       버전 조건 Upsert 배치 한 번으로 씁니다.</li>
+ *   <li>시작 시점의 끝 오프셋까지 반영하면 이 인스턴스의 거래 이벤트 리스너를 멈추고 그 사이 쌓인 이벤트까지 반영한 뒤
+ *       테이블을 바꿉니다.</li>
+ *   <li>교체 직전까지 다른 인스턴스가 이전 테이블에 쓴 이벤트는 교체 후 tbl_transactions에 한 번 더 반영하고,
+ *       Read Model(잔액, 월별 통계)을 다시 계산합니다.</li>
+ * </ol>
+ * <p>진행 중에는 단계별 처리 건수, 처리 속도, 남은 시간을 로그와 {@link #status()}로 알립니다.
+ * 동시에 하나의 재구성만 실행합니다.</p>
+ */
+@Slf4j
+@Service
+public class TransactionProjectionRebuildService {
+
+    /** 재구성 Consumer 그룹 (assign으로 읽고 오프셋은 커밋하지 않음) */
+    public static final String REBUILD_GROUP_ID = "ledger-service-projection-rebuild";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration PAUSE_CHECK_INTERVAL = Duration.ofMillis(200);
+
+    /** 라이브 리스너 일시 정지 사유 ({@link ListenerPauseCoordinator}) */
+    private static final String PAUSE_REASON = "projection-rebuild";
+
+    private final ConsumerFactory<String, TransactionEvent> consumerFactory;
+    private final SyncedTransactionWriter syncedTransactionWriter;
+    private final TransactionProjectionRebuildRepository rebuildRepository;
+    private final CategoryIdCache categoryIdCache;
+    private final ListenerPauseCoordinator listenerPauseCoordinator;
+    private final ObjectProvider<LedgerReadModelReconcileScheduler> readModelReconciler;
+    private final ExecutorService executor;
+    private final String topic;
+    private final int parallelism;
+    private final int batchSize;
+    private final int seedChunkSize;
+    private final Duration progressInterval;
+    private final Duration pauseTimeout;
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    public TransactionProjectionRebuildService(
+            @Qualifier("transactionEventConsumerFactory") ConsumerFactory<String, TransactionEvent> consumerFactory,
+            SyncedTransactionWriter syncedTransactionWriter,
+            TransactionProjectionRebuildRepository rebuildRepository,
+            CategoryIdCache categoryIdCache,
+            ListenerPauseCoordinator listenerPauseCoordinator,
+            ObjectProvider<LedgerReadModelReconcileScheduler> readModelReconciler,
+            @Qualifier(TransactionEventKafkaConfig.PROJECTION_REBUILD_EXECUTOR) ExecutorService executor,
+            @Value("${kafka.topics.transaction-events:transaction.events}") String topic,
+            @Value("${ledger.projection-rebuild.parallelism:4}") int parallelism,
+            @Value("${ledger.projection-rebuild.batch-size:2000}") int batchSize,
+            @Value("${ledger.projection-rebuild.seed-chunk-size:10000}") int seedChunkSize,
+            @Value("${ledger.projection-rebuild.progress-interval:10s}") Duration progressInterval,
+            @Value("${ledger.projection-rebuild.pause-timeout:30s}") Duration pauseTimeout) {
+        this.consumerFactory = consumerFactory;
+        this.syncedTransactionWriter = syncedTransactionWriter;
+        this.rebuildRepository = rebuildRepository;
+        this.categoryIdCache = categoryIdCache;
+        this.listenerPauseCoordinator = listenerPauseCoordinator;
+        this.readModelReconciler = readModelReconciler;
+        this.executor = executor;
+        this.topic = topic;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = batchSize;
+        this.seedChunkSize = seedChunkSize;
+        this.progressInterval = progressInterval;
+        this.pauseTimeout = pauseTimeout;
+    }
+
+    /**
+     * 재구성 시작 (백그라운드 실행)
+     *
+     * @param fromTimestamp 이 시각 이후 이벤트부터 (null이면 fromOffset 또는 처음부터)
+     * @param fromOffset    모든 파티션에서 이 오프셋부터 (null이면 fromTimestamp 또는 처음부터)
+     * @return 시작 직후 상태
+     * @throws IllegalArgumentException 시작 지점을 둘 다 지정했거나 오프셋이 음수인 경우
+     * @throws IllegalStateException    다른 재구성이 실행 중인 경우
+     */
+    public RebuildStatus start(@Nullable Instant fromTimestamp, @Nullable Long fromOffset) {
+        if (fromTimestamp != null && fromOffset != null) {
+            throw new IllegalArgumentException("Specify either fromTimestamp or fromOffset, not both");
+        }
+        if (fromOffset != null && fromOffset < 0) {
+            throw new IllegalArgumentException("fromOffset must not be negative");
+        }
+        String from = fromTimestamp != null ? "timestamp:" + fromTimestamp
+                : fromOffset != null ? "offset:" + fromOffset : "earliest";
+        Run run = new Run(from);
+        Run previous = current.get();
+        if ((previous != null && previous.state == State.RUNNING) || !current.compareAndSet(previous, run)) {
+            throw new IllegalStateException("Projection rebuild is already running");
+        }
+        try {
+            executor.execute(() -> rebuild(run, fromTimestamp, fromOffset));
+        } catch (RejectedExecutionException e) {
+            run.finish(State.FAILED, e.getMessage());
+            throw new IllegalStateException("Projection rebuild could not be started", e);
+        }
+        return run.status();
+    }
+
+    /**
+     * 현재(또는 마지막) 재구성 상태
+     */
+    public RebuildStatus status() {
+        Run run = current.get();
+        return run != null ? run.status() : RebuildStatus.IDLE;
+    }
+
+    /**
+     * 실행 중인 재구성 취소 (교체 전이면 Shadow 테이블을 버림)
+     */
+    public RebuildStatus cancel() {
+        Run run = current.get();
+        if (run == null) {
+            return RebuildStatus.IDLE;
+        }
+        run.cancelled = true;
+        return run.status();
+    }
+
+    private void rebuild(Run run, @Nullable Instant fromTimestamp, @Nullable Long fromOffset) {
+        log.info("[Rebuild] Transaction projection rebuild started: topic={}, from={}", topic, run.from);
+        MessageListenerContainer liveListener =
+                listenerPauseCoordinator.container(TransactionEventConsumer.TRANSACTION_EVENT_LISTENER_ID);
+        boolean paused = false;
+        boolean swapped = false;
+        try {
+            Map<TopicPartition, Long> start;
+            Map<TopicPartition, Long> end;
+            try (Consumer<String, TransactionEvent> consumer = createConsumer()) {
+                List<TopicPartition> partitions = partitions(consumer);
+                start = startOffsets(consumer, partitions, fromTimestamp, fromOffset);
+                end = new HashMap<>(consumer.endOffsets(partitions));
+            }
+
+            rebuildRepository.createShadow();
+            if (fromTimestamp != null || fromOffset != null) {
+                run.begin(Phase.SEEDING, 0);
+                long seeded = rebuildRepository.seedShadow(seedChunkSize);
+                log.info("[Rebuild] Shadow table seeded from current projection: rows={}", seeded);
+            }
+
+            run.begin(Phase.REPLAYING, remaining(start, end));
+            replay(run, start, end, true);
+
+            // 이 인스턴스의 라이브 리스너를 멈추고, 그 사이 쌓인 이벤트까지 Shadow 테이블에 반영
+            pauseLiveListener(liveListener);
+            paused = liveListener != null;
+            Map<TopicPartition, Long> catchUpEnd = currentEndOffsets(end);
+            run.begin(Phase.CATCHING_UP, remaining(end, catchUpEnd));
+            replay(run, end, catchUpEnd, true);
+
+            run.begin(Phase.SWAPPING, 0);
+            run.checkCancelled();
+            int carried = rebuildRepository.carryOverCategories();
+            long rows = rebuildRepository.countShadow();
+            rebuildRepository.swap();
+            swapped = true;
+            log.info("[Rebuild] Transaction projection swapped in: rows={}, categoriesCarriedOver={}", rows, carried);
+            if (paused) {
+                resumeLiveListener();
+                paused = false;
+            }
+
+            // 교체 직전까지 다른 인스턴스가 이전 테이블에 쓴 이벤트를 다시 반영 (버전 조건으로 중복 반영은 무시됨)
+            Map<TopicPartition, Long> tailEnd = currentEndOffsets(catchUpEnd);
+            run.begin(Phase.TAIL, remaining(catchUpEnd, tailEnd));
+            replay(run, catchUpEnd, tailEnd, false);
+
+            run.begin(Phase.RECONCILING, 0);
+            readModelReconciler.ifAvailable(LedgerReadModelReconcileScheduler::reconcileAll);
+            run.finish(State.SUCCEEDED, null);
+        } catch (CancellationException e) {
+            run.finish(State.CANCELLED, null);
+        } catch (RuntimeException e) {
+            log.error("[Rebuild] Transaction projection rebuild failed: phase={}, error={}",
+                    run.phase, e.getMessage(), e);
+            run.finish(State.FAILED, e.getMessage());
+        } finally {
+            if (paused) {
+                resumeLiveListener();
+            }
+            if (!swapped) {
+                dropShadowQuietly();
+            }
+            log.info("[Rebuild] Transaction projection rebuild finished: {}", run.status());
+        }
+    }
+
+    /**
+     * 파티션 그룹별 Consumer로 [from, to) 구간을 병렬 반영하고, 끝날 때까지 진행 상황을 주기적으로 로그로 남김
+     */
+    private void replay(Run run, Map<TopicPartition, Long> from, Map<TopicPartition, Long> to, boolean shadow) {
+        List<TopicPartition> pending = to.keySet().stream()
+                .filter(partition -> from.getOrDefault(partition, 0L) < to.get(partition))
+                .sorted(Comparator.comparingInt(TopicPartition::partition))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int groupCount = Math.min(parallelism, pending.size());
+        List<List<TopicPartition>> groups = new ArrayList<>(groupCount);
+        for (int group = 0; group < groupCount; group++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int index = 0; index < pending.size(); index++) {
+            groups.get(index % groupCount).add(pending.get(index));
+        }
+
+        CompletableFuture<?>[] futures = groups.stream()
+                .map(group -> CompletableFuture.runAsync(() -> replayPartitions(run, group, from, to, shadow), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+        while (true) {
+            try {
+                all.get(progressInterval.toMillis(), TimeUnit.MILLISECONDS);
+                break;
+            } catch (TimeoutException e) {
+                log.info("[Rebuild] Progress: {}", run.status());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.cancelled = true;
+                throw new CancellationException("Projection rebuild interrupted");
+            } catch (ExecutionException e) {
+                // 한 그룹이 실패하면 나머지 그룹도 멈춤
+                run.cancelled = true;
+                CompletableFuture.allOf(futures).exceptionally(ignored -> null).join();
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        log.info("[Rebuild] Phase completed: {}", run.status());
+    }
+
+    private void replayPartitions(Run run, List<TopicPartition> partitions,
+                                  Map<TopicPartition, Long> from, Map<TopicPartition, Long> to, boolean shadow) {
+        Map<TopicPartition, Long> positions = new HashMap<>();
+        try (Consumer<String, TransactionEvent> consumer = createConsumer()) {
+            consumer.assign(partitions);
+            for (TopicPartition partition : partitions) {
+                long offset = from.getOrDefault(partition, 0L);
+                consumer.seek(partition, offset);
+                positions.put(partition, offset);
+            }
+
+            while (!positions.isEmpty()) {
+                run.checkCancelled();
+                ConsumerRecords<String, TransactionEvent> records = consumer.poll(POLL_TIMEOUT);
+                List<TransactionEvent> events = new ArrayList<>(records.count());
+                for (TopicPartition partition : records.partitions()) {
+                    long end = to.get(partition);
+                    for (ConsumerRecord<String, TransactionEvent> record : records.records(partition)) {
+                        if (record.offset() >= end) {
+                            break;
+                        }
+                        if (record.value() != null) {
+                            events.add(record.value());
+                        } else {
+                            run.skipped.incrementAndGet();
+                        }
+                    }
+                }
+                apply(events, shadow);
+
+                // 끝 오프셋에 닿은 파티션은 멈추고 진행 건수는 오프셋 기준으로 집계
+                Iterator<Map.Entry<TopicPartition, Long>> iterator = positions.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<TopicPartition, Long> entry = iterator.next();
+                    long end = to.get(entry.getKey());
+                    long position = Math.min(consumer.position(entry.getKey()), end);
+                    run.advance(position - entry.getValue());
+                    entry.setValue(position);
+                    if (position >= end) {
+                        consumer.pause(List.of(entry.getKey()));
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * poll 하나의 이벤트를 거래별 최신 상태로 모아 Upsert 배치 한 번, Soft Delete 배치 한 번으로 반영
+     */
+    private void apply(List<TransactionEvent> events, boolean shadow) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<Long, SyncedRow> upserts = new LinkedHashMap<>();
+        Map<Long, Long> deletes = new LinkedHashMap<>();
+        for (TransactionEvent event : events) {
+            Long transactionId = event.getTransactionId();
+            long version = event.getEventVersion();
+            SyncedRow upsert = upserts.get(transactionId);
+            long latest = upsert != null ? upsert.sourceVersion() : deletes.getOrDefault(transactionId, 0L);
+            if (version != 0 && version < latest) {
+                continue;
+            }
+
+            if (TransactionEvent.EVENT_TYPE_DELETED.equals(event.getEventType())) {
+                if (upsert != null) {
+                    // 같은 poll에서 생성/수정된 거래는 삭제 상태의 전체 행으로 씀
+                    upserts.put(transactionId, new SyncedRow(upsert.snapshot(), upsert.description(),
+                            upsert.memo(), true, version));
+                } else {
+                    deletes.put(transactionId, version);
+                }
+            } else {
+                deletes.remove(transactionId);
+                upserts.put(transactionId, SyncedRow.upsert(toSnapshot(event), event.getDescription(),
+                        event.getMemo(), version));
+            }
+        }
+
+        // 병렬 그룹 간 잠금 순서를 맞추기 위해 transactionId 순으로 씀
+        List<SyncedRow> rows = upserts.values().stream()
+                .sorted(Comparator.comparingLong(row -> row.snapshot().transactionId()))
+                .toList();
+        List<DeletedRow> deletedRows = deletes.entrySet().stream()
+                .map(entry -> new DeletedRow(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(DeletedRow::transactionId))
+                .toList();
+        if (shadow) {
+            syncedTransactionWriter.writeShadow(rows);
+            rebuildRepository.markShadowDeleted(deletedRows);
+        } else {
+            syncedTransactionWriter.write(rows);
+            rebuildRepository.markDeleted(deletedRows);
+        }
+    }
+
+    private TransactionSnapshot toSnapshot(TransactionEvent event) {
+        TransactionType type = TransactionType.valueOf(event.getType());
+        return new TransactionSnapshot(
+                event.getTransactionId(),
+                event.getLedgerId(),
+                categoryIdCache.resolve(event.getLedgerId(), type, event.getCategory()),
+                type,
+                event.getAmount(),
+                event.getTransactionDate());
+    }
+
+    private Map<TopicPartition, Long> startOffsets(Consumer<String, TransactionEvent> consumer,
+                                                   List<TopicPartition> partitions,
+                                                   @Nullable Instant fromTimestamp, @Nullable Long fromOffset) {
+        Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> start = new HashMap<>();
+        if (fromTimestamp != null) {
+            Map<TopicPartition, Long> timestamps = new HashMap<>();
+            partitions.forEach(partition -> timestamps.put(partition, fromTimestamp.toEpochMilli()));
+            Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(timestamps);
+            for (TopicPartition partition : partitions) {
+                OffsetAndTimestamp offset = offsets.get(partition);
+                start.put(partition, offset != null ? offset.offset() : end.get(partition));
+            }
+        } else {
+            for (TopicPartition partition : partitions) {
+                long offset = fromOffset != null ? fromOffset : beginning.get(partition);
+                start.put(partition, Math.max(beginning.get(partition), Math.min(offset, end.get(partition))));
+            }
+        }
+        return start;
+    }
+
+    /**
+     * 현재 끝 오프셋 (재구성 중 늘어난 파티션은 previousEnd에 시작 오프셋으로 추가)
+     */
+    private Map<TopicPartition, Long> currentEndOffsets(Map<TopicPartition, Long> previousEnd) {
+        try (Consumer<String, TransactionEvent> consumer = createConsumer()) {
+            List<TopicPartition> partitions = partitions(consumer);
+            Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+            for (TopicPartition partition : partitions) {
+                previousEnd.putIfAbsent(partition, beginning.get(partition));
+            }
+            return new HashMap<>(consumer.endOffsets(partitions));
+        }
+    }
+
+    private void pauseLiveListener(@Nullable MessageListenerContainer container) {
+        if (container == null) {
+            log.warn("[Rebuild] Transaction event listener not found; swapping without pausing it");
+            return;
+        }
+        listenerPauseCoordinator.pause(TransactionEventConsumer.TRANSACTION_EVENT_LISTENER_ID, PAUSE_REASON);
+        long deadline = System.nanoTime() + pauseTimeout.toNanos();
+        while (!container.isContainerPaused()) {
+            if (System.nanoTime() > deadline) {
+                resumeLiveListener();
+                throw new IllegalStateException("Transaction event listener did not pause within " + pauseTimeout);
+            }
+            LockSupport.parkNanos(PAUSE_CHECK_INTERVAL.toNanos());
+        }
+    }
+
+    private void resumeLiveListener() {
+        listenerPauseCoordinator.resume(TransactionEventConsumer.TRANSACTION_EVENT_LISTENER_ID, PAUSE_REASON);
+    }
+
+    private Consumer<String, TransactionEvent> createConsumer() {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        return consumerFactory.createConsumer(REBUILD_GROUP_ID, null, null, overrides);
+    }
+
+    private List<TopicPartition> partitions(Consumer<String, TransactionEvent> consumer) {
+        return consumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+
+    private long remaining(Map<TopicPartition, Long> from, Map<TopicPartition, Long> to) {
+        long total = 0;
+        for (Map.Entry<TopicPartition, Long> entry : to.entrySet()) {
+            total += Math.max(0, entry.getValue() - from.getOrDefault(entry.getKey(), 0L));
+        }
+        return total;
+    }
+
+    private void dropShadowQuietly() {
+        try {
+            rebuildRepository.dropShadow();
+        } catch (RuntimeException e) {
+            log.warn("[Rebuild] Failed to drop shadow table: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재구성 상태
+     */
+    public enum State {
+        IDLE, RUNNING, SUCCEEDED, FAILED, CANCELLED
+    }
+
+    /**
+     * 재구성 단계
+     */
+    public enum Phase {
+        PREPARING, SEEDING, REPLAYING, CATCHING_UP, SWAPPING, TAIL, RECONCILING
+    }
+
+    /**
+     * 재구성 진행 상황
+     *
+     * @param phaseProcessed   현재 단계에서 읽은 레코드 수 (오프셋 기준)
+     * @param phaseTotal       현재 단계에서 읽을 레코드 수
+     * @param recordsPerSecond 현재 단계의 처리 속도
+     * @param etaSeconds       현재 단계의 남은 시간 (속도를 알 수 없으면 null)
+     * @param skipped          역직렬화 실패로 건너뛴 레코드 수
+     */
+    public record RebuildStatus(State state, Phase phase, String from, Instant startedAt, Instant finishedAt,
+                                long phaseProcessed, long phaseTotal, long totalProcessed,
+                                double recordsPerSecond, Long etaSeconds, long skipped, String error) {
+
+        static final RebuildStatus IDLE =
+                new RebuildStatus(State.IDLE, null, null, null, null, 0, 0, 0, 0, null, 0, null);
+    }
+
+    /**
+     * 재구성 한 번의 진행 상태
+     */
+    private static final class Run {
+
+        private final String from;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong phaseProcessed = new AtomicLong();
+        private final AtomicLong totalProcessed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private volatile State state = State.RUNNING;
+        private volatile Phase phase = Phase.PREPARING;
+        private volatile long phaseTotal;
+        private volatile long phaseStartedNanos = System.nanoTime();
+        private volatile Instant finishedAt;
+        private volatile String error;
+        private volatile boolean cancelled;
+
+        private Run(String from) {
+            this.from = from;
+        }
+
+        private synchronized void begin(Phase phase, long total) {
+            this.phase = phase;
+            this.phaseTotal = total;
+            this.phaseProcessed.set(0);
+            this.phaseStartedNanos = System.nanoTime();
+        }
+
+        private void advance(long records) {
+            phaseProcessed.addAndGet(records);
+            totalProcessed.addAndGet(records);
+        }
+
+        private void checkCancelled() {
+            if (cancelled) {
+                throw new CancellationException("Projection rebuild cancelled");
+            }
+        }
+
+        private void finish(State state, String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+
+        private synchronized RebuildStatus status() {
+            long processed = phaseProcessed.get();
+            double elapsedSeconds = (System.nanoTime() - phaseStartedNanos) / 1_000_000_000.0;
+            double rate = elapsedSeconds > 0 ? processed / elapsedSeconds : 0;
+            Long eta = state == State.RUNNING && rate > 0
+                    ? (long) Math.ceil(Math.max(0, phaseTotal - processed) / rate) : null;
+            return new RebuildStatus(state, phase, from, startedAt, finishedAt, processed, phaseTotal,
+                    totalProcessed.get(), Math.round(rate * 10) / 10.0, eta, skipped.get(), error);
+        }
+    }
+}
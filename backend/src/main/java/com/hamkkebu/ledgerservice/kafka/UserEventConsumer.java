@@ -2,59 +2,308 @@ package com.hamkkebu.ledgerservice.kafka;
 
 import com.hamkkebu.boilerplate.common.enums.Role;
 import com.hamkkebu.boilerplate.common.user.consumer.AbstractUserEventConsumer;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.config.KafkaDeadLetterConfig;
 import com.hamkkebu.ledgerservice.data.entity.User;
-import com.hamkkebu.ledgerservice.grpc.client.AuthServiceGrpcClient;
+import com.hamkkebu.ledgerservice.grpc.client.AuthServiceUserLoader;
 import com.hamkkebu.ledgerservice.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Ledger Service 사용자 이벤트 Kafka Consumer
  *
  * <p>AbstractUserEventConsumer를 상속받아 공통 로직을 재사용합니다.</p>
- * <p>auth-service에서 발행한 사용자 관련 이벤트를 수신합니다.</p>
+ * <p>auth-service에서 발행한 사용자 관련 이벤트를 poll 단위로 수신합니다.</p>
+ * <p>이미 처리한 eventId는 {@link ProcessedEventStore}로 걸러내어 재전달 시 다시 처리하지 않습니다.</p>
+ * <p>poll마다 필요한 사용자를 DB 트랜잭션을 열기 전에 {@link AuthServiceUserLoader#getUsers} 한 번으로 미리 조회하고,
+ * 레코드마다 짧은 트랜잭션으로 반영합니다. 이벤트가 몰려도 gRPC 호출은 poll당 한 번(max-batch-size 단위)이며,
+ * gRPC 응답을 기다리는 동안 DB 커넥션을 잡지 않습니다.</p>
+ * <p>처리에 실패한 레코드는 {@link BatchListenerFailedException}으로 위치를 알려 그 앞까지만 오프셋을 커밋하고,
+ * 파티션을 막지 않도록 ledger-service 전용 복구 토픽(ledger-service.user-events)으로 넘깁니다.
+ * 복구 토픽은 재시도 토픽(ledger-service.user-events-retry-N)을 거쳐 점점 긴 간격으로 다시 처리하며,
+ * 끝내 실패하면 DLT(ledger-service.user-events-dlt)로 보냅니다. auth-service 소유인 user.events 이름으로는
+ * 토픽을 만들지 않습니다.</p>
+ * <p>처리 시간(이벤트 유형별), 커밋 후 신선도, 파티션별 Lag을 {@link EventFreshnessMonitor}에 기록합니다.</p>
  */
 @Slf4j
 @Component
 public class UserEventConsumer extends AbstractUserEventConsumer<User> {
 
-    private final AuthServiceGrpcClient authServiceGrpcClient;
+    /** 사용자 이벤트 리스너 ID (DB 커넥션 풀 Backpressure 일시 정지 대상) */
+    public static final String USER_EVENT_LISTENER_ID = "userEventListener";
+
+    /** 사용자 정보를 조회하지 않는 이벤트 유형 */
+    private static final String EVENT_TYPE_USER_DELETED = "USER_DELETED";
+
+    private final AuthServiceUserLoader authServiceUserLoader;
+    private final LedgerCacheInvalidator ledgerCacheInvalidator;
+    private final ProcessedEventStore processedEventStore;
+    private final DeadLetterRecorder deadLetterRecorder;
+    private final EventFreshnessMonitor eventFreshnessMonitor;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 처리 중인 poll(또는 복구 레코드)에 대해 미리 조회한 사용자 (리스너 스레드별) */
+    private final ThreadLocal<PrefetchedUsers> prefetchedUsers = new ThreadLocal<>();
 
     public UserEventConsumer(UserRepository userRepository,
-                             AuthServiceGrpcClient authServiceGrpcClient) {
+                             AuthServiceUserLoader authServiceUserLoader,
+                             LedgerCacheInvalidator ledgerCacheInvalidator,
+                             ProcessedEventStore processedEventStore,
+                             DeadLetterRecorder deadLetterRecorder,
+                             EventFreshnessMonitor eventFreshnessMonitor,
+                             PlatformTransactionManager transactionManager) {
         super(userRepository);
-        this.authServiceGrpcClient = authServiceGrpcClient;
+        this.authServiceUserLoader = authServiceUserLoader;
+        this.ledgerCacheInvalidator = ledgerCacheInvalidator;
+        this.processedEventStore = processedEventStore;
+        this.deadLetterRecorder = deadLetterRecorder;
+        this.eventFreshnessMonitor = eventFreshnessMonitor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * 사용자 이벤트 처리 (USER_REGISTERED, USER_DELETED)
+     * 사용자 이벤트 배치 처리 (USER_REGISTERED, USER_DELETED)
+     *
+     * <p>실패하면 에러 핸들러가 실패 레코드를 복구 토픽으로 넘기고 뒤쪽 레코드를 다시 전달합니다 (KafkaConfig).</p>
      */
     @KafkaListener(
+            id = USER_EVENT_LISTENER_ID,
             topics = "${kafka.topics.user-events:user.events}",
             groupId = "ledger-service-group",
             containerFactory = "ledgerKafkaListenerContainerFactory"
     )
-    @Transactional
-    public void handleUserEvent(Map<String, Object> eventData) {
+    public void handleUserEvents(List<ConsumerRecord<String, Map<String, Object>>> records,
+                                 Consumer<?, ?> consumer) {
+        eventFreshnessMonitor.recordLag(ProcessedEventStore.CONSUMER_USER_EVENTS, consumer,
+                records.stream()
+                        .map(record -> new TopicPartition(record.topic(), record.partition()))
+                        .collect(Collectors.toSet()));
+        List<String> eventIds = records.stream()
+                .map(record -> eventId(record.value()))
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> processed = eventIds.isEmpty() ? Set.of()
+                : processedEventStore.findProcessed(ProcessedEventStore.CONSUMER_USER_EVENTS, eventIds);
+
+        List<Map<String, Object>> pending = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, Map<String, Object>> record : records) {
+            if (record.value() != null && !isProcessed(record.value(), processed)) {
+                pending.add(record.value());
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        List<LocalDateTime> eventTimes = new ArrayList<>(pending.size());
+        Map<String, Integer> eventTypeCounts = new HashMap<>();
+        prefetch(pending);
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                Map<String, Object> eventData = records.get(i).value();
+                if (eventData == null) {
+                    throw new BatchListenerFailedException("Failed to process user event",
+                            new IllegalArgumentException("User event could not be deserialized"), i);
+                }
+                if (isProcessed(eventData, processed)) {
+                    continue;
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> apply(eventData));
+                } catch (RuntimeException e) {
+                    throw new BatchListenerFailedException("Failed to process user event", e, i);
+                }
+                eventTimes.add(eventTime(eventData.get("timestamp")));
+                eventTypeCounts.merge(eventType(eventData), 1, Integer::sum);
+            }
+        } finally {
+            prefetchedUsers.remove();
+            if (!eventTimes.isEmpty()) {
+                eventFreshnessMonitor.recordCommitted(ProcessedEventStore.CONSUMER_USER_EVENTS, eventTimes);
+                eventFreshnessMonitor.recordProcessing(ProcessedEventStore.CONSUMER_USER_EVENTS, eventTypeCounts,
+                        System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    /**
+     * 복구 토픽 사용자 이벤트 처리
+     *
+     * <p>실패하면 재시도 토픽(-retry-0, -retry-1, ...)을 거쳐 다시 처리되고, 형식 오류는 바로 DLT로 보냅니다.</p>
+     */
+    @RetryableTopic(
+            attempts = "${kafka.consumer.dead-letter.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.consumer.dead-letter.delay-ms:1000}",
+                    multiplierExpression = "${kafka.consumer.dead-letter.multiplier:5}",
+                    maxDelayExpression = "${kafka.consumer.dead-letter.max-delay-ms:60000}"),
+            numPartitions = "${kafka.consumer.dead-letter.partitions:3}",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            retryTopicSuffix = KafkaDeadLetterConfig.RETRY_TOPIC_SUFFIX,
+            dltTopicSuffix = KafkaDeadLetterConfig.DLT_TOPIC_SUFFIX,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            kafkaTemplate = KafkaDeadLetterConfig.DEAD_LETTER_KAFKA_TEMPLATE,
+            listenerContainerFactory = "ledgerUserEventRecoveryKafkaListenerContainerFactory",
+            exclude = {IllegalArgumentException.class, ClassCastException.class}
+    )
+    @KafkaListener(
+            topics = "${kafka.topics.user-events-recovery:ledger-service.user-events}",
+            groupId = "ledger-service-user-recovery-group",
+            containerFactory = "ledgerUserEventRecoveryKafkaListenerContainerFactory"
+    )
+    public void handleRecoveryEvent(Map<String, Object> eventData,
+                                    @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                    @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                    Consumer<?, ?> consumer) {
+        log.info("[Kafka Consumer] Retrying user event: topic={}, partition={}, eventId={}",
+                topic, partition, eventData.get("eventId"));
+        long startedAt = System.nanoTime();
+        eventFreshnessMonitor.recordLag(ProcessedEventStore.CONSUMER_USER_EVENTS, consumer,
+                Set.of(new TopicPartition(topic, partition)));
+        if (processedEventStore.isProcessed(ProcessedEventStore.CONSUMER_USER_EVENTS, eventId(eventData))) {
+            return;
+        }
+
+        prefetch(List.of(eventData));
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(eventData));
+        } finally {
+            prefetchedUsers.remove();
+        }
+
+        eventFreshnessMonitor.recordCommitted(ProcessedEventStore.CONSUMER_USER_EVENTS,
+                Collections.singletonList(eventTime(eventData.get("timestamp"))));
+        eventFreshnessMonitor.recordProcessing(ProcessedEventStore.CONSUMER_USER_EVENTS,
+                Collections.singletonMap(eventType(eventData), 1), System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 이벤트 한 건 반영 (호출자의 트랜잭션 안에서 실행)
+     */
+    private void apply(Map<String, Object> eventData) {
         processUserEvent(eventData);
+
+        // 가계부 현황 요약에 사용자 정보(username)가 포함되므로 사용자 조회 캐시와 함께 무효화
+        if (eventData.get("userId") instanceof Number userId) {
+            ledgerCacheInvalidator.invalidateSummary(userId.longValue());
+            ledgerCacheInvalidator.invalidateUser(userId.longValue());
+        }
+        String eventId = eventId(eventData);
+        if (eventId != null) {
+            processedEventStore.markProcessed(ProcessedEventStore.CONSUMER_USER_EVENTS, List.of(eventId));
+        }
     }
 
+    /**
+     * 사용자 정보가 필요한 이벤트의 사용자를 한 번에 조회 (트랜잭션 밖에서 호출)
+     */
+    private void prefetch(List<Map<String, Object>> events) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Map<String, Object> eventData : events) {
+            if (!EVENT_TYPE_USER_DELETED.equals(eventType(eventData))
+                    && eventData.get("userId") instanceof Number userId) {
+                userIds.add(userId.longValue());
+            }
+        }
+        prefetchedUsers.set(new PrefetchedUsers(userIds,
+                userIds.isEmpty() ? Map.of() : authServiceUserLoader.getUsers(userIds)));
+    }
+
+    /**
+     * 재시도를 모두 소진한 사용자 이벤트 기록
+     */
+    @DltHandler
+    public void handleDeadLetter(ConsumerRecord<String, Map<String, Object>> record) {
+        deadLetterRecorder.record(record);
+    }
+
+    private boolean isProcessed(Map<String, Object> eventData, Set<String> processed) {
+        String eventId = eventId(eventData);
+        return eventId != null && processed.contains(eventId);
+    }
+
+    private String eventId(Map<String, Object> eventData) {
+        return eventData != null && eventData.get("eventId") instanceof String id ? id : null;
+    }
+
+    private String eventType(Map<String, Object> eventData) {
+        return eventData.get("eventType") instanceof String type ? type : null;
+    }
+
+    /**
+     * 이벤트 발생 시각 (ISO-8601 문자열 또는 epoch millis, UTC 기준, 알 수 없으면 null)
+     */
+    private LocalDateTime eventTime(Object timestamp) {
+        if (timestamp instanceof Number millis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis.longValue()), ZoneOffset.UTC);
+        }
+        if (timestamp instanceof String text) {
+            try {
+                return LocalDateTime.parse(text);
+            } catch (DateTimeParseException e) {
+                log.debug("[Kafka Consumer] Unparseable user event timestamp: {}", text);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * auth-service 사용자 조회
+     *
+     * <p>리스너가 미리 조회한 사용자면 그 결과를 쓰고(찾지 못했으면 empty), 그 밖의 사용자만 직접 조회합니다.</p>
+     */
     @Override
     protected Optional<User> fetchAndCreateUser(Long userId) {
-        return authServiceGrpcClient.getUser(userId)
-                .map(grpcUser -> User.builder()
-                        .userId(grpcUser.getUserId())
-                        .username(grpcUser.getUsername())
-                        .email(grpcUser.getEmail())
-                        .firstName(grpcUser.getFirstName().isEmpty() ? null : grpcUser.getFirstName())
-                        .lastName(grpcUser.getLastName().isEmpty() ? null : grpcUser.getLastName())
-                        .isActive(grpcUser.getIsActive())
-                        .role(Role.fromString(grpcUser.getRole()))
-                        .build());
+        PrefetchedUsers prefetched = prefetchedUsers.get();
+        Optional<com.hamkkebu.ledgerservice.grpc.user.User> grpcUser =
+                prefetched != null && prefetched.userIds().contains(userId)
+                        ? Optional.ofNullable(prefetched.users().get(userId))
+                        : authServiceUserLoader.getUser(userId);
+        return grpcUser.map(user -> User.builder()
+                .userId(user.getUserId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .firstName(user.getFirstName().isEmpty() ? null : user.getFirstName())
+                .lastName(user.getLastName().isEmpty() ? null : user.getLastName())
+                .isActive(user.getIsActive())
+                .role(Role.fromString(user.getRole()))
+                .build());
+    }
+
+    /**
+     * 미리 조회한 사용자
+     *
+     * @param userIds 조회를 요청한 userId
+     * @param users   찾은 사용자 (없거나 조회에 실패한 사용자는 제외)
+     */
+    private record PrefetchedUsers(Set<Long> userIds, Map<Long, com.hamkkebu.ledgerservice.grpc.user.User> users) {
     }
 }
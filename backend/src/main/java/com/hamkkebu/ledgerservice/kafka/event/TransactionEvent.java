@@ -1,23 +1,28 @@
 package com.hamkkebu.ledgerservice.kafka.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * 거래 이벤트 DTO
  *
- * <p>transaction-service에서 발행한 거래 관련 이벤트를 수신합니다.</p>
+ * <p>transaction-service에서 발행한 거래 관련 이벤트를 수신합니다.
+ * {@code TransactionEventDeserializer}가 JSON을 Builder로 바로 바인딩하며,
+ * 날짜는 ISO-8601 문자열, 금액은 JSON 숫자(또는 숫자 문자열)로 받습니다.</p>
  */
 @Getter
+@Jacksonized
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class TransactionEvent {
 
     public static final String EVENT_TYPE_CREATED = "TRANSACTION_CREATED";
@@ -38,4 +43,13 @@ public class TransactionEvent {
     private String category;
     private LocalDate transactionDate;
     private String memo;
+
+    /**
+     * 이벤트 버전 (이벤트 발생 시각, epoch millis)
+     *
+     * <p>timestamp가 없으면 0을 반환합니다.</p>
+     */
+    public long getEventVersion() {
+        return timestamp != null ? timestamp.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
 }
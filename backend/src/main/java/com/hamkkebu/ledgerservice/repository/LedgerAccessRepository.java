@@ -0,0 +1,56 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import com.hamkkebu.ledgerservice.data.entity.Ledger;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 가계부 접근 권한 Repository
+ *
+ * <p>소유자/멤버/공유 여부를 tbl_ledgers 기준 LEFT JOIN 한 번으로 조회합니다.
+ * 멤버(ledger_id, account_id)와 공유(ledger_id, shared_user_id)는 UNIQUE 이므로 결과는 가계부마다 최대 1행입니다.</p>
+ * <p>여러 가계부는 같은 조인을 PK IN 조회로 한 번에 수행하며, 각 조인은 UNIQUE 인덱스로 한 행만 찾습니다.</p>
+ */
+@Repository
+public interface LedgerAccessRepository extends org.springframework.data.repository.Repository<Ledger, Long> {
+
+    @Query(value = "SELECT l.ledger_id AS ledgerId, l.user_id AS ownerId, " +
+            "m.role AS memberRole, s.permission AS sharePermission " +
+            "FROM tbl_ledgers l " +
+            "LEFT JOIN tbl_ledger_members m ON m.ledger_id = l.ledger_id " +
+            "AND m.account_id = :userId AND m.is_deleted = false " +
+            "LEFT JOIN tbl_ledger_shares s ON s.ledger_id = l.ledger_id " +
+            "AND s.shared_user_id = :userId AND s.share_status = 'ACCEPTED' AND s.is_deleted = false " +
+            "WHERE l.ledger_id = :ledgerId AND l.is_deleted = false",
+            nativeQuery = true)
+    Optional<LedgerAccessRow> findAccess(@Param("ledgerId") Long ledgerId, @Param("userId") Long userId);
+
+    @Query(value = "SELECT l.ledger_id AS ledgerId, l.user_id AS ownerId, " +
+            "m.role AS memberRole, s.permission AS sharePermission " +
+            "FROM tbl_ledgers l " +
+            "LEFT JOIN tbl_ledger_members m ON m.ledger_id = l.ledger_id " +
+            "AND m.account_id = :userId AND m.is_deleted = false " +
+            "LEFT JOIN tbl_ledger_shares s ON s.ledger_id = l.ledger_id " +
+            "AND s.shared_user_id = :userId AND s.share_status = 'ACCEPTED' AND s.is_deleted = false " +
+            "WHERE l.ledger_id IN (:ledgerIds) AND l.is_deleted = false",
+            nativeQuery = true)
+    List<LedgerAccessRow> findAccessAll(@Param("ledgerIds") Collection<Long> ledgerIds, @Param("userId") Long userId);
+
+    /**
+     * 가계부 접근 권한 조회 결과
+     */
+    interface LedgerAccessRow {
+        Long getLedgerId();
+
+        Long getOwnerId();
+
+        String getMemberRole();
+
+        String getSharePermission();
+    }
+}
@@ -0,0 +1,70 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import com.hamkkebu.ledgerservice.data.entity.LedgerBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 가계부 잔액 Read Model Repository
+ *
+ * <p>잔액 갱신은 행 잠금 하나로 끝나도록 단일 UPSERT 문으로 수행합니다.</p>
+ */
+@Repository
+public interface LedgerBalanceRepository extends JpaRepository<LedgerBalance, Long> {
+
+    /**
+     * 잔액 증분 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tbl_ledger_balances " +
+            "(ledger_id, total_income, total_expense, transaction_count, last_event_version) " +
+            "VALUES (:ledgerId, :incomeDelta, :expenseDelta, :countDelta, :eventVersion) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_income = total_income + VALUES(total_income), " +
+            "total_expense = total_expense + VALUES(total_expense), " +
+            "transaction_count = transaction_count + VALUES(transaction_count), " +
+            "last_event_version = GREATEST(last_event_version, VALUES(last_event_version))",
+            nativeQuery = true)
+    int applyDelta(@Param("ledgerId") Long ledgerId,
+                   @Param("incomeDelta") BigDecimal incomeDelta,
+                   @Param("expenseDelta") BigDecimal expenseDelta,
+                   @Param("countDelta") long countDelta,
+                   @Param("eventVersion") long eventVersion);
+
+    /**
+     * tbl_transactions 기준으로 지정한 가계부들의 잔액 재계산
+     *
+     * <p>거래가 없는 가계부도 0으로 채워지도록 tbl_ledgers를 기준으로 집계합니다.</p>
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tbl_ledger_balances " +
+            "(ledger_id, total_income, total_expense, transaction_count, last_event_version) " +
+            "SELECT l.ledger_id, " +
+            "COALESCE(SUM(CASE WHEN t.transaction_type = 'INCOME' THEN t.amount END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.transaction_type = 'EXPENSE' THEN t.amount END), 0), " +
+            "COUNT(t.transaction_id), 0 " +
+            "FROM tbl_ledgers l " +
+            "LEFT JOIN tbl_transactions t ON t.ledger_id = l.ledger_id AND t.is_deleted = false " +
+            "WHERE l.ledger_id IN (:ledgerIds) " +
+            "GROUP BY l.ledger_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_income = VALUES(total_income), " +
+            "total_expense = VALUES(total_expense), " +
+            "transaction_count = VALUES(transaction_count)",
+            nativeQuery = true)
+    int rebuildByLedgerIds(@Param("ledgerIds") List<Long> ledgerIds);
+
+    /**
+     * 재계산 대상 가계부 ID를 키셋 방식으로 조회
+     */
+    @Query(value = "SELECT l.ledger_id FROM tbl_ledgers l " +
+            "WHERE l.ledger_id > :afterLedgerId ORDER BY l.ledger_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findLedgerIdsAfter(@Param("afterLedgerId") long afterLedgerId, @Param("limit") int limit);
+}
@@ -0,0 +1,70 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import com.hamkkebu.ledgerservice.data.entity.LedgerMonthlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 가계부 월별 통계 Rollup Repository
+ */
+@Repository
+public interface LedgerMonthlyStatRepository extends JpaRepository<LedgerMonthlyStat, Long> {
+
+    List<LedgerMonthlyStat> findByLedgerIdAndYearMonthBetweenOrderByYearMonthAsc(
+            Long ledgerId, String fromYearMonth, String toYearMonth);
+
+    /**
+     * 월별 통계 증분 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tbl_ledger_monthly_stats " +
+            "(ledger_id, stat_year_month, category_id, transaction_type, total_amount, transaction_count) " +
+            "VALUES (:ledgerId, :yearMonth, :categoryId, :type, :amountDelta, :countDelta) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count)",
+            nativeQuery = true)
+    int applyDelta(@Param("ledgerId") Long ledgerId,
+                   @Param("yearMonth") String yearMonth,
+                   @Param("categoryId") long categoryId,
+                   @Param("type") String type,
+                   @Param("amountDelta") BigDecimal amountDelta,
+                   @Param("countDelta") long countDelta);
+
+    /**
+     * 완전히 포함되는 월 구간의 유형별 합계
+     */
+    @Query(value = "SELECT COALESCE(SUM(s.total_amount), 0) FROM tbl_ledger_monthly_stats s " +
+            "WHERE s.ledger_id = :ledgerId AND s.transaction_type = :type " +
+            "AND s.stat_year_month BETWEEN :fromYearMonth AND :toYearMonth",
+            nativeQuery = true)
+    BigDecimal sumAmountByLedgerIdAndTypeAndYearMonthBetween(
+            @Param("ledgerId") Long ledgerId,
+            @Param("type") String type,
+            @Param("fromYearMonth") String fromYearMonth,
+            @Param("toYearMonth") String toYearMonth);
+
+    @Modifying
+    @Query(value = "DELETE FROM tbl_ledger_monthly_stats WHERE ledger_id IN (:ledgerIds)", nativeQuery = true)
+    int deleteByLedgerIds(@Param("ledgerIds") List<Long> ledgerIds);
+
+    /**
+     * tbl_transactions 기준으로 지정한 가계부들의 월별 통계 재생성 (deleteByLedgerIds 이후 호출)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tbl_ledger_monthly_stats " +
+            "(ledger_id, stat_year_month, category_id, transaction_type, total_amount, transaction_count) " +
+            "SELECT t.ledger_id, DATE_FORMAT(t.transaction_date, '%Y-%m'), COALESCE(t.category_id, 0), " +
+            "t.transaction_type, SUM(t.amount), COUNT(*) " +
+            "FROM tbl_transactions t " +
+            "WHERE t.ledger_id IN (:ledgerIds) AND t.is_deleted = false " +
+            "GROUP BY t.ledger_id, DATE_FORMAT(t.transaction_date, '%Y-%m'), COALESCE(t.category_id, 0), t.transaction_type",
+            nativeQuery = true)
+    int insertFromTransactions(@Param("ledgerIds") List<Long> ledgerIds);
+}
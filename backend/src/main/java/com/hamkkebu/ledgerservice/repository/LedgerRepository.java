@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +29,15 @@ public interface LedgerRepository extends JpaRepository<Ledger, Long> {
     boolean existsByLedgerIdAndIsDeletedFalse(Long ledgerId);
 
     List<Ledger> findByLedgerIdInAndIsDeletedFalse(List<Long> ledgerIds);
+
+    /**
+     * 가계부들과 관련된 사용자 ID 조회 (소유자 + 멤버 + 공유 수락 사용자)
+     */
+    @Query(value = "SELECT l.user_id FROM tbl_ledgers l WHERE l.ledger_id IN (:ledgerIds) " +
+            "UNION SELECT m.account_id FROM tbl_ledger_members m " +
+            "WHERE m.ledger_id IN (:ledgerIds) AND m.is_deleted = false " +
+            "UNION SELECT s.shared_user_id FROM tbl_ledger_shares s " +
+            "WHERE s.ledger_id IN (:ledgerIds) AND s.share_status = 'ACCEPTED' AND s.is_deleted = false",
+            nativeQuery = true)
+    List<Long> findRelatedUserIds(@Param("ledgerIds") Collection<Long> ledgerIds);
 }
@@ -0,0 +1,40 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 가계부 통계 Repository
+ *
+ * <p>여러 가계부의 유형별 합계/건수를 GROUP BY 한 번으로 집계합니다.</p>
+ */
+@Repository
+public interface LedgerStatsRepository extends org.springframework.data.repository.Repository<Transaction, Long> {
+
+    @Query("SELECT t.ledgerId AS ledgerId, t.type AS type, " +
+           "SUM(t.amount) AS totalAmount, COUNT(t) AS transactionCount " +
+           "FROM Transaction t " +
+           "WHERE t.ledgerId IN :ledgerIds AND t.isDeleted = false " +
+           "GROUP BY t.ledgerId, t.type")
+    List<LedgerTypeTotal> sumGroupByLedgerIdAndType(@Param("ledgerIds") Collection<Long> ledgerIds);
+
+    /**
+     * 가계부/거래 유형별 집계 결과
+     */
+    interface LedgerTypeTotal {
+        Long getLedgerId();
+
+        TransactionType getType();
+
+        BigDecimal getTotalAmount();
+
+        Long getTransactionCount();
+    }
+}
@@ -0,0 +1,71 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 처리 완료 이벤트 JDBC Repository
+ *
+ * <p>Kafka Consumer별로 처리한 eventId를 tbl_processed_events에 기록합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventRepository {
+
+    private static final String FIND_PROCESSED_SQL =
+            "SELECT event_id FROM tbl_processed_events WHERE consumer = :consumer AND event_id IN (:eventIds)";
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO tbl_processed_events (consumer, event_id) VALUES (?, ?)";
+
+    private static final String DELETE_BEFORE_SQL =
+            "DELETE FROM tbl_processed_events WHERE processed_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 주어진 eventId 중 이미 처리된 것 조회 (쿼리 한 번)
+     */
+    public Set<String> findProcessed(String consumer, Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("consumer", consumer)
+                .addValue("eventIds", eventIds);
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(FIND_PROCESSED_SQL, params, String.class));
+    }
+
+    /**
+     * 처리 완료 기록 (이미 있으면 무시, JDBC 배치 한 번)
+     */
+    public void insertAll(String consumer, List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, eventIds, eventIds.size(), (ps, eventId) -> {
+            ps.setString(1, consumer);
+            ps.setString(2, eventId);
+        });
+    }
+
+    /**
+     * 기준 시각 이전 기록 삭제 (최대 limit건)
+     *
+     * @return 삭제한 건수
+     */
+    public int deleteProcessedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, Timestamp.valueOf(threshold), limit);
+    }
+}
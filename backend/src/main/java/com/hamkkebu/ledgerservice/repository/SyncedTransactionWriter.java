@@ -0,0 +1,186 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 동기화 거래 쓰기 전용 JDBC Writer
+ *
+ * <p>transaction-service에서 받은 거래의 생성/수정/삭제를 JPA 엔티티 없이
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} 한 문장으로 반영합니다.
+ * 삭제도 is_deleted = TRUE인 Upsert로 쓰므로 한 묶음의 변경이 JDBC 배치 한 번으로 전송되며,
+ * 데이터소스 URL에 rewriteBatchedStatements=true가 있으면 다중 행 INSERT 하나가 됩니다.</p>
+ * <p>아직 없는 거래는 {@link #insertAbsent(List)}로 생성하고 실제로 삽입된 행 수를 돌려받습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncedTransactionWriter {
+
+    public static final String TABLE = "tbl_transactions";
+
+    /** 프로젝션 재구성용 Shadow 테이블 ({@link TransactionProjectionRebuildRepository}) */
+    public static final String SHADOW_TABLE = "tbl_transactions_rebuild";
+
+    /**
+     * 이벤트가 저장된 버전보다 오래되지 않았는지 (버전 0은 버전 없는 이벤트로 항상 반영)
+     */
+    private static final String IS_CURRENT =
+            "(VALUES(source_version) = 0 OR VALUES(source_version) >= source_version)";
+
+    private static final String COLUMNS = "(transaction_id, ledger_id, category_id, transaction_type, amount, "
+            + "description, transaction_date, memo, is_deleted, deleted_at, source_version)";
+
+    private static final String VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, IF(?, NOW(), NULL), ?)";
+
+    private static final String UPSERT_SQL = upsertSql(TABLE);
+
+    private static final String SHADOW_UPSERT_SQL = upsertSql(SHADOW_TABLE);
+
+    private static final int PARAMETERS_PER_ROW = 11;
+
+    /** 생성 한 문장에 담는 최대 행 수 (MySQL Prepared Statement 파라미터 수 제한 65535 이내) */
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 거래 일괄 반영 (JDBC 배치 한 번)
+     *
+     * @param rows 반영할 거래 (생성/수정/삭제 혼합 가능)
+     */
+    public void write(List<SyncedRow> rows) {
+        write(UPSERT_SQL, rows);
+    }
+
+    /**
+     * Shadow 테이블에 거래 일괄 반영 (프로젝션 재구성)
+     */
+    public void writeShadow(List<SyncedRow> rows) {
+        write(SHADOW_UPSERT_SQL, rows);
+    }
+
+    /**
+     * 아직 없는 거래 일괄 생성 (이미 있는 거래는 그대로 두고 건너뜀)
+     *
+     * <p>다중 행 {@code INSERT IGNORE} 한 문장으로 보내고 실제로 삽입된 행 수를 돌려줍니다.
+     * 배치 재작성(rewriteBatchedStatements)을 거치면 행별 결과를 알 수 없으므로 JDBC 배치 대신 한 문장으로 만듭니다.
+     * 변경 전 상태를 읽은 뒤 다른 트랜잭션이 먼저 만든 거래나 제약 조건에 걸린 거래는 삽입 수에서 빠집니다.</p>
+     *
+     * @param rows 생성할 거래
+     * @return 삽입된 행 수
+     */
+    public int insertAbsent(List<SyncedRow> rows) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            List<SyncedRow> chunk = rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size()));
+            String sql = "INSERT IGNORE INTO " + TABLE + " " + COLUMNS + " VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), VALUES));
+            inserted += jdbcTemplate.update(sql, ps -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    bind(ps, i * PARAMETERS_PER_ROW, chunk.get(i));
+                }
+            });
+        }
+        return inserted;
+    }
+
+    /**
+     * 거래 Upsert
+     *
+     * <p>늦게 도착한 이전 버전 이벤트는 같은 문장 안에서 조건으로 걸러 기존 값을 유지합니다.
+     * MySQL은 할당을 왼쪽부터 적용하므로 조건이 참조하는 source_version은 마지막에,
+     * deleted_at은 기존 삭제 시각을 유지하도록 is_deleted보다 먼저 갱신합니다.</p>
+     */
+    private static String upsertSql(String table) {
+        return "INSERT INTO " + table + " " + COLUMNS + " VALUES " + VALUES + " "
+                + "ON DUPLICATE KEY UPDATE "
+                + guarded("ledger_id") + ", "
+                + guarded("category_id") + ", "
+                + guarded("transaction_type") + ", "
+                + guarded("amount") + ", "
+                + guarded("description") + ", "
+                + guarded("transaction_date") + ", "
+                + guarded("memo") + ", "
+                + "deleted_at = IF(" + IS_CURRENT + ", "
+                + "IF(VALUES(is_deleted), COALESCE(deleted_at, NOW()), NULL), deleted_at), "
+                + guarded("is_deleted") + ", "
+                + "source_version = GREATEST(source_version, VALUES(source_version))";
+    }
+
+    private void write(String sql, List<SyncedRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> bind(ps, 0, row));
+    }
+
+    /**
+     * 거래 한 건의 파라미터를 offset 다음 위치부터 설정
+     */
+    private static void bind(PreparedStatement ps, int offset, SyncedRow row) throws SQLException {
+        TransactionSnapshot snapshot = row.snapshot();
+        ps.setLong(offset + 1, snapshot.transactionId());
+        ps.setLong(offset + 2, snapshot.ledgerId());
+        if (snapshot.categoryId() != null) {
+            ps.setLong(offset + 3, snapshot.categoryId());
+        } else {
+            ps.setNull(offset + 3, Types.BIGINT);
+        }
+        ps.setString(offset + 4, snapshot.type().name());
+        ps.setBigDecimal(offset + 5, snapshot.amount());
+        if (row.description() != null) {
+            ps.setString(offset + 6, row.description());
+        } else {
+            ps.setNull(offset + 6, Types.VARCHAR);
+        }
+        ps.setDate(offset + 7, Date.valueOf(snapshot.transactionDate()));
+        if (row.memo() != null) {
+            ps.setString(offset + 8, row.memo());
+        } else {
+            ps.setNull(offset + 8, Types.VARCHAR);
+        }
+        ps.setBoolean(offset + 9, row.deleted());
+        ps.setBoolean(offset + 10, row.deleted());
+        ps.setLong(offset + 11, row.sourceVersion());
+    }
+
+    private static String guarded(String column) {
+        return column + " = IF(" + IS_CURRENT + ", VALUES(" + column + "), " + column + ")";
+    }
+
+    /**
+     * 반영할 거래 한 건
+     *
+     * @param deleted       true면 Soft Delete (나머지 컬럼은 기존 값 그대로 기록)
+     * @param sourceVersion 이벤트 버전 (0이면 버전 비교 없이 반영)
+     */
+    public record SyncedRow(TransactionSnapshot snapshot, String description, String memo, boolean deleted,
+                            long sourceVersion) {
+
+        /**
+         * 생성/수정 행
+         */
+        public static SyncedRow upsert(TransactionSnapshot snapshot, String description, String memo,
+                                       long sourceVersion) {
+            return new SyncedRow(snapshot, description, memo, false, sourceVersion);
+        }
+
+        /**
+         * 삭제 행 (삭제되지 않은 기존 거래로부터 생성)
+         */
+        public static SyncedRow delete(Transaction current, long sourceVersion) {
+            return new SyncedRow(TransactionSnapshot.of(current), current.getDescription(), current.getMemo(), true,
+                    sourceVersion);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter.SHADOW_TABLE;
+import static com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter.TABLE;
+
+/**
+ * tbl_transactions 프로젝션 재구성용 JDBC Repository
+ *
+ * <p>Shadow 테이블({@value SyncedTransactionWriter#SHADOW_TABLE})을 만들고, 재구성이 끝나면
+ * {@code RENAME TABLE} 한 문장으로 tbl_transactions와 원자적으로 바꿉니다.
+ * 교체 전 테이블은 {@value #PREVIOUS_TABLE}로 남겨 두었다가 다음 재구성을 시작할 때 삭제합니다.</p>
+ * <p>Shadow 테이블 쓰기(Upsert)는 {@link SyncedTransactionWriter#writeShadow}를 사용합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionProjectionRebuildRepository {
+
+    public static final String PREVIOUS_TABLE = "tbl_transactions_previous";
+
+    private static final String MARK_DELETED_SQL = markDeletedSql(TABLE);
+
+    private static final String SHADOW_MARK_DELETED_SQL = markDeletedSql(SHADOW_TABLE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 빈 Shadow 테이블 생성 (이전 Shadow/교체 전 테이블 삭제)
+     *
+     * <p>{@code CREATE TABLE ... LIKE}는 외래 키를 복사하지 않으므로 tbl_transactions와 같은 외래 키를 다시 추가합니다.</p>
+     */
+    public void createShadow() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + SHADOW_TABLE);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PREVIOUS_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + SHADOW_TABLE + " LIKE " + TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW_TABLE + " "
+                + "ADD FOREIGN KEY (ledger_id) REFERENCES tbl_ledgers(ledger_id) ON DELETE CASCADE, "
+                + "ADD FOREIGN KEY (category_id) REFERENCES tbl_categories(category_id) ON DELETE SET NULL");
+    }
+
+    /**
+     * 현재 tbl_transactions를 Shadow 테이블로 복사 (중간 지점부터 재구성할 때의 기준 상태)
+     *
+     * @param chunkSize transaction_id 구간 크기
+     * @return 복사한 행 수
+     */
+    public long seedShadow(int chunkSize) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(transaction_id) FROM " + TABLE, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        long copied = 0;
+        for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+            copied += jdbcTemplate.update("INSERT INTO " + SHADOW_TABLE + " SELECT * FROM " + TABLE
+                    + " WHERE transaction_id > ? AND transaction_id <= ?", fromId, fromId + chunkSize);
+        }
+        return copied;
+    }
+
+    /**
+     * Shadow 테이블의 거래 Soft Delete (JDBC 배치 한 번, 없는 거래는 무시)
+     */
+    public void markShadowDeleted(List<DeletedRow> rows) {
+        markDeleted(SHADOW_MARK_DELETED_SQL, rows);
+    }
+
+    /**
+     * tbl_transactions의 거래 Soft Delete (교체 후 나머지 이벤트 반영)
+     */
+    public void markDeleted(List<DeletedRow> rows) {
+        markDeleted(MARK_DELETED_SQL, rows);
+    }
+
+    private void markDeleted(String sql, List<DeletedRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.sourceVersion());
+            ps.setLong(2, row.transactionId());
+            ps.setLong(3, row.sourceVersion());
+            ps.setLong(4, row.sourceVersion());
+        });
+    }
+
+    /**
+     * 이벤트 버전이 저장된 버전보다 오래되지 않은 경우에만 Soft Delete
+     */
+    private static String markDeletedSql(String table) {
+        return "UPDATE " + table + " "
+                + "SET deleted_at = COALESCE(deleted_at, NOW()), "
+                + "is_deleted = TRUE, "
+                + "source_version = GREATEST(source_version, ?) "
+                + "WHERE transaction_id = ? AND (? = 0 OR ? >= source_version)";
+    }
+
+    /**
+     * 이벤트로 카테고리를 찾지 못한 거래에 현재 tbl_transactions의 카테고리를 옮김
+     *
+     * @return 갱신한 행 수
+     */
+    public int carryOverCategories() {
+        return jdbcTemplate.update("UPDATE " + SHADOW_TABLE + " s "
+                + "JOIN " + TABLE + " t ON t.transaction_id = s.transaction_id "
+                + "SET s.category_id = t.category_id "
+                + "WHERE s.category_id IS NULL AND t.category_id IS NOT NULL");
+    }
+
+    /**
+     * Shadow 테이블 행 수
+     */
+    public long countShadow() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + SHADOW_TABLE, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * tbl_transactions ↔ Shadow 테이블 원자적 교체
+     */
+    public void swap() {
+        jdbcTemplate.execute("RENAME TABLE " + TABLE + " TO " + PREVIOUS_TABLE + ", "
+                + SHADOW_TABLE + " TO " + TABLE);
+    }
+
+    /**
+     * Shadow 테이블 삭제 (재구성 실패/취소)
+     */
+    public void dropShadow() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + SHADOW_TABLE);
+    }
+
+    /**
+     * 삭제할 거래
+     */
+    public record DeletedRow(long transactionId, long sourceVersion) {
+    }
+}
@@ -2,22 +2,73 @@ package com.hamkkebu.ledgerservice.repository;
 
 import com.hamkkebu.ledgerservice.data.entity.Transaction;
 import com.hamkkebu.ledgerservice.data.enums.TransactionType;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    Page<Transaction> findByLedgerIdAndIsDeletedFalseOrderByTransactionDateDesc(Long ledgerId, Pageable pageable);
+    /**
+     * 거래 목록 첫 페이지 (최신순, COUNT 쿼리 없음)
+     *
+     * <p>idx_ledger_deleted_date_id 인덱스 순서대로 읽고 pageable의 크기만큼만 가져옵니다.</p>
+     */
+    @Query("SELECT t FROM Transaction t " +
+           "WHERE t.ledgerId = :ledgerId AND t.isDeleted = false " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<Transaction> findFirstPageByLedgerId(@Param("ledgerId") Long ledgerId, Pageable pageable);
+
+    /**
+     * 거래 목록 다음 페이지 (커서 위치 이후, COUNT 쿼리 없음)
+     *
+     * <p>OFFSET 없이 (transaction_date, transaction_id) 커서 다음부터 인덱스 범위로 읽으므로
+     * 페이지 깊이와 관계없이 비용이 같습니다.</p>
+     */
+    @Query("SELECT t FROM Transaction t " +
+           "WHERE t.ledgerId = :ledgerId AND t.isDeleted = false " +
+           "AND (t.transactionDate < :transactionDate " +
+           "     OR (t.transactionDate = :transactionDate AND t.transactionId < :transactionId)) " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<Transaction> findPageByLedgerIdAfterCursor(
+            @Param("ledgerId") Long ledgerId,
+            @Param("transactionDate") LocalDate transactionDate,
+            @Param("transactionId") Long transactionId,
+            Pageable pageable);
+
+    /**
+     * 동기화 반영 전 거래 조회 (SELECT ... FOR UPDATE)
+     *
+     * <p>같은 거래를 반영하는 다른 트랜잭션이 있으면 커밋할 때까지 기다린 뒤 커밋된 최신 상태를 읽으므로,
+     * 두 경로가 같은 변경 전 상태로 Read Model 증감을 두 번 계산하지 않습니다.
+     * READ COMMITTED 트랜잭션에서 호출하여 이미 있는 거래 행만 잠그고 없는 거래에는 갭 잠금을 걸지 않습니다.
+     * 새 거래의 동시 생성은 {@link SyncedTransactionWriter#insertAbsent}의 삽입 수로 가려냅니다.
+     * 잠금 순서를 고정하도록 transaction_id 순으로 읽습니다.</p>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.transactionId IN :transactionIds ORDER BY t.transactionId")
+    List<Transaction> findAllByIdForUpdate(@Param("transactionIds") Collection<Long> transactionIds);
+
+    /**
+     * Read Model 재계산 전 가계부들의 거래 행 공유 잠금 (SELECT ... FOR SHARE)
+     *
+     * <p>동기화 반영과 같은 순서(거래 행 → Read Model 행)로 잠그도록 Read Model 행을 지우기 전에 호출합니다.
+     * 인덱스만 읽고 끝나지 않도록 amount를 읽어 클러스터 인덱스 행까지 잠급니다.</p>
+     */
+    @Query(value = "SELECT COALESCE(SUM(t.amount), 0) FROM tbl_transactions t " +
+           "WHERE t.ledger_id IN (:ledgerIds) FOR SHARE",
+           nativeQuery = true)
+    BigDecimal lockByLedgerIdsForShare(@Param("ledgerIds") Collection<Long> ledgerIds);
 
     List<Transaction> findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalse(
             Long ledgerId, LocalDate startDate, LocalDate endDate);
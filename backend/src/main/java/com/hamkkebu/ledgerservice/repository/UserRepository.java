@@ -2,8 +2,12 @@ package com.hamkkebu.ledgerservice.repository;
 
 import com.hamkkebu.boilerplate.common.user.repository.SyncedUserRepository;
 import com.hamkkebu.ledgerservice.data.entity.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Ledger Service User Repository
  *
@@ -13,4 +17,12 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface UserRepository extends SyncedUserRepository<User> {
     java.util.Optional<User> findByEmailAndIsDeletedFalse(String email);
+
+    /**
+     * 삭제되지 않은 사용자 ID를 키셋 방식으로 조회 (알려진 사용자 목록 적재용)
+     */
+    @Query(value = "SELECT u.user_id FROM tbl_users u " +
+            "WHERE u.user_id > :afterUserId AND u.is_deleted = false ORDER BY u.user_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findActiveUserIdsAfter(@Param("afterUserId") long afterUserId, @Param("limit") int limit);
 }
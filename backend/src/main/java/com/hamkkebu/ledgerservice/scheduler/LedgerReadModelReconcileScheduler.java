@@ -0,0 +1,165 @@
+package com.hamkkebu.ledgerservice.scheduler;
+
+import com.hamkkebu.ledgerservice.service.LedgerBalanceService;
+import com.hamkkebu.ledgerservice.service.LedgerMonthlyStatService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 가계부 Read Model 재계산(Reconcile) 스케줄러
+ *
+ * <p>tbl_transactions를 기준으로 tbl_ledger_balances, tbl_ledger_monthly_stats를 주기적으로 다시 계산하여
+ * 이벤트 유실/중복 등으로 생긴 오차를 바로잡습니다.</p>
+ * <p>Read Model이 비어 있는 상태로 기동하면(최초 배포) 즉시 전체 재계산(Backfill)을 수행합니다.</p>
+ * <p>모든 인스턴스에서 같은 시각에 실행되므로 MySQL 이름 잠금(GET_LOCK)을 잡은 인스턴스 하나만 재계산합니다.
+ * 잠금은 전용 커넥션에 묶여 있어 인스턴스가 죽으면 자동으로 풀립니다. 기동 시/정기 재계산은 잠금을 기다리지 않고
+ * 건너뛰며, {@link #reconcileAll()}은 진행 중인 재계산이 끝날 때까지 lock-wait만큼 기다립니다.</p>
+ * <p>재계산 중 들어오는 거래 이벤트와는 행 잠금으로 순서가 정해집니다. 재계산 INSERT ... SELECT는 REPEATABLE READ에서
+ * 거래 행에 공유 잠금을 걸어 진행 중인 반영이 커밋된 뒤의 값을 읽고, 그동안 시작한 반영은 재계산이 커밋된 뒤
+ * 그 결과에 증감을 더합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.read-model.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerReadModelReconcileScheduler {
+
+    /** 인스턴스 간 재계산 잠금 이름 (MySQL GET_LOCK) */
+    public static final String LOCK_NAME = "ledger-service.read-model-reconcile";
+
+    private final LedgerBalanceService ledgerBalanceService;
+    private final LedgerMonthlyStatService ledgerMonthlyStatService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lockWait;
+
+    public LedgerReadModelReconcileScheduler(
+            LedgerBalanceService ledgerBalanceService,
+            LedgerMonthlyStatService ledgerMonthlyStatService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${ledger.read-model.reconcile.lock-wait:10m}") Duration lockWait) {
+        this.ledgerBalanceService = ledgerBalanceService;
+        this.ledgerMonthlyStatService = ledgerMonthlyStatService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lockWait = lockWait;
+    }
+
+    /**
+     * 기동 시 Read Model이 비어 있으면 전체 재계산 (다른 인스턴스가 재계산 중이면 건너뜀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        Optional<Long> rebuilt = runExclusively(Duration.ZERO, () -> {
+            // 잠금을 잡은 뒤 다시 확인 (먼저 기동한 인스턴스가 이미 채웠을 수 있음)
+            if (!ledgerBalanceService.isEmpty() && !ledgerMonthlyStatService.isEmpty()) {
+                return 0L;
+            }
+            log.info("[Reconcile] Ledger read model is empty. Rebuilding from tbl_transactions");
+            return reconcileChunks();
+        });
+        if (rebuilt.isEmpty()) {
+            log.info("[Reconcile] Ledger read model backfill skipped, another instance holds the lock");
+        }
+    }
+
+    /**
+     * 정기 재계산 (기본: 매일 04:00, 다른 인스턴스가 재계산 중이면 건너뜀)
+     */
+    @Scheduled(cron = "${ledger.read-model.reconcile.cron:0 0 4 * * *}")
+    public void scheduledReconcile() {
+        Optional<Long> rebuilt = runExclusively(Duration.ZERO, () -> {
+            log.info("[Reconcile] Scheduled ledger read model reconcile started");
+            return reconcileChunks();
+        });
+        if (rebuilt.isEmpty()) {
+            log.info("[Reconcile] Scheduled reconcile skipped, another instance holds the lock");
+        }
+    }
+
+    /**
+     * 전체 가계부 Read Model 재계산 (다른 인스턴스의 재계산이 끝날 때까지 lock-wait만큼 대기)
+     *
+     * @return 재계산한 가계부 수
+     * @throws IllegalStateException lock-wait 안에 잠금을 얻지 못한 경우
+     */
+    public long reconcileAll() {
+        return runExclusively(lockWait, this::reconcileChunks)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Ledger read model reconcile lock not acquired within " + lockWait));
+    }
+
+    /**
+     * 가계부 ID 순으로 청크를 나누어 청크마다 별도 트랜잭션으로 재계산
+     */
+    private long reconcileChunks() {
+        long startedAt = System.currentTimeMillis();
+        long rebuilt = 0;
+        long lastLedgerId = 0;
+        List<Long> chunk;
+        do {
+            chunk = ledgerBalanceService.findLedgerIdChunk(lastLedgerId);
+            if (!chunk.isEmpty()) {
+                ledgerBalanceService.rebuild(chunk);
+                ledgerMonthlyStatService.rebuild(chunk);
+                rebuilt += chunk.size();
+                lastLedgerId = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == ledgerBalanceService.getRebuildChunkSize());
+
+        log.info("[Reconcile] Ledger read models reconciled: ledgerCount={}, elapsedMs={}",
+                rebuilt, System.currentTimeMillis() - startedAt);
+        return rebuilt;
+    }
+
+    /**
+     * 잠금을 잡은 동안만 작업 실행 (잠금용 커넥션은 작업이 끝날 때까지 유지)
+     *
+     * @return 잠금을 얻지 못했으면 empty
+     */
+    private Optional<Long> runExclusively(Duration wait, Supplier<Long> task) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<Long>>) connection -> {
+            if (!acquireLock(connection, wait)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(task.get());
+            } finally {
+                releaseLock(connection);
+            }
+        });
+    }
+
+    private boolean acquireLock(Connection connection, Duration wait) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.setLong(2, wait.toSeconds());
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            // 커넥션이 닫히면 MySQL이 잠금을 풀어 줌
+            log.warn("[Reconcile] Failed to release reconcile lock: {}", e.getMessage());
+        }
+    }
+}
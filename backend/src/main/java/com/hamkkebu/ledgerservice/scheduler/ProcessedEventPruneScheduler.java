@@ -0,0 +1,52 @@
+package com.hamkkebu.ledgerservice.scheduler;
+
+import com.hamkkebu.ledgerservice.kafka.ProcessedEventStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료 이벤트 정리 스케줄러
+ *
+ * <p>TTL이 지난 tbl_processed_events 기록을 청크 단위로 삭제합니다.
+ * TTL은 Kafka 토픽 보존 기간보다 길어야 재전달된 이벤트를 걸러낼 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.processed-events.prune.enabled", havingValue = "true", matchIfMissing = true)
+public class ProcessedEventPruneScheduler {
+
+    private final ProcessedEventStore processedEventStore;
+    private final int chunkSize;
+
+    public ProcessedEventPruneScheduler(
+            ProcessedEventStore processedEventStore,
+            @Value("${kafka.consumer.processed-events.prune.chunk-size:5000}") int chunkSize) {
+        this.processedEventStore = processedEventStore;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 정기 정리 (기본: 매시 10분)
+     *
+     * <p>청크마다 별도 문장으로 삭제하여 긴 잠금을 피합니다.</p>
+     */
+    @Scheduled(cron = "${kafka.consumer.processed-events.prune.cron:0 10 * * * *}")
+    public void prune() {
+        LocalDateTime threshold = LocalDateTime.now().minus(processedEventStore.getTtl());
+        long pruned = 0;
+        int deleted;
+        do {
+            deleted = processedEventStore.pruneBefore(threshold, chunkSize);
+            pruned += deleted;
+        } while (deleted == chunkSize);
+
+        if (pruned > 0) {
+            log.info("[Kafka Consumer] Processed events pruned: count={}, threshold={}", pruned, threshold);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.hamkkebu.ledgerservice.scheduler;
+
+import com.hamkkebu.ledgerservice.config.KafkaDeadLetterConfig;
+import com.hamkkebu.ledgerservice.kafka.ListenerPauseCoordinator;
+import com.hamkkebu.ledgerservice.kafka.TransactionEventConsumer;
+import com.hamkkebu.ledgerservice.kafka.TransactionEventJournal;
+import com.hamkkebu.ledgerservice.kafka.TransactionEventJournal.Batch;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import com.hamkkebu.ledgerservice.service.TransactionSyncService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 거래 이벤트 적재 저널 반영 스케줄러
+ *
+ * <p>DB 장애 동안 {@link TransactionEventJournal}에 적재된 이벤트를 DB가 복구되면 묶음 단위로 반영합니다.
+ * 묶음마다 한 트랜잭션으로 반영한 뒤 checkpoint를 기록하므로, 그 사이에 종료되어 다시 반영하는 이벤트는
+ * 처리 완료 이벤트 저장소에서 eventId로 걸러집니다.</p>
+ * <p>첫 묶음이 반영되어 DB가 복구된 것을 확인하면 거래 이벤트 리스너를 일시 정지하고 저널이 빌 때까지
+ * 쉬지 않고 반영합니다. Consumer는 저널이 남아 있으면 새 이벤트도 적재하므로, 정지하는 동안 새 이벤트는
+ * 적재하지 않고 Kafka에 남겨 두었다가 저널을 모두 반영한 뒤 리스너를 재시작해 평소처럼 처리합니다.
+ * DB가 아직 복구되지 않았으면 리스너를 멈추지 않고(계속 적재) 다음 주기에 다시 시도합니다.</p>
+ * <p>데이터 오류로 반영할 수 없는 이벤트는 저널을 막지 않도록 복구 토픽으로 넘겨 재시도 토픽/DLT 처리를
+ * 따르게 합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.transaction-events.spill.enabled", havingValue = "true")
+public class TransactionEventJournalDrainScheduler {
+
+    private static final long RECOVERY_SEND_TIMEOUT_SECONDS = 10;
+
+    /** 리스너 일시 정지 사유 ({@link ListenerPauseCoordinator}) */
+    private static final String PAUSE_REASON = "spill-journal-drain";
+
+    private final TransactionEventJournal journal;
+    private final TransactionSyncService transactionSyncService;
+    private final ListenerPauseCoordinator listenerPauseCoordinator;
+    private final KafkaOperations<Object, Object> deadLetterKafkaTemplate;
+    private final String recoveryTopic;
+    private final int batchSize;
+    private final Counter drainedCounter;
+
+    public TransactionEventJournalDrainScheduler(
+            TransactionEventJournal journal,
+            TransactionSyncService transactionSyncService,
+            ListenerPauseCoordinator listenerPauseCoordinator,
+            @Qualifier(KafkaDeadLetterConfig.DEAD_LETTER_KAFKA_TEMPLATE) KafkaOperations<Object, Object> deadLetterKafkaTemplate,
+            @Value("${kafka.topics.transaction-events-recovery:ledger-service.transaction-events}") String recoveryTopic,
+            @Value("${kafka.consumer.transaction-events.spill.drain-batch-size:1000}") int batchSize,
+            MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.transactionSyncService = transactionSyncService;
+        this.listenerPauseCoordinator = listenerPauseCoordinator;
+        this.deadLetterKafkaTemplate = deadLetterKafkaTemplate;
+        this.recoveryTopic = recoveryTopic;
+        this.batchSize = Math.max(1, batchSize);
+        this.drainedCounter = Counter.builder("ledger.kafka.spill.drained")
+                .description("Spilled transaction events applied to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 적재된 이벤트 반영 (기본: 5초 간격)
+     */
+    @Scheduled(fixedDelayString = "${kafka.consumer.transaction-events.spill.drain-interval-ms:5000}")
+    public void drain() {
+        if (!journal.hasPending()) {
+            return;
+        }
+        long drained = 0;
+        boolean listenerPaused = false;
+        try {
+            Batch batch;
+            while (!(batch = journal.read(batchSize)).isEmpty()) {
+                if (!apply(batch.events())) {
+                    log.warn("[Kafka Consumer] Spill journal drain paused, database unavailable: drained={}, "
+                            + "pending={}", drained, journal.pendingEvents());
+                    return;
+                }
+                journal.commit(batch);
+                drained += batch.records();
+                drainedCounter.increment(batch.records());
+                if (!listenerPaused) {
+                    // DB 복구 확인: 저널을 비울 때까지 새 이벤트는 적재하지 않고 Kafka에 남겨 둠
+                    listenerPaused = listenerPauseCoordinator.pause(
+                            TransactionEventConsumer.TRANSACTION_EVENT_LISTENER_ID, PAUSE_REASON);
+                }
+            }
+            log.info("[Kafka Consumer] Spill journal drained: count={}", drained);
+        } finally {
+            if (listenerPaused) {
+                listenerPauseCoordinator.resume(TransactionEventConsumer.TRANSACTION_EVENT_LISTENER_ID, PAUSE_REASON);
+            }
+        }
+    }
+
+    /**
+     * 묶음을 한 트랜잭션으로 반영하고, 실패하면 이벤트별로 다시 반영
+     *
+     * @return DB 장애로 반영하지 못했으면 false
+     */
+    private boolean apply(List<TransactionEvent> events) {
+        try {
+            transactionSyncService.apply(events);
+            return true;
+        } catch (RuntimeException e) {
+            if (TransactionEventJournal.isDatabaseUnavailable(e)) {
+                return false;
+            }
+            log.warn("[Kafka Consumer] Spill journal batch failed, retrying per event: count={}, error={}",
+                    events.size(), e.getMessage());
+        }
+
+        for (TransactionEvent event : events) {
+            try {
+                transactionSyncService.apply(List.of(event));
+            } catch (RuntimeException e) {
+                if (TransactionEventJournal.isDatabaseUnavailable(e)) {
+                    return false;
+                }
+                log.error("[Kafka Consumer] Spilled transaction event failed, forwarding to recovery topic: "
+                        + "eventId={}, transactionId={}, error={}", event.getEventId(), event.getTransactionId(),
+                        e.getMessage(), e);
+                forwardToRecovery(event);
+            }
+        }
+        return true;
+    }
+
+    private void forwardToRecovery(TransactionEvent event) {
+        try {
+            deadLetterKafkaTemplate.send(recoveryTopic, String.valueOf(event.getTransactionId()), event)
+                    .get(RECOVERY_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while forwarding spilled transaction event", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to forward spilled transaction event: eventId="
+                    + event.getEventId(), e);
+        }
+    }
+}
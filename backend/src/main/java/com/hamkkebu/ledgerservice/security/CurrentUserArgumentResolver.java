@@ -3,17 +3,68 @@ package com.hamkkebu.ledgerservice.security;
 import com.hamkkebu.boilerplate.common.user.resolver.AbstractCurrentUserArgumentResolver;
 import com.hamkkebu.ledgerservice.data.entity.User;
 import com.hamkkebu.ledgerservice.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Optional;
 
 /**
  * Ledger Service @CurrentUser 어노테이션 ArgumentResolver
  *
  * <p>AbstractCurrentUserArgumentResolver를 상속받아 공통 로직을 재사용합니다.</p>
+ * <p>{@code ledger.security.current-user.mode=claims}면 userId(Long) 파라미터를 검증된 JWT 클레임에서 바로 꺼내고,
+ * {@link KnownUserRegistry}에 있는 사용자일 때만 DB 조회 없이 반환합니다.
+ * JIT Provisioning 필터가 같은 요청에서 이미 확인한 userId가 있으면 그 값을 그대로 씁니다.
+ * 목록에 없는 사용자이거나 그 밖의 파라미터 타입은 공통 로직으로 처리합니다.</p>
  */
 @Component("ledgerCurrentUserArgumentResolver")
 public class CurrentUserArgumentResolver extends AbstractCurrentUserArgumentResolver<User> {
 
-    public CurrentUserArgumentResolver(UserRepository userRepository) {
+    private static final String MODE_CLAIMS = "claims";
+
+    private final JwtUserClaims jwtUserClaims;
+    private final KnownUserRegistry knownUserRegistry;
+    private final boolean claimsMode;
+
+    public CurrentUserArgumentResolver(UserRepository userRepository,
+                                       JwtUserClaims jwtUserClaims,
+                                       KnownUserRegistry knownUserRegistry,
+                                       @Value("${ledger.security.current-user.mode:database}") String mode) {
         super(userRepository);
+        if (!MODE_CLAIMS.equals(mode) && !"database".equals(mode)) {
+            throw new IllegalArgumentException("Unsupported current user mode: " + mode);
+        }
+        this.jwtUserClaims = jwtUserClaims;
+        this.knownUserRegistry = knownUserRegistry;
+        this.claimsMode = MODE_CLAIMS.equals(mode);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        if (claimsMode && isUserIdParameter(parameter)) {
+            Object verified = webRequest.getAttribute(JwtUserClaims.VERIFIED_USER_ID_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST);
+            if (verified instanceof Long userId) {
+                return userId;
+            }
+            Optional<Long> userId = jwtUserClaims.currentUserId();
+            if (userId.isPresent() && knownUserRegistry.isKnown(userId.get())) {
+                webRequest.setAttribute(JwtUserClaims.VERIFIED_USER_ID_ATTRIBUTE, userId.get(),
+                        RequestAttributes.SCOPE_REQUEST);
+                return userId.get();
+            }
+        }
+        return super.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+    }
+
+    private boolean isUserIdParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return type == Long.class || type == long.class;
     }
 }
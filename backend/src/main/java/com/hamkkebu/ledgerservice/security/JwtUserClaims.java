@@ -0,0 +1,50 @@
+package com.hamkkebu.ledgerservice.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 검증된 JWT의 사용자 클레임
+ *
+ * <p>Resource Server가 서명과 만료를 검증한 뒤 SecurityContext에 넣은 {@link Jwt}에서 userId를 읽습니다.
+ * 클레임 이름은 {@code ledger.security.current-user.user-id-claim}으로 지정합니다.</p>
+ */
+@Component
+public class JwtUserClaims {
+
+    /** 요청 안에서 확인된 userId (JIT Provisioning 필터 → @CurrentUser Resolver) */
+    public static final String VERIFIED_USER_ID_ATTRIBUTE = JwtUserClaims.class.getName() + ".VERIFIED_USER_ID";
+
+    private final String userIdClaim;
+
+    public JwtUserClaims(@Value("${ledger.security.current-user.user-id-claim:user_id}") String userIdClaim) {
+        this.userIdClaim = userIdClaim;
+    }
+
+    /**
+     * 현재 인증된 사용자의 userId (JWT 인증이 아니거나 클레임이 없으면 empty)
+     */
+    public Optional<Long> currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            return Optional.empty();
+        }
+        Object value = jwt.getClaims().get(userIdClaim);
+        if (value instanceof Number number) {
+            return Optional.of(number.longValue());
+        }
+        if (value instanceof String text) {
+            try {
+                return Optional.of(Long.valueOf(text));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+}
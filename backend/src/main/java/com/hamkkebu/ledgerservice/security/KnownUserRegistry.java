@@ -0,0 +1,107 @@
+package com.hamkkebu.ledgerservice.security;
+
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
+import com.hamkkebu.ledgerservice.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알려진(이미 동기화된) 사용자 목록
+ *
+ * <p>tbl_users에 삭제되지 않은 상태로 존재하는 userId를 메모리에 보관하여, 인증된 요청마다
+ * JIT Provisioning과 @CurrentUser 해석을 위해 사용자를 조회하지 않도록 합니다.
+ * 기동 시 userId 순 키셋 조회로 채우고, 목록에 없는 사용자는 {@link UserDirectoryCache}로 한 번 확인한 뒤 추가합니다.</p>
+ * <p>사용자 이벤트를 반영하면 {@code LedgerCacheInvalidator}가 커밋 후 모든 인스턴스에서 해당 사용자를 제거하므로,
+ * 삭제된 사용자는 다음 요청에서 다시 확인됩니다.</p>
+ * <p>{@code ledger.security.known-users.enabled=false}면 목록을 쓰지 않고 매 요청 기존 방식으로 처리합니다.</p>
+ */
+@Slf4j
+@Component
+public class KnownUserRegistry {
+
+    private final UserRepository userRepository;
+    private final UserDirectoryCache userDirectoryCache;
+    private final boolean enabled;
+    private final int warmUpChunkSize;
+    private final Set<Long> knownUserIds = ConcurrentHashMap.newKeySet();
+
+    public KnownUserRegistry(
+            UserRepository userRepository,
+            UserDirectoryCache userDirectoryCache,
+            @Value("${ledger.security.known-users.enabled:true}") boolean enabled,
+            @Value("${ledger.security.known-users.warm-up-chunk-size:10000}") int warmUpChunkSize,
+            MeterRegistry meterRegistry) {
+        if (warmUpChunkSize <= 0) {
+            throw new IllegalArgumentException("Known user warm-up chunk size must be positive");
+        }
+        this.userRepository = userRepository;
+        this.userDirectoryCache = userDirectoryCache;
+        this.enabled = enabled;
+        this.warmUpChunkSize = warmUpChunkSize;
+        Gauge.builder("ledger.security.known-users", knownUserIds, Set::size)
+                .description("Users known to exist locally (skip JIT provisioning lookups)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 삭제되지 않은 사용자 ID 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long lastUserId = 0;
+        List<Long> chunk;
+        do {
+            chunk = userRepository.findActiveUserIdsAfter(lastUserId, warmUpChunkSize);
+            if (!chunk.isEmpty()) {
+                knownUserIds.addAll(chunk);
+                lastUserId = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == warmUpChunkSize);
+        log.info("[Security] Known users loaded: count={}, elapsedMs={}",
+                knownUserIds.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 목록에 있는 사용자인지 (조회 없음)
+     */
+    public boolean isKnown(Long userId) {
+        return enabled && userId != null && knownUserIds.contains(userId);
+    }
+
+    /**
+     * 동기화된 사용자인지 확인 (목록에 없으면 조회 후 존재하면 목록에 추가)
+     */
+    public boolean isProvisioned(Long userId) {
+        if (!enabled || userId == null) {
+            return false;
+        }
+        if (knownUserIds.contains(userId)) {
+            return true;
+        }
+        if (!userDirectoryCache.exists(userId)) {
+            return false;
+        }
+        knownUserIds.add(userId);
+        return true;
+    }
+
+    /**
+     * 목록에서 제거 (사용자 생성/수정/삭제 반영 후)
+     */
+    public void forget(Long userId) {
+        knownUserIds.remove(userId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.hamkkebu.ledgerservice.security;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+
+/**
+ * 사용자의 가계부 접근 권한
+ *
+ * <p>소유 여부, 멤버 역할, 공유 권한을 함께 보관하며, 이를 종합한 유효 역할({@link #effectiveRole()})을 제공합니다.</p>
+ * <p>공유 권한은 ADMIN → ADMIN, READ_WRITE → MEMBER, READ_ONLY → VIEWER 역할로 취급합니다.</p>
+ *
+ * @param ledgerId        가계부 ID
+ * @param userId          사용자 ID
+ * @param ledgerExists    가계부 존재 여부 (삭제된 가계부는 false)
+ * @param ownerId         가계부 소유자 ID (가계부가 없으면 null)
+ * @param memberRole      멤버 역할 (멤버가 아니면 null)
+ * @param sharePermission 공유 권한 (ACCEPTED 공유가 없으면 null)
+ */
+public record LedgerAccess(
+        Long ledgerId,
+        Long userId,
+        boolean ledgerExists,
+        Long ownerId,
+        MemberRole memberRole,
+        SharePermission sharePermission
+) {
+
+    /**
+     * 존재하지 않는(또는 삭제된) 가계부
+     */
+    public static LedgerAccess notFound(Long ledgerId, Long userId) {
+        return new LedgerAccess(ledgerId, userId, false, null, null, null);
+    }
+
+    public boolean isOwner() {
+        return ledgerExists && userId.equals(ownerId);
+    }
+
+    /**
+     * 소유자이거나 멤버인지 (공유만 받은 경우 제외)
+     */
+    public boolean isOwnerOrMember() {
+        return isOwner() || memberRole != null;
+    }
+
+    /**
+     * 소유자이거나 OWNER/ADMIN 역할의 멤버인지
+     */
+    public boolean isOwnerOrMemberAdmin() {
+        return isOwner() || memberRole == MemberRole.OWNER || memberRole == MemberRole.ADMIN;
+    }
+
+    /**
+     * 조회 가능 여부 (소유자, 멤버, 공유 수락 사용자)
+     */
+    public boolean canRead() {
+        return effectiveRole() != null;
+    }
+
+    /**
+     * 소유/멤버/공유를 종합한 가장 높은 역할 (접근 권한이 없으면 null)
+     */
+    public MemberRole effectiveRole() {
+        if (!ledgerExists) {
+            return null;
+        }
+        if (isOwner()) {
+            return MemberRole.OWNER;
+        }
+        MemberRole shareRole = sharePermission == null ? null : switch (sharePermission) {
+            case ADMIN -> MemberRole.ADMIN;
+            case READ_WRITE -> MemberRole.MEMBER;
+            case READ_ONLY -> MemberRole.VIEWER;
+        };
+        return rank(memberRole) >= rank(shareRole) ? memberRole : shareRole;
+    }
+
+    private static int rank(MemberRole role) {
+        if (role == null) {
+            return 0;
+        }
+        return switch (role) {
+            case OWNER -> 4;
+            case ADMIN -> 3;
+            case MEMBER -> 2;
+            case VIEWER -> 1;
+        };
+    }
+}
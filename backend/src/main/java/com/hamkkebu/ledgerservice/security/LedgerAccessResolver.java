@@ -0,0 +1,132 @@
+package com.hamkkebu.ledgerservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.ledgerservice.repository.LedgerAccessRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerAccessRepository.LedgerAccessRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가계부 접근 권한 Resolver
+ *
+ * <p>(userId, ledgerId)의 접근 권한을 tbl_ledgers/tbl_ledger_members/tbl_ledger_shares
+ * 단일 쿼리로 조회하고, 크기와 TTL이 제한된 로컬 캐시에 보관합니다.</p>
+ * <p>멤버/공유 변경과 가계부 삭제 시 {@code LedgerCacheInvalidator}를 통해 커밋 후 무효화되며,
+ * 다른 인스턴스의 캐시는 무효화 브로드캐스트 또는 TTL 만료로 갱신됩니다.</p>
+ */
+@Slf4j
+@Component
+public class LedgerAccessResolver {
+
+    private final LedgerAccessRepository ledgerAccessRepository;
+    private final Cache<AccessKey, LedgerAccess> cache;
+
+    public LedgerAccessResolver(
+            LedgerAccessRepository ledgerAccessRepository,
+            @Value("${ledger.access-cache.maximum-size:50000}") long maximumSize,
+            @Value("${ledger.access-cache.ttl:60s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.ledgerAccessRepository = ledgerAccessRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ledger.access");
+    }
+
+    /**
+     * 사용자의 가계부 접근 권한 조회
+     */
+    public LedgerAccess resolve(Long userId, Long ledgerId) {
+        return cache.get(new AccessKey(ledgerId, userId), key -> load(key.ledgerId(), key.userId()));
+    }
+
+    /**
+     * 사용자의 여러 가계부 접근 권한 조회 (캐시에 없는 가계부만 쿼리 한 번으로 조회)
+     *
+     * @return 요청한 순서의 가계부 ID별 접근 권한 (없는 가계부는 {@link LedgerAccess#notFound})
+     */
+    public Map<Long, LedgerAccess> resolveAll(Long userId, Collection<Long> ledgerIds) {
+        List<AccessKey> keys = ledgerIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(ledgerId -> new AccessKey(ledgerId, userId))
+                .toList();
+        Map<AccessKey, LedgerAccess> accesses = cache.getAll(keys, this::loadAll);
+        Map<Long, LedgerAccess> result = new LinkedHashMap<>();
+        for (AccessKey key : keys) {
+            result.put(key.ledgerId(), accesses.get(key));
+        }
+        return result;
+    }
+
+    /**
+     * 특정 사용자의 가계부 접근 권한 캐시 제거
+     */
+    public void evict(Long ledgerId, Long userId) {
+        cache.invalidate(new AccessKey(ledgerId, userId));
+    }
+
+    /**
+     * 가계부의 모든 사용자 접근 권한 캐시 제거
+     */
+    public void evictLedger(Long ledgerId) {
+        cache.asMap().keySet().removeIf(key -> key.ledgerId().equals(ledgerId));
+    }
+
+    private LedgerAccess load(Long ledgerId, Long userId) {
+        LedgerAccess access = ledgerAccessRepository.findAccess(ledgerId, userId)
+                .map(row -> toAccess(row, userId))
+                .orElseGet(() -> LedgerAccess.notFound(ledgerId, userId));
+        log.debug("Ledger access resolved: ledgerId={}, userId={}, effectiveRole={}",
+                ledgerId, userId, access.effectiveRole());
+        return access;
+    }
+
+    /**
+     * 같은 사용자의 여러 가계부 접근 권한 조회 ({@link #resolveAll}에서만 호출)
+     */
+    private Map<AccessKey, LedgerAccess> loadAll(Set<? extends AccessKey> keys) {
+        Long userId = keys.iterator().next().userId();
+        List<Long> ledgerIds = keys.stream().map(AccessKey::ledgerId).toList();
+        Map<Long, LedgerAccessRow> rows = ledgerAccessRepository.findAccessAll(ledgerIds, userId).stream()
+                .collect(Collectors.toMap(LedgerAccessRow::getLedgerId, Function.identity()));
+        Map<AccessKey, LedgerAccess> accesses = new LinkedHashMap<>();
+        for (AccessKey key : keys) {
+            LedgerAccessRow row = rows.get(key.ledgerId());
+            accesses.put(key, row != null ? toAccess(row, userId) : LedgerAccess.notFound(key.ledgerId(), userId));
+        }
+        log.debug("Ledger access resolved: userId={}, ledgerIds={}", userId, ledgerIds);
+        return accesses;
+    }
+
+    private LedgerAccess toAccess(LedgerAccessRow row, Long userId) {
+        return new LedgerAccess(
+                row.getLedgerId(),
+                userId,
+                true,
+                row.getOwnerId(),
+                row.getMemberRole() != null ? MemberRole.valueOf(row.getMemberRole()) : null,
+                row.getSharePermission() != null ? SharePermission.valueOf(row.getSharePermission()) : null);
+    }
+
+    private record AccessKey(Long ledgerId, Long userId) {
+    }
+}
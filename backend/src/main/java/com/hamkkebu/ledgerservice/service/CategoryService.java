@@ -3,6 +3,7 @@ package com.hamkkebu.ledgerservice.service;
 import com.hamkkebu.boilerplate.common.constant.CommonConstants;
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
 import com.hamkkebu.ledgerservice.data.dto.CategoryRequest;
 import com.hamkkebu.ledgerservice.data.dto.CategoryResponse;
 import com.hamkkebu.ledgerservice.data.entity.Category;
@@ -23,6 +24,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final LedgerRepository ledgerRepository;
+    private final LedgerCacheInvalidator ledgerCacheInvalidator;
 
     /**
      * 가계부별 카테고리 목록 조회
@@ -98,6 +100,7 @@ public class CategoryService {
                 .build();
 
         Category saved = categoryRepository.save(category);
+        ledgerCacheInvalidator.invalidateCategories(ledgerId);
         log.info("Category created: categoryId={}", saved.getCategoryId());
 
         return CategoryResponse.from(saved);
@@ -114,6 +117,7 @@ public class CategoryService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
 
         category.update(request.getName(), request.getIcon(), request.getColor());
+        ledgerCacheInvalidator.invalidateCategories(ledgerId);
 
         log.debug("Category updated: categoryId={}", categoryId);
         return CategoryResponse.from(category);
@@ -135,6 +139,7 @@ public class CategoryService {
                 .forEach(Category::delete);
 
         category.delete();
+        ledgerCacheInvalidator.invalidateCategories(ledgerId);
         log.debug("Category deleted: categoryId={}", categoryId);
     }
 
@@ -167,6 +172,7 @@ public class CategoryService {
                     .build());
         }
 
+        ledgerCacheInvalidator.invalidateCategories(ledgerId);
         log.debug("Default categories created for ledger: {}", ledgerId);
     }
 }
@@ -0,0 +1,123 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.ledgerservice.data.entity.LedgerBalance;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.repository.LedgerBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 가계부 잔액 Read Model Service
+ *
+ * <p>거래 이벤트 적용 시 tbl_ledger_balances를 증분 갱신하고,
+ * 조회 시에는 PK 단건 조회로 수입/지출/거래 건수를 제공합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerBalanceService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final LedgerBalanceRepository ledgerBalanceRepository;
+
+    /**
+     * 가계부 잔액 조회 (집계 행이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public LedgerBalance getBalance(Long ledgerId) {
+        return ledgerBalanceRepository.findById(ledgerId)
+                .orElseGet(() -> LedgerBalance.empty(ledgerId));
+    }
+
+    /**
+     * 여러 가계부의 잔액 일괄 조회 (집계 행이 있는 가계부만 반환)
+     */
+    @Transactional(readOnly = true)
+    public List<LedgerBalance> getBalances(Collection<Long> ledgerIds) {
+        return ledgerBalanceRepository.findAllById(ledgerIds);
+    }
+
+    /**
+     * 거래 변경분을 잔액에 반영
+     *
+     * <p>거래 동기화와 같은 DB 트랜잭션 안에서 호출되어야 합니다.</p>
+     *
+     * @param before       변경 전 스냅샷 (신규 또는 삭제 상태였으면 null)
+     * @param after        변경 후 스냅샷 (삭제되었으면 null)
+     * @param eventVersion 이벤트 버전 (이벤트 발생 시각, epoch millis)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(TransactionSnapshot before, TransactionSnapshot after, long eventVersion) {
+        if (before != null && after != null && Objects.equals(before.ledgerId(), after.ledgerId())) {
+            applyDelta(after.ledgerId(),
+                    after.incomeAmount().subtract(before.incomeAmount()),
+                    after.expenseAmount().subtract(before.expenseAmount()),
+                    0L, eventVersion);
+            return;
+        }
+        if (before != null) {
+            applyDelta(before.ledgerId(),
+                    before.incomeAmount().negate(), before.expenseAmount().negate(), -1L, eventVersion);
+        }
+        if (after != null) {
+            applyDelta(after.ledgerId(),
+                    after.incomeAmount(), after.expenseAmount(), 1L, eventVersion);
+        }
+    }
+
+    /**
+     * 지정한 가계부들의 잔액을 tbl_transactions 기준으로 재계산
+     *
+     * <p>REPEATABLE READ의 INSERT ... SELECT는 읽는 거래 행에 공유 잠금을 걸므로 동기화 반영과 같은 순서
+     * (거래 행 → 잔액 행)로 잠급니다. 진행 중인 반영은 커밋된 뒤의 거래로 재계산되고, 이후 반영은 재계산이
+     * 커밋된 뒤 증감을 더합니다.</p>
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int rebuild(List<Long> ledgerIds) {
+        if (ledgerIds.isEmpty()) {
+            return 0;
+        }
+        int updated = ledgerBalanceRepository.rebuildByLedgerIds(ledgerIds);
+        log.debug("Ledger balances rebuilt: ledgerIds={}~{}, affectedRows={}",
+                ledgerIds.get(0), ledgerIds.get(ledgerIds.size() - 1), updated);
+        return updated;
+    }
+
+    /**
+     * 재계산 대상 가계부 ID 청크 조회 (가계부 ID 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findLedgerIdChunk(long afterLedgerId) {
+        return ledgerBalanceRepository.findLedgerIdsAfter(afterLedgerId, REBUILD_CHUNK_SIZE);
+    }
+
+    public int getRebuildChunkSize() {
+        return REBUILD_CHUNK_SIZE;
+    }
+
+    /**
+     * 잔액 Read Model이 비어 있는지 확인
+     */
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return ledgerBalanceRepository.count() == 0;
+    }
+
+    private void applyDelta(Long ledgerId, BigDecimal incomeDelta, BigDecimal expenseDelta,
+                            long countDelta, long eventVersion) {
+        if (incomeDelta.signum() == 0 && expenseDelta.signum() == 0 && countDelta == 0) {
+            return;
+        }
+        ledgerBalanceRepository.applyDelta(ledgerId, incomeDelta, expenseDelta, countDelta, eventVersion);
+    }
+}
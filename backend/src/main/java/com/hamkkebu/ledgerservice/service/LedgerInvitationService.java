@@ -6,6 +6,8 @@ import com.hamkkebu.boilerplate.common.enums.ShareStatus;
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
 import com.hamkkebu.boilerplate.common.publisher.OutboxEventPublisher;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
 import com.hamkkebu.ledgerservice.data.dto.InvitationRequest;
 import com.hamkkebu.ledgerservice.data.dto.InvitationResponse;
 import com.hamkkebu.ledgerservice.data.entity.Ledger;
@@ -20,7 +22,8 @@ import com.hamkkebu.ledgerservice.repository.LedgerInvitationRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerMemberRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerShareRepository;
-import com.hamkkebu.ledgerservice.repository.UserRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccess;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -43,11 +46,13 @@ public class LedgerInvitationService {
     private final LedgerInvitationRepository ledgerInvitationRepository;
     private final LedgerRepository ledgerRepository;
     private final LedgerMemberRepository ledgerMemberRepository;
-    private final UserRepository userRepository;
+    private final UserDirectoryCache userDirectoryCache;
     private final LedgerMemberEventProducer ledgerMemberEventProducer;
     private final LedgerShareRepository ledgerShareRepository;
     private final LedgerShareEventProducer ledgerShareEventProducer;
     private final OutboxEventPublisher outboxEventPublisher;
+    private final LedgerCacheInvalidator ledgerCacheInvalidator;
+    private final LedgerAccessResolver ledgerAccessResolver;
 
     /**
      * 초대 생성
@@ -68,16 +73,12 @@ public class LedgerInvitationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.LEDGER_NOT_FOUND));
 
         // 소유자 또는 ADMIN 멤버인지 확인
-        boolean isOwner = ledger.getUserId().equals(userId);
-        boolean isAdmin = ledgerMemberRepository.findByLedgerIdAndAccountIdAndIsDeletedFalse(ledgerId, userId)
-                .map(member -> member.getRole() == MemberRole.ADMIN || member.getRole() == MemberRole.OWNER)
-                .orElse(false);
-        if (!isOwner && !isAdmin) {
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).isOwnerOrMemberAdmin()) {
             throw new BusinessException(ErrorCode.LEDGER_ACCESS_DENIED);
         }
 
         // 초대 대상 사용자 조회 (존재해야 함)
-        User invitee = userRepository.findByEmailAndIsDeletedFalse(request.getInviteeEmail())
+        User invitee = userDirectoryCache.findByEmail(request.getInviteeEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 초대 대상이 이미 멤버인지 확인
@@ -142,7 +143,7 @@ public class LedgerInvitationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVITATION_NOT_FOUND));
 
         // 초대 대상자 확인
-        User user = userRepository.findByUserIdAndIsDeletedFalse(userId)
+        User user = userDirectoryCache.findByUserId(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         if (!invitation.getInviteeEmail().equals(user.getEmail())) {
@@ -221,6 +222,9 @@ public class LedgerInvitationService {
         // 초대자에게 수락 알림 발행
         publishInvitationNotification(savedInvitation, ledger, "INVITATION_ACCEPTED");
 
+        ledgerCacheInvalidator.invalidateSummary(userId);
+        ledgerCacheInvalidator.invalidateAccess(invitation.getLedgerId(), userId);
+
         return InvitationResponse.from(savedInvitation);
     }
 
@@ -241,7 +245,7 @@ public class LedgerInvitationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVITATION_NOT_FOUND));
 
         // 초대 대상자 확인
-        User user = userRepository.findByUserIdAndIsDeletedFalse(userId)
+        User user = userDirectoryCache.findByUserId(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         if (!invitation.getInviteeEmail().equals(user.getEmail())) {
@@ -280,7 +284,7 @@ public class LedgerInvitationService {
     public List<InvitationResponse> getReceivedInvitations(Long userId) {
         log.debug("Getting received invitations for user: {}", userId);
 
-        User user = userRepository.findByUserIdAndIsDeletedFalse(userId)
+        User user = userDirectoryCache.findByUserId(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         List<LedgerInvitation> invitations = ledgerInvitationRepository
@@ -308,16 +312,12 @@ public class LedgerInvitationService {
     public List<InvitationResponse> getSentInvitations(Long userId, Long ledgerId) {
         log.debug("Getting sent invitations for user: userId={}, ledgerId={}", userId, ledgerId);
 
-        // 가계부 존재 확인
-        Ledger ledger = ledgerRepository.findByLedgerIdAndIsDeletedFalse(ledgerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.LEDGER_NOT_FOUND));
-
-        // 소유자 또는 ADMIN 멤버인지 확인
-        boolean isOwner = ledger.getUserId().equals(userId);
-        boolean isAdmin = ledgerMemberRepository.findByLedgerIdAndAccountIdAndIsDeletedFalse(ledgerId, userId)
-                .map(member -> member.getRole() == MemberRole.ADMIN || member.getRole() == MemberRole.OWNER)
-                .orElse(false);
-        if (!isOwner && !isAdmin) {
+        // 가계부 존재 확인, 소유자 또는 ADMIN 멤버인지 확인
+        LedgerAccess access = ledgerAccessResolver.resolve(userId, ledgerId);
+        if (!access.ledgerExists()) {
+            throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
+        }
+        if (!access.isOwnerOrMemberAdmin()) {
             throw new BusinessException(ErrorCode.LEDGER_ACCESS_DENIED);
         }
 
@@ -405,7 +405,7 @@ public class LedgerInvitationService {
         // recipientId 결정: CREATED → invitee, ACCEPTED/REJECTED → inviter
         Long recipientId;
         if ("INVITATION_CREATED".equals(eventType)) {
-            recipientId = userRepository.findByEmailAndIsDeletedFalse(invitation.getInviteeEmail())
+            recipientId = userDirectoryCache.findByEmail(invitation.getInviteeEmail())
                     .map(User::getUserId)
                     .orElse(null);
         } else {
@@ -413,7 +413,7 @@ public class LedgerInvitationService {
         }
 
         // inviterName 조회
-        String inviterName = userRepository.findByUserIdAndIsDeletedFalse(invitation.getInviterId())
+        String inviterName = userDirectoryCache.findByUserId(invitation.getInviterId())
                 .map(User::getUsername)
                 .orElse(null);
 
@@ -4,15 +4,15 @@ import com.hamkkebu.boilerplate.common.enums.MemberRole;
 
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
 import com.hamkkebu.ledgerservice.data.dto.MemberResponse;
-import com.hamkkebu.ledgerservice.data.entity.Ledger;
 import com.hamkkebu.ledgerservice.data.entity.LedgerMember;
 import com.hamkkebu.ledgerservice.data.entity.LedgerShare;
 import com.hamkkebu.ledgerservice.kafka.producer.LedgerMemberEventProducer;
 import com.hamkkebu.ledgerservice.kafka.producer.LedgerShareEventProducer;
 import com.hamkkebu.ledgerservice.repository.LedgerMemberRepository;
-import com.hamkkebu.ledgerservice.repository.LedgerRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerShareRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -31,10 +31,11 @@ import java.util.List;
 public class LedgerMemberService {
 
     private final LedgerMemberRepository ledgerMemberRepository;
-    private final LedgerRepository ledgerRepository;
     private final LedgerShareRepository ledgerShareRepository;
     private final LedgerMemberEventProducer ledgerMemberEventProducer;
     private final LedgerShareEventProducer ledgerShareEventProducer;
+    private final LedgerCacheInvalidator ledgerCacheInvalidator;
+    private final LedgerAccessResolver ledgerAccessResolver;
 
     /**
      * 멤버 목록 조회
@@ -110,6 +111,8 @@ public class LedgerMemberService {
 
         // 역할 변경 이벤트 발행
         ledgerMemberEventProducer.publishLedgerMemberRoleChanged(savedMember);
+
+        ledgerCacheInvalidator.invalidateAccess(ledgerId, member.getAccountId());
     }
 
     /**
@@ -159,6 +162,9 @@ public class LedgerMemberService {
 
         // 멤버 제거 이벤트 발행
         ledgerMemberEventProducer.publishLedgerMemberRemoved(deletedMember);
+
+        ledgerCacheInvalidator.invalidateSummary(member.getAccountId());
+        ledgerCacheInvalidator.invalidateAccess(ledgerId, member.getAccountId());
     }
 
     /**
@@ -200,6 +206,9 @@ public class LedgerMemberService {
 
         // 멤버 제거 이벤트 발행
         ledgerMemberEventProducer.publishLedgerMemberRemoved(deletedMember);
+
+        ledgerCacheInvalidator.invalidateSummary(userId);
+        ledgerCacheInvalidator.invalidateAccess(ledgerId, userId);
     }
 
     /**
@@ -208,21 +217,9 @@ public class LedgerMemberService {
      * <p>사용자가 가계부의 멤버인지 확인합니다.</p>
      */
     protected void validateMemberAccess(Long userId, Long ledgerId) {
-        // 소유자인 경우
-        boolean isOwner = ledgerRepository.findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)
-                .isPresent();
-        if (isOwner) {
-            return;
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).isOwnerOrMember()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
         }
-
-        // 멤버인 경우
-        boolean isMember = ledgerMemberRepository.existsByLedgerIdAndAccountIdAndIsDeletedFalse(
-                ledgerId, userId);
-        if (isMember) {
-            return;
-        }
-
-        throw new BusinessException(ErrorCode.FORBIDDEN);
     }
 
     /**
@@ -231,7 +228,8 @@ public class LedgerMemberService {
      * <p>사용자가 가계부의 소유자인지 확인합니다.</p>
      */
     protected void validateOwnerAccess(Long userId, Long ledgerId) {
-        var unused = ledgerRepository.findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN));
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).isOwner()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
     }
 }
@@ -0,0 +1,260 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.boilerplate.common.util.BigDecimalUtils;
+import com.hamkkebu.ledgerservice.data.dto.CategoryStatResponse;
+import com.hamkkebu.ledgerservice.data.dto.MonthlyStatResponse;
+import com.hamkkebu.ledgerservice.data.dto.PeriodStatResponse;
+import com.hamkkebu.ledgerservice.data.entity.LedgerMonthlyStat;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.repository.LedgerMonthlyStatRepository;
+import com.hamkkebu.ledgerservice.repository.TransactionRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 가계부 월별 통계 Rollup Service
+ *
+ * <p>거래 이벤트 적용 시 tbl_ledger_monthly_stats를 (가계부, 연월, 카테고리, 유형) 단위로 증분 갱신하고,
+ * 월별 통계와 기간별 합계를 Rollup 기준으로 제공합니다.</p>
+ * <p>기간별 합계는 완전히 포함되는 달은 Rollup에서, 시작/종료 달의 일부 구간만 tbl_transactions에서 조회합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerMonthlyStatService {
+
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int MAX_MONTHS = 60;
+
+    private final LedgerMonthlyStatRepository ledgerMonthlyStatRepository;
+    private final TransactionRepository transactionRepository;
+    private final LedgerAccessResolver ledgerAccessResolver;
+
+    /**
+     * 월별 통계 조회
+     *
+     * <p>from/to를 생략하면 이번 달을 포함한 최근 12개월을 조회합니다. 거래가 없는 달은 0으로 채웁니다.</p>
+     *
+     * @param from 시작 연월 (yyyy-MM, 포함)
+     * @param to   종료 연월 (yyyy-MM, 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyStatResponse> getMonthlyStats(Long userId, Long ledgerId, String from, String to) {
+        log.debug("Getting monthly stats: userId={}, ledgerId={}, from={}, to={}", userId, ledgerId, from, to);
+        validateReadAccess(userId, ledgerId);
+
+        YearMonth toMonth = to != null ? parseYearMonth(to) : YearMonth.now();
+        YearMonth fromMonth = from != null ? parseYearMonth(from) : toMonth.minusMonths(DEFAULT_MONTHS - 1);
+        if (fromMonth.isAfter(toMonth)) {
+            throw new IllegalArgumentException("from must not be after to: from=" + from + ", to=" + to);
+        }
+        if (fromMonth.plusMonths(MAX_MONTHS).isBefore(toMonth.plusMonths(1))) {
+            throw new IllegalArgumentException("Month range must not exceed " + MAX_MONTHS + " months");
+        }
+
+        Map<String, List<LedgerMonthlyStat>> statsByMonth = ledgerMonthlyStatRepository
+                .findByLedgerIdAndYearMonthBetweenOrderByYearMonthAsc(ledgerId, fromMonth.toString(), toMonth.toString())
+                .stream()
+                .collect(Collectors.groupingBy(LedgerMonthlyStat::getYearMonth));
+
+        List<MonthlyStatResponse> result = new ArrayList<>();
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            result.add(toMonthlyResponse(month.toString(), statsByMonth.getOrDefault(month.toString(), List.of())));
+        }
+        return result;
+    }
+
+    /**
+     * 기간별 수입/지출 합계 조회
+     *
+     * <p>시작/종료 달이 일부만 포함되면 그 구간만 tbl_transactions에서 합산합니다 (최대 2개 구간).</p>
+     */
+    @Transactional(readOnly = true)
+    public PeriodStatResponse getPeriodStats(Long userId, Long ledgerId, LocalDate startDate, LocalDate endDate) {
+        log.debug("Getting period stats: userId={}, ledgerId={}, startDate={}, endDate={}",
+                userId, ledgerId, startDate, endDate);
+        validateReadAccess(userId, ledgerId);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate: startDate="
+                    + startDate + ", endDate=" + endDate);
+        }
+
+        BigDecimal totalIncome = sumAmountByDateRange(ledgerId, TransactionType.INCOME, startDate, endDate);
+        BigDecimal totalExpense = sumAmountByDateRange(ledgerId, TransactionType.EXPENSE, startDate, endDate);
+
+        return PeriodStatResponse.builder()
+                .ledgerId(ledgerId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalIncome(totalIncome)
+                .totalExpense(totalExpense)
+                .balance(totalIncome.subtract(totalExpense))
+                .build();
+    }
+
+    /**
+     * 기간 내 유형별 합계 (Rollup + 시작/종료 달 일부 구간 조회)
+     */
+    BigDecimal sumAmountByDateRange(Long ledgerId, TransactionType type, LocalDate startDate, LocalDate endDate) {
+        YearMonth startMonth = YearMonth.from(startDate);
+        YearMonth endMonth = YearMonth.from(endDate);
+
+        // 같은 달 안의 기간은 원본에서 바로 합산
+        if (startMonth.equals(endMonth) && !(startDate.getDayOfMonth() == 1 && endDate.equals(endMonth.atEndOfMonth()))) {
+            return BigDecimalUtils.nullToZero(transactionRepository
+                    .sumAmountByLedgerIdAndTypeAndDateBetween(ledgerId, type, startDate, endDate));
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        YearMonth fullFrom = startMonth;
+        YearMonth fullTo = endMonth;
+
+        if (startDate.getDayOfMonth() != 1) {
+            total = total.add(BigDecimalUtils.nullToZero(transactionRepository
+                    .sumAmountByLedgerIdAndTypeAndDateBetween(ledgerId, type, startDate, startMonth.atEndOfMonth())));
+            fullFrom = startMonth.plusMonths(1);
+        }
+        if (!endDate.equals(endMonth.atEndOfMonth())) {
+            total = total.add(BigDecimalUtils.nullToZero(transactionRepository
+                    .sumAmountByLedgerIdAndTypeAndDateBetween(ledgerId, type, endMonth.atDay(1), endDate)));
+            fullTo = endMonth.minusMonths(1);
+        }
+        if (!fullFrom.isAfter(fullTo)) {
+            total = total.add(BigDecimalUtils.nullToZero(ledgerMonthlyStatRepository
+                    .sumAmountByLedgerIdAndTypeAndYearMonthBetween(
+                            ledgerId, type.name(), fullFrom.toString(), fullTo.toString())));
+        }
+        return total;
+    }
+
+    /**
+     * 거래 변경분을 월별 통계에 반영
+     *
+     * <p>거래 동기화와 같은 DB 트랜잭션 안에서 호출되어야 합니다.</p>
+     *
+     * @param before 변경 전 스냅샷 (신규 또는 삭제 상태였으면 null)
+     * @param after  변경 후 스냅샷 (삭제되었으면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(TransactionSnapshot before, TransactionSnapshot after) {
+        if (before != null && after != null && isSameBucket(before, after)) {
+            applyDelta(after, after.amount().subtract(before.amount()), 0L);
+            return;
+        }
+        if (before != null) {
+            applyDelta(before, before.amount().negate(), -1L);
+        }
+        if (after != null) {
+            applyDelta(after, after.amount(), 1L);
+        }
+    }
+
+    /**
+     * 지정한 가계부들의 월별 통계를 tbl_transactions 기준으로 재생성
+     *
+     * <p>거래 행을 먼저 공유 잠금하여 동기화 반영(거래 행 → 월별 통계 순으로 잠금)과 잠금 순서를 맞춥니다.
+     * 진행 중인 반영은 커밋된 뒤의 거래로 재생성되고, 이후 반영은 재생성이 커밋된 뒤 증감을 더합니다.</p>
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int rebuild(List<Long> ledgerIds) {
+        if (ledgerIds.isEmpty()) {
+            return 0;
+        }
+        transactionRepository.lockByLedgerIdsForShare(ledgerIds);
+        ledgerMonthlyStatRepository.deleteByLedgerIds(ledgerIds);
+        int inserted = ledgerMonthlyStatRepository.insertFromTransactions(ledgerIds);
+        log.debug("Ledger monthly stats rebuilt: ledgerIds={}~{}, insertedRows={}",
+                ledgerIds.get(0), ledgerIds.get(ledgerIds.size() - 1), inserted);
+        return inserted;
+    }
+
+    /**
+     * 월별 통계 Rollup이 비어 있는지 확인
+     */
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return ledgerMonthlyStatRepository.count() == 0;
+    }
+
+    private MonthlyStatResponse toMonthlyResponse(String yearMonth, List<LedgerMonthlyStat> stats) {
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        long transactionCount = 0;
+        for (LedgerMonthlyStat stat : stats) {
+            if (stat.getType() == TransactionType.INCOME) {
+                totalIncome = totalIncome.add(stat.getTotalAmount());
+            } else if (stat.getType() == TransactionType.EXPENSE) {
+                totalExpense = totalExpense.add(stat.getTotalAmount());
+            }
+            transactionCount += stat.getTransactionCount();
+        }
+
+        return MonthlyStatResponse.builder()
+                .yearMonth(yearMonth)
+                .totalIncome(totalIncome)
+                .totalExpense(totalExpense)
+                .balance(totalIncome.subtract(totalExpense))
+                .transactionCount(transactionCount)
+                .categories(stats.stream()
+                        .filter(stat -> stat.getTransactionCount() > 0)
+                        .map(CategoryStatResponse::from)
+                        .toList())
+                .build();
+    }
+
+    private boolean isSameBucket(TransactionSnapshot before, TransactionSnapshot after) {
+        return Objects.equals(before.ledgerId(), after.ledgerId())
+                && YearMonth.from(before.transactionDate()).equals(YearMonth.from(after.transactionDate()))
+                && Objects.equals(before.categoryId(), after.categoryId())
+                && before.type() == after.type();
+    }
+
+    private void applyDelta(TransactionSnapshot snapshot, BigDecimal amountDelta, long countDelta) {
+        if (amountDelta.signum() == 0 && countDelta == 0) {
+            return;
+        }
+        ledgerMonthlyStatRepository.applyDelta(
+                snapshot.ledgerId(),
+                YearMonth.from(snapshot.transactionDate()).toString(),
+                snapshot.categoryId() != null ? snapshot.categoryId() : LedgerMonthlyStat.UNCATEGORIZED,
+                snapshot.type().name(),
+                amountDelta,
+                countDelta);
+    }
+
+    private YearMonth parseYearMonth(String value) {
+        try {
+            return YearMonth.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid year-month (expected yyyy-MM): " + value);
+        }
+    }
+
+    /**
+     * 조회 권한 확인 (소유자, 멤버, 공유 수락 사용자)
+     */
+    private void validateReadAccess(Long userId, Long ledgerId) {
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).canRead()) {
+            throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
+        }
+    }
+}
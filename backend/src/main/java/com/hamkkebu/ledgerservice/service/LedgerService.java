@@ -2,10 +2,12 @@ package com.hamkkebu.ledgerservice.service;
 
 import com.hamkkebu.boilerplate.common.constant.CommonConstants;
 import com.hamkkebu.boilerplate.common.enums.MemberRole;
-import com.hamkkebu.boilerplate.common.enums.ShareStatus;
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
 import com.hamkkebu.boilerplate.common.util.BigDecimalUtils;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.cache.LedgerResponseCache;
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
 import com.hamkkebu.ledgerservice.data.dto.LedgerRequest;
 import com.hamkkebu.ledgerservice.data.dto.LedgerResponse;
 import com.hamkkebu.ledgerservice.data.dto.LedgerSummaryResponse;
@@ -14,15 +16,14 @@ import com.hamkkebu.ledgerservice.data.entity.LedgerMember;
 import com.hamkkebu.ledgerservice.data.entity.LedgerShare;
 import com.hamkkebu.ledgerservice.data.entity.User;
 import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.LedgerStats;
 import com.hamkkebu.ledgerservice.data.entity.Category;
 import com.hamkkebu.ledgerservice.repository.CategoryRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerRepository;
-import com.hamkkebu.ledgerservice.repository.LedgerShareRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerMemberRepository;
-import com.hamkkebu.ledgerservice.repository.TransactionRepository;
-import com.hamkkebu.ledgerservice.repository.UserRepository;
 import com.hamkkebu.ledgerservice.kafka.producer.LedgerEventProducer;
 import com.hamkkebu.ledgerservice.kafka.producer.LedgerMemberEventProducer;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -42,49 +43,37 @@ import java.util.stream.Collectors;
 public class LedgerService {
 
     private final LedgerRepository ledgerRepository;
-    private final LedgerShareRepository ledgerShareRepository;
-    private final TransactionRepository transactionRepository;
-    private final UserRepository userRepository;
+    private final LedgerStatsService ledgerStatsService;
+    private final UserDirectoryCache userDirectoryCache;
     private final CategoryRepository categoryRepository;
     private final LedgerMemberRepository ledgerMemberRepository;
     private final LedgerEventProducer ledgerEventProducer;
     private final LedgerMemberEventProducer ledgerMemberEventProducer;
+    private final LedgerResponseCache ledgerResponseCache;
+    private final LedgerCacheInvalidator ledgerCacheInvalidator;
+    private final LedgerAccessResolver ledgerAccessResolver;
+    private final LedgerSummaryFetcher ledgerSummaryFetcher;
 
     /**
      * 사용자의 가계부 현황 조회 (내 가계부 + 공유받은 가계부)
+     *
+     * <p>응답은 userId 기준으로 캐시되며, 관련 가계부/멤버/공유/거래가 바뀌면 무효화됩니다.</p>
+     * <p>트랜잭션을 열지 않습니다. 캐시 적중 시에는 커넥션을 빌리지 않고, 캐시 미스 시에는
+     * {@link LedgerSummaryFetcher}의 조회와 이후 조회가 각자 짧은 읽기 전용 트랜잭션으로 커넥션을 빌립니다.</p>
      */
-    @Transactional(readOnly = true)
     public LedgerSummaryResponse getLedgerSummary(Long userId) {
         log.debug("Getting ledger summary for user: {}", userId);
+        return ledgerResponseCache.getSummary(userId, () -> loadLedgerSummary(userId));
+    }
 
-        User user = userRepository.findByUserIdAndIsDeletedFalse(userId)
+    private LedgerSummaryResponse loadLedgerSummary(Long userId) {
+        // 사용자, 내 가계부, 공유, 멤버십은 서로 독립적인 조회 (ledger.summary.fetch-mode에 따라 동시 실행)
+        LedgerSummaryFetcher.SummarySource source = ledgerSummaryFetcher.fetch(userId);
+        User user = source.user()
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // ===== 내 가계부 =====
-        List<Ledger> ledgers = ledgerRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId);
-
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalExpense = BigDecimal.ZERO;
-
-        List<LedgerResponse> ledgerResponses = ledgers.stream()
-                .map(ledger -> {
-                    BigDecimal income = BigDecimalUtils.nullToZero(
-                            transactionRepository.sumAmountByLedgerIdAndType(
-                                    ledger.getLedgerId(), TransactionType.INCOME));
-                    BigDecimal expense = BigDecimalUtils.nullToZero(
-                            transactionRepository.sumAmountByLedgerIdAndType(
-                                    ledger.getLedgerId(), TransactionType.EXPENSE));
-                    long txCount = ledger.getTransactions().stream()
-                            .filter(t -> !t.isDeleted())
-                            .count();
-                    return LedgerResponse.from(ledger, income, expense, txCount);
-                })
-                .toList();
-
-        for (LedgerResponse ledger : ledgerResponses) {
-            totalIncome = BigDecimalUtils.add(totalIncome, ledger.getTotalIncome());
-            totalExpense = BigDecimalUtils.add(totalExpense, ledger.getTotalExpense());
-        }
+        List<Ledger> ledgers = source.ownedLedgers();
 
         // ===== 공유받은 가계부 (LedgerShare ACCEPTED + LedgerMember 초대 수락) =====
         List<Long> ownedLedgerIds = ledgers.stream()
@@ -92,43 +81,48 @@ public class LedgerService {
                 .toList();
 
         // 1) LedgerShare 기반 공유
-        List<LedgerShare> acceptedShares = ledgerShareRepository
-                .findBySharedUserIdAndStatusAndIsDeletedFalse(userId, ShareStatus.ACCEPTED);
-        List<Long> sharedLedgerIds = acceptedShares.stream()
+        List<Long> sharedLedgerIds = source.acceptedShares().stream()
                 .map(LedgerShare::getLedgerId)
                 .filter(id -> !ownedLedgerIds.contains(id))
                 .collect(Collectors.toCollection(ArrayList::new));
 
         // 2) LedgerMember 기반 공유 (초대 수락으로 멤버가 된 경우)
-        List<LedgerMember> memberships = ledgerMemberRepository.findByAccountIdAndIsDeletedFalse(userId);
-        List<Long> memberLedgerIds = memberships.stream()
+        List<Long> memberLedgerIds = source.memberships().stream()
                 .map(LedgerMember::getLedgerId)
                 .filter(id -> !ownedLedgerIds.contains(id) && !sharedLedgerIds.contains(id))
                 .toList();
         sharedLedgerIds.addAll(memberLedgerIds);
 
-        BigDecimal sharedTotalIncome = BigDecimal.ZERO;
-        BigDecimal sharedTotalExpense = BigDecimal.ZERO;
-
         Map<Long, Ledger> sharedLedgerMap = sharedLedgerIds.isEmpty()
                 ? Map.of()
                 : ledgerRepository.findByLedgerIdInAndIsDeletedFalse(sharedLedgerIds).stream()
                         .collect(Collectors.toMap(Ledger::getLedgerId, Function.identity()));
 
+        // ===== 통계 일괄 조회 (내 가계부 + 공유받은 가계부를 한 번에) =====
+        List<Long> statsLedgerIds = new ArrayList<>(ownedLedgerIds);
+        statsLedgerIds.addAll(sharedLedgerMap.keySet());
+        Map<Long, LedgerStats> statsMap = ledgerStatsService.getStats(statsLedgerIds);
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+
+        List<LedgerResponse> ledgerResponses = ledgers.stream()
+                .map(ledger -> toResponseWithStats(ledger, statsMap))
+                .toList();
+
+        for (LedgerResponse ledger : ledgerResponses) {
+            totalIncome = BigDecimalUtils.add(totalIncome, ledger.getTotalIncome());
+            totalExpense = BigDecimalUtils.add(totalExpense, ledger.getTotalExpense());
+        }
+
+        BigDecimal sharedTotalIncome = BigDecimal.ZERO;
+        BigDecimal sharedTotalExpense = BigDecimal.ZERO;
+
         List<LedgerResponse> sharedLedgerResponses = new ArrayList<>();
         for (Long sharedLedgerId : sharedLedgerIds) {
             Ledger sharedLedger = sharedLedgerMap.get(sharedLedgerId);
             if (sharedLedger != null) {
-                BigDecimal income = BigDecimalUtils.nullToZero(
-                        transactionRepository.sumAmountByLedgerIdAndType(
-                                sharedLedger.getLedgerId(), TransactionType.INCOME));
-                BigDecimal expense = BigDecimalUtils.nullToZero(
-                        transactionRepository.sumAmountByLedgerIdAndType(
-                                sharedLedger.getLedgerId(), TransactionType.EXPENSE));
-                long txCount = sharedLedger.getTransactions().stream()
-                        .filter(t -> !t.isDeleted())
-                        .count();
-                sharedLedgerResponses.add(LedgerResponse.from(sharedLedger, income, expense, txCount));
+                sharedLedgerResponses.add(toResponseWithStats(sharedLedger, statsMap));
             }
         }
 
@@ -191,38 +185,29 @@ public class LedgerService {
      * 가계부 상세 조회
      *
      * <p>소유자 또는 공유받은 사용자(ACCEPTED 상태) 모두 조회 가능합니다.</p>
+     * <p>권한은 {@link LedgerAccessResolver}로 확인하며, 응답은 ledgerId 기준으로 캐시됩니다.</p>
      */
     @Transactional(readOnly = true)
     public LedgerResponse getLedger(Long userId, Long ledgerId) {
         log.debug("Getting ledger: userId={}, ledgerId={}", userId, ledgerId);
 
-        // 1. 소유자로 조회 시도
-        Ledger ledger = ledgerRepository.findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)
-                .orElse(null);
-
-        // 2. 소유자가 아닌 경우, 멤버이거나 공유받은 가계부인지 확인
-        if (ledger == null) {
-            boolean isMember = ledgerMemberRepository
-                    .existsByLedgerIdAndAccountIdAndIsDeletedFalse(ledgerId, userId);
-            boolean hasShareAccess = !isMember && ledgerShareRepository
-                    .existsByLedgerIdAndSharedUserIdAndStatusAndIsDeletedFalse(
-                            ledgerId, userId, ShareStatus.ACCEPTED);
-            if (!isMember && !hasShareAccess) {
-                throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
-            }
-            ledger = ledgerRepository.findByLedgerIdAndIsDeletedFalse(ledgerId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.LEDGER_NOT_FOUND));
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).canRead()) {
+            throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
         }
 
-        BigDecimal income = BigDecimalUtils.nullToZero(
-                transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.INCOME));
-        BigDecimal expense = BigDecimalUtils.nullToZero(
-                transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.EXPENSE));
-        long txCount = ledger.getTransactions().stream()
-                .filter(t -> !t.isDeleted())
-                .count();
+        return ledgerResponseCache.getLedger(ledgerId, () -> {
+            Ledger ledger = ledgerRepository.findByLedgerIdAndIsDeletedFalse(ledgerId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.LEDGER_NOT_FOUND));
+            return toResponseWithStats(ledger, ledgerStatsService.getStats(List.of(ledgerId)));
+        });
+    }
 
-        return LedgerResponse.from(ledger, income, expense, txCount);
+    /**
+     * 일괄 조회한 통계로 통계 포함 응답 생성 (통계가 없으면 0)
+     */
+    private LedgerResponse toResponseWithStats(Ledger ledger, Map<Long, LedgerStats> statsMap) {
+        LedgerStats stats = statsMap.getOrDefault(ledger.getLedgerId(), LedgerStats.empty(ledger.getLedgerId()));
+        return LedgerResponse.from(ledger, stats.totalIncome(), stats.totalExpense(), stats.transactionCount());
     }
 
     /**
@@ -233,7 +218,7 @@ public class LedgerService {
         log.info("Creating ledger for user: {}", userId);
 
         // 사용자 존재 확인
-        if (!userRepository.existsByUserIdAndIsDeletedFalse(userId)) {
+        if (!userDirectoryCache.exists(userId)) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
@@ -244,7 +229,7 @@ public class LedgerService {
         // 기본 가계부로 설정하는 경우 기존 기본 가계부 해제
         if (isDefault) {
             ledgerRepository.findByUserIdAndIsDefaultTrueAndIsDeletedFalse(userId)
-                    .ifPresent(Ledger::unsetDefault);
+                    .ifPresent(this::unsetDefault);
         }
 
         Ledger ledger = Ledger.builder()
@@ -275,6 +260,8 @@ public class LedgerService {
         // Kafka 이벤트 발행
         ledgerEventProducer.publishLedgerCreated(saved);
 
+        ledgerCacheInvalidator.invalidateSummary(userId);
+
         return LedgerResponse.from(saved);
     }
 
@@ -329,7 +316,7 @@ public class LedgerService {
         if (Boolean.TRUE.equals(request.getIsDefault()) && !ledger.getIsDefault()) {
             // 다른 기본 가계부 해제 후 현재 가계부를 기본으로 설정
             ledgerRepository.findByUserIdAndIsDefaultTrueAndIsDeletedFalse(userId)
-                    .ifPresent(Ledger::unsetDefault);
+                    .ifPresent(this::unsetDefault);
             ledger.setAsDefault();
         } else if (Boolean.FALSE.equals(request.getIsDefault()) && ledger.getIsDefault()) {
             // 기본 가계부 해제
@@ -341,6 +328,8 @@ public class LedgerService {
         // Kafka 이벤트 발행
         ledgerEventProducer.publishLedgerUpdated(ledger);
 
+        ledgerCacheInvalidator.invalidateLedger(ledgerId);
+
         return LedgerResponse.from(ledger);
     }
 
@@ -359,5 +348,16 @@ public class LedgerService {
 
         // Kafka 이벤트 발행
         ledgerEventProducer.publishLedgerDeleted(ledger);
+
+        ledgerCacheInvalidator.invalidateLedger(ledgerId);
+        ledgerCacheInvalidator.invalidateAccess(ledgerId);
+    }
+
+    /**
+     * 기존 기본 가계부 해제 (해제된 가계부의 캐시도 무효화)
+     */
+    private void unsetDefault(Ledger ledger) {
+        ledger.unsetDefault();
+        ledgerCacheInvalidator.invalidateLedger(ledger.getLedgerId());
     }
 }
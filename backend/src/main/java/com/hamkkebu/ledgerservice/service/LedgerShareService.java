@@ -4,14 +4,14 @@ import com.hamkkebu.boilerplate.common.enums.SharePermission;
 import com.hamkkebu.boilerplate.common.enums.ShareStatus;
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
 import com.hamkkebu.ledgerservice.data.dto.LedgerShareRequest;
 import com.hamkkebu.ledgerservice.data.dto.LedgerShareResponse;
-import com.hamkkebu.ledgerservice.data.entity.Ledger;
 import com.hamkkebu.ledgerservice.data.entity.LedgerShare;
 import com.hamkkebu.ledgerservice.kafka.producer.LedgerShareEventProducer;
-import com.hamkkebu.ledgerservice.repository.LedgerRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerShareRepository;
-import com.hamkkebu.ledgerservice.repository.UserRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,9 +30,10 @@ import java.util.List;
 public class LedgerShareService {
 
     private final LedgerShareRepository ledgerShareRepository;
-    private final LedgerRepository ledgerRepository;
-    private final UserRepository userRepository;
+    private final UserDirectoryCache userDirectoryCache;
     private final LedgerShareEventProducer ledgerShareEventProducer;
+    private final LedgerCacheInvalidator ledgerCacheInvalidator;
+    private final LedgerAccessResolver ledgerAccessResolver;
 
     /**
      * 가계부 공유 요청
@@ -58,7 +59,7 @@ public class LedgerShareService {
         validateLedgerOwnership(ledgerId, userId);
 
         // 공유 대상 사용자 존재 확인
-        if (!userRepository.existsByUserIdAndIsDeletedFalse(request.getSharedUserId())) {
+        if (!userDirectoryCache.exists(request.getSharedUserId())) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
@@ -133,6 +134,9 @@ public class LedgerShareService {
         // Kafka 이벤트 발행
         ledgerShareEventProducer.publishLedgerShareAccepted(share);
 
+        ledgerCacheInvalidator.invalidateSummary(userId);
+        ledgerCacheInvalidator.invalidateAccess(share.getLedgerId(), userId);
+
         return LedgerShareResponse.from(share);
     }
 
@@ -197,6 +201,9 @@ public class LedgerShareService {
 
         // Kafka 이벤트 발행
         ledgerShareEventProducer.publishLedgerShareDeleted(share, userId);
+
+        ledgerCacheInvalidator.invalidateSummary(share.getSharedUserId());
+        ledgerCacheInvalidator.invalidateAccess(share.getLedgerId(), share.getSharedUserId());
     }
 
     /**
@@ -290,8 +297,9 @@ public class LedgerShareService {
      * 가계부 소유자 확인 (소유자가 아니면 예외)
      */
     private void validateLedgerOwnership(Long ledgerId, Long userId) {
-        Ledger ledger = ledgerRepository.findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.LEDGER_NOT_FOUND));
-        log.debug("Ledger ownership validated: ledgerId={}, userId={}", ledger.getLedgerId(), userId);
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).isOwner()) {
+            throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
+        }
+        log.debug("Ledger ownership validated: ledgerId={}, userId={}", ledgerId, userId);
     }
 }
@@ -0,0 +1,103 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.boilerplate.common.util.BigDecimalUtils;
+import com.hamkkebu.ledgerservice.data.entity.LedgerBalance;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.LedgerStats;
+import com.hamkkebu.ledgerservice.repository.LedgerStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가계부 통계 일괄 조회 Service
+ *
+ * <p>가계부 수와 관계없이 일정한 쿼리 수로 수입/지출/거래 건수를 조회합니다.</p>
+ * <ul>
+ *   <li>1차: 잔액 Read Model(tbl_ledger_balances)을 PK IN 조회 (1 쿼리)</li>
+ *   <li>2차: Read Model에 행이 없는 가계부만 tbl_transactions에서 GROUP BY 집계 (최대 1 쿼리)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerStatsService {
+
+    private final LedgerBalanceService ledgerBalanceService;
+    private final LedgerStatsRepository ledgerStatsRepository;
+
+    /**
+     * 가계부 ID 목록의 통계 일괄 조회
+     *
+     * @param ledgerIds 가계부 ID 목록
+     * @return 가계부 ID별 통계 (거래가 없는 가계부는 0으로 채움)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, LedgerStats> getStats(Collection<Long> ledgerIds) {
+        if (ledgerIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>(ledgerIds);
+
+        Map<Long, LedgerStats> result = new HashMap<>();
+        for (LedgerBalance balance : ledgerBalanceService.getBalances(ids)) {
+            result.put(balance.getLedgerId(), new LedgerStats(
+                    balance.getLedgerId(),
+                    BigDecimalUtils.nullToZero(balance.getTotalIncome()),
+                    BigDecimalUtils.nullToZero(balance.getTotalExpense()),
+                    balance.getTransactionCount()));
+        }
+
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !result.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            log.debug("Ledger balance rows missing, aggregating from transactions: ledgerIds={}", missingIds);
+            result.putAll(aggregateFromTransactions(missingIds));
+        }
+
+        for (Long id : ids) {
+            result.putIfAbsent(id, LedgerStats.empty(id));
+        }
+        return result;
+    }
+
+    /**
+     * tbl_transactions에서 GROUP BY ledger_id, transaction_type 한 번으로 집계
+     */
+    private Map<Long, LedgerStats> aggregateFromTransactions(List<Long> ledgerIds) {
+        Map<Long, BigDecimal> incomes = new HashMap<>();
+        Map<Long, BigDecimal> expenses = new HashMap<>();
+        Map<Long, Long> counts = new HashMap<>();
+
+        for (LedgerStatsRepository.LedgerTypeTotal row : ledgerStatsRepository.sumGroupByLedgerIdAndType(ledgerIds)) {
+            Long ledgerId = row.getLedgerId();
+            BigDecimal amount = BigDecimalUtils.nullToZero(row.getTotalAmount());
+            if (row.getType() == TransactionType.INCOME) {
+                incomes.merge(ledgerId, amount, BigDecimal::add);
+            } else if (row.getType() == TransactionType.EXPENSE) {
+                expenses.merge(ledgerId, amount, BigDecimal::add);
+            }
+            counts.merge(ledgerId, row.getTransactionCount(), Long::sum);
+        }
+
+        Map<Long, LedgerStats> result = new HashMap<>();
+        for (Long ledgerId : counts.keySet()) {
+            result.put(ledgerId, new LedgerStats(
+                    ledgerId,
+                    incomes.getOrDefault(ledgerId, BigDecimal.ZERO),
+                    expenses.getOrDefault(ledgerId, BigDecimal.ZERO),
+                    counts.get(ledgerId)));
+        }
+        return result;
+    }
+}
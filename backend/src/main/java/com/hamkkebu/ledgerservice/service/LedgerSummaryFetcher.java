@@ -0,0 +1,203 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.boilerplate.common.enums.ShareStatus;
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
+import com.hamkkebu.ledgerservice.config.LedgerSummaryExecutorConfig;
+import com.hamkkebu.ledgerservice.data.entity.Ledger;
+import com.hamkkebu.ledgerservice.data.entity.LedgerMember;
+import com.hamkkebu.ledgerservice.data.entity.LedgerShare;
+import com.hamkkebu.ledgerservice.data.entity.User;
+import com.hamkkebu.ledgerservice.repository.LedgerMemberRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerShareRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 가계부 현황 요약의 기초 데이터 조회
+ *
+ * <p>사용자, 내 가계부, 수락한 공유, 멤버십 조회는 서로 독립적이므로
+ * ledger.summary.fetch-mode=parallel이면 전용 Executor에서 동시에 실행하고, sequential이면 차례로 실행합니다.</p>
+ * <p>parallel 모드는 요청마다 ledger.summary.fetch-timeout 안에 모두 끝나야 하며,
+ * 넘기면 남은 조회 작업을 취소(스레드 인터럽트)하고 {@link QueryTimeoutException}을 던집니다.
+ * 인터럽트로는 실행 중인 JDBC 호출이 멈추지 않으므로, 조회 트랜잭션에도 같은 기한(초 단위 올림)을 걸어
+ * 기한이 지난 쿼리가 커넥션을 계속 쥐지 않도록 드라이버 쿼리 타임아웃으로 끊습니다.
+ * 각 조회는 자기 스레드에서 짧은 읽기 전용 트랜잭션으로 실행되어 조회가 끝나면 커넥션을 돌려주고,
+ * sequential 모드는 4건을 읽기 전용 트랜잭션 하나로 실행합니다.
+ * 호출자는 트랜잭션(커넥션)을 잡지 않은 채 호출해야 합니다. 커넥션을 쥔 요청이 커넥션을 얻지 못하는 조회를 기다리면
+ * 부하 시 커넥션 풀이 고갈됩니다.</p>
+ * <p>조회 시간은 {@code ledger.summary.fetch} 타이머에 mode 태그로 기록합니다.</p>
+ */
+@Slf4j
+@Component
+public class LedgerSummaryFetcher {
+
+    public enum Mode {
+        SEQUENTIAL, PARALLEL
+    }
+
+    private final UserDirectoryCache userDirectoryCache;
+    private final LedgerRepository ledgerRepository;
+    private final LedgerShareRepository ledgerShareRepository;
+    private final LedgerMemberRepository ledgerMemberRepository;
+    private final ExecutorService executor;
+    private final Mode mode;
+    private final Duration timeout;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Timer fetchTimer;
+    private final Counter timeoutCounter;
+
+    public LedgerSummaryFetcher(
+            UserDirectoryCache userDirectoryCache,
+            LedgerRepository ledgerRepository,
+            LedgerShareRepository ledgerShareRepository,
+            LedgerMemberRepository ledgerMemberRepository,
+            @Qualifier(LedgerSummaryExecutorConfig.LEDGER_SUMMARY_EXECUTOR) ExecutorService executor,
+            @Value("${ledger.summary.fetch-mode:parallel}") String mode,
+            @Value("${ledger.summary.fetch-timeout:2s}") Duration timeout,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.userDirectoryCache = userDirectoryCache;
+        this.ledgerRepository = ledgerRepository;
+        this.ledgerShareRepository = ledgerShareRepository;
+        this.ledgerMemberRepository = ledgerMemberRepository;
+        this.executor = executor;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.timeout = timeout;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+
+        String modeTag = this.mode.name().toLowerCase(Locale.ROOT);
+        this.fetchTimer = Timer.builder("ledger.summary.fetch")
+                .description("Time to load user, owned ledgers, shares and memberships for a ledger summary")
+                .tag("mode", modeTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("ledger.summary.fetch.timeouts")
+                .description("Ledger summary fetches that exceeded the per-request deadline")
+                .tag("mode", modeTag)
+                .register(meterRegistry);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 가계부 현황 요약에 필요한 독립 조회 4건 실행
+     */
+    public SummarySource fetch(Long userId) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return mode == Mode.PARALLEL ? fetchParallel(userId) : fetchSequential(userId);
+        } finally {
+            sample.stop(fetchTimer);
+        }
+    }
+
+    private SummarySource fetchSequential(Long userId) {
+        return readOnlyTransaction.execute(status -> new SummarySource(
+                findUser(userId).get(),
+                findOwnedLedgers(userId).get(),
+                findAcceptedShares(userId).get(),
+                findMemberships(userId).get()));
+    }
+
+    private SummarySource fetchParallel(Long userId) {
+        // FutureTask로 제출해야 cancel(true)가 실행 중인 스레드를 인터럽트함 (CompletableFuture는 인터럽트하지 않음)
+        Future<Optional<User>> user = executor.submit(inReadOnlyTransaction(findUser(userId)));
+        Future<List<Ledger>> ownedLedgers = executor.submit(inReadOnlyTransaction(findOwnedLedgers(userId)));
+        Future<List<LedgerShare>> acceptedShares = executor.submit(inReadOnlyTransaction(findAcceptedShares(userId)));
+        Future<List<LedgerMember>> memberships = executor.submit(inReadOnlyTransaction(findMemberships(userId)));
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        try {
+            return new SummarySource(
+                    await(user, deadline),
+                    await(ownedLedgers, deadline),
+                    await(acceptedShares, deadline),
+                    await(memberships, deadline));
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            log.warn("Ledger summary fetch timed out: userId={}, timeout={}", userId, timeout);
+            throw new QueryTimeoutException("Ledger summary fetch exceeded " + timeout.toMillis() + "ms", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Ledger summary fetch failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ledger summary fetch interrupted", e);
+        } finally {
+            // 완료된 작업에는 영향 없음. 실패/기한 초과 시 남은 조회를 중단
+            List.of(user, ownedLedgers, acceptedShares, memberships).forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static <T> T await(Future<T> future, long deadline)
+            throws TimeoutException, ExecutionException, InterruptedException {
+        return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 조회 하나를 실행 스레드의 읽기 전용 트랜잭션으로 감쌈 (CallerRunsPolicy로 호출 스레드에서 실행되어도 동일)
+     */
+    private <T> Callable<T> inReadOnlyTransaction(Supplier<T> query) {
+        return () -> readOnlyTransaction.execute(status -> query.get());
+    }
+
+    private Supplier<Optional<User>> findUser(Long userId) {
+        return () -> userDirectoryCache.findByUserId(userId);
+    }
+
+    private Supplier<List<Ledger>> findOwnedLedgers(Long userId) {
+        return () -> ledgerRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId);
+    }
+
+    private Supplier<List<LedgerShare>> findAcceptedShares(Long userId) {
+        return () -> ledgerShareRepository.findBySharedUserIdAndStatusAndIsDeletedFalse(userId, ShareStatus.ACCEPTED);
+    }
+
+    private Supplier<List<LedgerMember>> findMemberships(Long userId) {
+        return () -> ledgerMemberRepository.findByAccountIdAndIsDeletedFalse(userId);
+    }
+
+    /**
+     * 가계부 현황 요약의 기초 데이터
+     *
+     * @param user           사용자 (삭제되었거나 없으면 empty)
+     * @param ownedLedgers   내 가계부 (생성일 내림차순)
+     * @param acceptedShares 수락한 공유
+     * @param memberships    멤버십 (초대 수락)
+     */
+    public record SummarySource(
+            Optional<User> user,
+            List<Ledger> ownedLedgers,
+            List<LedgerShare> acceptedShares,
+            List<LedgerMember> memberships
+    ) {
+    }
+}
@@ -0,0 +1,376 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.data.enums.ExportFormat;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래 내보내기 Service (CSV / NDJSON 스트리밍)
+ *
+ * <p>(transaction_date, transaction_id) 커서로 chunk-size개씩 Keyset 페이지 조회하고, 조회가 끝나 커넥션을 풀에
+ * 돌려준 뒤 응답에 씁니다. 느린 다운로드가 커넥션을 붙잡지 않으며, 메모리 사용량은 가계부 크기와 관계없이
+ * chunk 하나로 일정합니다. JPA 엔티티를 만들지 않고 JDBC로 직접 읽습니다.</p>
+ * <p>chunk마다 따로 조회하므로 내보내는 도중 바뀐 거래는 그 뒤에 읽는 chunk에만 반영됩니다.</p>
+ * <p>chunk 조회는 query-timeout으로 제한하고, 동시에 커넥션을 쓰는 조회 수를 max-concurrent-queries로 제한해
+ * 내보내기가 풀을 차지하지 않게 합니다. 내보내기 수 자체는 전용 Executor(max-concurrent)로 제한합니다.</p>
+ * <p>내보낸 행 수, 소요 시간, 처리량(rows/s)을 {@code ledger.export.*} 지표로 기록합니다.</p>
+ */
+@Slf4j
+@Service
+public class TransactionExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String EXPORT_SQL =
+            "SELECT t.transaction_id, t.transaction_date, t.transaction_type, t.amount, "
+                    + "t.category_id, c.category_name, t.description, t.memo "
+                    + "FROM tbl_transactions t "
+                    + "LEFT JOIN tbl_categories c ON c.category_id = t.category_id "
+                    + "WHERE t.ledger_id = ? AND t.is_deleted = FALSE "
+                    + "AND t.transaction_date BETWEEN ? AND ? "
+                    + "AND (t.transaction_date > ? OR (t.transaction_date = ? AND t.transaction_id > ?)) "
+                    + "ORDER BY t.transaction_date, t.transaction_id "
+                    + "LIMIT ?";
+
+    private static final String[] COLUMNS = {
+            "transactionId", "transactionDate", "type", "amount",
+            "categoryId", "categoryName", "description", "memo"
+    };
+
+    private static final RowMapper<ExportRow> EXPORT_ROW_MAPPER = (rs, rowNum) -> {
+        long categoryId = rs.getLong(5);
+        return new ExportRow(
+                rs.getLong(1),
+                rs.getDate(2).toLocalDate(),
+                rs.getString(3),
+                rs.getBigDecimal(4),
+                rs.wasNull() ? null : categoryId,
+                rs.getString(6),
+                rs.getString(7),
+                rs.getString(8));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LedgerAccessResolver ledgerAccessResolver;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Duration queryTimeout;
+    private final Semaphore querySlots;
+
+    public TransactionExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            LedgerAccessResolver ledgerAccessResolver,
+            @Value("${ledger.export.chunk-size:1000}") int chunkSize,
+            @Value("${ledger.export.query-timeout:30s}") Duration queryTimeout,
+            @Value("${ledger.export.max-concurrent-queries:2}") int maxConcurrentQueries,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.ledgerAccessResolver = ledgerAccessResolver;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.queryTimeout = queryTimeout;
+        this.querySlots = new Semaphore(Math.max(1, maxConcurrentQueries), true);
+    }
+
+    /**
+     * 거래 내보내기
+     *
+     * <p>권한 확인은 즉시 수행하고, 조회와 쓰기는 반환된 {@link StreamingResponseBody}가 실행될 때 수행합니다.</p>
+     *
+     * @param startDate 시작일 (포함, null이면 처음부터)
+     * @param endDate   종료일 (포함, null이면 끝까지)
+     * @param gzip      gzip 압축 여부
+     */
+    public StreamingResponseBody export(Long userId, Long ledgerId, ExportFormat format,
+                                        LocalDate startDate, LocalDate endDate, boolean gzip) {
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).canRead()) {
+            throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate: startDate="
+                    + startDate + ", endDate=" + endDate);
+        }
+
+        LocalDate from = startDate != null ? startDate : LocalDate.of(1, 1, 1);
+        LocalDate to = endDate != null ? endDate : LocalDate.of(9999, 12, 31);
+        return outputStream -> write(outputStream, ledgerId, format, from, to, gzip);
+    }
+
+    private void write(OutputStream outputStream, Long ledgerId, ExportFormat format,
+                       LocalDate from, LocalDate to, boolean gzip) throws IOException {
+        long startNanos = System.nanoTime();
+        String outcome = "success";
+        RowCounter counter = new RowCounter();
+
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, WRITE_BUFFER_SIZE) : outputStream;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        try {
+            RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+            rowWriter.writeHeader();
+
+            LocalDate afterDate = from;
+            long afterId = 0L;
+            List<ExportRow> chunk;
+            do {
+                // 조회가 끝나 커넥션을 돌려준 뒤 응답에 씀
+                chunk = fetchChunk(ledgerId, from, to, afterDate, afterId);
+                for (ExportRow row : chunk) {
+                    rowWriter.writeRow(row);
+                    counter.count++;
+                }
+                if (!chunk.isEmpty()) {
+                    ExportRow last = chunk.get(chunk.size() - 1);
+                    afterDate = last.transactionDate();
+                    afterId = last.transactionId();
+                }
+            } while (chunk.size() == chunkSize);
+
+            rowWriter.finish();
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등 응답 쓰기 실패
+            outcome = "aborted";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            record(ledgerId, format, gzip, counter.count, System.nanoTime() - startNanos, outcome);
+        }
+    }
+
+    /**
+     * 커서 다음 chunk 조회 (동시 조회 수 제한, 커넥션은 조회 동안만 사용)
+     */
+    private List<ExportRow> fetchChunk(Long ledgerId, LocalDate from, LocalDate to,
+                                       LocalDate afterDate, long afterId) {
+        try {
+            if (!querySlots.tryAcquire(queryTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new QueryTimeoutException("Export query slot not available within " + queryTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Interrupted while waiting for an export query slot");
+        }
+        try {
+            return jdbcTemplate.query(chunkStatement(ledgerId, from, to, afterDate, afterId), EXPORT_ROW_MAPPER);
+        } finally {
+            querySlots.release();
+        }
+    }
+
+    /**
+     * chunk 조회용 Statement (forward-only, read-only, 조회 제한 시간)
+     */
+    private PreparedStatementCreator chunkStatement(Long ledgerId, LocalDate from, LocalDate to,
+                                                    LocalDate afterDate, long afterId) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setQueryTimeout(Math.max(1, (int) queryTimeout.toSeconds()));
+            statement.setLong(1, ledgerId);
+            statement.setDate(2, Date.valueOf(from));
+            statement.setDate(3, Date.valueOf(to));
+            statement.setDate(4, Date.valueOf(afterDate));
+            statement.setDate(5, Date.valueOf(afterDate));
+            statement.setLong(6, afterId);
+            statement.setInt(7, chunkSize);
+            return statement;
+        };
+    }
+
+    private void record(Long ledgerId, ExportFormat format, boolean gzip, long rows, long elapsedNanos, String outcome) {
+        String formatTag = format.getExtension();
+        Counter.builder("ledger.export.rows")
+                .description("Transaction rows written by exports")
+                .tag("format", formatTag)
+                .register(meterRegistry)
+                .increment(rows);
+        Timer.builder("ledger.export.duration")
+                .description("Transaction export duration")
+                .tag("format", formatTag)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double rowsPerSecond = seconds > 0 ? rows / seconds : 0;
+        if (rows > 0) {
+            DistributionSummary.builder("ledger.export.throughput")
+                    .description("Transaction export throughput")
+                    .baseUnit("rows/s")
+                    .tag("format", formatTag)
+                    .register(meterRegistry)
+                    .record(rowsPerSecond);
+        }
+        log.info("[Export] Transactions exported: ledgerId={}, format={}, gzip={}, outcome={}, rows={}, elapsedMs={}, rowsPerSecond={}",
+                ledgerId, formatTag, gzip, outcome, rows, elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+    }
+
+    private static final class RowCounter {
+        private long count;
+    }
+
+    /**
+     * 내보낼 거래 한 행
+     */
+    private record ExportRow(long transactionId, LocalDate transactionDate, String type, BigDecimal amount,
+                             Long categoryId, String categoryName, String description, String memo) {
+    }
+
+    /**
+     * 형식별 행 쓰기
+     */
+    private interface RowWriter {
+
+        void writeHeader() throws IOException;
+
+        void writeRow(ExportRow row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * CSV (RFC 4180) 쓰기
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(ExportRow row) throws IOException {
+            writer.write(Long.toString(row.transactionId()));
+            writer.write(',');
+            writer.write(row.transactionDate().toString());
+            writer.write(',');
+            writer.write(row.type());
+            writer.write(',');
+            writer.write(row.amount().toPlainString());
+            writer.write(',');
+            if (row.categoryId() != null) {
+                writer.write(Long.toString(row.categoryId()));
+            }
+            writer.write(',');
+            writeText(row.categoryName());
+            writer.write(',');
+            writeText(row.description());
+            writer.write(',');
+            writeText(row.memo());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() {
+            // CSV는 종료 표시가 없음
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * NDJSON 쓰기 (Jackson Streaming API, 행마다 객체 하나)
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+            // NDJSON은 헤더가 없음
+        }
+
+        @Override
+        public void writeRow(ExportRow row) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], row.transactionId());
+            generator.writeStringField(COLUMNS[1], row.transactionDate().toString());
+            generator.writeStringField(COLUMNS[2], row.type());
+            generator.writeNumberField(COLUMNS[3], row.amount());
+            if (row.categoryId() == null) {
+                generator.writeNullField(COLUMNS[4]);
+            } else {
+                generator.writeNumberField(COLUMNS[4], row.categoryId());
+            }
+            generator.writeStringField(COLUMNS[5], row.categoryName());
+            generator.writeStringField(COLUMNS[6], row.description());
+            generator.writeStringField(COLUMNS[7], row.memo());
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.data.dto.CursorPageResponse;
+import com.hamkkebu.ledgerservice.data.dto.TransactionResponse;
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.projection.TransactionCursor;
+import com.hamkkebu.ledgerservice.repository.TransactionRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 거래 내역 조회 Service
+ *
+ * <p>거래 목록은 (transaction_date DESC, transaction_id DESC) 순서의 커서 기반 페이지로 제공합니다.
+ * 한 건을 더 조회해 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리를 실행하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TransactionRepository transactionRepository;
+    private final LedgerAccessResolver ledgerAccessResolver;
+
+    /**
+     * 가계부 거래 목록 조회 (최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (기본 20, 최대 100)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> getTransactions(
+            Long userId, Long ledgerId, String cursor, Integer size) {
+        log.debug("Getting transactions: userId={}, ledgerId={}, cursor={}, size={}", userId, ledgerId, cursor, size);
+
+        if (!ledgerAccessResolver.resolve(userId, ledgerId).canRead()) {
+            throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
+        }
+
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Transaction> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepository.findFirstPageByLedgerId(ledgerId, limit);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findPageByLedgerIdAfterCursor(
+                    ledgerId, position.transactionDate(), position.transactionId(), limit);
+        }
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<Transaction> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+
+        return CursorPageResponse.<TransactionResponse>builder()
+                .content(page.stream().map(TransactionResponse::from).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,231 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.ledgerservice.cache.CategoryIdCache;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.kafka.EventFreshnessMonitor;
+import com.hamkkebu.ledgerservice.kafka.ProcessedEventStore;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter;
+import com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter.SyncedRow;
+import com.hamkkebu.ledgerservice.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 동기화 Service
+ *
+ * <p>transaction-service의 거래 이벤트 묶음을 하나의 DB 트랜잭션으로 반영합니다.</p>
+ * <ul>
+ *   <li>이미 처리한 eventId는 거래를 읽기 전에 건너뜁니다({@link ProcessedEventStore}).</li>
+ *   <li>같은 transactionId의 이벤트는 버전(이벤트 발생 시각)이 가장 높은 것만 반영합니다.</li>
+ *   <li>이벤트의 카테고리 이름은 가계부별 캐시({@link CategoryIdCache})로 categoryId로 바꿉니다.
+ *       찾지 못하면 기존 카테고리를 유지합니다.</li>
+ *   <li>변경 전 상태는 READ COMMITTED 트랜잭션의 행 잠금 조회(SELECT ... FOR UPDATE) 한 번으로 읽습니다.
+ *       이미 있는 거래 행만 잠기고 없는 거래에는 갭 잠금이 걸리지 않으므로, 새 거래를 만드는 레인끼리 서로 막지 않습니다.</li>
+ *   <li>기존 거래의 수정/삭제는 {@link SyncedTransactionWriter}의 Upsert 배치로, 새 거래는 INSERT IGNORE 한 문장으로
+ *       씁니다.</li>
+ *   <li>레인, 재시도 토픽, 저널 재반영, DLT 재처리가 같은 기존 거래를 동시에 반영해도 잠금으로 차례로 처리되어
+ *       뒤의 트랜잭션은 앞의 커밋 결과를 변경 전 상태로 읽습니다. Read Model 증감은 이 변경 전 상태로 계산하므로
+ *       한 변경이 두 번 더해지지 않습니다. Upsert의 버전 조건은 tbl_transactions만 보호합니다.</li>
+ *   <li>없던 거래를 두 경로가 동시에 만들면 삽입 수가 모자란 쪽이 Read Model을 건드리기 전에
+ *       {@link ConcurrencyFailureException}으로 롤백되고, 다시 반영할 때 먼저 만들어진 거래를 잠가 변경 전 상태로 읽습니다.</li>
+ *   <li>저장된 source_version보다 오래된 이벤트는 읽은 변경 전 상태로 걸러 추가 조회 없이 버립니다.</li>
+ *   <li>같은 트랜잭션에서 Read Model(잔액, 월별 통계)을 갱신하고 관련 가계부 캐시를 무효화합니다.</li>
+ *   <li>이벤트당 DB 시간과 커밋 후 신선도(이벤트 발생 → 커밋)를 {@link EventFreshnessMonitor}에 기록합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionSyncService {
+
+    private final TransactionRepository transactionRepository;
+    private final SyncedTransactionWriter syncedTransactionWriter;
+    private final LedgerBalanceService ledgerBalanceService;
+    private final LedgerMonthlyStatService ledgerMonthlyStatService;
+    private final LedgerCacheInvalidator ledgerCacheInvalidator;
+    private final CategoryIdCache categoryIdCache;
+    private final ProcessedEventStore processedEventStore;
+    private final MeterRegistry meterRegistry;
+    private final EventFreshnessMonitor eventFreshnessMonitor;
+
+    /**
+     * 거래 이벤트 묶음 반영
+     *
+     * @param events 수신 순서대로 정렬된 이벤트
+     * @return 실제로 반영된 거래 수 (생성/수정/삭제)
+     * @throws ConcurrencyFailureException 변경 전 상태를 읽은 뒤 다른 경로가 같은 거래를 먼저 생성한 경우
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int apply(List<TransactionEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long dbStartedAt = System.nanoTime();
+        List<String> eventIds = events.stream().map(TransactionEvent::getEventId).toList();
+        Set<String> processed = processedEventStore.findProcessed(
+                ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS, eventIds);
+        long dbNanos = System.nanoTime() - dbStartedAt;
+
+        // 같은 거래의 이벤트는 마지막 것만 반영 (앞선 이벤트보다 버전이 낮으면 늦게 도착한 이벤트로 버림)
+        Map<Long, TransactionEvent> latestEvents = new LinkedHashMap<>();
+        int stale = 0;
+        for (TransactionEvent event : events) {
+            if (event.getEventId() != null && processed.contains(event.getEventId())) {
+                continue;
+            }
+            TransactionEvent previous = latestEvents.get(event.getTransactionId());
+            if (previous != null && isStale(event, previous.getEventVersion())) {
+                stale++;
+                continue;
+            }
+            latestEvents.remove(event.getTransactionId());
+            latestEvents.put(event.getTransactionId(), event);
+        }
+        if (latestEvents.isEmpty()) {
+            return 0;
+        }
+
+        dbStartedAt = System.nanoTime();
+        Map<Long, Transaction> existing = transactionRepository.findAllByIdForUpdate(latestEvents.keySet()).stream()
+                .collect(Collectors.toMap(Transaction::getTransactionId, Function.identity()));
+        dbNanos += System.nanoTime() - dbStartedAt;
+
+        List<SyncedRow> rows = new ArrayList<>();
+        List<SyncedRow> createdRows = new ArrayList<>();
+        int deleted = 0;
+        List<Change> changes = new ArrayList<>();
+        // 행을 쓴 이벤트의 발생 시각 (처리 완료/stale/건너뛴 이벤트는 반영 지연과 배치 크기에서 제외)
+        List<LocalDateTime> appliedEventTimes = new ArrayList<>();
+
+        for (TransactionEvent event : latestEvents.values()) {
+            Transaction current = existing.get(event.getTransactionId());
+            if (current != null && isStale(event, current.getSourceVersion())) {
+                log.debug("[Kafka Consumer] Stale transaction event dropped: transactionId={}, eventVersion={}, "
+                                + "sourceVersion={}",
+                        event.getTransactionId(), event.getEventVersion(), current.getSourceVersion());
+                stale++;
+                continue;
+            }
+            TransactionSnapshot before = TransactionSnapshot.of(current);
+
+            switch (event.getEventType()) {
+                case TransactionEvent.EVENT_TYPE_CREATED, TransactionEvent.EVENT_TYPE_UPDATED -> {
+                    if (before != null && TransactionEvent.EVENT_TYPE_CREATED.equals(event.getEventType())) {
+                        log.debug("[Kafka Consumer] Transaction already exists: transactionId={}",
+                                event.getTransactionId());
+                        continue;
+                    }
+                    TransactionSnapshot after = toSnapshot(event, current);
+                    SyncedRow row = SyncedRow.upsert(after, event.getDescription(), event.getMemo(),
+                            event.getEventVersion());
+                    if (current != null) {
+                        rows.add(row);
+                    } else {
+                        createdRows.add(row);
+                    }
+                    changes.add(new Change(before, after, event.getEventVersion()));
+                    appliedEventTimes.add(event.getTimestamp());
+                }
+                case TransactionEvent.EVENT_TYPE_DELETED -> {
+                    if (before == null) {
+                        log.warn("[Kafka Consumer] Transaction not found for deletion: transactionId={}",
+                                event.getTransactionId());
+                        continue;
+                    }
+                    rows.add(SyncedRow.delete(current, event.getEventVersion()));
+                    deleted++;
+                    changes.add(new Change(before, null, event.getEventVersion()));
+                    appliedEventTimes.add(event.getTimestamp());
+                }
+                default -> log.warn("[Kafka Consumer] Unknown transaction event type: {}", event.getEventType());
+            }
+        }
+
+        dbStartedAt = System.nanoTime();
+        syncedTransactionWriter.write(rows);
+        int inserted = syncedTransactionWriter.insertAbsent(createdRows);
+        if (inserted != createdRows.size()) {
+            // 변경 전 상태를 읽은 뒤 다른 경로가 먼저 생성함 (드묾): 다시 반영하면 생성된 행을 잠가 읽음
+            throw new ConcurrencyFailureException("Transactions created concurrently or rejected: expected="
+                    + createdRows.size() + ", inserted=" + inserted);
+        }
+        processedEventStore.markProcessed(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS,
+                eventIds.stream().filter(eventId -> !processed.contains(eventId)).toList());
+
+        for (Change change : changes) {
+            ledgerBalanceService.apply(change.before(), change.after(), change.eventVersion());
+            ledgerMonthlyStatService.apply(change.before(), change.after());
+            if (change.before() != null) {
+                ledgerCacheInvalidator.invalidateLedger(change.before().ledgerId());
+            }
+            if (change.after() != null) {
+                ledgerCacheInvalidator.invalidateLedger(change.after().ledgerId());
+            }
+        }
+        dbNanos += System.nanoTime() - dbStartedAt;
+
+        eventFreshnessMonitor.recordDbBatch(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS,
+                appliedEventTimes.size(), dbNanos);
+        eventFreshnessMonitor.recordCommitted(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS, appliedEventTimes);
+
+        if (stale > 0) {
+            Counter.builder("ledger.kafka.events.stale")
+                    .tag("consumer", ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS)
+                    .register(meterRegistry)
+                    .increment(stale);
+        }
+
+        log.info("[Kafka Consumer] Transaction events applied: events={}, transactions={}, upserted={}, deleted={}, "
+                        + "stale={}",
+                events.size(), latestEvents.size(), rows.size() + createdRows.size() - deleted, deleted, stale);
+        return changes.size();
+    }
+
+    /**
+     * 이벤트 버전이 기준 버전보다 낮은지 (버전 0은 비교하지 않고 반영)
+     */
+    private boolean isStale(TransactionEvent event, long version) {
+        return event.getEventVersion() != 0 && event.getEventVersion() < version;
+    }
+
+    /**
+     * 이벤트 반영 후 상태 (카테고리 이름을 찾지 못하면 기존 카테고리 유지)
+     */
+    private TransactionSnapshot toSnapshot(TransactionEvent event, Transaction current) {
+        TransactionType type = TransactionType.valueOf(event.getType());
+        Long categoryId = categoryIdCache.resolve(event.getLedgerId(), type, event.getCategory());
+        if (categoryId == null && current != null) {
+            categoryId = current.getCategoryId();
+        }
+        return new TransactionSnapshot(
+                event.getTransactionId(),
+                event.getLedgerId(),
+                categoryId,
+                type,
+                event.getAmount(),
+                event.getTransactionDate());
+    }
+
+    private record Change(TransactionSnapshot before, TransactionSnapshot after, long eventVersion) {
+    }
+}
@@ -0,0 +1,55 @@
+-- ==========================================
+-- 기존 DB 마이그레이션: 거래 동기화 버전, 조회 인덱스, Read Model/중복 처리 테이블
+-- ==========================================
+-- schema.sql은 CREATE TABLE IF NOT EXISTS라 이미 테이블이 있는 DB에는 아래 변경이 적용되지 않습니다.
+-- 배포 전에 운영 DB에서 한 번 실행합니다 (MySQL 8.0.12 이상, 온라인 DDL).
+-- tbl_ledger_balances, tbl_ledger_monthly_stats는 비어 있으면 서비스 기동 시 tbl_transactions 기준으로 자동 채워집니다.
+USE hamkkebu_ledger;
+
+-- transaction-service 이벤트 버전 (epoch millis, 늦게 도착한 이전 이벤트는 반영하지 않음)
+-- 기존 거래는 0으로 채워져 다음 이벤트가 항상 반영됨 (메타데이터만 변경, 테이블 재작성 없음)
+ALTER TABLE tbl_transactions
+    ADD COLUMN source_version BIGINT NOT NULL DEFAULT 0 AFTER memo,
+    ALGORITHM=INSTANT;
+
+-- 유형별 합계, 거래 목록 커서 페이지네이션/내보내기용 인덱스 (쓰기를 막지 않고 생성)
+ALTER TABLE tbl_transactions
+    ADD INDEX idx_ledger_type_date (ledger_id, transaction_type, transaction_date),
+    ADD INDEX idx_ledger_deleted_date_id (ledger_id, is_deleted, transaction_date, transaction_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 가계부 잔액 Read Model
+CREATE TABLE IF NOT EXISTS tbl_ledger_balances (
+    ledger_id BIGINT PRIMARY KEY,
+    total_income DECIMAL(17, 2) NOT NULL DEFAULT 0,
+    total_expense DECIMAL(17, 2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    last_event_version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (ledger_id) REFERENCES tbl_ledgers(ledger_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 가계부 월별 통계 Rollup (카테고리 미지정 = 0)
+CREATE TABLE IF NOT EXISTS tbl_ledger_monthly_stats (
+    ledger_monthly_stat_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ledger_id BIGINT NOT NULL,
+    stat_year_month CHAR(7) NOT NULL,
+    category_id BIGINT NOT NULL DEFAULT 0,
+    transaction_type ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    total_amount DECIMAL(17, 2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_ledger_monthly_stats (ledger_id, stat_year_month, category_id, transaction_type),
+    FOREIGN KEY (ledger_id) REFERENCES tbl_ledgers(ledger_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Kafka 이벤트 중복 처리 방지 (TTL 경과 후 정리)
+CREATE TABLE IF NOT EXISTS tbl_processed_events (
+    consumer VARCHAR(50) NOT NULL,
+    event_id VARCHAR(64) NOT NULL,
+    processed_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (consumer, event_id),
+    INDEX idx_processed_at (processed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -1,3 +1,4 @@
+-- 신규 DB 초기화용 (기존 DB는 db/migration 스크립트를 순서대로 적용)
 -- Create database if not exists
 CREATE DATABASE IF NOT EXISTS hamkkebu_ledger;
 USE hamkkebu_ledger;
@@ -76,6 +77,8 @@ CREATE TABLE IF NOT EXISTS tbl_transactions (
     description VARCHAR(500),
     transaction_date DATE NOT NULL,
     memo VARCHAR(1000),
+    -- transaction-service 이벤트 버전 (epoch millis, 늦게 도착한 이전 이벤트는 반영하지 않음)
+    source_version BIGINT NOT NULL DEFAULT 0,
     -- BaseEntity fields
     is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
     deleted_at TIMESTAMP NULL,
@@ -88,10 +91,40 @@ CREATE TABLE IF NOT EXISTS tbl_transactions (
     INDEX idx_transaction_date (transaction_date),
     INDEX idx_transaction_type (transaction_type),
     INDEX idx_is_deleted (is_deleted),
+    INDEX idx_ledger_type_date (ledger_id, transaction_type, transaction_date),
+    INDEX idx_ledger_deleted_date_id (ledger_id, is_deleted, transaction_date, transaction_id),
     FOREIGN KEY (ledger_id) REFERENCES tbl_ledgers(ledger_id) ON DELETE CASCADE,
     FOREIGN KEY (category_id) REFERENCES tbl_categories(category_id) ON DELETE SET NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Create ledger balances table (가계부 잔액 Read Model)
+-- 거래 이벤트 처리 시 증분 갱신, tbl_transactions 기준으로 재계산 가능
+CREATE TABLE IF NOT EXISTS tbl_ledger_balances (
+    ledger_id BIGINT PRIMARY KEY,
+    total_income DECIMAL(17, 2) NOT NULL DEFAULT 0,
+    total_expense DECIMAL(17, 2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    last_event_version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (ledger_id) REFERENCES tbl_ledgers(ledger_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Create ledger monthly stats table (가계부 월별 통계 Rollup, 카테고리 미지정 = 0)
+CREATE TABLE IF NOT EXISTS tbl_ledger_monthly_stats (
+    ledger_monthly_stat_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ledger_id BIGINT NOT NULL,
+    stat_year_month CHAR(7) NOT NULL,
+    category_id BIGINT NOT NULL DEFAULT 0,
+    transaction_type ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    total_amount DECIMAL(17, 2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_ledger_monthly_stats (ledger_id, stat_year_month, category_id, transaction_type),
+    FOREIGN KEY (ledger_id) REFERENCES tbl_ledgers(ledger_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- Create ledger shares table (가계부 공유)
 CREATE TABLE IF NOT EXISTS tbl_ledger_shares (
     ledger_share_id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -141,6 +174,15 @@ CREATE TABLE IF NOT EXISTS tbl_outbox_event (
     INDEX idx_topic (topic)
 ) COMMENT='Transactional Outbox 이벤트 테이블';
 
+-- Create processed events table (Kafka 이벤트 중복 처리 방지, TTL 경과 후 정리)
+CREATE TABLE IF NOT EXISTS tbl_processed_events (
+    consumer VARCHAR(50) NOT NULL,
+    event_id VARCHAR(64) NOT NULL,
+    processed_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (consumer, event_id),
+    INDEX idx_processed_at (processed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- ==========================================
 -- 가계부 멤버 테이블
 -- ==========================================
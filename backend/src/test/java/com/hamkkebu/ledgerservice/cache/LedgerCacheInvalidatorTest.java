@@ -0,0 +1,188 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.hamkkebu.ledgerservice.repository.LedgerRepository;
+import com.hamkkebu.ledgerservice.security.KnownUserRegistry;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerCacheInvalidator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerCacheInvalidator 테스트")
+class LedgerCacheInvalidatorTest {
+
+    @Mock
+    private LedgerResponseCache ledgerResponseCache;
+
+    @Mock
+    private LedgerAccessResolver ledgerAccessResolver;
+
+    @Mock
+    private CategoryIdCache categoryIdCache;
+
+    @Mock
+    private UserDirectoryCache userDirectoryCache;
+
+    @Mock
+    private KnownUserRegistry knownUserRegistry;
+
+    @Mock
+    private LedgerRepository ledgerRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private LedgerCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        invalidator = new LedgerCacheInvalidator(ledgerResponseCache, ledgerAccessResolver, categoryIdCache,
+                userDirectoryCache, knownUserRegistry, ledgerRepository, redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋 후 한 번에 반영하고, 현황 요약 대상 사용자는 IN 조회 한 번으로 찾음")
+    @SuppressWarnings("unchecked")
+    void invalidateLedger_BatchedAfterCommit() {
+        // Given
+        when(ledgerResponseCache.isEnabled()).thenReturn(true);
+        when(ledgerRepository.findRelatedUserIds(anyCollection())).thenReturn(List.of(10L, 20L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        invalidator.invalidateLedger(1L);
+        invalidator.invalidateLedger(2L);
+        invalidator.invalidateLedger(1L);
+        invalidator.invalidateAccess(1L, 10L);
+
+        // Then - 커밋 전에는 조회/제거 없음
+        verifyNoInteractions(ledgerRepository, redisTemplate);
+        verify(ledgerResponseCache, never()).evictLedger(anyLong());
+
+        // When
+        completeTransaction(true);
+
+        // Then
+        ArgumentCaptor<Collection<Long>> ledgerIds = ArgumentCaptor.forClass(Collection.class);
+        verify(ledgerRepository).findRelatedUserIds(ledgerIds.capture());
+        assertThat(ledgerIds.getValue()).containsExactly(1L, 2L);
+        verify(ledgerResponseCache).evictLedger(1L);
+        verify(ledgerResponseCache).evictLedger(2L);
+        verify(ledgerResponseCache).evictSummary(10L);
+        verify(ledgerResponseCache).evictSummary(20L);
+        verify(ledgerAccessResolver).evict(1L, 10L);
+        verify(redisTemplate).convertAndSend(eq(LedgerCacheInvalidator.INVALIDATION_CHANNEL),
+                endsWith("|1,2|10,20|1:10|||"));
+    }
+
+    @Test
+    @DisplayName("롤백되면 아무것도 제거하지 않고 관련 사용자도 조회하지 않음")
+    void invalidateLedger_RolledBack() {
+        // Given
+        when(ledgerResponseCache.isEnabled()).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        invalidator.invalidateLedger(1L);
+        invalidator.invalidateUser(5L);
+        completeTransaction(false);
+
+        // Then
+        verifyNoInteractions(ledgerRepository, redisTemplate, userDirectoryCache, knownUserRegistry);
+        verify(ledgerResponseCache, never()).evictLedger(anyLong());
+    }
+
+    @Test
+    @DisplayName("응답 캐시가 꺼져 있으면 가계부 무효화에서 관련 사용자를 조회하지 않음")
+    void invalidateLedger_CacheDisabled() {
+        // Given
+        when(ledgerResponseCache.isEnabled()).thenReturn(false);
+
+        // When
+        invalidator.invalidateLedger(1L);
+
+        // Then
+        verifyNoInteractions(ledgerRepository, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 메시지는 로컬 캐시만 비우고, 이전 형식도 처리하며, 자기 메시지와 형식 오류는 무시")
+    void onMessage_EvictsLocalCaches() {
+        // When
+        invalidator.onMessage(message("other|1,2|3|4:5|6|7|8"), null);
+        invalidator.onMessage(message("legacy|9||||"), null);
+        invalidator.onMessage(message("other|x||||"), null);
+        invalidator.onMessage(message("other|1"), null);
+
+        // Then
+        verify(ledgerResponseCache).evictLedgerLocal(1L);
+        verify(ledgerResponseCache).evictLedgerLocal(2L);
+        verify(ledgerResponseCache).evictLedgerLocal(9L);
+        verify(ledgerResponseCache).evictSummaryLocal(3L);
+        verify(ledgerAccessResolver).evict(4L, 5L);
+        verify(ledgerAccessResolver).evictLedger(6L);
+        verify(categoryIdCache).evict(7L);
+        verify(userDirectoryCache).evict(8L);
+        verify(knownUserRegistry).forget(8L);
+        verify(ledgerResponseCache, never()).evictLedger(anyLong());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("자기 인스턴스가 보낸 무효화 메시지는 무시")
+    void onMessage_IgnoresOwnBroadcast() {
+        // Given - 트랜잭션 밖의 무효화는 즉시 반영하고 브로드캐스트
+        invalidator.invalidateCategories(7L);
+        ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(LedgerCacheInvalidator.INVALIDATION_CHANNEL), sent.capture());
+        verify(categoryIdCache).evict(7L);
+
+        // When
+        invalidator.onMessage(message(sent.getValue()), null);
+
+        // Then
+        verifyNoMoreInteractions(categoryIdCache);
+    }
+
+    private static void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(LedgerCacheInvalidator.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,147 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TwoTierCache 단위 테스트 (L1: Caffeine, L2: Redis Mock)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierCache 테스트")
+class TwoTierCacheTest {
+
+    private static final String REDIS_KEY = "ledger-service:cache:summary:1";
+    private static final Duration REMOTE_TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private TwoTierCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new TwoTierCache<>("summary", String.class, 100, Duration.ofMinutes(1), REMOTE_TTL,
+                redisTemplate, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L1/L2 모두 없으면 loader 결과를 L2와 L1에 저장하고, 다음 조회는 L1에서 반환")
+    void get_MissLoadsAndStoresBothTiers() {
+        // When
+        String first = cache.get(1L, this::load);
+        String second = cache.get(1L, this::load);
+
+        // Then
+        assertThat(first).isEqualTo("loaded");
+        assertThat(second).isEqualTo("loaded");
+        assertThat(loads).hasValue(1);
+        verify(valueOperations, times(1)).get(REDIS_KEY);
+        verify(valueOperations).set(REDIS_KEY, "\"loaded\"", REMOTE_TTL);
+        assertThat(l2Requests("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("L2에 있으면 loader를 호출하지 않고 L1에 채움")
+    void get_RemoteHit() {
+        // Given
+        when(valueOperations.get(REDIS_KEY)).thenReturn("\"remote\"");
+
+        // When
+        String first = cache.get(1L, this::load);
+        String second = cache.get(1L, this::load);
+
+        // Then
+        assertThat(first).isEqualTo("remote");
+        assertThat(second).isEqualTo("remote");
+        assertThat(loads).hasValue(0);
+        verify(valueOperations, times(1)).get(REDIS_KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        assertThat(l2Requests("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 L2를 건너뛰고 loader와 L1로 동작")
+    void get_RedisFailureFallsBackToLoader() {
+        // Given
+        when(valueOperations.get(REDIS_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        // When
+        String first = cache.get(1L, this::load);
+        String second = cache.get(1L, this::load);
+
+        // Then
+        assertThat(first).isEqualTo("loaded");
+        assertThat(second).isEqualTo("loaded");
+        assertThat(loads).hasValue(1);
+        assertThat(l2Requests("error")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("loader가 실패하면 아무것도 저장하지 않고 예외 전파")
+    void get_LoaderFailureStoresNothing() {
+        // When & Then
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        assertThat(cache.get(1L, this::load)).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("invalidate는 L1과 L2를 모두 비우고, invalidateLocal은 L1만 비움")
+    void invalidate() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When - 로컬만 제거하면 다음 조회는 L2(Mock: 없음)를 거쳐 다시 로드
+        cache.invalidateLocal(1L);
+        cache.get(1L, this::load);
+
+        // Then
+        assertThat(loads).hasValue(2);
+        verify(redisTemplate, never()).delete(anyString());
+
+        // When
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        // Then
+        assertThat(loads).hasValue(3);
+        verify(redisTemplate).delete(REDIS_KEY);
+        assertThat(meterRegistry.counter("ledger.cache.invalidations", "cache", "summary").count()).isEqualTo(1.0);
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return "loaded";
+    }
+
+    private double l2Requests(String result) {
+        return meterRegistry.counter("ledger.cache.l2.requests", "cache", "summary", "result", result).count();
+    }
+}
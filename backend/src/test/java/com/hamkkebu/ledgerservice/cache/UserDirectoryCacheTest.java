@@ -0,0 +1,112 @@
+package com.hamkkebu.ledgerservice.cache;
+
+import com.hamkkebu.ledgerservice.data.entity.User;
+import com.hamkkebu.ledgerservice.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserDirectoryCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDirectoryCache 테스트")
+class UserDirectoryCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final User user = User.builder().userId(USER_ID).username("testuser").email(EMAIL).build();
+
+    @Test
+    @DisplayName("userId/email 조회 결과를 캐시하고, email 조회로 채운 항목은 userId 조회에도 사용")
+    void find_Cached() {
+        // Given
+        UserDirectoryCache cache = cache(true);
+        when(userRepository.findByEmailAndIsDeletedFalse(EMAIL)).thenReturn(Optional.of(user));
+
+        // When
+        Optional<User> byEmail = cache.findByEmail(EMAIL);
+        cache.findByEmail(EMAIL);
+        Optional<User> byId = cache.findByUserId(USER_ID);
+
+        // Then
+        assertThat(byEmail).contains(user);
+        assertThat(byId).contains(user);
+        verify(userRepository, times(1)).findByEmailAndIsDeletedFalse(EMAIL);
+        verify(userRepository, never()).findByUserIdAndIsDeletedFalse(USER_ID);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않아 새로 생긴 사용자를 바로 조회")
+    void findByUserId_MissNotCached() {
+        // Given
+        UserDirectoryCache cache = cache(true);
+        when(userRepository.findByUserIdAndIsDeletedFalse(USER_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+
+        // When & Then
+        assertThat(cache.exists(USER_ID)).isFalse();
+        assertThat(cache.exists(USER_ID)).isTrue();
+        assertThat(cache.exists(USER_ID)).isTrue();
+        verify(userRepository, times(2)).findByUserIdAndIsDeletedFalse(USER_ID);
+    }
+
+    @Test
+    @DisplayName("제거하면 userId와 email 조회 모두 다시 DB를 읽음")
+    void evict_RemovesBothKeys() {
+        // Given
+        UserDirectoryCache cache = cache(true);
+        when(userRepository.findByUserIdAndIsDeletedFalse(USER_ID)).thenReturn(Optional.of(user));
+        when(userRepository.findByEmailAndIsDeletedFalse(EMAIL)).thenReturn(Optional.of(user));
+        cache.findByUserId(USER_ID);
+        cache.findByEmail(EMAIL);
+
+        // When
+        cache.evict(USER_ID);
+        cache.findByEmail(EMAIL);
+        cache.findByUserId(USER_ID);
+
+        // Then
+        verify(userRepository, times(1)).findByUserIdAndIsDeletedFalse(USER_ID);
+        verify(userRepository, times(1)).findByEmailAndIsDeletedFalse(EMAIL);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 DB를 조회")
+    void disabled_AlwaysReadsDatabase() {
+        // Given
+        UserDirectoryCache cache = cache(false);
+        when(userRepository.findByUserIdAndIsDeletedFalse(USER_ID)).thenReturn(Optional.of(user));
+        when(userRepository.findByEmailAndIsDeletedFalse(EMAIL)).thenReturn(Optional.of(user));
+
+        // When
+        cache.findByUserId(USER_ID);
+        cache.findByUserId(USER_ID);
+        cache.findByEmail(EMAIL);
+        cache.findByEmail(EMAIL);
+
+        // Then
+        assertThat(cache.isEnabled()).isFalse();
+        verify(userRepository, times(2)).findByUserIdAndIsDeletedFalse(USER_ID);
+        verify(userRepository, times(2)).findByEmailAndIsDeletedFalse(EMAIL);
+    }
+
+    private UserDirectoryCache cache(boolean enabled) {
+        return new UserDirectoryCache(userRepository, enabled, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+}
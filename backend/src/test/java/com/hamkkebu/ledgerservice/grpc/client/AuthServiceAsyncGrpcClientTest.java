@@ -0,0 +1,228 @@
+package com.hamkkebu.ledgerservice.grpc.client;
+
+import com.hamkkebu.ledgerservice.grpc.user.GetUsersRequest;
+import com.hamkkebu.ledgerservice.grpc.user.GetUsersResponse;
+import com.hamkkebu.ledgerservice.grpc.user.User;
+import com.hamkkebu.ledgerservice.grpc.user.UserServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AuthServiceAsyncGrpcClient 테스트 (In-Process gRPC 서버)
+ *
+ * <p>요청마다 미리 정한 응답 방식을 순서대로 적용하고, 정하지 않은 요청에는 응답하지 않습니다.</p>
+ */
+@DisplayName("AuthServiceAsyncGrpcClient 테스트")
+class AuthServiceAsyncGrpcClientTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(20);
+    private static final Duration DEADLINE = Duration.ofMillis(300);
+
+    private final FakeUserService userService = new FakeUserService();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ScheduledExecutorService scheduler;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        scheduler = Executors.newScheduledThreadPool(2);
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName).addService(userService).build().start();
+        channel = InProcessChannelBuilder.forName(serverName).build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 응답이 없으면 DEADLINE_EXCEEDED로 실패하고, Hedge 요청도 같은 제한 시간을 따름")
+    void getUsers_DeadlineExceeded() {
+        // Given
+        AuthServiceAsyncGrpcClient client = client(true, 10);
+
+        // When
+        long startedAt = System.nanoTime();
+        CompletableFuture<Map<Long, User>> result = client.getUsers(List.of(1L), DEADLINE);
+
+        // Then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .satisfies(e -> assertThat(Status.fromThrowable(e.getCause()).getCode())
+                        .isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(DEADLINE.multipliedBy(3));
+        assertThat(userService.calls()).isEqualTo(2);
+        assertThat(meterRegistry.find("ledger.grpc.client.requests").tag("outcome", "DEADLINE_EXCEEDED").timer())
+                .isNotNull()
+                .satisfies(timer -> assertThat(timer.count()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("원 요청이 늦으면 Hedge 요청을 보내고, 먼저 온 응답을 사용한 뒤 원 요청은 취소")
+    void getUsers_HedgeWins() throws Exception {
+        // Given
+        AuthServiceAsyncGrpcClient client = client(true, 10);
+        userService.enqueue((request, observer) -> {
+            // 원 요청은 응답하지 않음
+        });
+        userService.enqueue(respond(user(1L)));
+
+        // When
+        Map<Long, User> users = client.getUsers(List.of(1L), DEADLINE).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(users).containsOnlyKeys(1L);
+        assertThat(userService.calls()).isEqualTo(2);
+        assertThat(userService.awaitCancelled()).isTrue();
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원 요청이 먼저 응답하면 Hedge 요청을 보내지 않음")
+    void getUsers_FastResponseSkipsHedge() throws Exception {
+        // Given
+        AuthServiceAsyncGrpcClient client = client(true, 10);
+        userService.enqueue(respond(user(1L), user(2L)));
+
+        // When
+        Map<Long, User> users = client.getUsers(List.of(1L, 2L, 3L), DEADLINE).get(5, TimeUnit.SECONDS);
+        Thread.sleep(HEDGE_DELAY.multipliedBy(3).toMillis());
+
+        // Then
+        assertThat(users).containsOnlyKeys(1L, 2L);
+        assertThat(userService.calls()).isEqualTo(1);
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 쓰면 Hedge 요청 없이 원 요청의 응답을 기다림")
+    void getUsers_RetryBudgetExhausted() throws Exception {
+        // Given
+        AuthServiceAsyncGrpcClient client = client(true, 0);
+        userService.enqueue(respondAfter(HEDGE_DELAY.multipliedBy(5), user(1L)));
+
+        // When
+        Map<Long, User> users = client.getUsers(List.of(1L), DEADLINE).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(users).containsOnlyKeys(1L);
+        assertThat(userService.calls()).isEqualTo(1);
+        assertThat(hedges("budget_exhausted")).isEqualTo(1);
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    @DisplayName("원 요청이 UNAVAILABLE로 실패하면 Hedge 대기 시간 없이 바로 다시 보냄")
+    void getUsers_UnavailableRetriedImmediately() throws Exception {
+        // Given
+        AuthServiceAsyncGrpcClient client = new AuthServiceAsyncGrpcClient(scheduler, meterRegistry,
+                true, Duration.ofSeconds(5), Duration.ofSeconds(5), 20, 0.1, 10);
+        ReflectionTestUtils.setField(client, "userServiceFutureStub", UserServiceGrpc.newFutureStub(channel));
+        userService.enqueue((request, observer) -> observer.onError(Status.UNAVAILABLE.asRuntimeException()));
+        userService.enqueue(respond(user(1L)));
+
+        // When
+        Map<Long, User> users = client.getUsers(List.of(1L), Duration.ofSeconds(10)).get(2, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(users).containsOnlyKeys(1L);
+        assertThat(userService.calls()).isEqualTo(2);
+        assertThat(hedges("sent")).isEqualTo(1);
+    }
+
+    private AuthServiceAsyncGrpcClient client(boolean hedgingEnabled, double retryBudgetMaxTokens) {
+        AuthServiceAsyncGrpcClient client = new AuthServiceAsyncGrpcClient(scheduler, meterRegistry,
+                hedgingEnabled, HEDGE_DELAY, HEDGE_DELAY, 20, 0, retryBudgetMaxTokens);
+        ReflectionTestUtils.setField(client, "userServiceFutureStub", UserServiceGrpc.newFutureStub(channel));
+        return client;
+    }
+
+    private double hedges(String result) {
+        Counter counter = meterRegistry.find("ledger.grpc.client.hedges").tag("result", result).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static User user(long userId) {
+        return User.newBuilder().setUserId(userId).setUsername("user" + userId).build();
+    }
+
+    private static BiConsumer<GetUsersRequest, StreamObserver<GetUsersResponse>> respond(User... users) {
+        return (request, observer) -> {
+            observer.onNext(GetUsersResponse.newBuilder().addAllUsers(List.of(users)).build());
+            observer.onCompleted();
+        };
+    }
+
+    private BiConsumer<GetUsersRequest, StreamObserver<GetUsersResponse>> respondAfter(Duration delay, User... users) {
+        return (request, observer) -> scheduler.schedule(() -> respond(users).accept(request, observer),
+                delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 요청 순서대로 응답 방식을 적용하는 가짜 UserService
+     */
+    private static final class FakeUserService extends UserServiceGrpc.UserServiceImplBase {
+
+        private final Queue<BiConsumer<GetUsersRequest, StreamObserver<GetUsersResponse>>> handlers =
+                new ConcurrentLinkedQueue<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+
+        void enqueue(BiConsumer<GetUsersRequest, StreamObserver<GetUsersResponse>> handler) {
+            handlers.add(handler);
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        boolean awaitCancelled() throws InterruptedException {
+            return cancelled.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void getUsers(GetUsersRequest request, StreamObserver<GetUsersResponse> responseObserver) {
+            calls.incrementAndGet();
+            ((ServerCallStreamObserver<GetUsersResponse>) responseObserver).setOnCancelHandler(cancelled::countDown);
+            BiConsumer<GetUsersRequest, StreamObserver<GetUsersResponse>> handler = handlers.poll();
+            if (handler != null) {
+                handler.accept(request, responseObserver);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.hamkkebu.ledgerservice.grpc.client;
+
+import com.hamkkebu.ledgerservice.grpc.user.User;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AuthServiceUserLoader 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthServiceUserLoader 테스트")
+class AuthServiceUserLoaderTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(50);
+    private static final Duration DEADLINE = Duration.ofSeconds(1);
+
+    @Mock
+    private AuthServiceAsyncGrpcClient authServiceAsyncGrpcClient;
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 조회하면 GetUsers 한 번으로 모아 보내고, 같은 userId는 결과를 공유")
+    void load_ConcurrentCallsCoalesced() throws Exception {
+        // Given
+        // 호출 스레드가 모두 시간 창 안에 들어오도록 넉넉한 시간 창 사용
+        AuthServiceUserLoader loader = loader(Duration.ofMillis(500), 100);
+        when(authServiceAsyncGrpcClient.getUsers(anyCollection(), eq(DEADLINE)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(1L, user(1L), 2L, user(2L), 3L, user(3L))));
+        List<Long> userIds = List.of(1L, 2L, 2L, 3L, 1L);
+        ExecutorService callers = Executors.newFixedThreadPool(userIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<CompletableFuture<Optional<User>>>> loads;
+        try {
+            loads = userIds.stream()
+                    .map(userId -> callers.submit(() -> {
+                        start.await();
+                        return loader.load(userId);
+                    }))
+                    .toList();
+            start.countDown();
+            for (int i = 0; i < userIds.size(); i++) {
+                Optional<User> user = loads.get(i).get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+                assertThat(user).map(User::getUserId).contains(userIds.get(i));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // Then
+        ArgumentCaptor<Collection<Long>> requested = captor();
+        verify(authServiceAsyncGrpcClient, times(1)).getUsers(requested.capture(), eq(DEADLINE));
+        assertThat(requested.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(loads.get(1).get()).isSameAs(loads.get(2).get());
+    }
+
+    @Test
+    @DisplayName("응답에 없는 사용자는 empty, 있는 사용자는 각자의 Future로 전달")
+    void load_PartialResponse() throws Exception {
+        // Given
+        AuthServiceUserLoader loader = loader(WINDOW, 100);
+        when(authServiceAsyncGrpcClient.getUsers(anyCollection(), eq(DEADLINE)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(1L, user(1L))));
+
+        // When
+        CompletableFuture<Optional<User>> found = loader.load(1L);
+        CompletableFuture<Optional<User>> missing = loader.load(2L);
+
+        // Then
+        assertThat(found.get(5, TimeUnit.SECONDS)).map(User::getUserId).contains(1L);
+        assertThat(missing.get(5, TimeUnit.SECONDS)).isEmpty();
+        verify(authServiceAsyncGrpcClient, times(1)).getUsers(anyCollection(), eq(DEADLINE));
+    }
+
+    @Test
+    @DisplayName("배치 호출이 실패하면 모인 조회 모두 empty로 완료")
+    void load_BatchFailureCompletesEveryFuture() throws Exception {
+        // Given
+        AuthServiceUserLoader loader = loader(WINDOW, 100);
+        when(authServiceAsyncGrpcClient.getUsers(anyCollection(), eq(DEADLINE)))
+                .thenReturn(CompletableFuture.failedFuture(Status.DEADLINE_EXCEEDED.asRuntimeException()));
+
+        // When
+        CompletableFuture<Optional<User>> first = loader.load(1L);
+        CompletableFuture<Optional<User>> second = loader.load(2L);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("클라이언트 호출이 바로 예외를 던져도 모인 조회 모두 empty로 완료")
+    void load_SynchronousFailureCompletesEveryFuture() throws Exception {
+        // Given
+        AuthServiceUserLoader loader = loader(WINDOW, 100);
+        when(authServiceAsyncGrpcClient.getUsers(anyCollection(), eq(DEADLINE)))
+                .thenThrow(new IllegalStateException("circuit open"));
+
+        // When
+        CompletableFuture<Optional<User>> first = loader.load(1L);
+        CompletableFuture<Optional<User>> second = loader.load(2L);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모인 조회가 max-batch-size에 이르면 시간 창을 기다리지 않고 바로 보냄")
+    void load_FullBatchDispatchedImmediately() throws Exception {
+        // Given
+        AuthServiceUserLoader loader = loader(Duration.ofMinutes(1), 2);
+        when(authServiceAsyncGrpcClient.getUsers(anyCollection(), eq(DEADLINE)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(1L, user(1L), 2L, user(2L))));
+
+        // When
+        CompletableFuture<Optional<User>> first = loader.load(1L);
+        CompletableFuture<Optional<User>> second = loader.load(2L);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isPresent();
+        verify(authServiceAsyncGrpcClient, times(1)).getUsers(anyCollection(), eq(DEADLINE));
+    }
+
+    @Test
+    @DisplayName("대량 조회는 max-batch-size 단위로 나누어 보내고 찾은 사용자만 반환")
+    void getUsers_SplitsIntoBatches() {
+        // Given
+        AuthServiceUserLoader loader = loader(WINDOW, 2);
+        when(authServiceAsyncGrpcClient.getUsers(anyCollection(), eq(DEADLINE)))
+                .thenAnswer(invocation -> {
+                    Collection<Long> userIds = invocation.getArgument(0);
+                    return CompletableFuture.completedFuture(userIds.stream()
+                            .filter(userId -> userId != 3L)
+                            .collect(Collectors.toMap(userId -> userId, AuthServiceUserLoaderTest::user)));
+                });
+
+        // When
+        Map<Long, User> users = loader.getUsers(List.of(1L, 2L, 3L, 4L, 5L));
+
+        // Then
+        assertThat(users).containsOnlyKeys(1L, 2L, 4L, 5L);
+        verify(authServiceAsyncGrpcClient, times(3)).getUsers(anyCollection(), eq(DEADLINE));
+    }
+
+    private AuthServiceUserLoader loader(Duration window, int maxBatchSize) {
+        return new AuthServiceUserLoader(authServiceAsyncGrpcClient, scheduler, window, maxBatchSize, DEADLINE,
+                new SimpleMeterRegistry());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<Long>> captor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static User user(long userId) {
+        return User.newBuilder().setUserId(userId).setUsername("user" + userId).build();
+    }
+}
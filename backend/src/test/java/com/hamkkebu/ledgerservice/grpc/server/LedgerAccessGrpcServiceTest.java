@@ -0,0 +1,174 @@
+package com.hamkkebu.ledgerservice.grpc.server;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import com.hamkkebu.ledgerservice.grpc.access.AccessRole;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessManyRequest;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessManyResponse;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessRequest;
+import com.hamkkebu.ledgerservice.grpc.access.CheckAccessResponse;
+import com.hamkkebu.ledgerservice.grpc.access.LedgerAccessServiceGrpc;
+import com.hamkkebu.ledgerservice.security.LedgerAccess;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerAccessGrpcService 테스트 (In-Process gRPC 서버, 서비스 토큰 인증 포함)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerAccessGrpcService 테스트")
+class LedgerAccessGrpcServiceTest {
+
+    private static final String SERVICE_TOKEN = "test-token";
+    private static final long USER_ID = 10L;
+
+    @Mock
+    private LedgerAccessResolver ledgerAccessResolver;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .addService(ServerInterceptors.intercept(new LedgerAccessGrpcService(ledgerAccessResolver, 3),
+                        new ServiceTokenServerInterceptor(List.of("old-token", SERVICE_TOKEN), meterRegistry)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("서비스 토큰이 없거나 틀리면 UNAUTHENTICATED로 거부하고 권한을 조회하지 않음")
+    void checkAccess_RejectsWithoutServiceToken() {
+        // Given
+        CheckAccessRequest request = CheckAccessRequest.newBuilder().setUserId(USER_ID).setLedgerId(1L).build();
+
+        // When & Then
+        assertThatThrownBy(() -> LedgerAccessServiceGrpc.newBlockingStub(channel).checkAccess(request))
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThatThrownBy(() -> stub("wrong-token").checkAccess(request))
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThat(meterRegistry.counter("ledger.grpc.server.unauthenticated").count()).isEqualTo(2.0);
+        verifyNoInteractions(ledgerAccessResolver);
+    }
+
+    @Test
+    @DisplayName("유효 역할과 조회 가능 여부를 응답하고, 교체 중인 이전 토큰도 허용")
+    void checkAccess() {
+        // Given
+        when(ledgerAccessResolver.resolve(USER_ID, 1L))
+                .thenReturn(new LedgerAccess(1L, USER_ID, true, 20L, null, SharePermission.READ_WRITE));
+
+        // When
+        CheckAccessResponse response = stub("old-token")
+                .checkAccess(CheckAccessRequest.newBuilder().setUserId(USER_ID).setLedgerId(1L).build());
+
+        // Then
+        assertThat(response.getErrorMessage()).isEmpty();
+        assertThat(response.getAccess().getRole()).isEqualTo(AccessRole.MEMBER);
+        assertThat(response.getAccess().getOwnerId()).isEqualTo(20L);
+        assertThat(response.getAccess().getCanRead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 요청은 조회 없이 error_message로 응답")
+    void validation() {
+        // When
+        CheckAccessResponse single = stub(SERVICE_TOKEN)
+                .checkAccess(CheckAccessRequest.newBuilder().setUserId(USER_ID).setLedgerId(0L).build());
+        CheckAccessManyResponse tooMany = stub(SERVICE_TOKEN).checkAccessMany(CheckAccessManyRequest.newBuilder()
+                .setUserId(USER_ID).addAllLedgerIds(List.of(1L, 2L, 3L, 4L)).build());
+        CheckAccessManyResponse negative = stub(SERVICE_TOKEN).checkAccessMany(CheckAccessManyRequest.newBuilder()
+                .setUserId(USER_ID).addAllLedgerIds(List.of(1L, -2L)).build());
+
+        // Then
+        assertThat(single.getErrorMessage()).isEqualTo("user_id and ledger_id must be positive");
+        assertThat(tooMany.getErrorMessage()).isEqualTo("ledger_ids must not exceed 3");
+        assertThat(negative.getErrorMessage()).isEqualTo("ledger_ids must be positive");
+        verifyNoInteractions(ledgerAccessResolver);
+    }
+
+    @Test
+    @DisplayName("배치 조회는 Resolver가 돌려준 순서대로 응답하고, 없는 가계부는 NONE")
+    void checkAccessMany() {
+        // Given
+        Map<Long, LedgerAccess> accesses = new LinkedHashMap<>();
+        accesses.put(2L, new LedgerAccess(2L, USER_ID, true, USER_ID, null, null));
+        accesses.put(1L, new LedgerAccess(1L, USER_ID, true, 20L, MemberRole.VIEWER, null));
+        accesses.put(3L, LedgerAccess.notFound(3L, USER_ID));
+        when(ledgerAccessResolver.resolveAll(USER_ID, List.of(2L, 1L, 3L))).thenReturn(accesses);
+
+        // When
+        CheckAccessManyResponse response = stub(SERVICE_TOKEN).checkAccessMany(CheckAccessManyRequest.newBuilder()
+                .setUserId(USER_ID).addAllLedgerIds(List.of(2L, 1L, 3L)).build());
+
+        // Then
+        assertThat(response.getAccessesList().stream()
+                .map(access -> access.getLedgerId() + ":" + access.getRole())
+                .toList())
+                .containsExactly("2:OWNER", "1:VIEWER", "3:NONE");
+        assertThat(response.getAccesses(2).getLedgerExists()).isFalse();
+        assertThat(response.getAccesses(2).getCanRead()).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 장애는 UNAVAILABLE로 응답")
+    void dataAccessFailureMapsToUnavailable() {
+        // Given
+        when(ledgerAccessResolver.resolve(anyLong(), anyLong()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        when(ledgerAccessResolver.resolveAll(anyLong(), anyCollection()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        // When & Then
+        assertThatThrownBy(() -> stub(SERVICE_TOKEN)
+                .checkAccess(CheckAccessRequest.newBuilder().setUserId(USER_ID).setLedgerId(1L).build()))
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.UNAVAILABLE));
+        assertThatThrownBy(() -> stub(SERVICE_TOKEN).checkAccessMany(CheckAccessManyRequest.newBuilder()
+                .setUserId(USER_ID).addLedgerIds(1L).build()))
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.UNAVAILABLE));
+    }
+
+    private LedgerAccessServiceGrpc.LedgerAccessServiceBlockingStub stub(String serviceToken) {
+        Metadata headers = new Metadata();
+        headers.put(ServiceTokenServerInterceptor.SERVICE_TOKEN_KEY, serviceToken);
+        return LedgerAccessServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+}
@@ -0,0 +1,157 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.kafka.ConsumerBackpressureController.Level;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConsumerBackpressureController 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConsumerBackpressureController 테스트")
+class ConsumerBackpressureControllerTest {
+
+    private static final List<String> LISTENER_IDS = List.of("transactionEventListener", "userEventListener");
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private HikariDataSource hikari;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    @Mock
+    private ListenerPauseCoordinator listenerPauseCoordinator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConsumerBackpressureController controller;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikari);
+        lenient().when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        lenient().when(hikari.getMaximumPoolSize()).thenReturn(10);
+        controller = new ConsumerBackpressureController(dataSource, listenerPauseCoordinator, meterRegistry,
+                LISTENER_IDS, 4, Duration.ofMillis(500), List.of("/actuator/**", "/**/transactions/export"),
+                0.9, 0.5, 2);
+    }
+
+    @Test
+    @DisplayName("커넥션 대기가 이어지면 레인 수를 절반씩 줄이고, 레인이 하나인데도 과부하면 리스너를 정지")
+    void evaluate_TightensUntilPaused() {
+        // Given
+        givenPool(3, 10);
+
+        // When & Then
+        controller.evaluate();
+        assertThat(controller.level()).isEqualTo(Level.THROTTLED);
+        assertThat(controller.workerLimit()).isEqualTo(2);
+
+        controller.evaluate();
+        assertThat(controller.workerLimit()).isEqualTo(1);
+        verifyNoInteractions(listenerPauseCoordinator);
+
+        controller.evaluate();
+        controller.evaluate();
+        assertThat(controller.level()).isEqualTo(Level.PAUSED);
+        LISTENER_IDS.forEach(listenerId ->
+                verify(listenerPauseCoordinator).pause(listenerId, "db-pool-backpressure"));
+        assertThat(meterRegistry.counter("ledger.kafka.backpressure.decisions", "action", "pause").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("여유가 recovery-samples번 연속되어야 한 단계씩 되돌리고, 중간 상태가 끼면 다시 셈")
+    void evaluate_RelaxesStepByStep() {
+        // Given - 정지 상태까지 조임
+        givenPool(3, 10);
+        for (int i = 0; i < 3; i++) {
+            controller.evaluate();
+        }
+        assertThat(controller.level()).isEqualTo(Level.PAUSED);
+
+        // When & Then - 여유 1번 후 중간 상태(사용률 0.7)가 끼면 되돌리지 않음
+        givenPool(0, 2);
+        controller.evaluate();
+        givenPool(0, 7);
+        controller.evaluate();
+        givenPool(0, 2);
+        controller.evaluate();
+        assertThat(controller.level()).isEqualTo(Level.PAUSED);
+
+        controller.evaluate();
+        assertThat(controller.level()).isEqualTo(Level.THROTTLED);
+        assertThat(controller.workerLimit()).isEqualTo(1);
+        LISTENER_IDS.forEach(listenerId ->
+                verify(listenerPauseCoordinator).resume(listenerId, "db-pool-backpressure"));
+
+        controller.evaluate();
+        controller.evaluate();
+        assertThat(controller.workerLimit()).isEqualTo(2);
+
+        controller.evaluate();
+        controller.evaluate();
+        assertThat(controller.level()).isEqualTo(Level.NORMAL);
+        assertThat(controller.workerLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("사용률이 높을 때 SLO 대상 URI의 p99 초과만 과부하로 보고, 내보내기/actuator의 긴 요청은 제외")
+    void evaluate_IgnoresExcludedUris() {
+        // Given - 풀 사용률 1.0, 대기 스레드 없음
+        givenPool(0, 10);
+        recordRequest("/api/v1/ledgers/{ledgerId}/transactions/export", Duration.ofMinutes(3));
+        recordRequest("/actuator/prometheus", Duration.ofSeconds(2));
+        recordRequest("/api/v1/ledgers/{ledgerId}/transactions", Duration.ofMillis(100));
+
+        // When
+        controller.evaluate();
+
+        // Then
+        assertThat(controller.level()).isEqualTo(Level.NORMAL);
+
+        // When - SLO 대상 URI가 느려지면 조임
+        recordRequest("/api/v1/ledgers/{ledgerId}/summary", Duration.ofSeconds(1));
+        controller.evaluate();
+
+        // Then
+        assertThat(controller.level()).isEqualTo(Level.THROTTLED);
+        assertThat(controller.workerLimit()).isEqualTo(2);
+    }
+
+    /**
+     * @param active 사용 중 커넥션 수 (최대 10개)
+     */
+    private void givenPool(int pending, int active) {
+        when(pool.getThreadsAwaitingConnection()).thenReturn(pending);
+        when(pool.getActiveConnections()).thenReturn(active);
+    }
+
+    private void recordRequest(String uri, Duration duration) {
+        Timer.builder("http.server.requests")
+                .tag("uri", uri)
+                .publishPercentiles(0.99)
+                .register(meterRegistry)
+                .record(duration);
+    }
+}
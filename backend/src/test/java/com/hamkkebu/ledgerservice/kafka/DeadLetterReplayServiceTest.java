@@ -0,0 +1,190 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.config.KafkaDeadLetterConfig;
+import com.hamkkebu.ledgerservice.kafka.DeadLetterReplayService.ReplayStatus;
+import com.hamkkebu.ledgerservice.kafka.DeadLetterReplayService.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeadLetterReplayService 단위 테스트 (MockConsumer)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterReplayService 테스트")
+class DeadLetterReplayServiceTest {
+
+    private static final String RECOVERY_TOPIC = "ledger-service.transaction-events";
+    private static final String DLT = RECOVERY_TOPIC + KafkaDeadLetterConfig.DLT_TOPIC_SUFFIX;
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    @Mock
+    private ConsumerFactory<byte[], byte[]> consumerFactory;
+
+    @Mock
+    private KafkaOperations<Object, Object> kafkaOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RecordingConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new RecordingConsumer();
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+    }
+
+    @Test
+    @DisplayName("발행이 확인된 레코드까지 오프셋을 커밋하고, 재처리 토픽으로 재처리 헤더와 함께 발행")
+    @SuppressWarnings("unchecked")
+    void start_CommitsAfterSendsAcknowledged() {
+        // Given
+        givenDeadLetters(3);
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        ReplayStatus status = service(Runnable::run).status();
+
+        // Then
+        assertThat(status.state()).isEqualTo(State.SUCCEEDED);
+        assertThat(status.replayed()).isEqualTo(3);
+        assertThat(consumer.lastCommitted()).isEqualTo(3L);
+        ArgumentCaptor<ProducerRecord<Object, Object>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaOperations, times(3)).send(sent.capture());
+        assertThat(sent.getAllValues()).allSatisfy(record -> {
+            assertThat(record.topic()).isEqualTo(RECOVERY_TOPIC);
+            assertThat(new String(record.headers().lastHeader(DeadLetterReplayService.REPLAYED_FROM_HEADER).value(),
+                    StandardCharsets.UTF_8)).isEqualTo(DLT);
+        });
+        assertThat(meterRegistry.counter("ledger.kafka.dlt.replayed", "topic", DLT).count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("발행이 실패하면 오프셋을 커밋하지 않고 FAILED로 끝남")
+    @SuppressWarnings("unchecked")
+    void start_SendFailureLeavesOffsetUncommitted() {
+        // Given
+        givenDeadLetters(2);
+        when(kafkaOperations.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // When
+        ReplayStatus status = service(Runnable::run).status();
+
+        // Then
+        assertThat(status.state()).isEqualTo(State.FAILED);
+        assertThat(status.replayed()).isZero();
+        assertThat(consumer.commits).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초당 발행 건수를 지키고 maxRecords까지만 재처리")
+    @SuppressWarnings("unchecked")
+    void start_RateLimitedAndCappedAtMaxRecords() {
+        // Given - 초당 20건이면 레코드 사이 50ms
+        givenDeadLetters(6);
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        DeadLetterReplayService service = new DeadLetterReplayService(consumerFactory, kafkaOperations, meterRegistry,
+                RECOVERY_TOPIC, "ledger-service.user-events", 100, 100, Runnable::run);
+
+        // When
+        long startedAt = System.nanoTime();
+        ReplayStatus status = service.start(DLT, 5, 20);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(service.status().replayed()).isEqualTo(5);
+        assertThat(consumer.lastCommitted()).isEqualTo(5L);
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(180));
+        assertThat(status.ratePerSecond()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("재처리가 실행 중이면 새 재처리를 거부하고, 등록되지 않은 DLT나 범위를 벗어난 값은 거부")
+    void start_Rejected() {
+        // Given - 백그라운드 작업을 실행하지 않는 Executor (계속 실행 중)
+        List<Runnable> tasks = new ArrayList<>();
+        DeadLetterReplayService service = new DeadLetterReplayService(consumerFactory, kafkaOperations, meterRegistry,
+                RECOVERY_TOPIC, "ledger-service.user-events", 100, 100, tasks::add);
+
+        // When
+        ReplayStatus started = service.start(DLT, 10, 10);
+
+        // Then
+        assertThat(started.state()).isEqualTo(State.RUNNING);
+        assertThat(tasks).hasSize(1);
+        assertThatThrownBy(() -> service.start(DLT, 10, 10)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.start("user.events", 10, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.start(DLT, 101, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.start(DLT, 10, 0)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(consumerFactory);
+    }
+
+    private DeadLetterReplayService service(Executor executor) {
+        DeadLetterReplayService service = new DeadLetterReplayService(consumerFactory, kafkaOperations, meterRegistry,
+                RECOVERY_TOPIC, "ledger-service.user-events", 100, 100, executor);
+        service.start(DLT, 100, 100);
+        return service;
+    }
+
+    private void givenDeadLetters(int count) {
+        when(consumerFactory.createConsumer(eq(KafkaDeadLetterConfig.REPLAY_GROUP_ID), isNull(), isNull(),
+                any(Properties.class))).thenReturn(consumer);
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < count; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(DLT, 0, offset, ("key" + offset).getBytes(StandardCharsets.UTF_8),
+                        ("value" + offset).getBytes(StandardCharsets.UTF_8)));
+            }
+        });
+    }
+
+    /**
+     * 커밋한 오프셋을 기록하는 MockConsumer (닫힌 뒤에도 확인할 수 있도록)
+     */
+    private static final class RecordingConsumer extends MockConsumer<byte[], byte[]> {
+
+        private final List<Map<TopicPartition, OffsetAndMetadata>> commits = new ArrayList<>();
+
+        private RecordingConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            super.commitSync(offsets);
+            commits.add(Map.copyOf(offsets));
+        }
+
+        private Long lastCommitted() {
+            return commits.isEmpty() ? null : commits.get(commits.size() - 1).get(PARTITION).offset();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EventFreshnessMonitor 단위 테스트
+ */
+@DisplayName("EventFreshnessMonitor 테스트")
+class EventFreshnessMonitorTest {
+
+    private static final String CONSUMER = ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventFreshnessMonitor monitor = new EventFreshnessMonitor(meterRegistry);
+
+    @Test
+    @DisplayName("묶음 DB 시간은 묶음 크기와 관계없이 한 번만 기록하고 묶음 크기는 따로 기록")
+    void recordDbBatch_OneSamplePerBatch() {
+        // When
+        monitor.recordDbBatch(CONSUMER, 50, TimeUnit.MILLISECONDS.toNanos(100));
+        monitor.recordDbBatch(CONSUMER, 1, TimeUnit.MILLISECONDS.toNanos(4));
+
+        // Then
+        Timer timer = meterRegistry.get("ledger.kafka.events.db.batch").tag("consumer", CONSUMER).timer();
+        DistributionSummary batchSize =
+                meterRegistry.get("ledger.kafka.events.db.batch.size").tag("consumer", CONSUMER).summary();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(104);
+        assertThat(batchSize.count()).isEqualTo(2);
+        assertThat(batchSize.totalAmount()).isEqualTo(51);
+    }
+
+    @Test
+    @DisplayName("새로 반영한 이벤트가 없으면 기록하지 않음")
+    void recordDbBatch_EmptyBatchIgnored() {
+        // When
+        monitor.recordDbBatch(CONSUMER, 0, 1_000);
+
+        // Then
+        assertThat(meterRegistry.find("ledger.kafka.events.db.batch").timer()).isNull();
+        assertThat(meterRegistry.find("ledger.kafka.events.db.batch.size").summary()).isNull();
+    }
+}
@@ -0,0 +1,213 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import com.hamkkebu.ledgerservice.service.TransactionSyncService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionEventConsumer 단위 테스트 (레인 배정, 배치 실패 위치)
+ *
+ * <p>레인 2개 기준으로 ledgerId 1은 두 번째 레인, ledgerId 2는 첫 번째 레인에 배정됩니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionEventConsumer 테스트")
+class TransactionEventConsumerTest {
+
+    private static final String TOPIC = "transaction.events";
+
+    @Mock
+    private TransactionSyncService transactionSyncService;
+
+    @Mock
+    private DeadLetterRecorder deadLetterRecorder;
+
+    @Mock
+    private EventFreshnessMonitor eventFreshnessMonitor;
+
+    @Mock
+    private ObjectProvider<TransactionEventJournal> spillJournal;
+
+    @Mock
+    private ObjectProvider<ConsumerBackpressureController> backpressureController;
+
+    @Mock
+    private Consumer<?, ?> kafkaConsumer;
+
+    private final List<List<String>> appliedBatches = Collections.synchronizedList(new ArrayList<>());
+
+    private ExecutorService workerExecutor;
+
+    private TransactionEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        workerExecutor = Executors.newFixedThreadPool(2);
+        consumer = new TransactionEventConsumer(transactionSyncService, deadLetterRecorder, eventFreshnessMonitor,
+                spillJournal, backpressureController, workerExecutor, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("서로 다른 가계부가 섞여 있으면 가계부별 레인에서 수신 순서대로 반영")
+    void handle_InterleavedLedgersSplitIntoLanes() {
+        // Given
+        List<ConsumerRecord<String, TransactionEvent>> records = List.of(
+                record(0, "e-0", 1L, 10L),
+                record(1, "e-1", 2L, 20L),
+                record(2, "e-2", 1L, 11L),
+                record(3, "e-3", 2L, 21L));
+        givenApplyFailsFor();
+
+        // When
+        consumer.handleTransactionEvents(records, kafkaConsumer);
+
+        // Then
+        assertThat(appliedBatches).containsExactlyInAnyOrder(
+                List.of("e-0", "e-2"),
+                List.of("e-1", "e-3"));
+    }
+
+    @Test
+    @DisplayName("같은 거래가 poll 안에서 다른 가계부로 옮겨가도 처음 배정된 레인을 따름")
+    void handle_TransactionKeepsFirstLane() {
+        // Given
+        List<ConsumerRecord<String, TransactionEvent>> records = List.of(
+                record(0, "e-0", 1L, 10L),
+                record(1, "e-1", 2L, 10L),
+                record(2, "e-2", 2L, 20L));
+        givenApplyFailsFor();
+
+        // When
+        consumer.handleTransactionEvents(records, kafkaConsumer);
+
+        // Then
+        assertThat(appliedBatches).containsExactlyInAnyOrder(
+                List.of("e-0", "e-1"),
+                List.of("e-2"));
+    }
+
+    @Test
+    @DisplayName("다른 레인이 더 뒤쪽 레코드까지 반영한 뒤 실패해도 실패 위치를 알림")
+    void handle_FailureAfterOtherLaneSucceededReportsFailedIndex() {
+        // Given
+        List<ConsumerRecord<String, TransactionEvent>> records = List.of(
+                record(0, "e-0", 1L, 10L),
+                record(1, "e-1", 2L, 20L),
+                record(2, "e-2", 1L, 11L),
+                record(3, "e-3", 2L, 21L));
+        CountDownLatch otherLaneApplied = new CountDownLatch(1);
+        when(transactionSyncService.apply(anyList())).thenAnswer(invocation -> {
+            List<String> eventIds = eventIds(invocation.getArgument(0));
+            appliedBatches.add(eventIds);
+            if (eventIds.contains("e-3")) {
+                otherLaneApplied.countDown();
+                return eventIds.size();
+            }
+            assertThat(otherLaneApplied.await(5, TimeUnit.SECONDS)).isTrue();
+            if (eventIds.contains("e-2")) {
+                throw new IllegalStateException("boom");
+            }
+            return eventIds.size();
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> consumer.handleTransactionEvents(records, kafkaConsumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(2));
+        assertThat(appliedBatches).containsExactlyInAnyOrder(
+                List.of("e-1", "e-3"),
+                List.of("e-0", "e-2"),
+                List.of("e-0"),
+                List.of("e-2"));
+    }
+
+    @Test
+    @DisplayName("여러 레인이 실패하면 레인 순서와 관계없이 가장 앞선 실패 위치를 알림")
+    void handle_MultipleLaneFailuresReportEarliestIndex() {
+        // Given
+        List<ConsumerRecord<String, TransactionEvent>> records = List.of(
+                record(0, "e-0", 2L, 20L),
+                record(1, "e-1", 1L, 10L),
+                record(2, "e-2", 2L, 21L),
+                record(3, "e-3", 2L, 22L));
+        givenApplyFailsFor("e-1", "e-2");
+
+        // When & Then
+        assertThatThrownBy(() -> consumer.handleTransactionEvents(records, kafkaConsumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        // 실패한 레인은 첫 실패 이후 레코드를 반영하지 않음
+        assertThat(appliedBatches).contains(List.of("e-0"), List.of("e-2"), List.of("e-1"))
+                .doesNotContain(List.of("e-3"));
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 레코드는 앞쪽 레코드를 반영한 뒤 그 위치를 알림")
+    void handle_InvalidRecordReportedAfterValidPrefix() {
+        // Given
+        List<ConsumerRecord<String, TransactionEvent>> records = List.of(
+                record(0, "e-0", 1L, 10L),
+                new ConsumerRecord<>(TOPIC, 0, 1, null, null),
+                record(2, "e-2", 2L, 20L));
+        givenApplyFailsFor();
+
+        // When & Then
+        assertThatThrownBy(() -> consumer.handleTransactionEvents(records, kafkaConsumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        assertThat(appliedBatches).containsExactly(List.of("e-0"));
+    }
+
+    private void givenApplyFailsFor(String... failingEventIds) {
+        List<String> failing = List.of(failingEventIds);
+        when(transactionSyncService.apply(anyList())).thenAnswer(invocation -> {
+            List<String> eventIds = eventIds(invocation.getArgument(0));
+            appliedBatches.add(eventIds);
+            if (eventIds.stream().anyMatch(failing::contains)) {
+                throw new IllegalStateException("boom");
+            }
+            return eventIds.size();
+        });
+    }
+
+    private static List<String> eventIds(List<TransactionEvent> events) {
+        return events.stream().map(TransactionEvent::getEventId).toList();
+    }
+
+    private static ConsumerRecord<String, TransactionEvent> record(long offset, String eventId,
+                                                                   Long ledgerId, Long transactionId) {
+        TransactionEvent event = TransactionEvent.builder()
+                .eventId(eventId)
+                .eventType(TransactionEvent.EVENT_TYPE_DELETED)
+                .ledgerId(ledgerId)
+                .transactionId(transactionId)
+                .build();
+        return new ConsumerRecord<>(TOPIC, 0, offset, String.valueOf(transactionId), event);
+    }
+}
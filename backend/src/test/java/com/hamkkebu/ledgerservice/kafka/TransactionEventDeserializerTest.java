@@ -0,0 +1,167 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TransactionEventDeserializer 단위 테스트
+ */
+@DisplayName("TransactionEventDeserializer 테스트")
+class TransactionEventDeserializerTest {
+
+    private static final String TOPIC = "transaction.events";
+
+    private final TransactionEventDeserializer deserializer = new TransactionEventDeserializer();
+
+    @Test
+    @DisplayName("생성 이벤트를 DTO로 바로 바인딩")
+    void deserialize_Created() {
+        // Given
+        String json = """
+                {"eventId":"e-1","eventType":"TRANSACTION_CREATED","timestamp":"2025-03-01T12:00:05",
+                 "transactionId":100,"ledgerId":1,"type":"EXPENSE","amount":5000.50,
+                 "transactionDate":"2025-03-01","category":"식비","unknownField":"ignored"}
+                """;
+
+        // When
+        TransactionEvent event = deserialize(json);
+
+        // Then
+        assertThat(event.getEventId()).isEqualTo("e-1");
+        assertThat(event.getTransactionId()).isEqualTo(100L);
+        assertThat(event.getLedgerId()).isEqualTo(1L);
+        assertThat(event.getAmount()).isEqualByComparingTo(new BigDecimal("5000.50"));
+        assertThat(event.getTransactionDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(event.getTimestamp()).isEqualTo(LocalDateTime.of(2025, 3, 1, 12, 0, 5));
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트는 eventId와 transactionId만 있으면 통과")
+    void deserialize_DeletedRequiresOnlyIds() {
+        // Given
+        String json = """
+                {"eventId":"e-2","eventType":"TRANSACTION_DELETED","transactionId":100}
+                """;
+
+        // When
+        TransactionEvent event = deserialize(json);
+
+        // Then
+        assertThat(event.getEventType()).isEqualTo(TransactionEvent.EVENT_TYPE_DELETED);
+        assertThat(event.getLedgerId()).isNull();
+    }
+
+    @Test
+    @DisplayName("eventId가 없거나 비어 있으면 거부")
+    void deserialize_MissingEventId() {
+        // Given
+        String missing = """
+                {"eventType":"TRANSACTION_DELETED","transactionId":100}
+                """;
+        String blank = """
+                {"eventId":" ","eventType":"TRANSACTION_DELETED","transactionId":100}
+                """;
+
+        // When & Then
+        assertThatThrownBy(() -> deserialize(missing))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("eventId");
+        assertThatThrownBy(() -> deserialize(blank))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("eventId");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 eventType은 거부")
+    void deserialize_UnknownEventType() {
+        // Given
+        String json = created().replace("TRANSACTION_CREATED", "TRANSACTION_ARCHIVED");
+
+        // When & Then
+        assertThatThrownBy(() -> deserialize(json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("eventType");
+    }
+
+    @Test
+    @DisplayName("INCOME/EXPENSE가 아닌 type은 거부")
+    void deserialize_InvalidType() {
+        // Given
+        String json = created().replace("\"EXPENSE\"", "\"TRANSFER\"");
+
+        // When & Then
+        assertThatThrownBy(() -> deserialize(json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Invalid type");
+    }
+
+    @Test
+    @DisplayName("음수 금액은 거부")
+    void deserialize_NegativeAmount() {
+        // Given
+        String json = created().replace("5000", "-5000");
+
+        // When & Then
+        assertThatThrownBy(() -> deserialize(json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Invalid amount");
+    }
+
+    @Test
+    @DisplayName("생성/수정 이벤트에 ledgerId가 없으면 거부")
+    void deserialize_MissingLedgerId() {
+        // Given
+        String json = created().replace("\"ledgerId\":1,", "");
+
+        // When & Then
+        assertThatThrownBy(() -> deserialize(json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("ledgerId");
+    }
+
+    @Test
+    @DisplayName("생성/수정 이벤트에 transactionDate가 없으면 거부")
+    void deserialize_MissingTransactionDate() {
+        // Given
+        String json = created().replace(",\"transactionDate\":\"2025-03-01\"", "");
+
+        // When & Then
+        assertThatThrownBy(() -> deserialize(json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("transactionDate");
+    }
+
+    @Test
+    @DisplayName("JSON 형식 오류는 SerializationException")
+    void deserialize_Malformed() {
+        // When & Then
+        assertThatThrownBy(() -> deserialize("{\"eventId\":"))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Malformed");
+    }
+
+    @Test
+    @DisplayName("null 값은 null로 전달")
+    void deserialize_Null() {
+        // When & Then
+        assertThat(deserializer.deserialize(TOPIC, null)).isNull();
+    }
+
+    private String created() {
+        return "{\"eventId\":\"e-1\",\"eventType\":\"TRANSACTION_CREATED\",\"transactionId\":100,\"ledgerId\":1,"
+                + "\"type\":\"EXPENSE\",\"amount\":5000,\"transactionDate\":\"2025-03-01\"}";
+    }
+
+    private TransactionEvent deserialize(String json) {
+        return deserializer.deserialize(TOPIC, json.getBytes(StandardCharsets.UTF_8));
+    }
+}
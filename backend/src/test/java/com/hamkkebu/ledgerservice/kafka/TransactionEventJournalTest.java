@@ -0,0 +1,243 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.kafka.TransactionEventJournal.Batch;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TransactionEventJournal 단위 테스트
+ */
+@DisplayName("TransactionEventJournal 테스트")
+class TransactionEventJournalTest {
+
+    private static final DataSize SMALL_SEGMENT = DataSize.ofKilobytes(1);
+    private static final DataSize LARGE_SEGMENT = DataSize.ofMegabytes(1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("적재한 순서대로 읽고, commit하면 남은 이벤트 수가 줄어듦")
+    void appendReadCommit() {
+        // Given
+        TransactionEventJournal journal = open(LARGE_SEGMENT);
+        journal.append(events(1, 3));
+
+        // When
+        Batch first = journal.read(2);
+        journal.commit(first);
+        Batch second = journal.read(10);
+
+        // Then
+        assertThat(eventIds(first)).containsExactly("e-1", "e-2");
+        assertThat(eventIds(second)).containsExactly("e-3");
+        assertThat(journal.pendingEvents()).isEqualTo(1);
+        journal.commit(second);
+        assertThat(journal.hasPending()).isFalse();
+        assertThat(journal.read(10).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 다음 세그먼트로 넘어가고, 반영 완료된 세그먼트는 삭제")
+    void segmentRoll() throws IOException {
+        // Given
+        TransactionEventJournal journal = open(SMALL_SEGMENT);
+        journal.append(events(1, 10));
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+        // When
+        Batch batch = journal.read(100);
+        journal.commit(batch);
+
+        // Then
+        assertThat(eventIds(batch)).containsExactlyElementsOf(ids(1, 10));
+        assertThat(batch.records()).isEqualTo(10);
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(journal.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시작하면 checkpoint 이후 이벤트부터 다시 읽음")
+    void restartReplaysFromCheckpoint() {
+        // Given
+        TransactionEventJournal journal = open(SMALL_SEGMENT);
+        journal.append(events(1, 6));
+        journal.commit(journal.read(4));
+        journal.read(2); // 반영 중 종료 (commit 전)
+
+        // When
+        TransactionEventJournal restarted = open(SMALL_SEGMENT);
+
+        // Then
+        assertThat(restarted.pendingEvents()).isEqualTo(2);
+        assertThat(eventIds(restarted.read(10))).containsExactly("e-5", "e-6");
+    }
+
+    @Test
+    @DisplayName("재시작하면 기록 도중 끊긴 레코드를 잘라내고 그 자리부터 이어 씀")
+    void restartTruncatesTornRecord() throws IOException {
+        // Given
+        TransactionEventJournal journal = open(LARGE_SEGMENT);
+        journal.append(events(1, 2));
+        int end = journal.read(10).end().offset();
+        overwrite(segmentPath(0), end, ByteBuffer.allocate(8).putInt(100).putInt(12345).flip());
+
+        // When
+        TransactionEventJournal restarted = open(LARGE_SEGMENT);
+        restarted.append(events(3, 3));
+
+        // Then
+        assertThat(eventIds(restarted.read(10))).containsExactly("e-1", "e-2", "e-3");
+        assertThat(restarted.quarantined()).isZero();
+    }
+
+    @Test
+    @DisplayName("이전 세그먼트의 CRC가 맞지 않으면 나머지를 격리하고 다음 세그먼트부터 계속 읽음")
+    void crcMismatchQuarantinesSegmentTail() throws IOException {
+        // Given
+        TransactionEventJournal journal = open(SMALL_SEGMENT);
+        journal.append(events(1, 10));
+        overwrite(segmentPath(0), 8, ByteBuffer.wrap("X".getBytes(StandardCharsets.UTF_8)));
+
+        // When
+        Batch batch = journal.read(100);
+        journal.commit(batch);
+
+        // Then
+        List<String> remaining = eventIds(batch);
+        assertThat(remaining).isNotEmpty().doesNotContain("e-1");
+        assertThat(ids(1, 10)).endsWith(remaining.toArray(String[]::new));
+        assertThat(batch.tailQuarantined()).isTrue();
+        assertThat(journal.quarantined()).isEqualTo(1);
+        assertThat(quarantineFiles()).hasSize(1);
+        assertThat(journal.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰는 중인 세그먼트의 길이가 손상되면 격리 후 새 세그먼트로 전환 (읽기가 멈추지 않음)")
+    void corruptedLengthInWriteSegmentDoesNotBlockReads() throws IOException {
+        // Given
+        TransactionEventJournal journal = open(LARGE_SEGMENT);
+        journal.append(events(1, 2));
+        overwrite(segmentPath(0), 0, ByteBuffer.allocate(4).putInt(Integer.MAX_VALUE).flip());
+
+        // When
+        Batch corrupted = journal.read(100);
+        journal.commit(corrupted);
+        journal.append(events(3, 3));
+        Batch next = journal.read(100);
+
+        // Then
+        assertThat(corrupted.records()).isZero();
+        assertThat(corrupted.isEmpty()).isFalse();
+        assertThat(eventIds(next)).containsExactly("e-3");
+        assertThat(journal.quarantined()).isEqualTo(1);
+        assertThat(quarantineFiles()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("CRC는 맞지만 검증에 실패한 레코드는 내용만 격리하고 건너뜀")
+    void invalidRecordQuarantined() throws IOException {
+        // Given
+        byte[] payload = "{\"eventType\":\"TRANSACTION_DELETED\",\"transactionId\":1}"
+                .getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        Files.write(segmentPath(0), ByteBuffer.allocate(8 + payload.length)
+                .putInt(payload.length).putInt((int) crc.getValue()).put(payload).array());
+        TransactionEventJournal journal = open(LARGE_SEGMENT);
+        assertThat(journal.pendingEvents()).isEqualTo(1);
+
+        // When
+        Batch batch = journal.read(10);
+        journal.commit(batch);
+
+        // Then
+        assertThat(batch.events()).isEmpty();
+        assertThat(batch.records()).isEqualTo(1);
+        assertThat(journal.quarantined()).isEqualTo(1);
+        assertThat(quarantineFiles()).hasSize(1);
+        assertThat(journal.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("eventId가 없는 이벤트는 적재하지 않음")
+    void appendRejectsMissingEventId() {
+        // Given
+        TransactionEventJournal journal = open(LARGE_SEGMENT);
+        TransactionEvent event = TransactionEvent.builder()
+                .eventType(TransactionEvent.EVENT_TYPE_DELETED)
+                .transactionId(1L)
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> journal.append(List.of(event)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("eventId");
+        assertThat(journal.hasPending()).isFalse();
+    }
+
+    private TransactionEventJournal open(DataSize segmentSize) {
+        return new TransactionEventJournal(directory, segmentSize, new SimpleMeterRegistry());
+    }
+
+    private static List<TransactionEvent> events(int from, int to) {
+        return IntStream.rangeClosed(from, to)
+                .mapToObj(i -> TransactionEvent.builder()
+                        .eventId("e-" + i)
+                        .eventType(TransactionEvent.EVENT_TYPE_DELETED)
+                        .transactionId((long) i)
+                        .build())
+                .toList();
+    }
+
+    private static List<String> ids(int from, int to) {
+        return IntStream.rangeClosed(from, to).mapToObj(i -> "e-" + i).toList();
+    }
+
+    private static List<String> eventIds(Batch batch) {
+        return batch.events().stream().map(TransactionEvent::getEventId).toList();
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("segment-%020d.journal", segment));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".journal")).toList();
+        }
+    }
+
+    private List<Path> quarantineFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("quarantine"))) {
+            return files.toList();
+        }
+    }
+
+    private static void overwrite(Path file, long offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes, offset + bytes.position());
+            }
+        }
+    }
+}
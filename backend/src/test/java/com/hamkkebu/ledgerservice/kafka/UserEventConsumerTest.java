@@ -0,0 +1,147 @@
+package com.hamkkebu.ledgerservice.kafka;
+
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.grpc.client.AuthServiceUserLoader;
+import com.hamkkebu.ledgerservice.repository.UserRepository;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserEventConsumer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserEventConsumer 테스트")
+class UserEventConsumerTest {
+
+    private static final String TOPIC = "user.events";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuthServiceUserLoader authServiceUserLoader;
+
+    @Mock
+    private LedgerCacheInvalidator ledgerCacheInvalidator;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private DeadLetterRecorder deadLetterRecorder;
+
+    @Mock
+    private EventFreshnessMonitor eventFreshnessMonitor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Consumer<?, ?> consumer;
+
+    private UserEventConsumer userEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        userEventConsumer = new UserEventConsumer(userRepository, authServiceUserLoader, ledgerCacheInvalidator,
+                processedEventStore, deadLetterRecorder, eventFreshnessMonitor, transactionManager);
+    }
+
+    @Test
+    @DisplayName("poll의 사용자를 트랜잭션을 열기 전에 한 번에 조회하고, 처리한 이벤트와 삭제 이벤트의 사용자는 조회하지 않음")
+    @SuppressWarnings("unchecked")
+    void handleUserEvents_PrefetchesUsersOncePerPoll() {
+        // Given
+        when(processedEventStore.findProcessed(eq(ProcessedEventStore.CONSUMER_USER_EVENTS), anyCollection()))
+                .thenReturn(Set.of("e4"));
+        List<ConsumerRecord<String, Map<String, Object>>> records = List.of(
+                record(0, event("e1", "USER_REGISTERED", 1L)),
+                record(1, event("e2", "USER_REGISTERED", 2L)),
+                record(2, event("e3", "USER_DELETED", 3L)),
+                record(3, event("e4", "USER_REGISTERED", 4L)),
+                record(4, event("e5", "USER_REGISTERED", 1L)));
+
+        // When
+        userEventConsumer.handleUserEvents(records, consumer);
+
+        // Then
+        ArgumentCaptor<Collection<Long>> userIds = ArgumentCaptor.forClass(Collection.class);
+        InOrder inOrder = inOrder(authServiceUserLoader, transactionManager);
+        inOrder.verify(authServiceUserLoader).getUsers(userIds.capture());
+        inOrder.verify(transactionManager).getTransaction(any());
+        assertThat(userIds.getValue()).containsExactly(1L, 2L);
+        verify(authServiceUserLoader, never()).getUser(anyLong());
+        verify(transactionManager, times(4)).commit(any());
+        verify(processedEventStore, never()).markProcessed(ProcessedEventStore.CONSUMER_USER_EVENTS, List.of("e4"));
+    }
+
+    @Test
+    @DisplayName("레코드 처리에 실패하면 그 위치를 BatchListenerFailedException으로 알리고 앞쪽 처리분만 기록")
+    void handleUserEvents_FailureReportsIndex() {
+        // Given
+        doThrow(new IllegalStateException("db down"))
+                .when(processedEventStore).markProcessed(ProcessedEventStore.CONSUMER_USER_EVENTS, List.of("e2"));
+        List<ConsumerRecord<String, Map<String, Object>>> records = List.of(
+                record(0, event("e1", "USER_DELETED", 1L)),
+                record(1, event("e2", "USER_DELETED", 2L)),
+                record(2, event("e3", "USER_DELETED", 3L)));
+
+        // When & Then
+        assertThatThrownBy(() -> userEventConsumer.handleUserEvents(records, consumer))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
+        verify(processedEventStore, never()).markProcessed(ProcessedEventStore.CONSUMER_USER_EVENTS, List.of("e3"));
+        verify(eventFreshnessMonitor).recordProcessing(eq(ProcessedEventStore.CONSUMER_USER_EVENTS),
+                eq(Map.of("USER_DELETED", 1)), anyLong());
+        verifyNoInteractions(authServiceUserLoader);
+    }
+
+    @Test
+    @DisplayName("역직렬화하지 못한 레코드는 형식 오류로 그 위치를 알림")
+    void handleUserEvents_MalformedRecord() {
+        // Given
+        List<ConsumerRecord<String, Map<String, Object>>> records = new ArrayList<>();
+        records.add(record(0, event("e1", "USER_DELETED", 1L)));
+        records.add(record(1, null));
+
+        // When & Then
+        assertThatThrownBy(() -> userEventConsumer.handleUserEvents(records, consumer))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
+        verify(processedEventStore).markProcessed(ProcessedEventStore.CONSUMER_USER_EVENTS, List.of("e1"));
+    }
+
+    private static ConsumerRecord<String, Map<String, Object>> record(long offset, Map<String, Object> value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+
+    private static Map<String, Object> event(String eventId, String eventType, Long userId) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("eventId", eventId);
+        event.put("eventType", eventType);
+        event.put("userId", userId);
+        return event;
+    }
+}
@@ -0,0 +1,155 @@
+package com.hamkkebu.ledgerservice.repository;
+
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter.SyncedRow;
+import com.hamkkebu.ledgerservice.repository.TransactionProjectionRebuildRepository.DeletedRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 프로젝션 재구성 Shadow 테이블 쓰기/교체 테스트 (MySQL)
+ *
+ * <p>재구성 중 라이브 이벤트와 재전달된 이전 이벤트가 섞여도 source_version 조건으로
+ * 교체 후 tbl_transactions에 최신 상태가 남는지 확인합니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("TransactionProjectionRebuildRepository 테스트")
+class TransactionProjectionRebuildRepositoryTest {
+
+    private static final long LEDGER_ID = 1L;
+    private static final long TRANSACTION_ID = 100L;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("hamkkebu_ledger")
+            .withUsername("root")
+            .withPassword("test")
+            .withInitScript("schema.sql");
+
+    private JdbcTemplate jdbcTemplate;
+    private SyncedTransactionWriter writer;
+    private TransactionProjectionRebuildRepository rebuildRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+        writer = new SyncedTransactionWriter(jdbcTemplate);
+        rebuildRepository = new TransactionProjectionRebuildRepository(jdbcTemplate);
+
+        rebuildRepository.dropShadow();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TransactionProjectionRebuildRepository.PREVIOUS_TABLE);
+        jdbcTemplate.update("DELETE FROM " + SyncedTransactionWriter.TABLE);
+        jdbcTemplate.update("INSERT IGNORE INTO tbl_ledgers (ledger_id, user_id, ledger_name) VALUES (?, 1, 'ledger')",
+                LEDGER_ID);
+    }
+
+    @Test
+    @DisplayName("재구성 중 다른 인스턴스가 이전 테이블에 쓴 최신 이벤트는 교체 후 다시 반영되고, 늦은 이전 이벤트는 무시")
+    void liveEventDuringRebuildSurvivesSwap() {
+        // Given - 기존 프로젝션(v1)을 기준으로 중간 지점부터 재구성
+        writer.write(List.of(row(1000, 1)));
+        rebuildRepository.createShadow();
+        rebuildRepository.seedShadow(1000);
+
+        // 재구성이 v2까지 읽는 동안 다른 인스턴스가 이전 테이블에 v3 반영
+        writer.write(List.of(row(3000, 3)));
+        writer.writeShadow(List.of(row(2000, 2)));
+
+        // When - 교체 후 나머지 구간(v3)과 재전달된 v2를 tbl_transactions에 반영
+        rebuildRepository.swap();
+        writer.write(List.of(row(3000, 3)));
+        writer.write(List.of(row(2000, 2)));
+
+        // Then
+        assertThat(current()).containsEntry("source_version", 3L);
+        assertThat((BigDecimal) current().get("amount")).isEqualByComparingTo("3000");
+        assertThat(previous().get("source_version")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Shadow 테이블에도 버전 조건이 적용되어, 늦게 반영된 이전 이벤트가 최신 상태를 덮어쓰지 않음")
+    void shadowWriteKeepsNewestVersion() {
+        // Given - 따라잡기 단계에서 v3, 다른 파티션 그룹에서 v2가 늦게 도착
+        rebuildRepository.createShadow();
+        writer.writeShadow(List.of(row(3000, 3)));
+        writer.writeShadow(List.of(row(2000, 2)));
+
+        // When
+        rebuildRepository.swap();
+        writer.write(List.of(row(3000, 3)));
+
+        // Then
+        assertThat(current()).containsEntry("source_version", 3L);
+        assertThat((BigDecimal) current().get("amount")).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("재구성 중 삭제된 거래는 교체 후 이전 버전 Upsert가 와도 삭제 상태 유지")
+    void liveDeleteDuringRebuildSurvivesSwap() {
+        // Given
+        rebuildRepository.createShadow();
+        writer.writeShadow(List.of(row(2000, 2)));
+        writer.write(List.of(row(2000, 2)));
+        rebuildRepository.markDeleted(List.of(new DeletedRow(TRANSACTION_ID, 3)));
+
+        // When - 교체 후 삭제(v3)를 다시 반영하고, 재전달된 v2 Upsert 반영
+        rebuildRepository.swap();
+        rebuildRepository.markDeleted(List.of(new DeletedRow(TRANSACTION_ID, 3)));
+        writer.write(List.of(row(2000, 2)));
+
+        // Then
+        Map<String, Object> row = current();
+        assertThat(row.get("is_deleted")).isEqualTo(true);
+        assertThat(row.get("deleted_at")).isNotNull();
+        assertThat(row).containsEntry("source_version", 3L);
+    }
+
+    @Test
+    @DisplayName("이미 있는 거래는 생성 삽입에서 건너뛰고 삽입 수에서 빠짐")
+    void insertAbsentSkipsExistingRow() {
+        // Given - 다른 경로가 먼저 생성
+        writer.write(List.of(row(3000, 3)));
+
+        // When
+        int inserted = writer.insertAbsent(List.of(row(2000, 2)));
+
+        // Then
+        assertThat(inserted).isZero();
+        assertThat(current()).containsEntry("source_version", 3L);
+        assertThat((BigDecimal) current().get("amount")).isEqualByComparingTo("3000");
+    }
+
+    private static SyncedRow row(long amount, long sourceVersion) {
+        TransactionSnapshot snapshot = new TransactionSnapshot(TRANSACTION_ID, LEDGER_ID, null,
+                TransactionType.EXPENSE, BigDecimal.valueOf(amount), LocalDate.of(2026, 1, 15));
+        return SyncedRow.upsert(snapshot, "점심", null, sourceVersion);
+    }
+
+    private Map<String, Object> current() {
+        return find(SyncedTransactionWriter.TABLE);
+    }
+
+    private Map<String, Object> previous() {
+        return find(TransactionProjectionRebuildRepository.PREVIOUS_TABLE);
+    }
+
+    private Map<String, Object> find(String table) {
+        return jdbcTemplate.queryForMap("SELECT amount, is_deleted, deleted_at, source_version FROM " + table
+                + " WHERE transaction_id = ?", TRANSACTION_ID);
+    }
+}
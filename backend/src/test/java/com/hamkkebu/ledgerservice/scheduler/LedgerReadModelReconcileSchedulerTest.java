@@ -0,0 +1,159 @@
+package com.hamkkebu.ledgerservice.scheduler;
+
+import com.hamkkebu.ledgerservice.service.LedgerBalanceService;
+import com.hamkkebu.ledgerservice.service.LedgerMonthlyStatService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerReadModelReconcileScheduler 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerReadModelReconcileScheduler 테스트")
+class LedgerReadModelReconcileSchedulerTest {
+
+    private static final String GET_LOCK_SQL = "SELECT GET_LOCK(?, ?)";
+    private static final String RELEASE_LOCK_SQL = "SELECT RELEASE_LOCK(?)";
+
+    @Mock
+    private LedgerBalanceService ledgerBalanceService;
+
+    @Mock
+    private LedgerMonthlyStatService ledgerMonthlyStatService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement getLock;
+
+    @Mock
+    private PreparedStatement releaseLock;
+
+    @Mock
+    private ResultSet getLockResult;
+
+    @Mock
+    private ResultSet releaseLockResult;
+
+    private LedgerReadModelReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scheduler = new LedgerReadModelReconcileScheduler(
+                ledgerBalanceService, ledgerMonthlyStatService, jdbcTemplate, Duration.ofMinutes(10));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.prepareStatement(GET_LOCK_SQL)).thenReturn(getLock);
+        when(getLock.executeQuery()).thenReturn(getLockResult);
+        when(getLockResult.next()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("잠금을 얻으면 청크 단위로 재계산하고 잠금을 해제")
+    void scheduledReconcile_LockAcquired() throws Exception {
+        // Given
+        givenLockResult(1);
+        when(connection.prepareStatement(RELEASE_LOCK_SQL)).thenReturn(releaseLock);
+        when(releaseLock.executeQuery()).thenReturn(releaseLockResult);
+        when(ledgerBalanceService.getRebuildChunkSize()).thenReturn(2);
+        when(ledgerBalanceService.findLedgerIdChunk(0L)).thenReturn(List.of(1L, 2L));
+        when(ledgerBalanceService.findLedgerIdChunk(2L)).thenReturn(List.of(3L));
+
+        // When
+        scheduler.scheduledReconcile();
+
+        // Then
+        verify(getLock).setLong(2, 0L);
+        verify(ledgerBalanceService).rebuild(List.of(1L, 2L));
+        verify(ledgerBalanceService).rebuild(List.of(3L));
+        verify(ledgerMonthlyStatService).rebuild(List.of(1L, 2L));
+        verify(ledgerMonthlyStatService).rebuild(List.of(3L));
+        verify(releaseLock).setString(1, LedgerReadModelReconcileScheduler.LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 잡고 있으면 정기 재계산을 건너뜀")
+    void scheduledReconcile_LockHeldElsewhere() throws Exception {
+        // Given
+        givenLockResult(0);
+
+        // When
+        scheduler.scheduledReconcile();
+
+        // Then
+        verifyNoInteractions(ledgerBalanceService, ledgerMonthlyStatService);
+        verify(connection, never()).prepareStatement(RELEASE_LOCK_SQL);
+    }
+
+    @Test
+    @DisplayName("기동 시 잠금을 얻은 뒤 Read Model이 이미 채워져 있으면 재계산하지 않음")
+    void rebuildIfEmpty_AlreadyFilledByOtherInstance() throws Exception {
+        // Given
+        givenLockResult(1);
+        when(connection.prepareStatement(RELEASE_LOCK_SQL)).thenReturn(releaseLock);
+        when(releaseLock.executeQuery()).thenReturn(releaseLockResult);
+        when(ledgerBalanceService.isEmpty()).thenReturn(false);
+        when(ledgerMonthlyStatService.isEmpty()).thenReturn(false);
+
+        // When
+        scheduler.rebuildIfEmpty();
+
+        // Then
+        verify(ledgerBalanceService, never()).rebuild(any());
+        verify(ledgerMonthlyStatService, never()).rebuild(any());
+        verify(releaseLock).executeQuery();
+    }
+
+    @Test
+    @DisplayName("재계산 중 예외가 나도 잠금을 해제")
+    void reconcileAll_ReleasesLockOnFailure() throws Exception {
+        // Given
+        givenLockResult(1);
+        when(connection.prepareStatement(RELEASE_LOCK_SQL)).thenReturn(releaseLock);
+        when(releaseLock.executeQuery()).thenReturn(releaseLockResult);
+        when(ledgerBalanceService.findLedgerIdChunk(0L)).thenReturn(List.of(1L));
+        when(ledgerBalanceService.rebuild(List.of(1L))).thenThrow(new IllegalStateException("deadlock"));
+
+        // When & Then
+        assertThatThrownBy(() -> scheduler.reconcileAll()).hasMessage("deadlock");
+        verify(releaseLock).executeQuery();
+    }
+
+    @Test
+    @DisplayName("lock-wait 안에 잠금을 얻지 못하면 reconcileAll은 예외")
+    void reconcileAll_LockWaitTimeout() throws Exception {
+        // Given
+        givenLockResult(0);
+
+        // When & Then
+        assertThatThrownBy(() -> scheduler.reconcileAll())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("lock not acquired");
+        verify(getLock).setLong(2, 600L);
+        verifyNoInteractions(ledgerBalanceService, ledgerMonthlyStatService);
+    }
+
+    private void givenLockResult(int result) throws Exception {
+        when(getLockResult.getInt(1)).thenReturn(result);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hamkkebu.ledgerservice.scheduler;
+
+import com.hamkkebu.ledgerservice.kafka.ListenerPauseCoordinator;
+import com.hamkkebu.ledgerservice.kafka.TransactionEventConsumer;
+import com.hamkkebu.ledgerservice.kafka.TransactionEventJournal;
+import com.hamkkebu.ledgerservice.kafka.TransactionEventJournal.Batch;
+import com.hamkkebu.ledgerservice.kafka.TransactionEventJournal.Position;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import com.hamkkebu.ledgerservice.service.TransactionSyncService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionEventJournalDrainScheduler 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionEventJournalDrainScheduler 테스트")
+class TransactionEventJournalDrainSchedulerTest {
+
+    private static final String LISTENER_ID = TransactionEventConsumer.TRANSACTION_EVENT_LISTENER_ID;
+
+    @Mock
+    private TransactionEventJournal journal;
+
+    @Mock
+    private TransactionSyncService transactionSyncService;
+
+    @Mock
+    private ListenerPauseCoordinator listenerPauseCoordinator;
+
+    @Mock
+    private KafkaOperations<Object, Object> deadLetterKafkaTemplate;
+
+    private TransactionEventJournalDrainScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TransactionEventJournalDrainScheduler(journal, transactionSyncService,
+                listenerPauseCoordinator, deadLetterKafkaTemplate, "ledger-service.transaction-events", 2,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("DB가 복구되면 리스너를 멈추고 저널을 모두 반영한 뒤 재시작")
+    void drain_PausesListenerUntilEmpty() {
+        // Given
+        Batch first = batch(0, 2, "e-1", "e-2");
+        Batch second = batch(2, 3, "e-3");
+        Batch empty = batch(3, 3);
+        when(journal.hasPending()).thenReturn(true);
+        when(journal.read(2)).thenReturn(first, second, empty);
+        when(listenerPauseCoordinator.pause(LISTENER_ID, "spill-journal-drain")).thenReturn(true);
+
+        // When
+        scheduler.drain();
+
+        // Then
+        InOrder inOrder = inOrder(transactionSyncService, journal, listenerPauseCoordinator);
+        inOrder.verify(transactionSyncService).apply(first.events());
+        inOrder.verify(journal).commit(first);
+        inOrder.verify(listenerPauseCoordinator).pause(LISTENER_ID, "spill-journal-drain");
+        inOrder.verify(transactionSyncService).apply(second.events());
+        inOrder.verify(journal).commit(second);
+        inOrder.verify(listenerPauseCoordinator).resume(LISTENER_ID, "spill-journal-drain");
+        verify(listenerPauseCoordinator, times(1)).pause(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("DB가 아직 장애면 리스너를 멈추지 않고 (계속 적재) 다음 주기에 다시 시도")
+    void drain_DatabaseUnavailableKeepsListenerRunning() {
+        // Given
+        Batch first = batch(0, 2, "e-1", "e-2");
+        when(journal.hasPending()).thenReturn(true);
+        when(journal.read(2)).thenReturn(first);
+        when(transactionSyncService.apply(any()))
+                .thenThrow(new CannotCreateTransactionException("Connection refused"));
+
+        // When
+        scheduler.drain();
+
+        // Then
+        verify(journal, never()).commit(any());
+        verifyNoInteractions(listenerPauseCoordinator);
+    }
+
+    @Test
+    @DisplayName("격리로 위치만 넘어간 묶음도 commit하고 다음 묶음을 읽음")
+    void drain_CommitsQuarantinedBatch() {
+        // Given
+        Batch quarantined = new Batch(List.of(), 0, new Position(0, 0), new Position(1, 0), true);
+        Batch next = batch(0, 1, "e-1");
+        Batch empty = new Batch(List.of(), 0, new Position(1, 100), new Position(1, 100), false);
+        when(journal.hasPending()).thenReturn(true);
+        when(journal.read(2)).thenReturn(quarantined, next, empty);
+
+        // When
+        scheduler.drain();
+
+        // Then
+        verify(journal).commit(quarantined);
+        verify(journal).commit(next);
+        verify(transactionSyncService).apply(next.events());
+    }
+
+    private static Batch batch(int startOffset, int endOffset, String... eventIds) {
+        List<TransactionEvent> events = Arrays.stream(eventIds)
+                .map(eventId -> TransactionEvent.builder()
+                        .eventId(eventId)
+                        .eventType(TransactionEvent.EVENT_TYPE_DELETED)
+                        .transactionId(1L)
+                        .build())
+                .toList();
+        return new Batch(events, events.size(), new Position(1, startOffset), new Position(1, endOffset), false);
+    }
+}
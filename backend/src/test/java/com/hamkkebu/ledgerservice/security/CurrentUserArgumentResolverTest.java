@@ -0,0 +1,126 @@
+package com.hamkkebu.ledgerservice.security;
+
+import com.hamkkebu.ledgerservice.data.entity.User;
+import com.hamkkebu.ledgerservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CurrentUserArgumentResolver 단위 테스트 (claims 모드)
+ *
+ * <p>목록에 없는 사용자 등 공통 로직으로 넘어가는 경우는 클레임/목록을 어떻게 썼는지만 확인합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CurrentUserArgumentResolver 테스트")
+class CurrentUserArgumentResolverTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtUserClaims jwtUserClaims;
+
+    @Mock
+    private KnownUserRegistry knownUserRegistry;
+
+    private NativeWebRequest webRequest;
+
+    @BeforeEach
+    void setUp() {
+        webRequest = new ServletWebRequest(new MockHttpServletRequest());
+    }
+
+    @Test
+    @DisplayName("claims 모드 - 알려진 사용자는 DB 조회 없이 클레임의 userId를 반환하고 요청에 기록")
+    void resolveArgument_KnownUserFromClaims() throws Exception {
+        // Given
+        when(jwtUserClaims.currentUserId()).thenReturn(Optional.of(USER_ID));
+        when(knownUserRegistry.isKnown(USER_ID)).thenReturn(true);
+
+        // When
+        Object resolved = resolver("claims").resolveArgument(parameter(0), null, webRequest, null);
+
+        // Then
+        assertThat(resolved).isEqualTo(USER_ID);
+        assertThat(webRequest.getAttribute(JwtUserClaims.VERIFIED_USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))
+                .isEqualTo(USER_ID);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("claims 모드 - JIT Provisioning 필터가 확인한 userId가 있으면 목록도 보지 않고 사용")
+    void resolveArgument_VerifiedByFilter() throws Exception {
+        // Given
+        webRequest.setAttribute(JwtUserClaims.VERIFIED_USER_ID_ATTRIBUTE, USER_ID, RequestAttributes.SCOPE_REQUEST);
+
+        // When
+        Object resolved = resolver("claims").resolveArgument(parameter(0), null, webRequest, null);
+
+        // Then
+        assertThat(resolved).isEqualTo(USER_ID);
+        verifyNoInteractions(jwtUserClaims, knownUserRegistry, userRepository);
+    }
+
+    @Test
+    @DisplayName("claims 모드 - 목록에 없는 사용자는 확인 표시 없이 공통 로직으로 처리")
+    void resolveArgument_UnknownUserFallsBack() {
+        // Given
+        when(jwtUserClaims.currentUserId()).thenReturn(Optional.of(USER_ID));
+        when(knownUserRegistry.isKnown(USER_ID)).thenReturn(false);
+
+        // When
+        catchThrowable(() -> resolver("claims").resolveArgument(parameter(0), null, webRequest, null));
+
+        // Then
+        assertThat(webRequest.getAttribute(JwtUserClaims.VERIFIED_USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("database 모드이거나 userId가 아닌 파라미터는 클레임을 쓰지 않음")
+    void resolveArgument_ClaimsNotUsed() {
+        // When
+        catchThrowable(() -> resolver("database").resolveArgument(parameter(0), null, webRequest, null));
+        catchThrowable(() -> resolver("claims").resolveArgument(parameter(1), null, webRequest, null));
+
+        // Then
+        verifyNoInteractions(jwtUserClaims, knownUserRegistry);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 모드는 기동 시 거부")
+    void constructor_RejectsUnknownMode() {
+        assertThatThrownBy(() -> resolver("jwt")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CurrentUserArgumentResolver resolver(String mode) {
+        return new CurrentUserArgumentResolver(userRepository, jwtUserClaims, knownUserRegistry, mode);
+    }
+
+    private static MethodParameter parameter(int index) throws NoSuchMethodException {
+        return new MethodParameter(Handler.class.getDeclaredMethod("handle", Long.class, User.class), index);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Handler {
+
+        void handle(Long userId, User user) {
+        }
+    }
+}
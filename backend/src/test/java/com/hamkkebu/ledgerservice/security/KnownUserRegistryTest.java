@@ -0,0 +1,103 @@
+package com.hamkkebu.ledgerservice.security;
+
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
+import com.hamkkebu.ledgerservice.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * KnownUserRegistry 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KnownUserRegistry 테스트")
+class KnownUserRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDirectoryCache userDirectoryCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("기동 시 userId 순 키셋 조회로 청크 단위 적재")
+    void warmUp_LoadsInChunks() {
+        // Given
+        when(userRepository.findActiveUserIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(userRepository.findActiveUserIdsAfter(2L, 2)).thenReturn(List.of(5L));
+        KnownUserRegistry registry = registry(true);
+
+        // When
+        registry.warmUp();
+
+        // Then
+        assertThat(registry.isKnown(1L)).isTrue();
+        assertThat(registry.isKnown(5L)).isTrue();
+        assertThat(registry.isKnown(3L)).isFalse();
+        assertThat(meterRegistry.get("ledger.security.known-users").gauge().value()).isEqualTo(3.0);
+        verify(userRepository, times(2)).findActiveUserIdsAfter(anyLong(), eq(2));
+    }
+
+    @Test
+    @DisplayName("목록에 없는 사용자는 한 번 확인한 뒤 추가하고, 없는 사용자는 추가하지 않음")
+    void isProvisioned_ChecksOnceThenRemembers() {
+        // Given
+        when(userDirectoryCache.exists(1L)).thenReturn(true);
+        when(userDirectoryCache.exists(2L)).thenReturn(false);
+        KnownUserRegistry registry = registry(true);
+
+        // When & Then
+        assertThat(registry.isProvisioned(1L)).isTrue();
+        assertThat(registry.isProvisioned(1L)).isTrue();
+        assertThat(registry.isKnown(1L)).isTrue();
+        assertThat(registry.isProvisioned(2L)).isFalse();
+        assertThat(registry.isKnown(2L)).isFalse();
+        verify(userDirectoryCache, times(1)).exists(1L);
+    }
+
+    @Test
+    @DisplayName("제거된 사용자는 다음 요청에서 다시 확인")
+    void forget_RequiresRecheck() {
+        // Given
+        when(userDirectoryCache.exists(1L)).thenReturn(true, false);
+        KnownUserRegistry registry = registry(true);
+        registry.isProvisioned(1L);
+
+        // When
+        registry.forget(1L);
+
+        // Then
+        assertThat(registry.isKnown(1L)).isFalse();
+        assertThat(registry.isProvisioned(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 적재/확인하지 않고 항상 모르는 사용자로 취급")
+    void disabled() {
+        // Given
+        KnownUserRegistry registry = registry(false);
+
+        // When
+        registry.warmUp();
+
+        // Then
+        assertThat(registry.isKnown(1L)).isFalse();
+        assertThat(registry.isProvisioned(1L)).isFalse();
+        verifyNoInteractions(userRepository, userDirectoryCache);
+    }
+
+    private KnownUserRegistry registry(boolean enabled) {
+        return new KnownUserRegistry(userRepository, userDirectoryCache, enabled, 2, meterRegistry);
+    }
+}
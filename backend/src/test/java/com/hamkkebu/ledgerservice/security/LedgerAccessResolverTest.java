@@ -0,0 +1,141 @@
+package com.hamkkebu.ledgerservice.security;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.ledgerservice.repository.LedgerAccessRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerAccessRepository.LedgerAccessRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerAccessResolver 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerAccessResolver 테스트")
+class LedgerAccessResolverTest {
+
+    private static final Long USER_ID = 10L;
+
+    @Mock
+    private LedgerAccessRepository ledgerAccessRepository;
+
+    private LedgerAccessResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new LedgerAccessResolver(ledgerAccessRepository, 100, Duration.ofMinutes(1),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("조회 결과를 캐시하고, 없는 가계부는 notFound로 캐시")
+    void resolve_Cached() {
+        // Given
+        when(ledgerAccessRepository.findAccess(1L, USER_ID)).thenReturn(Optional.of(row(1L, 20L, "MEMBER", null)));
+        when(ledgerAccessRepository.findAccess(2L, USER_ID)).thenReturn(Optional.empty());
+
+        // When
+        LedgerAccess access = resolver.resolve(USER_ID, 1L);
+        resolver.resolve(USER_ID, 1L);
+        LedgerAccess missing = resolver.resolve(USER_ID, 2L);
+        resolver.resolve(USER_ID, 2L);
+
+        // Then
+        assertThat(access.effectiveRole()).isEqualTo(MemberRole.MEMBER);
+        assertThat(access.ownerId()).isEqualTo(20L);
+        assertThat(missing.ledgerExists()).isFalse();
+        verify(ledgerAccessRepository, times(1)).findAccess(1L, USER_ID);
+        verify(ledgerAccessRepository, times(1)).findAccess(2L, USER_ID);
+    }
+
+    @Test
+    @DisplayName("여러 가계부는 캐시에 없는 것만 한 번에 조회하고 요청 순서로 반환")
+    @SuppressWarnings("unchecked")
+    void resolveAll_LoadsMissingOnly() {
+        // Given
+        when(ledgerAccessRepository.findAccess(2L, USER_ID)).thenReturn(Optional.of(row(2L, USER_ID, null, null)));
+        resolver.resolve(USER_ID, 2L);
+        when(ledgerAccessRepository.findAccessAll(anyCollection(), eq(USER_ID)))
+                .thenReturn(List.of(row(1L, 20L, null, "READ_ONLY")));
+
+        // When
+        Map<Long, LedgerAccess> accesses = resolver.resolveAll(USER_ID, List.of(3L, 2L, 1L, 2L));
+
+        // Then
+        assertThat(accesses).containsOnlyKeys(3L, 2L, 1L);
+        assertThat(accesses.keySet()).containsExactly(3L, 2L, 1L);
+        assertThat(accesses.get(3L).ledgerExists()).isFalse();
+        assertThat(accesses.get(2L).effectiveRole()).isEqualTo(MemberRole.OWNER);
+        assertThat(accesses.get(1L).effectiveRole()).isEqualTo(MemberRole.VIEWER);
+        ArgumentCaptor<Collection<Long>> ledgerIds = ArgumentCaptor.forClass(Collection.class);
+        verify(ledgerAccessRepository).findAccessAll(ledgerIds.capture(), eq(USER_ID));
+        assertThat(ledgerIds.getValue()).containsExactlyInAnyOrder(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("사용자 단위 제거와 가계부 단위 제거 후에는 다시 조회")
+    void evict() {
+        // Given
+        when(ledgerAccessRepository.findAccess(eq(1L), anyLong()))
+                .thenAnswer(invocation -> Optional.of(row(1L, 20L, "VIEWER", null)));
+        resolver.resolve(USER_ID, 1L);
+        resolver.resolve(11L, 1L);
+
+        // When
+        resolver.evict(1L, USER_ID);
+        resolver.resolve(USER_ID, 1L);
+        resolver.resolve(11L, 1L);
+
+        // Then
+        verify(ledgerAccessRepository, times(2)).findAccess(1L, USER_ID);
+        verify(ledgerAccessRepository, times(1)).findAccess(1L, 11L);
+
+        // When
+        resolver.evictLedger(1L);
+        resolver.resolve(USER_ID, 1L);
+        resolver.resolve(11L, 1L);
+
+        // Then
+        verify(ledgerAccessRepository, times(3)).findAccess(1L, USER_ID);
+        verify(ledgerAccessRepository, times(2)).findAccess(1L, 11L);
+    }
+
+    private static LedgerAccessRow row(Long ledgerId, Long ownerId, String memberRole, String sharePermission) {
+        return new LedgerAccessRow() {
+            @Override
+            public Long getLedgerId() {
+                return ledgerId;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+
+            @Override
+            public String getMemberRole() {
+                return memberRole;
+            }
+
+            @Override
+            public String getSharePermission() {
+                return sharePermission;
+            }
+        };
+    }
+}
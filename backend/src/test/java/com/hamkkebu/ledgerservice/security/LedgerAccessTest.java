@@ -0,0 +1,63 @@
+package com.hamkkebu.ledgerservice.security;
+
+import com.hamkkebu.boilerplate.common.enums.MemberRole;
+import com.hamkkebu.boilerplate.common.enums.SharePermission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LedgerAccess 유효 역할 테스트
+ */
+@DisplayName("LedgerAccess 테스트")
+class LedgerAccessTest {
+
+    private static final Long LEDGER_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Long OWNER_ID = 20L;
+
+    @Test
+    @DisplayName("소유자는 멤버 역할/공유 권한과 관계없이 OWNER")
+    void effectiveRole_Owner() {
+        LedgerAccess access = new LedgerAccess(LEDGER_ID, USER_ID, true, USER_ID, MemberRole.VIEWER,
+                SharePermission.READ_ONLY);
+
+        assertThat(access.effectiveRole()).isEqualTo(MemberRole.OWNER);
+        assertThat(access.isOwner()).isTrue();
+        assertThat(access.isOwnerOrMemberAdmin()).isTrue();
+    }
+
+    @Test
+    @DisplayName("공유 권한은 ADMIN → ADMIN, READ_WRITE → MEMBER, READ_ONLY → VIEWER로 취급")
+    void effectiveRole_ShareOnly() {
+        assertThat(access(null, SharePermission.ADMIN).effectiveRole()).isEqualTo(MemberRole.ADMIN);
+        assertThat(access(null, SharePermission.READ_WRITE).effectiveRole()).isEqualTo(MemberRole.MEMBER);
+        assertThat(access(null, SharePermission.READ_ONLY).effectiveRole()).isEqualTo(MemberRole.VIEWER);
+        assertThat(access(null, SharePermission.ADMIN).isOwnerOrMember()).isFalse();
+    }
+
+    @Test
+    @DisplayName("멤버 역할과 공유 권한이 함께 있으면 더 높은 쪽")
+    void effectiveRole_HigherOfMemberAndShare() {
+        assertThat(access(MemberRole.VIEWER, SharePermission.READ_WRITE).effectiveRole()).isEqualTo(MemberRole.MEMBER);
+        assertThat(access(MemberRole.ADMIN, SharePermission.READ_ONLY).effectiveRole()).isEqualTo(MemberRole.ADMIN);
+        assertThat(access(MemberRole.MEMBER, null).effectiveRole()).isEqualTo(MemberRole.MEMBER);
+    }
+
+    @Test
+    @DisplayName("권한이 없거나 가계부가 없으면 null이고 조회 불가")
+    void effectiveRole_NoAccess() {
+        assertThat(access(null, null).effectiveRole()).isNull();
+        assertThat(access(null, null).canRead()).isFalse();
+
+        LedgerAccess notFound = LedgerAccess.notFound(LEDGER_ID, USER_ID);
+        assertThat(notFound.effectiveRole()).isNull();
+        assertThat(notFound.isOwner()).isFalse();
+        assertThat(notFound.canRead()).isFalse();
+    }
+
+    private static LedgerAccess access(MemberRole memberRole, SharePermission sharePermission) {
+        return new LedgerAccess(LEDGER_ID, USER_ID, true, OWNER_ID, memberRole, sharePermission);
+    }
+}
@@ -2,6 +2,7 @@ package com.hamkkebu.ledgerservice.service;
 
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
 import com.hamkkebu.ledgerservice.data.dto.CategoryRequest;
 import com.hamkkebu.ledgerservice.data.dto.CategoryResponse;
 import com.hamkkebu.ledgerservice.data.entity.Category;
@@ -39,6 +40,9 @@ class CategoryServiceTest {
     @Mock
     private LedgerRepository ledgerRepository;
 
+    @Mock
+    private LedgerCacheInvalidator ledgerCacheInvalidator;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -173,6 +177,7 @@ class CategoryServiceTest {
             assertThat(result.getName()).isEqualTo("교통비");
             assertThat(result.getType()).isEqualTo(TransactionType.EXPENSE);
             verify(categoryRepository).save(any(Category.class));
+            verify(ledgerCacheInvalidator).invalidateCategories(LEDGER_ID);
         }
 
         @Test
@@ -252,6 +257,7 @@ class CategoryServiceTest {
             assertThat(result.getName()).isEqualTo("외식비");
             assertThat(result.getIcon()).isEqualTo("🍽️");
             assertThat(result.getColor()).isEqualTo("#FF0000");
+            verify(ledgerCacheInvalidator).invalidateCategories(LEDGER_ID);
         }
 
         @Test
@@ -284,6 +290,7 @@ class CategoryServiceTest {
 
             // then
             assertThat(testCategory.isDeleted()).isTrue();
+            verify(ledgerCacheInvalidator).invalidateCategories(LEDGER_ID);
         }
 
         @Test
@@ -0,0 +1,107 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.ledgerservice.data.entity.LedgerBalance;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.repository.LedgerBalanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerBalanceService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerBalanceService 테스트")
+class LedgerBalanceServiceTest {
+
+    @Mock
+    private LedgerBalanceRepository ledgerBalanceRepository;
+
+    @InjectMocks
+    private LedgerBalanceService ledgerBalanceService;
+
+    @Test
+    @DisplayName("거래 생성 - 수입 증가 및 건수 +1")
+    void apply_Created() {
+        // Given
+        TransactionSnapshot after = snapshot(1L, TransactionType.INCOME, 10000);
+
+        // When
+        ledgerBalanceService.apply(null, after, 100L);
+
+        // Then
+        verify(ledgerBalanceRepository).applyDelta(1L, BigDecimal.valueOf(10000), BigDecimal.ZERO, 1L, 100L);
+    }
+
+    @Test
+    @DisplayName("거래 수정 - 유형 변경 시 수입 감소/지출 증가, 건수 유지")
+    void apply_UpdatedTypeChanged() {
+        // Given
+        TransactionSnapshot before = snapshot(1L, TransactionType.INCOME, 10000);
+        TransactionSnapshot after = snapshot(1L, TransactionType.EXPENSE, 3000);
+
+        // When
+        ledgerBalanceService.apply(before, after, 200L);
+
+        // Then
+        verify(ledgerBalanceRepository).applyDelta(1L, BigDecimal.valueOf(-10000), BigDecimal.valueOf(3000), 0L, 200L);
+    }
+
+    @Test
+    @DisplayName("거래 수정 - 금액 변화가 없으면 갱신하지 않음")
+    void apply_UpdatedWithoutAmountChange() {
+        // Given
+        TransactionSnapshot before = snapshot(1L, TransactionType.EXPENSE, 5000);
+        TransactionSnapshot after = snapshot(1L, TransactionType.EXPENSE, 5000);
+
+        // When
+        ledgerBalanceService.apply(before, after, 300L);
+
+        // Then
+        verify(ledgerBalanceRepository, never()).applyDelta(anyLong(), any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("거래 삭제 - 지출 감소 및 건수 -1")
+    void apply_Deleted() {
+        // Given
+        TransactionSnapshot before = snapshot(1L, TransactionType.EXPENSE, 5000);
+
+        // When
+        ledgerBalanceService.apply(before, null, 400L);
+
+        // Then
+        verify(ledgerBalanceRepository).applyDelta(1L, BigDecimal.ZERO, BigDecimal.valueOf(-5000), -1L, 400L);
+    }
+
+    @Test
+    @DisplayName("잔액 조회 - 집계 행이 없으면 0")
+    void getBalance_Empty() {
+        // Given
+        when(ledgerBalanceRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        LedgerBalance result = ledgerBalanceService.getBalance(1L);
+
+        // Then
+        assertThat(result.getTotalIncome()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.getTotalExpense()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.getTransactionCount()).isZero();
+    }
+
+    private TransactionSnapshot snapshot(Long ledgerId, TransactionType type, long amount) {
+        return new TransactionSnapshot(10L, ledgerId, null, type, BigDecimal.valueOf(amount), LocalDate.of(2025, 1, 15));
+    }
+}
@@ -0,0 +1,128 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.repository.LedgerMonthlyStatRepository;
+import com.hamkkebu.ledgerservice.repository.TransactionRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerMonthlyStatService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerMonthlyStatService 테스트")
+class LedgerMonthlyStatServiceTest {
+
+    @Mock
+    private LedgerMonthlyStatRepository ledgerMonthlyStatRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private LedgerAccessResolver ledgerAccessResolver;
+
+    @InjectMocks
+    private LedgerMonthlyStatService ledgerMonthlyStatService;
+
+    @Test
+    @DisplayName("거래 생성 - 미분류 카테고리(0)로 금액/건수 증가")
+    void apply_CreatedWithoutCategory() {
+        // Given
+        TransactionSnapshot after = snapshot(null, TransactionType.EXPENSE, 5000, LocalDate.of(2025, 1, 15));
+
+        // When
+        ledgerMonthlyStatService.apply(null, after);
+
+        // Then
+        verify(ledgerMonthlyStatRepository).applyDelta(1L, "2025-01", 0L, "EXPENSE", BigDecimal.valueOf(5000), 1L);
+    }
+
+    @Test
+    @DisplayName("거래 수정 - 다른 달로 이동하면 기존 달 차감, 새 달 증가")
+    void apply_UpdatedMonthChanged() {
+        // Given
+        TransactionSnapshot before = snapshot(3L, TransactionType.EXPENSE, 5000, LocalDate.of(2025, 1, 31));
+        TransactionSnapshot after = snapshot(3L, TransactionType.EXPENSE, 5000, LocalDate.of(2025, 2, 1));
+
+        // When
+        ledgerMonthlyStatService.apply(before, after);
+
+        // Then
+        verify(ledgerMonthlyStatRepository).applyDelta(1L, "2025-01", 3L, "EXPENSE", BigDecimal.valueOf(-5000), -1L);
+        verify(ledgerMonthlyStatRepository).applyDelta(1L, "2025-02", 3L, "EXPENSE", BigDecimal.valueOf(5000), 1L);
+    }
+
+    @Test
+    @DisplayName("거래 수정 - 같은 구간에서 금액만 바뀌면 차액만 반영")
+    void apply_UpdatedAmountOnly() {
+        // Given
+        TransactionSnapshot before = snapshot(3L, TransactionType.INCOME, 5000, LocalDate.of(2025, 1, 10));
+        TransactionSnapshot after = snapshot(3L, TransactionType.INCOME, 7000, LocalDate.of(2025, 1, 20));
+
+        // When
+        ledgerMonthlyStatService.apply(before, after);
+
+        // Then
+        verify(ledgerMonthlyStatRepository).applyDelta(1L, "2025-01", 3L, "INCOME", BigDecimal.valueOf(2000), 0L);
+        verifyNoMoreInteractions(ledgerMonthlyStatRepository);
+    }
+
+    @Test
+    @DisplayName("기간 합계 - 완전한 달은 Rollup, 시작/종료 달 일부만 원본 조회")
+    void sumAmountByDateRange_PartialEdges() {
+        // Given
+        when(transactionRepository.sumAmountByLedgerIdAndTypeAndDateBetween(
+                1L, TransactionType.EXPENSE, LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 31)))
+                .thenReturn(BigDecimal.valueOf(1000));
+        when(transactionRepository.sumAmountByLedgerIdAndTypeAndDateBetween(
+                1L, TransactionType.EXPENSE, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 10)))
+                .thenReturn(BigDecimal.valueOf(2000));
+        when(ledgerMonthlyStatRepository.sumAmountByLedgerIdAndTypeAndYearMonthBetween(
+                1L, "EXPENSE", "2025-02", "2025-03"))
+                .thenReturn(BigDecimal.valueOf(30000));
+
+        // When
+        BigDecimal result = ledgerMonthlyStatService.sumAmountByDateRange(
+                1L, TransactionType.EXPENSE, LocalDate.of(2025, 1, 15), LocalDate.of(2025, 4, 10));
+
+        // Then
+        assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(33000));
+        verify(transactionRepository, times(2))
+                .sumAmountByLedgerIdAndTypeAndDateBetween(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("기간 합계 - 달 단위로 맞아떨어지면 원본을 조회하지 않음")
+    void sumAmountByDateRange_FullMonths() {
+        // Given
+        when(ledgerMonthlyStatRepository.sumAmountByLedgerIdAndTypeAndYearMonthBetween(
+                1L, "INCOME", "2025-01", "2025-03"))
+                .thenReturn(BigDecimal.valueOf(90000));
+
+        // When
+        BigDecimal result = ledgerMonthlyStatService.sumAmountByDateRange(
+                1L, TransactionType.INCOME, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31));
+
+        // Then
+        assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(90000));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private TransactionSnapshot snapshot(Long categoryId, TransactionType type, long amount, LocalDate date) {
+        return new TransactionSnapshot(10L, 1L, categoryId, type, BigDecimal.valueOf(amount), date);
+    }
+}
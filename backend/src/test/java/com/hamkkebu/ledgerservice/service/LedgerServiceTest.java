@@ -2,15 +2,19 @@ package com.hamkkebu.ledgerservice.service;
 
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.cache.LedgerResponseCache;
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
 import com.hamkkebu.ledgerservice.data.dto.LedgerRequest;
 import com.hamkkebu.ledgerservice.data.dto.LedgerResponse;
 import com.hamkkebu.ledgerservice.data.dto.LedgerSummaryResponse;
 import com.hamkkebu.ledgerservice.data.entity.Ledger;
 import com.hamkkebu.ledgerservice.data.entity.User;
-import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.LedgerStats;
+import com.hamkkebu.ledgerservice.repository.LedgerMemberRepository;
 import com.hamkkebu.ledgerservice.repository.LedgerRepository;
-import com.hamkkebu.ledgerservice.repository.TransactionRepository;
-import com.hamkkebu.ledgerservice.repository.UserRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccess;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +27,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,10 +46,25 @@ class LedgerServiceTest {
     private LedgerRepository ledgerRepository;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private LedgerStatsService ledgerStatsService;
 
     @Mock
-    private UserRepository userRepository;
+    private UserDirectoryCache userDirectoryCache;
+
+    @Mock
+    private LedgerMemberRepository ledgerMemberRepository;
+
+    @Mock
+    private LedgerResponseCache ledgerResponseCache;
+
+    @Mock
+    private LedgerCacheInvalidator ledgerCacheInvalidator;
+
+    @Mock
+    private LedgerAccessResolver ledgerAccessResolver;
+
+    @Mock
+    private LedgerSummaryFetcher ledgerSummaryFetcher;
 
     @InjectMocks
     private LedgerService ledgerService;
@@ -76,6 +97,12 @@ class LedgerServiceTest {
                 .currency("KRW")
                 .isDefault(false)
                 .build();
+
+        // 캐시는 항상 loader를 그대로 호출 (캐시 미스)
+        lenient().when(ledgerResponseCache.getLedger(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<LedgerResponse>>getArgument(1).get());
+        lenient().when(ledgerResponseCache.getSummary(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<LedgerSummaryResponse>>getArgument(1).get());
     }
 
     @Test
@@ -104,12 +131,12 @@ class LedgerServiceTest {
         // Given
         Long userId = 1L;
         Long ledgerId = 1L;
-        when(ledgerRepository.findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId))
+        when(ledgerAccessResolver.resolve(userId, ledgerId))
+                .thenReturn(new LedgerAccess(ledgerId, userId, true, userId, null, null));
+        when(ledgerRepository.findByLedgerIdAndIsDeletedFalse(ledgerId))
                 .thenReturn(Optional.of(testLedger));
-        when(transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.INCOME))
-                .thenReturn(BigDecimal.valueOf(1000000));
-        when(transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.EXPENSE))
-                .thenReturn(BigDecimal.valueOf(500000));
+        when(ledgerStatsService.getStats(List.of(ledgerId)))
+                .thenReturn(Map.of(ledgerId, testStats()));
 
         // When
         LedgerResponse result = ledgerService.getLedger(userId, ledgerId);
@@ -121,8 +148,29 @@ class LedgerServiceTest {
         assertThat(result.getTotalIncome()).isEqualTo(BigDecimal.valueOf(1000000));
         assertThat(result.getTotalExpense()).isEqualTo(BigDecimal.valueOf(500000));
         assertThat(result.getBalance()).isEqualTo(BigDecimal.valueOf(500000));
+        assertThat(result.getTransactionCount()).isEqualTo(3L);
 
-        verify(ledgerRepository).findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId);
+        verify(ledgerRepository).findByLedgerIdAndIsDeletedFalse(ledgerId);
+        verify(ledgerStatsService).getStats(List.of(ledgerId));
+        verifyNoInteractions(ledgerMemberRepository);
+    }
+
+    @Test
+    @DisplayName("가계부 상세 조회 실패 - 접근 권한 없는 사용자는 캐시를 조회하지 않음")
+    void getLedger_CachedForbidden() {
+        // Given
+        Long userId = 2L;
+        Long ledgerId = 1L;
+        when(ledgerAccessResolver.resolve(userId, ledgerId))
+                .thenReturn(new LedgerAccess(ledgerId, userId, true, 1L, null, null));
+
+        // When & Then
+        assertThatThrownBy(() -> ledgerService.getLedger(userId, ledgerId))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.LEDGER_NOT_FOUND);
+
+        verify(ledgerResponseCache, never()).getLedger(anyLong(), any());
     }
 
     @Test
@@ -131,8 +179,8 @@ class LedgerServiceTest {
         // Given
         Long userId = 1L;
         Long ledgerId = 999L;
-        when(ledgerRepository.findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId))
-                .thenReturn(Optional.empty());
+        when(ledgerAccessResolver.resolve(userId, ledgerId))
+                .thenReturn(LedgerAccess.notFound(ledgerId, userId));
 
         // When & Then
         assertThatThrownBy(() -> ledgerService.getLedger(userId, ledgerId))
@@ -140,7 +188,7 @@ class LedgerServiceTest {
                 .extracting(ex -> ((BusinessException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.LEDGER_NOT_FOUND);
 
-        verify(ledgerRepository).findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId);
+        verify(ledgerRepository, never()).findByLedgerIdAndIsDeletedFalse(anyLong());
     }
 
     @Test
@@ -148,7 +196,7 @@ class LedgerServiceTest {
     void createLedger_Success_FirstLedger() {
         // Given
         Long userId = 1L;
-        when(userRepository.existsByUserIdAndIsDeletedFalse(userId)).thenReturn(true);
+        when(userDirectoryCache.exists(userId)).thenReturn(true);
         when(ledgerRepository.countByUserIdAndIsDeletedFalse(userId)).thenReturn(0L);
         when(ledgerRepository.save(any(Ledger.class))).thenAnswer(invocation -> {
             Ledger saved = invocation.getArgument(0);
@@ -164,7 +212,7 @@ class LedgerServiceTest {
         assertThat(result.getName()).isEqualTo("새 가계부");
         assertThat(result.getIsDefault()).isTrue(); // 첫 번째 가계부는 자동으로 기본 가계부
 
-        verify(userRepository).existsByUserIdAndIsDeletedFalse(userId);
+        verify(userDirectoryCache).exists(userId);
         verify(ledgerRepository).countByUserIdAndIsDeletedFalse(userId);
         verify(ledgerRepository).save(any(Ledger.class));
     }
@@ -174,7 +222,7 @@ class LedgerServiceTest {
     void createLedger_UserNotFound() {
         // Given
         Long userId = 999L;
-        when(userRepository.existsByUserIdAndIsDeletedFalse(userId)).thenReturn(false);
+        when(userDirectoryCache.exists(userId)).thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> ledgerService.createLedger(userId, validRequest))
@@ -182,7 +230,7 @@ class LedgerServiceTest {
                 .extracting(ex -> ((BusinessException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.USER_NOT_FOUND);
 
-        verify(userRepository).existsByUserIdAndIsDeletedFalse(userId);
+        verify(userDirectoryCache).exists(userId);
         verify(ledgerRepository, never()).save(any());
     }
 
@@ -275,14 +323,11 @@ class LedgerServiceTest {
         Long userId = 1L;
         List<Ledger> ledgers = List.of(testLedger);
 
-        when(userRepository.findByUserIdAndIsDeletedFalse(userId))
-                .thenReturn(Optional.of(testUser));
-        when(ledgerRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId))
-                .thenReturn(ledgers);
-        when(transactionRepository.sumAmountByLedgerIdAndType(1L, TransactionType.INCOME))
-                .thenReturn(BigDecimal.valueOf(1000000));
-        when(transactionRepository.sumAmountByLedgerIdAndType(1L, TransactionType.EXPENSE))
-                .thenReturn(BigDecimal.valueOf(500000));
+        when(ledgerSummaryFetcher.fetch(userId))
+                .thenReturn(new LedgerSummaryFetcher.SummarySource(
+                        Optional.of(testUser), ledgers, List.of(), List.of()));
+        when(ledgerStatsService.getStats(List.of(1L)))
+                .thenReturn(Map.of(1L, testStats()));
 
         // When
         LedgerSummaryResponse result = ledgerService.getLedgerSummary(userId);
@@ -296,8 +341,9 @@ class LedgerServiceTest {
         assertThat(result.getTotalExpense()).isEqualTo(BigDecimal.valueOf(500000));
         assertThat(result.getTotalBalance()).isEqualTo(BigDecimal.valueOf(500000));
 
-        verify(userRepository).findByUserIdAndIsDeletedFalse(userId);
-        verify(ledgerRepository).findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId);
+        verify(ledgerSummaryFetcher).fetch(userId);
+        verify(ledgerRepository, never()).findByLedgerIdInAndIsDeletedFalse(anyList());
+        verify(ledgerStatsService, times(1)).getStats(anyCollection());
     }
 
     @Test
@@ -305,8 +351,9 @@ class LedgerServiceTest {
     void getLedgerSummary_UserNotFound() {
         // Given
         Long userId = 999L;
-        when(userRepository.findByUserIdAndIsDeletedFalse(userId))
-                .thenReturn(Optional.empty());
+        when(ledgerSummaryFetcher.fetch(userId))
+                .thenReturn(new LedgerSummaryFetcher.SummarySource(
+                        Optional.empty(), List.of(), List.of(), List.of()));
 
         // When & Then
         assertThatThrownBy(() -> ledgerService.getLedgerSummary(userId))
@@ -314,8 +361,7 @@ class LedgerServiceTest {
                 .extracting(ex -> ((BusinessException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.USER_NOT_FOUND);
 
-        verify(userRepository).findByUserIdAndIsDeletedFalse(userId);
-        verify(ledgerRepository, never()).findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(anyLong());
+        verify(ledgerStatsService, never()).getStats(anyCollection());
     }
 
     @Test
@@ -358,4 +404,8 @@ class LedgerServiceTest {
         verify(ledgerRepository).findByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId);
         verify(ledgerRepository).findByUserIdAndIsDefaultTrueAndIsDeletedFalse(userId);
     }
+
+    private LedgerStats testStats() {
+        return new LedgerStats(1L, BigDecimal.valueOf(1000000), BigDecimal.valueOf(500000), 3L);
+    }
 }
@@ -0,0 +1,167 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.boilerplate.common.enums.ShareStatus;
+import com.hamkkebu.ledgerservice.cache.UserDirectoryCache;
+import com.hamkkebu.ledgerservice.data.entity.Ledger;
+import com.hamkkebu.ledgerservice.data.entity.User;
+import com.hamkkebu.ledgerservice.repository.LedgerMemberRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerRepository;
+import com.hamkkebu.ledgerservice.repository.LedgerShareRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerSummaryFetcher 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerSummaryFetcher 테스트")
+class LedgerSummaryFetcherTest {
+
+    @Mock
+    private UserDirectoryCache userDirectoryCache;
+
+    @Mock
+    private LedgerRepository ledgerRepository;
+
+    @Mock
+    private LedgerShareRepository ledgerShareRepository;
+
+    @Mock
+    private LedgerMemberRepository ledgerMemberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("parallel 모드 - 4건을 동시에 조회하고 결과를 합침")
+    void fetch_Parallel() {
+        // Given
+        Long userId = 1L;
+        User user = User.builder().username("testuser").email("test@example.com").build();
+        Ledger ledger = Ledger.builder().userId(userId).name("테스트 가계부").build();
+        CountDownLatch allStarted = new CountDownLatch(4);
+        when(userDirectoryCache.findByUserId(userId))
+                .thenAnswer(invocation -> awaitOthers(allStarted, Optional.of(user)));
+        when(ledgerRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId))
+                .thenAnswer(invocation -> awaitOthers(allStarted, List.of(ledger)));
+        when(ledgerShareRepository.findBySharedUserIdAndStatusAndIsDeletedFalse(userId, ShareStatus.ACCEPTED))
+                .thenAnswer(invocation -> awaitOthers(allStarted, List.of()));
+        when(ledgerMemberRepository.findByAccountIdAndIsDeletedFalse(userId))
+                .thenAnswer(invocation -> awaitOthers(allStarted, List.of()));
+        LedgerSummaryFetcher fetcher = fetcher("parallel", Duration.ofSeconds(2));
+
+        // When
+        LedgerSummaryFetcher.SummarySource result = fetcher.fetch(userId);
+
+        // Then
+        assertThat(result.user()).contains(user);
+        assertThat(result.ownedLedgers()).containsExactly(ledger);
+        assertThat(result.acceptedShares()).isEmpty();
+        assertThat(result.memberships()).isEmpty();
+        assertThat(meterRegistry.get("ledger.summary.fetch").tag("mode", "parallel").timer().count())
+                .isEqualTo(1L);
+        // 조회마다 자기 읽기 전용 트랜잭션 (커넥션을 조회 동안만 빌림)
+        verify(transactionManager, times(4)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager, times(4)).commit(any());
+        verify(transactionManager, times(4)).getTransaction(argThat(definition -> definition.getTimeout() == 2));
+    }
+
+    @Test
+    @DisplayName("parallel 모드 - 기한을 넘기면 남은 조회를 인터럽트하고 QueryTimeoutException")
+    void fetch_ParallelTimeout() throws InterruptedException {
+        // Given
+        Long userId = 1L;
+        CountDownLatch never = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        lenient().when(userDirectoryCache.findByUserId(userId)).thenAnswer(invocation -> {
+            try {
+                return awaitOthers(never, Optional.empty());
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        });
+        lenient().when(ledgerRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId))
+                .thenReturn(List.of());
+        lenient().when(ledgerShareRepository.findBySharedUserIdAndStatusAndIsDeletedFalse(userId, ShareStatus.ACCEPTED))
+                .thenReturn(List.of());
+        lenient().when(ledgerMemberRepository.findByAccountIdAndIsDeletedFalse(userId))
+                .thenReturn(List.of());
+        LedgerSummaryFetcher fetcher = fetcher("parallel", Duration.ofMillis(50));
+
+        // When & Then
+        assertThatThrownBy(() -> fetcher.fetch(userId))
+                .isInstanceOf(QueryTimeoutException.class);
+        assertThat(meterRegistry.get("ledger.summary.fetch.timeouts").counter().count()).isEqualTo(1.0);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        // 인터럽트로 멈추지 않는 JDBC 호출은 트랜잭션 타임아웃(기한을 초 단위로 올림)으로 끊김
+        verify(transactionManager, atLeastOnce()).getTransaction(argThat(definition -> definition.getTimeout() == 1));
+    }
+
+    @Test
+    @DisplayName("sequential 모드 - Executor를 사용하지 않고 호출 스레드에서 조회")
+    void fetch_Sequential() {
+        // Given
+        Long userId = 1L;
+        String callerThread = Thread.currentThread().getName();
+        when(userDirectoryCache.findByUserId(userId)).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread().getName()).isEqualTo(callerThread);
+            return Optional.empty();
+        });
+        when(ledgerRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId)).thenReturn(List.of());
+        when(ledgerShareRepository.findBySharedUserIdAndStatusAndIsDeletedFalse(userId, ShareStatus.ACCEPTED))
+                .thenReturn(List.of());
+        when(ledgerMemberRepository.findByAccountIdAndIsDeletedFalse(userId)).thenReturn(List.of());
+        LedgerSummaryFetcher fetcher = fetcher("sequential", Duration.ofSeconds(2));
+
+        // When
+        LedgerSummaryFetcher.SummarySource result = fetcher.fetch(userId);
+
+        // Then
+        assertThat(result.user()).isEmpty();
+        assertThat(fetcher.getMode()).isEqualTo(LedgerSummaryFetcher.Mode.SEQUENTIAL);
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    private LedgerSummaryFetcher fetcher(String mode, Duration timeout) {
+        return new LedgerSummaryFetcher(userDirectoryCache, ledgerRepository, ledgerShareRepository,
+                ledgerMemberRepository, executor, mode, timeout, transactionManager, meterRegistry);
+    }
+
+    /**
+     * 모든 조회가 시작될 때까지 대기 (동시에 실행되지 않으면 시간 초과로 실패)
+     */
+    private static <T> T awaitOthers(CountDownLatch latch, T result) throws InterruptedException {
+        latch.countDown();
+        latch.await(5, TimeUnit.SECONDS);
+        return result;
+    }
+}
@@ -0,0 +1,193 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.data.enums.ExportFormat;
+import com.hamkkebu.ledgerservice.security.LedgerAccess;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionExportService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionExportService 테스트")
+class TransactionExportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private LedgerAccessResolver ledgerAccessResolver;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TransactionExportService transactionExportService;
+
+    private final Long userId = 1L;
+    private final Long ledgerId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        transactionExportService = exportService(1000);
+        lenient().when(ledgerAccessResolver.resolve(userId, ledgerId))
+                .thenReturn(new LedgerAccess(ledgerId, userId, true, userId, null, null));
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더 다음에 행을 쓰고, 쉼표/따옴표가 있는 값은 따옴표로 감쌈")
+    void export_Csv() throws Exception {
+        // Given
+        givenOneRow("점심, \"김밥\"");
+        StreamingResponseBody body = transactionExportService.export(
+                userId, ledgerId, ExportFormat.CSV, null, null, false);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "transactionId,transactionDate,type,amount,categoryId,categoryName,description,memo\r\n"
+                        + "7,2025-03-01,EXPENSE,8000.00,,,\"점심, \"\"김밥\"\"\",\r\n");
+        assertThat(meterRegistry.get("ledger.export.rows").tag("format", "csv").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("NDJSON + gzip - 압축을 풀면 한 줄에 거래 하나")
+    void export_NdjsonGzip() throws Exception {
+        // Given
+        givenOneRow("점심");
+        StreamingResponseBody body = transactionExportService.export(
+                userId, ledgerId, ExportFormat.NDJSON, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), true);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        // Then
+        String ndjson;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(ndjson).endsWith("\n").hasLineCount(1);
+        JsonNode row = new ObjectMapper().readTree(ndjson);
+        assertThat(row.get("transactionId").asLong()).isEqualTo(7L);
+        assertThat(row.get("amount").decimalValue()).isEqualByComparingTo("8000");
+        assertThat(row.get("categoryId").isNull()).isTrue();
+        assertThat(row.get("description").asText()).isEqualTo("점심");
+    }
+
+    @Test
+    @DisplayName("chunk 크기만큼 읽으면 마지막 행을 커서로 다음 chunk를 조회 (조회마다 제한 시간 설정)")
+    void export_KeysetChunks() throws Exception {
+        // Given
+        transactionExportService = exportService(2);
+        when(resultSet.getLong(1)).thenReturn(7L, 8L, 9L);
+        when(resultSet.getDate(2)).thenReturn(Date.valueOf(LocalDate.of(2025, 3, 1)),
+                Date.valueOf(LocalDate.of(2025, 3, 2)), Date.valueOf(LocalDate.of(2025, 3, 3)));
+        when(resultSet.getString(3)).thenReturn("EXPENSE");
+        when(resultSet.getBigDecimal(4)).thenReturn(new BigDecimal("1000"));
+        when(resultSet.wasNull()).thenReturn(true);
+        ArgumentCaptor<PreparedStatementCreator> statements = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        List<Integer> chunkSizes = new ArrayList<>(List.of(2, 1));
+        doAnswer(invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> rows = new ArrayList<>();
+            for (int row = 0, size = chunkSizes.remove(0); row < size; row++) {
+                rows.add(rowMapper.mapRow(resultSet, row));
+            }
+            return rows;
+        }).when(jdbcTemplate).query(statements.capture(), any(RowMapper.class));
+        StreamingResponseBody body = transactionExportService.export(
+                userId, ledgerId, ExportFormat.CSV, null, null, false);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).hasLineCount(4).contains("9,2025-03-03,EXPENSE,1000");
+        assertThat(statements.getAllValues()).hasSize(2);
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        statements.getAllValues().get(1).createPreparedStatement(connection);
+        verify(statement).setQueryTimeout(30);
+        verify(statement).setDate(4, Date.valueOf(LocalDate.of(2025, 3, 2)));
+        verify(statement).setDate(5, Date.valueOf(LocalDate.of(2025, 3, 2)));
+        verify(statement).setLong(6, 8L);
+        verify(statement).setInt(7, 2);
+        verify(statement, never()).setFetchSize(anyInt());
+    }
+
+    @Test
+    @DisplayName("조회 권한 없음 - 스트리밍 전에 LEDGER_NOT_FOUND")
+    void export_NoAccess() {
+        // Given
+        Long otherUserId = 2L;
+        when(ledgerAccessResolver.resolve(otherUserId, ledgerId))
+                .thenReturn(LedgerAccess.notFound(ledgerId, otherUserId));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionExportService.export(
+                otherUserId, ledgerId, ExportFormat.CSV, null, null, false))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.LEDGER_NOT_FOUND);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void givenOneRow(String description) throws Exception {
+        when(resultSet.getLong(1)).thenReturn(7L);
+        when(resultSet.getDate(2)).thenReturn(Date.valueOf(LocalDate.of(2025, 3, 1)));
+        when(resultSet.getString(3)).thenReturn("EXPENSE");
+        when(resultSet.getBigDecimal(4)).thenReturn(new BigDecimal("8000.00"));
+        when(resultSet.getLong(5)).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(true);
+        when(resultSet.getString(7)).thenReturn(description);
+        doAnswer(invocation -> List.of(invocation.<RowMapper<?>>getArgument(1).mapRow(resultSet, 0)))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+    }
+
+    private TransactionExportService exportService(int chunkSize) {
+        return new TransactionExportService(jdbcTemplate, new ObjectMapper(), ledgerAccessResolver,
+                chunkSize, Duration.ofSeconds(30), 2, meterRegistry);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.ledgerservice.data.dto.CursorPageResponse;
+import com.hamkkebu.ledgerservice.data.dto.TransactionResponse;
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionCursor;
+import com.hamkkebu.ledgerservice.repository.TransactionRepository;
+import com.hamkkebu.ledgerservice.security.LedgerAccess;
+import com.hamkkebu.ledgerservice.security.LedgerAccessResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionQueryService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionQueryService 테스트")
+class TransactionQueryServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private LedgerAccessResolver ledgerAccessResolver;
+
+    @InjectMocks
+    private TransactionQueryService transactionQueryService;
+
+    private final Long userId = 1L;
+    private final Long ledgerId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(ledgerAccessResolver.resolve(userId, ledgerId))
+                .thenReturn(new LedgerAccess(ledgerId, userId, true, userId, null, null));
+    }
+
+    @Test
+    @DisplayName("첫 페이지 - 한 건 더 조회해 다음 페이지가 있으면 마지막 거래 위치를 커서로 반환")
+    void getTransactions_FirstPageHasNext() {
+        // Given
+        List<Transaction> rows = List.of(
+                transaction(30L, LocalDate.of(2025, 3, 2)),
+                transaction(29L, LocalDate.of(2025, 3, 1)),
+                transaction(28L, LocalDate.of(2025, 3, 1)));
+        when(transactionRepository.findFirstPageByLedgerId(ledgerId, PageRequest.ofSize(3)))
+                .thenReturn(rows);
+
+        // When
+        CursorPageResponse<TransactionResponse> result =
+                transactionQueryService.getTransactions(userId, ledgerId, null, 2);
+
+        // Then
+        assertThat(result.getContent()).extracting(TransactionResponse::getTransactionId).containsExactly(30L, 29L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(TransactionCursor.decode(result.getNextCursor()))
+                .isEqualTo(new TransactionCursor(LocalDate.of(2025, 3, 1), 29L));
+    }
+
+    @Test
+    @DisplayName("다음 페이지 - 커서 위치 이후를 조회하고 마지막 페이지면 커서 없음")
+    void getTransactions_LastPage() {
+        // Given
+        String cursor = new TransactionCursor(LocalDate.of(2025, 3, 1), 29L).encode();
+        when(transactionRepository.findPageByLedgerIdAfterCursor(
+                ledgerId, LocalDate.of(2025, 3, 1), 29L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(transaction(28L, LocalDate.of(2025, 3, 1))));
+
+        // When
+        CursorPageResponse<TransactionResponse> result =
+                transactionQueryService.getTransactions(userId, ledgerId, cursor, 2);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(transactionRepository, never()).findFirstPageByLedgerId(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - IllegalArgumentException")
+    void getTransactions_InvalidCursor() {
+        assertThatThrownBy(() -> transactionQueryService.getTransactions(userId, ledgerId, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("조회 권한 없음 - LEDGER_NOT_FOUND")
+    void getTransactions_NoAccess() {
+        // Given
+        Long otherUserId = 2L;
+        when(ledgerAccessResolver.resolve(otherUserId, ledgerId))
+                .thenReturn(new LedgerAccess(ledgerId, otherUserId, true, userId, null, null));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionQueryService.getTransactions(otherUserId, ledgerId, null, 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.LEDGER_NOT_FOUND);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private Transaction transaction(Long transactionId, LocalDate transactionDate) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .ledgerId(ledgerId)
+                .type(TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(1000))
+                .transactionDate(transactionDate)
+                .build();
+    }
+}
@@ -0,0 +1,470 @@
+package com.hamkkebu.ledgerservice.service;
+
+import com.hamkkebu.ledgerservice.cache.CategoryIdCache;
+import com.hamkkebu.ledgerservice.cache.LedgerCacheInvalidator;
+import com.hamkkebu.ledgerservice.data.entity.Transaction;
+import com.hamkkebu.ledgerservice.data.enums.TransactionType;
+import com.hamkkebu.ledgerservice.data.projection.TransactionSnapshot;
+import com.hamkkebu.ledgerservice.kafka.EventFreshnessMonitor;
+import com.hamkkebu.ledgerservice.kafka.ProcessedEventStore;
+import com.hamkkebu.ledgerservice.kafka.event.TransactionEvent;
+import com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter;
+import com.hamkkebu.ledgerservice.repository.SyncedTransactionWriter.SyncedRow;
+import com.hamkkebu.ledgerservice.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionSyncService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionSyncService 테스트")
+class TransactionSyncServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private SyncedTransactionWriter syncedTransactionWriter;
+
+    @Mock
+    private LedgerBalanceService ledgerBalanceService;
+
+    @Mock
+    private LedgerMonthlyStatService ledgerMonthlyStatService;
+
+    @Mock
+    private LedgerCacheInvalidator ledgerCacheInvalidator;
+
+    @Mock
+    private CategoryIdCache categoryIdCache;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private EventFreshnessMonitor eventFreshnessMonitor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TransactionSyncService transactionSyncService;
+
+    @BeforeEach
+    void setUp() {
+        transactionSyncService = new TransactionSyncService(transactionRepository, syncedTransactionWriter,
+                ledgerBalanceService, ledgerMonthlyStatService, ledgerCacheInvalidator, categoryIdCache,
+                processedEventStore, meterRegistry, eventFreshnessMonitor);
+    }
+
+    @Test
+    @DisplayName("같은 거래의 이벤트는 마지막 것만 한 번에 생성")
+    @SuppressWarnings("unchecked")
+    void apply_CollapsesByTransactionId() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of());
+        insertsAll();
+        List<TransactionEvent> events = List.of(
+                event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 5000),
+                event(TransactionEvent.EVENT_TYPE_CREATED, 101L, 1000),
+                event(TransactionEvent.EVENT_TYPE_UPDATED, 100L, 7000));
+
+        // When
+        int applied = transactionSyncService.apply(events);
+
+        // Then
+        ArgumentCaptor<List<SyncedRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(syncedTransactionWriter).insertAbsent(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(row -> row.snapshot().transactionId(), row -> row.snapshot().amount(), SyncedRow::deleted)
+                .containsExactly(
+                        tuple(101L, BigDecimal.valueOf(1000), false),
+                        tuple(100L, BigDecimal.valueOf(7000), false));
+        assertThat(applied).isEqualTo(2);
+        verify(ledgerBalanceService, times(2)).apply(isNull(), any(TransactionSnapshot.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 있는 거래의 생성 이벤트는 건너뜀")
+    void apply_CreatedAlreadyExists() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of(existing(100L, 5000)));
+
+        // When
+        int applied = transactionSyncService.apply(List.of(event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 5000)));
+
+        // Then
+        assertThat(applied).isZero();
+        verify(syncedTransactionWriter).write(List.of());
+        verifyNoInteractions(ledgerBalanceService, ledgerMonthlyStatService);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트는 Soft Delete 행으로 쓰고 변경 전 상태를 Read Model에서 차감")
+    @SuppressWarnings("unchecked")
+    void apply_Deleted() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of(existing(100L, 5000)));
+
+        // When
+        transactionSyncService.apply(List.of(event(TransactionEvent.EVENT_TYPE_DELETED, 100L, 0)));
+
+        // Then
+        ArgumentCaptor<List<SyncedRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(syncedTransactionWriter).write(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(row -> row.snapshot().transactionId(), SyncedRow::deleted)
+                .containsExactly(tuple(100L, true));
+        verify(ledgerBalanceService).apply(argThat(before -> before.transactionId().equals(100L)), isNull(), anyLong());
+        verify(ledgerMonthlyStatService).apply(any(TransactionSnapshot.class), isNull());
+        verify(ledgerCacheInvalidator).invalidateLedger(1L);
+    }
+
+    @Test
+    @DisplayName("이미 처리한 eventId는 거래를 읽기 전에 건너뜀")
+    void apply_SkipsProcessedEvents() {
+        // Given
+        TransactionEvent duplicate = event(TransactionEvent.EVENT_TYPE_UPDATED, 100L, 7000);
+        when(processedEventStore.findProcessed(eq(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS), anyCollection()))
+                .thenReturn(Set.of(duplicate.getEventId()));
+
+        // When
+        int applied = transactionSyncService.apply(List.of(duplicate));
+
+        // Then
+        assertThat(applied).isZero();
+        verifyNoInteractions(transactionRepository, syncedTransactionWriter, ledgerBalanceService);
+        verify(processedEventStore, never()).markProcessed(any(), any());
+    }
+
+    @Test
+    @DisplayName("반영한 이벤트의 eventId를 처리 완료로 기록")
+    void apply_MarksProcessed() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of());
+        insertsAll();
+        TransactionEvent created = event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 5000);
+
+        // When
+        transactionSyncService.apply(List.of(created));
+
+        // Then
+        verify(processedEventStore).markProcessed(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS,
+                List.of(created.getEventId()));
+    }
+
+    @Test
+    @DisplayName("새로 반영한 이벤트의 발생 시각과 DB 시간을 신선도 모니터에 기록")
+    void apply_RecordsFreshness() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of());
+        insertsAll();
+        TransactionEvent created = event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 5000, at(1));
+
+        // When
+        transactionSyncService.apply(List.of(created));
+
+        // Then
+        verify(eventFreshnessMonitor).recordCommitted(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS,
+                List.of(at(1)));
+        verify(eventFreshnessMonitor).recordDbBatch(eq(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS), eq(1),
+                anyLong());
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이벤트와 건너뛴 생성 이벤트는 신선도와 배치 크기에서 제외")
+    void apply_RecordsFreshnessOfWrittenEventsOnly() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any()))
+                .thenReturn(List.of(existing(101L, 1000), existing(102L, 2000)));
+        insertsAll();
+        List<TransactionEvent> events = List.of(
+                event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 5000, at(1)),
+                event(TransactionEvent.EVENT_TYPE_UPDATED, 101L, 7000, at(9)),
+                event(TransactionEvent.EVENT_TYPE_UPDATED, 101L, 6000, at(5)),
+                event(TransactionEvent.EVENT_TYPE_CREATED, 102L, 3000, at(3)));
+
+        // When
+        int applied = transactionSyncService.apply(events);
+
+        // Then
+        assertThat(applied).isEqualTo(2);
+        verify(eventFreshnessMonitor).recordCommitted(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS,
+                List.of(at(1), at(9)));
+        verify(eventFreshnessMonitor).recordDbBatch(eq(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS), eq(2),
+                anyLong());
+    }
+
+    @Test
+    @DisplayName("저장된 버전보다 오래된 이벤트는 쓰지 않고 stale 카운터만 올림")
+    void apply_DropsStaleEvent() {
+        // Given
+        Transaction current = Transaction.builder()
+                .transactionId(100L)
+                .ledgerId(1L)
+                .type(TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(7000))
+                .transactionDate(LocalDate.of(2025, 3, 1))
+                .sourceVersion(event(TransactionEvent.EVENT_TYPE_UPDATED, 100L, 7000, at(10)).getEventVersion())
+                .build();
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of(current));
+        TransactionEvent late = event(TransactionEvent.EVENT_TYPE_UPDATED, 100L, 5000, at(5));
+
+        // When
+        int applied = transactionSyncService.apply(List.of(late));
+
+        // Then
+        assertThat(applied).isZero();
+        verify(syncedTransactionWriter).write(List.of());
+        verifyNoInteractions(ledgerBalanceService, ledgerMonthlyStatService);
+        assertThat(meterRegistry.counter("ledger.kafka.events.stale",
+                "consumer", ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 묶음에서 늦게 도착한 이전 버전 이벤트는 최신 이벤트를 덮지 않음")
+    @SuppressWarnings("unchecked")
+    void apply_KeepsNewestVersionInBatch() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of());
+        insertsAll();
+        TransactionEvent newer = event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 7000, at(10));
+        TransactionEvent older = event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 5000, at(5));
+
+        // When
+        transactionSyncService.apply(List.of(newer, older));
+
+        // Then
+        ArgumentCaptor<List<SyncedRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(syncedTransactionWriter).insertAbsent(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(row -> row.snapshot().amount(), SyncedRow::sourceVersion)
+                .containsExactly(tuple(BigDecimal.valueOf(7000), newer.getEventVersion()));
+    }
+
+    @Test
+    @DisplayName("카테고리 이름을 캐시로 categoryId로 바꿔 쓰고, 찾지 못하면 기존 카테고리 유지")
+    @SuppressWarnings("unchecked")
+    void apply_ResolvesCategory() {
+        // Given
+        Transaction current = Transaction.builder()
+                .transactionId(101L)
+                .ledgerId(1L)
+                .categoryId(7L)
+                .type(TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(1000))
+                .transactionDate(LocalDate.of(2025, 3, 1))
+                .build();
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of(current));
+        insertsAll();
+        when(categoryIdCache.resolve(1L, TransactionType.EXPENSE, "식비")).thenReturn(3L);
+        when(categoryIdCache.resolve(1L, TransactionType.EXPENSE, "없는 카테고리")).thenReturn(null);
+        TransactionEvent known = TransactionEvent.builder()
+                .eventId("known")
+                .eventType(TransactionEvent.EVENT_TYPE_CREATED)
+                .transactionId(100L)
+                .ledgerId(1L)
+                .type("EXPENSE")
+                .amount(BigDecimal.valueOf(5000))
+                .transactionDate(LocalDate.of(2025, 3, 1))
+                .category("식비")
+                .build();
+        TransactionEvent unknown = TransactionEvent.builder()
+                .eventId("unknown")
+                .eventType(TransactionEvent.EVENT_TYPE_UPDATED)
+                .transactionId(101L)
+                .ledgerId(1L)
+                .type("EXPENSE")
+                .amount(BigDecimal.valueOf(2000))
+                .transactionDate(LocalDate.of(2025, 3, 1))
+                .category("없는 카테고리")
+                .build();
+
+        // When
+        transactionSyncService.apply(List.of(known, unknown));
+
+        // Then
+        ArgumentCaptor<List<SyncedRow>> created = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<SyncedRow>> updated = ArgumentCaptor.forClass(List.class);
+        verify(syncedTransactionWriter).insertAbsent(created.capture());
+        verify(syncedTransactionWriter).write(updated.capture());
+        assertThat(created.getValue())
+                .extracting(row -> row.snapshot().transactionId(), row -> row.snapshot().categoryId())
+                .containsExactly(tuple(100L, 3L));
+        assertThat(updated.getValue())
+                .extracting(row -> row.snapshot().transactionId(), row -> row.snapshot().categoryId())
+                .containsExactly(tuple(101L, 7L));
+    }
+
+    @Test
+    @DisplayName("새 거래와 기존 거래가 섞이면 기존 거래만 Upsert하고 새 거래는 삽입으로 생성")
+    @SuppressWarnings("unchecked")
+    void apply_SplitsCreatesFromExistingRows() {
+        // Given
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of(existing(100L, 5000)));
+        insertsAll();
+
+        // When
+        int applied = transactionSyncService.apply(List.of(
+                event(TransactionEvent.EVENT_TYPE_UPDATED, 100L, 7000),
+                event(TransactionEvent.EVENT_TYPE_CREATED, 101L, 1000)));
+
+        // Then
+        ArgumentCaptor<List<SyncedRow>> created = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<SyncedRow>> updated = ArgumentCaptor.forClass(List.class);
+        verify(syncedTransactionWriter).insertAbsent(created.capture());
+        verify(syncedTransactionWriter).write(updated.capture());
+        assertThat(created.getValue()).extracting(row -> row.snapshot().transactionId()).containsExactly(101L);
+        assertThat(updated.getValue()).extracting(row -> row.snapshot().transactionId()).containsExactly(100L);
+        assertThat(applied).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 경로가 같은 거래를 먼저 생성하면 Read Model을 건드리지 않고 ConcurrencyFailureException")
+    void apply_ConcurrentCreateRolledBackBeforeReadModel() {
+        // Given - 잠금 조회 때는 없었지만 INSERT IGNORE 시점에는 다른 경로가 생성해 삽입 0건
+        when(transactionRepository.findAllByIdForUpdate(any())).thenReturn(List.of());
+        when(syncedTransactionWriter.insertAbsent(anyList())).thenReturn(0);
+        TransactionEvent created = event(TransactionEvent.EVENT_TYPE_CREATED, 100L, 5000);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionSyncService.apply(List.of(created)))
+                .isInstanceOf(ConcurrencyFailureException.class);
+        verifyNoInteractions(ledgerBalanceService, ledgerMonthlyStatService, ledgerCacheInvalidator);
+        verify(processedEventStore, never()).markProcessed(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 거래를 두 경로가 동시에 반영해도 잔액 증감은 한 번만 더함")
+    void apply_ConcurrentApplyOfSameTransactionCountedOnce() throws Exception {
+        // Given
+        Map<Long, Transaction> table = new ConcurrentHashMap<>(Map.of(100L, existing(100L, 5000)));
+        ReentrantLock rowLock = new ReentrantLock();
+        CountDownLatch bothChecked = new CountDownLatch(2);
+        // 두 경로 모두 처리 기록 확인을 통과한 뒤 거래를 읽도록 맞춤 (레인 + 저널 재반영)
+        when(processedEventStore.findProcessed(eq(ProcessedEventStore.CONSUMER_TRANSACTION_EVENTS), anyCollection()))
+                .thenAnswer(invocation -> {
+                    bothChecked.countDown();
+                    bothChecked.await(5, TimeUnit.SECONDS);
+                    return Set.of();
+                });
+        // SELECT ... FOR UPDATE: 앞선 트랜잭션이 커밋(잠금 해제)할 때까지 기다린 뒤 최신 상태를 읽음
+        when(transactionRepository.findAllByIdForUpdate(any())).thenAnswer(invocation -> {
+            rowLock.lock();
+            Collection<Long> transactionIds = invocation.getArgument(0);
+            return transactionIds.stream().map(table::get).filter(Objects::nonNull).toList();
+        });
+        doAnswer(invocation -> {
+            List<SyncedRow> rows = invocation.getArgument(0);
+            rows.forEach(row -> table.put(row.snapshot().transactionId(), Transaction.builder()
+                    .transactionId(row.snapshot().transactionId())
+                    .ledgerId(row.snapshot().ledgerId())
+                    .type(row.snapshot().type())
+                    .amount(row.snapshot().amount())
+                    .transactionDate(row.snapshot().transactionDate())
+                    .sourceVersion(row.sourceVersion())
+                    .build()));
+            return null;
+        }).when(syncedTransactionWriter).write(anyList());
+        AtomicReference<BigDecimal> expense = new AtomicReference<>(BigDecimal.valueOf(5000));
+        doAnswer(invocation -> {
+            TransactionSnapshot before = invocation.getArgument(0);
+            TransactionSnapshot after = invocation.getArgument(1);
+            expense.accumulateAndGet(after.expenseAmount().subtract(before.expenseAmount()), BigDecimal::add);
+            return null;
+        }).when(ledgerBalanceService).apply(any(), any(), anyLong());
+        TransactionEvent update = event(TransactionEvent.EVENT_TYPE_UPDATED, 100L, 7000, at(5));
+        Callable<Integer> applyAndCommit = () -> {
+            try {
+                return transactionSyncService.apply(List.of(update));
+            } finally {
+                if (rowLock.isHeldByCurrentThread()) {
+                    rowLock.unlock();
+                }
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<Integer>> results;
+        try {
+            results = executor.invokeAll(List.of(applyAndCommit, applyAndCommit), 10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        for (Future<Integer> result : results) {
+            result.get();
+        }
+        assertThat(expense.get()).isEqualByComparingTo(BigDecimal.valueOf(7000));
+        assertThat(table.get(100L).getAmount()).isEqualByComparingTo(BigDecimal.valueOf(7000));
+    }
+
+    /**
+     * 생성할 거래가 모두 삽입됨 (다른 경로와의 생성 경합 없음)
+     */
+    private void insertsAll() {
+        when(syncedTransactionWriter.insertAbsent(anyList()))
+                .thenAnswer(invocation -> invocation.<List<SyncedRow>>getArgument(0).size());
+    }
+
+    private LocalDateTime at(int second) {
+        return LocalDateTime.of(2025, 3, 1, 12, 0, second);
+    }
+
+    private TransactionEvent event(String eventType, Long transactionId, long amount) {
+        return event(eventType, transactionId, amount, null);
+    }
+
+    private TransactionEvent event(String eventType, Long transactionId, long amount, LocalDateTime timestamp) {
+        return TransactionEvent.builder()
+                .eventId(eventType + "-" + transactionId + "-" + amount)
+                .eventType(eventType)
+                .timestamp(timestamp)
+                .transactionId(transactionId)
+                .ledgerId(1L)
+                .type("EXPENSE")
+                .amount(BigDecimal.valueOf(amount))
+                .transactionDate(LocalDate.of(2025, 3, 1))
+                .build();
+    }
+
+    private Transaction existing(Long transactionId, long amount) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .ledgerId(1L)
+                .type(TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(amount))
+                .transactionDate(LocalDate.of(2025, 3, 1))
+                .build();
+    }
+}